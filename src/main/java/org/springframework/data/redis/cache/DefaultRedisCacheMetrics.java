@@ -0,0 +1,308 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.cache;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@link RedisCacheMetrics} keeping counters and latency histograms in memory. Values are recorded using
+ * {@link LongAdder}s, which stripe updates across cells, so concurrent threads do not contend on a single counter.
+ * Reading values sums up the cells and is more expensive than recording them.
+ *
+ * @author agent
+ * @since 1.8.8
+ */
+public class DefaultRedisCacheMetrics implements RedisCacheMetrics {
+
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+	private final LongAdder earlyRecomputes = new LongAdder();
+	private final LongAdder puts = new LongAdder();
+	private final LongAdder evictions = new LongAdder();
+	private final LongAdder loadFailures = new LongAdder();
+
+	private final Histogram loads = new Histogram();
+	private final Histogram lockWaits = new Histogram();
+	private final Histogram reads = new Histogram();
+	private final Histogram writes = new Histogram();
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.cache.RedisCacheMetrics#recordHit()
+	 */
+	@Override
+	public void recordHit() {
+		hits.increment();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.cache.RedisCacheMetrics#recordMiss()
+	 */
+	@Override
+	public void recordMiss() {
+		misses.increment();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.cache.RedisCacheMetrics#recordEarlyRecompute()
+	 */
+	@Override
+	public void recordEarlyRecompute() {
+		earlyRecomputes.increment();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.cache.RedisCacheMetrics#recordPut()
+	 */
+	@Override
+	public void recordPut() {
+		puts.increment();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.cache.RedisCacheMetrics#recordPuts(int)
+	 */
+	@Override
+	public void recordPuts(int count) {
+		puts.add(count);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.cache.RedisCacheMetrics#recordEviction()
+	 */
+	@Override
+	public void recordEviction() {
+		evictions.increment();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.cache.RedisCacheMetrics#recordLoad(long, boolean)
+	 */
+	@Override
+	public void recordLoad(long nanos, boolean success) {
+
+		loads.record(nanos);
+
+		if (!success) {
+			loadFailures.increment();
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.cache.RedisCacheMetrics#recordLockWait(long)
+	 */
+	@Override
+	public void recordLockWait(long nanos) {
+		lockWaits.record(nanos);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.cache.RedisCacheMetrics#recordRead(long)
+	 */
+	@Override
+	public void recordRead(long nanos) {
+		reads.record(nanos);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.cache.RedisCacheMetrics#recordWrite(long)
+	 */
+	@Override
+	public void recordWrite(long nanos) {
+		writes.record(nanos);
+	}
+
+	/**
+	 * @return number of lookups that found a value.
+	 */
+	public long getHits() {
+		return hits.sum();
+	}
+
+	/**
+	 * @return number of lookups that did not find a value.
+	 */
+	public long getMisses() {
+		return misses.sum();
+	}
+
+	/**
+	 * @return number of lookups that recomputed a value due for early expiration.
+	 */
+	public long getEarlyRecomputes() {
+		return earlyRecomputes.sum();
+	}
+
+	/**
+	 * @return number of values written.
+	 */
+	public long getPuts() {
+		return puts.sum();
+	}
+
+	/**
+	 * @return number of values evicted.
+	 */
+	public long getEvictions() {
+		return evictions.sum();
+	}
+
+	/**
+	 * @return number of value loader invocations that threw an exception.
+	 */
+	public long getLoadFailures() {
+		return loadFailures.sum();
+	}
+
+	/**
+	 * @return value loader invocations and their latency.
+	 */
+	public Histogram getLoads() {
+		return loads;
+	}
+
+	/**
+	 * @return time spent waiting for locks held by other processes.
+	 */
+	public Histogram getLockWaits() {
+		return lockWaits;
+	}
+
+	/**
+	 * @return latency of reads from Redis.
+	 */
+	public Histogram getReads() {
+		return reads;
+	}
+
+	/**
+	 * @return latency of writes to Redis.
+	 */
+	public Histogram getWrites() {
+		return writes;
+	}
+
+	/**
+	 * Latency histogram using exponential buckets. Bucket {@literal i} counts durations below {@literal 2^i}
+	 * microseconds, the last bucket counts all durations exceeding the previous one.
+	 *
+	 * @author agent
+	 * @since 1.8.8
+	 */
+	public static class Histogram {
+
+		static final int BUCKETS = 28;
+
+		private final LongAdder count = new LongAdder();
+		private final LongAdder totalNanos = new LongAdder();
+		private final LongAdder[] buckets = new LongAdder[BUCKETS];
+
+		Histogram() {
+
+			for (int i = 0; i < BUCKETS; i++) {
+				buckets[i] = new LongAdder();
+			}
+		}
+
+		void record(long nanos) {
+
+			long micros = TimeUnit.NANOSECONDS.toMicros(Math.max(nanos, 0));
+
+			count.increment();
+			totalNanos.add(nanos);
+			buckets[Math.min(64 - Long.numberOfLeadingZeros(micros), BUCKETS - 1)].increment();
+		}
+
+		/**
+		 * @return number of recorded durations.
+		 */
+		public long getCount() {
+			return count.sum();
+		}
+
+		/**
+		 * @param unit must not be {@literal null}.
+		 * @return sum of all recorded durations.
+		 */
+		public long getTotalTime(TimeUnit unit) {
+			return unit.convert(totalNanos.sum(), TimeUnit.NANOSECONDS);
+		}
+
+		/**
+		 * @return number of recorded durations per bucket.
+		 */
+		public long[] getBucketCounts() {
+
+			long[] counts = new long[BUCKETS];
+
+			for (int i = 0; i < BUCKETS; i++) {
+				counts[i] = buckets[i].sum();
+			}
+
+			return counts;
+		}
+
+		/**
+		 * @param bucket index of the bucket.
+		 * @return the exclusive upper bound in microseconds of durations counted by the given bucket.
+		 *         {@link Long#MAX_VALUE} for the last bucket.
+		 */
+		public static long getBucketUpperBound(int bucket) {
+			return bucket >= BUCKETS - 1 ? Long.MAX_VALUE : 1L << bucket;
+		}
+
+		/**
+		 * Estimate the duration below which the given fraction of recorded durations falls.
+		 *
+		 * @param percentile between {@literal 0} and {@literal 1}.
+		 * @return the upper bound in microseconds of the bucket containing the percentile. {@literal zero} if nothing
+		 *         was recorded.
+		 */
+		public long getPercentileUpperBound(double percentile) {
+
+			long[] counts = getBucketCounts();
+			long total = 0;
+
+			for (long bucketCount : counts) {
+				total += bucketCount;
+			}
+
+			long threshold = (long) Math.ceil(total * percentile);
+			long seen = 0;
+
+			for (int i = 0; i < BUCKETS; i++) {
+
+				seen += counts[i];
+
+				if (seen > 0 && seen >= threshold) {
+					return getBucketUpperBound(i);
+				}
+			}
+
+			return 0;
+		}
+	}
+}
@@ -0,0 +1,467 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.cache;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.springframework.cache.Cache.ValueWrapper;
+import org.springframework.cache.support.SimpleValueWrapper;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.util.ByteArrayWrapper;
+import org.springframework.util.Assert;
+
+/**
+ * Bounded in-process tier in front of a {@link RedisCache} holding deserialized values by their binary key. Entries
+ * expire no later than their Redis counterpart and are evicted using {@link EvictionPolicy#LRU} or
+ * {@link EvictionPolicy#LFU} once {@literal maxSize} is reached. <br />
+ * Entries are spread across independently locked segments so that concurrent reads of different keys do not contend
+ * on a single lock. Eviction order is maintained per segment. Invalidations are tracked per generation stripe, so
+ * writes and invalidations only reject concurrent {@link #putIfNotInvalidated(byte[], Object, long, long)} calls for
+ * keys of the same stripe. <br />
+ * The {@link NearCache} listens to invalidation messages published by other {@link RedisCache} instances on
+ * {@literal put}, {@literal evict} and {@literal clear} and ignores messages it published itself. <br />
+ * <strong>NOTE</strong> Values are handed out as they are held in memory. Make sure cached values are not modified
+ * after being put into or read from the cache.
+ *
+ * @author agent
+ * @since 1.8.8
+ */
+public class NearCache implements MessageListener {
+
+	private static final int LFU_SAMPLE_SIZE = 8;
+	private static final int LFU_DECAY_FACTOR = 10;
+	private static final int INSTANCE_ID_LENGTH = 16;
+	private static final int MAX_SEGMENTS = 16;
+	private static final int MIN_SEGMENT_SIZE = 64;
+	private static final int GENERATION_STRIPES = 64;
+
+	private final int maxSize;
+	private final long timeToLive;
+	private final EvictionPolicy evictionPolicy;
+	private final Segment[] segments;
+	private final byte[] instanceId;
+
+	private final AtomicLongArray generations = new AtomicLongArray(GENERATION_STRIPES);
+	private final AtomicLong hits = new AtomicLong();
+	private final AtomicLong misses = new AtomicLong();
+	private final AtomicLong remoteHits = new AtomicLong();
+	private final AtomicLong remoteMisses = new AtomicLong();
+
+	/**
+	 * Creates new {@link NearCache}.
+	 *
+	 * @param maxSize maximum number of entries held. Must be greater than {@literal zero}.
+	 * @param timeToLive maximum time in milliseconds an entry is held. Use {@literal zero} to only apply the Redis
+	 *          expiration.
+	 * @param evictionPolicy must not be {@literal null}.
+	 */
+	public NearCache(int maxSize, long timeToLive, EvictionPolicy evictionPolicy) {
+
+		Assert.isTrue(maxSize > 0, "MaxSize must be greater than zero!");
+		Assert.isTrue(timeToLive >= 0, "TimeToLive must not be negative!");
+		Assert.notNull(evictionPolicy, "EvictionPolicy must not be null!");
+
+		this.maxSize = maxSize;
+		this.timeToLive = timeToLive;
+		this.evictionPolicy = evictionPolicy;
+
+		// small caches use a single segment to keep eviction exact
+		int segmentCount = 1;
+		while (segmentCount < MAX_SEGMENTS && maxSize / (segmentCount * 2) >= MIN_SEGMENT_SIZE) {
+			segmentCount *= 2;
+		}
+
+		this.segments = new Segment[segmentCount];
+		for (int i = 0; i < segmentCount; i++) {
+			segments[i] = new Segment(maxSize / segmentCount + (i < maxSize % segmentCount ? 1 : 0),
+					EvictionPolicy.LRU.equals(evictionPolicy));
+		}
+
+		UUID uuid = UUID.randomUUID();
+		this.instanceId = ByteBuffer.allocate(INSTANCE_ID_LENGTH).putLong(uuid.getMostSignificantBits())
+				.putLong(uuid.getLeastSignificantBits()).array();
+	}
+
+	/**
+	 * Get the value held for the given key.
+	 *
+	 * @param keyBytes must not be {@literal null}.
+	 * @return {@literal null} if no or only an expired entry is present.
+	 */
+	public ValueWrapper get(byte[] keyBytes) {
+
+		ByteArrayWrapper key = new ByteArrayWrapper(keyBytes);
+		Segment segment = segmentFor(stripeOf(key));
+
+		synchronized (segment) {
+
+			Entry entry = segment.entries.get(key);
+
+			if (entry != null && entry.isExpired(System.currentTimeMillis())) {
+
+				segment.entries.remove(key);
+				entry = null;
+			}
+
+			if (entry == null) {
+				misses.incrementAndGet();
+				return null;
+			}
+
+			if (EvictionPolicy.LFU.equals(evictionPolicy)) {
+				segment.recordAccess(entry);
+			}
+
+			hits.incrementAndGet();
+			return entry.value;
+		}
+	}
+
+	/**
+	 * Hold the given value for the key. Any previously held value is replaced.
+	 *
+	 * @param keyBytes must not be {@literal null}.
+	 * @param value the store value. Can be {@literal null}.
+	 * @param redisTimeToLive remaining time to live in milliseconds of the Redis entry. Use {@literal zero} or a negative
+	 *          value for entries that do not expire.
+	 */
+	public void put(byte[] keyBytes, Object value, long redisTimeToLive) {
+
+		ByteArrayWrapper key = new ByteArrayWrapper(keyBytes);
+		int stripe = stripeOf(key);
+		Segment segment = segmentFor(stripe);
+
+		synchronized (segment) {
+
+			generations.incrementAndGet(stripe);
+			store(segment, key, value, redisTimeToLive);
+		}
+	}
+
+	/**
+	 * Hold the given value for the key unless an entry of the same generation stripe has been written or invalidated
+	 * since {@link #getGeneration(byte[])} returned {@literal expectedGeneration}. Used to populate the cache with values
+	 * read from Redis without overriding newer writes.
+	 *
+	 * @param keyBytes must not be {@literal null}.
+	 * @param value the store value. Can be {@literal null}.
+	 * @param redisTimeToLive remaining time to live in milliseconds of the Redis entry.
+	 * @param expectedGeneration the generation obtained for the key before reading the value from Redis.
+	 * @return {@literal true} if the value has been stored.
+	 */
+	public boolean putIfNotInvalidated(byte[] keyBytes, Object value, long redisTimeToLive, long expectedGeneration) {
+
+		ByteArrayWrapper key = new ByteArrayWrapper(keyBytes);
+		int stripe = stripeOf(key);
+		Segment segment = segmentFor(stripe);
+
+		synchronized (segment) {
+
+			if (generations.get(stripe) != expectedGeneration) {
+				return false;
+			}
+
+			store(segment, key, value, redisTimeToLive);
+			return true;
+		}
+	}
+
+	/**
+	 * Remove the entry for the given key.
+	 *
+	 * @param keyBytes must not be {@literal null}.
+	 */
+	public void evict(byte[] keyBytes) {
+
+		ByteArrayWrapper key = new ByteArrayWrapper(keyBytes);
+		int stripe = stripeOf(key);
+		Segment segment = segmentFor(stripe);
+
+		synchronized (segment) {
+
+			generations.incrementAndGet(stripe);
+			segment.entries.remove(key);
+		}
+	}
+
+	/**
+	 * Remove all entries.
+	 */
+	public void clear() {
+
+		for (int i = 0; i < segments.length; i++) {
+
+			synchronized (segments[i]) {
+
+				// generation stripes map onto segments, so each stripe is advanced under the lock of its segment
+				for (int stripe = i; stripe < GENERATION_STRIPES; stripe += segments.length) {
+					generations.incrementAndGet(stripe);
+				}
+				segments[i].entries.clear();
+			}
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.MessageListener#onMessage(org.springframework.data.redis.connection.Message, byte[])
+	 */
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+
+		byte[] body = message.getBody();
+
+		if (body == null || body.length < INSTANCE_ID_LENGTH
+				|| Arrays.equals(instanceId, Arrays.copyOf(body, INSTANCE_ID_LENGTH))) {
+			return;
+		}
+
+		if (body.length == INSTANCE_ID_LENGTH) {
+			clear();
+		} else {
+			evict(Arrays.copyOfRange(body, INSTANCE_ID_LENGTH, body.length));
+		}
+	}
+
+	/**
+	 * Create the invalidation message body for the given key published to other {@link NearCache} instances.
+	 *
+	 * @param keyBytes can be {@literal null} to invalidate all entries.
+	 * @return never {@literal null}.
+	 */
+	byte[] createInvalidationMessage(byte[] keyBytes) {
+
+		if (keyBytes == null) {
+			return instanceId.clone();
+		}
+
+		byte[] body = Arrays.copyOf(instanceId, INSTANCE_ID_LENGTH + keyBytes.length);
+		System.arraycopy(keyBytes, 0, body, INSTANCE_ID_LENGTH, keyBytes.length);
+		return body;
+	}
+
+	/**
+	 * Record the outcome of a lookup in Redis after the {@link NearCache} missed.
+	 *
+	 * @param hit
+	 */
+	void recordRemoteLookup(boolean hit) {
+		(hit ? remoteHits : remoteMisses).incrementAndGet();
+	}
+
+	/**
+	 * Get the current invalidation generation for the given key. The generation changes whenever a value of the same
+	 * generation stripe is written or invalidated.
+	 *
+	 * @param keyBytes must not be {@literal null}.
+	 * @return
+	 */
+	public long getGeneration(byte[] keyBytes) {
+		return generations.get(stripeOf(new ByteArrayWrapper(keyBytes)));
+	}
+
+	/**
+	 * @return number of lookups served from memory.
+	 */
+	public long getHits() {
+		return hits.get();
+	}
+
+	/**
+	 * @return number of lookups not served from memory.
+	 */
+	public long getMisses() {
+		return misses.get();
+	}
+
+	/**
+	 * @return number of lookups missing the {@link NearCache} that have been served by Redis.
+	 */
+	public long getRemoteHits() {
+		return remoteHits.get();
+	}
+
+	/**
+	 * @return number of lookups missing both the {@link NearCache} and Redis.
+	 */
+	public long getRemoteMisses() {
+		return remoteMisses.get();
+	}
+
+	/**
+	 * @return number of entries currently held, including expired ones not yet removed.
+	 */
+	public int size() {
+
+		int size = 0;
+		for (Segment segment : segments) {
+			synchronized (segment) {
+				size += segment.entries.size();
+			}
+		}
+		return size;
+	}
+
+	/**
+	 * @return the configured maximum number of entries.
+	 */
+	public int getMaxSize() {
+		return maxSize;
+	}
+
+	/**
+	 * @return the configured {@link EvictionPolicy}.
+	 */
+	public EvictionPolicy getEvictionPolicy() {
+		return evictionPolicy;
+	}
+
+	private static int stripeOf(ByteArrayWrapper key) {
+
+		int hash = key.hashCode();
+		return (hash ^ (hash >>> 16)) & (GENERATION_STRIPES - 1);
+	}
+
+	private Segment segmentFor(int stripe) {
+		return segments[stripe & (segments.length - 1)];
+	}
+
+	private void store(Segment segment, ByteArrayWrapper key, Object value, long redisTimeToLive) {
+
+		long ttl = timeToLive;
+		if (redisTimeToLive > 0) {
+			ttl = ttl > 0 ? Math.min(ttl, redisTimeToLive) : redisTimeToLive;
+		}
+
+		segment.entries.put(key, new Entry(new SimpleValueWrapper(value), ttl > 0 ? System.currentTimeMillis() + ttl : 0));
+
+		while (segment.entries.size() > segment.capacity) {
+			evictOne(segment, key);
+		}
+	}
+
+	/**
+	 * Evict a single entry of the given {@link Segment}. {@link EvictionPolicy#LRU} removes the least recently used
+	 * entry, {@link EvictionPolicy#LFU} removes the least frequently used one out of the {@link #LFU_SAMPLE_SIZE} oldest
+	 * entries.
+	 *
+	 * @param retainedKey the key just written that must not be evicted.
+	 */
+	private void evictOne(Segment segment, ByteArrayWrapper retainedKey) {
+
+		Iterator<Map.Entry<ByteArrayWrapper, Entry>> iterator = segment.entries.entrySet().iterator();
+
+		if (EvictionPolicy.LRU.equals(evictionPolicy)) {
+
+			iterator.next();
+			iterator.remove();
+			return;
+		}
+
+		ByteArrayWrapper candidate = null;
+		int candidateFrequency = Integer.MAX_VALUE;
+
+		for (int i = 0; i < LFU_SAMPLE_SIZE && iterator.hasNext(); i++) {
+
+			Map.Entry<ByteArrayWrapper, Entry> entry = iterator.next();
+			if (!entry.getKey().equals(retainedKey) && entry.getValue().frequency < candidateFrequency) {
+
+				candidate = entry.getKey();
+				candidateFrequency = entry.getValue().frequency;
+			}
+		}
+
+		segment.entries.remove(candidate);
+	}
+
+	/**
+	 * Policy deciding which entry to remove once a {@link NearCache} reached its maximum size.
+	 *
+	 * @author agent
+	 * @since 1.8.8
+	 */
+	public static enum EvictionPolicy {
+
+		/**
+		 * Remove the least recently used entry.
+		 */
+		LRU,
+
+		/**
+		 * Remove the least frequently used entry.
+		 */
+		LFU
+	}
+
+	/**
+	 * Part of the entries guarded by its own monitor.
+	 */
+	private static class Segment {
+
+		private final int capacity;
+		private final Map<ByteArrayWrapper, Entry> entries;
+		private int accesses;
+
+		Segment(int capacity, boolean accessOrder) {
+
+			this.capacity = capacity;
+			this.entries = new LinkedHashMap<ByteArrayWrapper, Entry>(16, 0.75F, accessOrder);
+		}
+
+		/**
+		 * Count an access of the given entry. Frequencies are halved once the segment has seen {@literal LFU_DECAY_FACTOR}
+		 * times its capacity in accesses, so entries that used to be hot do not outlive the current working set.
+		 */
+		void recordAccess(Entry entry) {
+
+			entry.frequency++;
+
+			if (++accesses < capacity * LFU_DECAY_FACTOR) {
+				return;
+			}
+
+			for (Entry held : entries.values()) {
+				held.frequency >>>= 1;
+			}
+			accesses = 0;
+		}
+	}
+
+	private static class Entry {
+
+		private final ValueWrapper value;
+		private final long expiresAt;
+		private int frequency;
+
+		Entry(ValueWrapper value, long expiresAt) {
+
+			this.value = value;
+			this.expiresAt = expiresAt;
+		}
+
+		boolean isExpired(long now) {
+			return expiresAt > 0 && expiresAt <= now;
+		}
+	}
+}
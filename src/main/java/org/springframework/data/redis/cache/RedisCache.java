@@ -15,28 +15,62 @@
  */
 package org.springframework.data.redis.cache;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.lang.reflect.Constructor;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.UUID;
 import java.util.concurrent.Callable;
-
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
 import org.springframework.cache.support.AbstractValueAdaptingCache;
 import org.springframework.cache.support.NullValue;
 import org.springframework.cache.support.SimpleValueWrapper;
 import org.springframework.dao.DataAccessException;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
 import org.springframework.data.redis.RedisSystemException;
+import org.springframework.data.redis.connection.ClusterSlotHashUtil;
 import org.springframework.data.redis.connection.DecoratedRedisConnection;
 import org.springframework.data.redis.connection.RedisClusterConnection;
+import org.springframework.data.redis.connection.RedisClusterNode;
 import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisStringCommands.SetOption;
+import org.springframework.data.redis.connection.RedisZSetCommands.Tuple;
 import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.connection.util.ByteArrayWrapper;
+import org.springframework.data.redis.core.Cursor;
 import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.data.redis.listener.ChannelTopic;
 import org.springframework.data.redis.serializer.GenericToStringSerializer;
 import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.JacksonJsonRedisSerializer;
 import org.springframework.data.redis.serializer.JdkSerializationRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.springframework.data.redis.util.ByteUtils;
 import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
 
@@ -51,10 +85,21 @@ import org.springframework.util.ClassUtils;
 @SuppressWarnings("unchecked")
 public class RedisCache extends AbstractValueAdaptingCache {
 
+	private static final Log LOGGER = LogFactory.getLog(RedisCache.class);
+
+	// the cache wide lock does not expire, so waiters check for it at least once per second
+	private static final long CACHE_LOCK_MAX_WAIT = 1000;
+
 	@SuppressWarnings("rawtypes") //
 	private final RedisOperations redisOperations;
 	private final RedisCacheMetadata cacheMetadata;
 	private final CacheValueAccessor cacheValueAccessor;
+	private final ConcurrentMap<ByteArrayWrapper, CountDownLatch> localLoads = new ConcurrentHashMap<ByteArrayWrapper, CountDownLatch>();
+	private final Set<ByteArrayWrapper> localRefreshes = Collections
+			.newSetFromMap(new ConcurrentHashMap<ByteArrayWrapper, Boolean>());
+	private volatile NearCache nearCache;
+	private volatile Executor refreshExecutor;
+	private volatile Executor clearExecutor;
 
 	/**
 	 * Constructs a new {@link RedisCache} instance.
@@ -142,19 +187,69 @@ public class RedisCache extends AbstractValueAdaptingCache {
 		RedisCacheElement cacheElement = new RedisCacheElement(getRedisCacheKey(key),
 				new StoreTranslatingCallable(valueLoader)).expireAfter(cacheMetadata.getDefaultExpiration());
 		BinaryRedisCacheElement rce = new BinaryRedisCacheElement(cacheElement, cacheValueAccessor);
+		rce.setEarlyExpiration(isEarlyExpirationEnabled());
 
-		ValueWrapper val = get(key);
+		ValueWrapper val = lookupElement(cacheElement.getKey(), key, valueLoader);
 		if (val != null) {
 			return (T) val.get();
 		}
 
+		// threads of this JVM loading the same key wait for the local loader instead of contending for the Redis lock
+		ByteArrayWrapper loadKey = new ByteArrayWrapper(rce.getKeyBytes());
+		CountDownLatch loadLatch = new CountDownLatch(1);
+		CountDownLatch inFlight = localLoads.putIfAbsent(loadKey, loadLatch);
+
+		if (inFlight != null) {
+
+			awaitLocalLoad(key, valueLoader, inFlight);
+
+			// the lookup above already recorded the miss
+			val = doLookupElement(cacheElement.getKey(), null, null);
+			if (val != null) {
+				return (T) val.get();
+			}
+		}
+
 		RedisWriteThroughCallback callback = new RedisWriteThroughCallback(rce, cacheMetadata);
+		NearCache nearCache = this.nearCache;
+		long generation = nearCache != null ? nearCache.getGeneration(loadKey.getArray()) : 0;
 
 		try {
+
 			byte[] result = (byte[]) redisOperations.execute(callback);
-			return (T) (result == null ? null : fromStoreValue(cacheValueAccessor.deserializeIfNecessary(result)));
+
+			if (result == null) {
+				return null;
+			}
+
+			Object value = deserialize(result);
+
+			// -2 signals the value loaded elsewhere expired right after it has been read
+			if (nearCache != null && result.length > 0 && callback.getTimeToLive() != -2) {
+				nearCache.putIfNotInvalidated(loadKey.getArray(), value, getNearCacheTimeToLive(callback.getTimeToLive()),
+						generation);
+			}
+
+			return (T) fromStoreValue(value);
 		} catch (RuntimeException e) {
 			throw CacheValueRetrievalExceptionFactory.INSTANCE.create(key, valueLoader, e);
+		} finally {
+
+			if (inFlight == null) {
+				localLoads.remove(loadKey, loadLatch);
+				loadLatch.countDown();
+			}
+		}
+	}
+
+	private void awaitLocalLoad(Object key, Callable<?> valueLoader, CountDownLatch inFlight) {
+
+		try {
+			inFlight.await(cacheMetadata.getLockTimeout(), TimeUnit.MILLISECONDS);
+		} catch (InterruptedException ex) {
+
+			Thread.currentThread().interrupt();
+			throw CacheValueRetrievalExceptionFactory.INSTANCE.create(key, valueLoader, ex);
 		}
 	}
 
@@ -169,19 +264,294 @@ public class RedisCache extends AbstractValueAdaptingCache {
 
 		Assert.notNull(cacheKey, "CacheKey must not be null!");
 
-		Boolean exists = (Boolean) redisOperations.execute(new RedisCallback<Boolean>() {
+		return lookupElement(cacheKey, null, null);
+	}
+
+	/**
+	 * Look up the {@link RedisCacheElement} for the given {@link RedisCacheKey}. Entries found within the refresh ahead
+	 * window are returned as is while {@literal valueLoader} reloads them asynchronously.
+	 *
+	 * @param cacheKey must not be {@literal null}.
+	 * @param key the original key passed to {@link #get(Object, Callable)}. Can be {@literal null}.
+	 * @param valueLoader can be {@literal null} to skip refresh ahead.
+	 * @return {@literal null} if no value found for key.
+	 */
+	private RedisCacheElement lookupElement(RedisCacheKey cacheKey, Object key, Callable<?> valueLoader) {
+
+		RedisCacheElement element = doLookupElement(cacheKey, key, valueLoader);
+
+		if (element instanceof RecomputedRedisCacheElement) {
+			cacheMetadata.getMetrics().recordEarlyRecompute();
+		} else if (element != null) {
+			cacheMetadata.getMetrics().recordHit();
+		} else {
+			cacheMetadata.getMetrics().recordMiss();
+		}
+
+		return element;
+	}
+
+	private RedisCacheElement doLookupElement(RedisCacheKey cacheKey, Object key, Callable<?> valueLoader) {
+
+		NearCache nearCache = this.nearCache;
+		boolean refreshAhead = valueLoader != null && isRefreshAheadEnabled();
+
+		if (nearCache == null && !refreshAhead) {
+
+			// a single GET tells a miss (nil reply) apart from a stored null value (serialized NullValue)
+			byte[] bytes = readValue(cacheKey);
+
+			if (bytes == null) {
+				return null;
+			}
+
+			if (valueLoader != null && isExpiringEarly(bytes)) {
+				return new RecomputedRedisCacheElement(cacheKey, recomputeEarly(key, valueLoader));
+			}
+
+			return new RedisCacheElement(cacheKey, fromStoreValue(deserialize(bytes)));
+		}
+
+		final byte[] keyBytes = cacheKey.getKeyBytes();
+
+		if (nearCache != null) {
+
+			ValueWrapper local = nearCache.get(keyBytes);
+			if (local != null) {
+				return new RedisCacheElement(cacheKey, fromStoreValue(local.get()));
+			}
+		}
+
+		long generation = nearCache != null ? nearCache.getGeneration(keyBytes) : 0;
+		final long[] timeToLive = new long[1];
+		long start = System.nanoTime();
+
+		byte[] bytes = (byte[]) redisOperations.execute(new RedisCallback<byte[]>() {
 
 			@Override
-			public Boolean doInRedis(RedisConnection connection) throws DataAccessException {
-				return connection.exists(cacheKey.getKeyBytes());
+			public byte[] doInRedis(RedisConnection connection) throws DataAccessException {
+
+				byte[] value;
+				Long pTtl;
+
+				if (canPipelineKeyCommands(connection)) {
+
+					// read value and time to live within a single round trip
+					connection.openPipeline();
+					try {
+						connection.get(keyBytes);
+						connection.pTtl(keyBytes);
+					} catch (RuntimeException e) {
+						connection.closePipeline();
+						throw e;
+					}
+
+					List<Object> results = connection.closePipeline();
+					value = (byte[]) results.get(0);
+					pTtl = (Long) results.get(1);
+				} else {
+
+					value = connection.get(keyBytes);
+					pTtl = value != null ? connection.pTtl(keyBytes) : null;
+				}
+
+				if (value != null) {
+					timeToLive[0] = pTtl != null ? pTtl.longValue() : 0;
+				}
+
+				return value;
 			}
 		});
 
-		if (!exists.booleanValue()) {
+		cacheMetadata.getMetrics().recordRead(System.nanoTime() - start);
+
+		if (nearCache != null) {
+			nearCache.recordRemoteLookup(bytes != null);
+		}
+
+		if (bytes == null) {
 			return null;
 		}
 
-		return new RedisCacheElement(cacheKey, fromStoreValue(lookup(cacheKey)));
+		if (valueLoader != null && isExpiringEarly(bytes)) {
+			return new RecomputedRedisCacheElement(cacheKey, recomputeEarly(key, valueLoader));
+		}
+
+		Object value = deserialize(bytes);
+		boolean withinRefreshWindow = isRefreshAheadEnabled() && timeToLive[0] > 0
+				&& timeToLive[0] <= cacheMetadata.getRefreshAheadWindow();
+
+		if (withinRefreshWindow && refreshAhead) {
+			refreshAhead(keyBytes, key, valueLoader);
+		}
+
+		// -2 signals the key expired in between GET and PTTL. Entries due for refresh are not held in memory so that
+		// reads keep hitting Redis and pick up the refreshed value.
+		if (nearCache != null && timeToLive[0] != -2 && !withinRefreshWindow) {
+			nearCache.putIfNotInvalidated(keyBytes, value, getNearCacheTimeToLive(timeToLive[0]), generation);
+		}
+
+		return new RedisCacheElement(cacheKey, fromStoreValue(value));
+	}
+
+	private boolean isRefreshAheadEnabled() {
+		return refreshExecutor != null && cacheMetadata.getRefreshAheadWindow() > 0;
+	}
+
+	/**
+	 * Reduce the time to live of entries held by the {@link NearCache} by the refresh ahead window, so that entries
+	 * due for refresh are read from Redis again.
+	 */
+	private long getNearCacheTimeToLive(long redisTimeToLive) {
+
+		long refreshWindow = isRefreshAheadEnabled() ? cacheMetadata.getRefreshAheadWindow() : 0;
+		return redisTimeToLive > refreshWindow ? redisTimeToLive - refreshWindow : redisTimeToLive;
+	}
+
+	/**
+	 * Reload the value for the given key using the refresh executor unless a refresh for the key is already in progress
+	 * within this JVM.
+	 */
+	private void refreshAhead(byte[] keyBytes, final Object key, final Callable<?> valueLoader) {
+
+		final ByteArrayWrapper refreshKey = new ByteArrayWrapper(keyBytes);
+
+		if (!localRefreshes.add(refreshKey)) {
+			return;
+		}
+
+		try {
+
+			refreshExecutor.execute(new Runnable() {
+
+				@Override
+				public void run() {
+
+					try {
+						refresh(refreshKey.getArray(), key, valueLoader);
+					} catch (Exception e) {
+
+						if (LOGGER.isDebugEnabled()) {
+							LOGGER.debug(String.format("Refreshing key '%s' in cache '%s' failed.", key, getName()), e);
+						}
+					} finally {
+						localRefreshes.remove(refreshKey);
+					}
+				}
+			});
+		} catch (RejectedExecutionException e) {
+
+			// executor saturated - the entry is refreshed by a later read or loaded once expired
+			localRefreshes.remove(refreshKey);
+		}
+	}
+
+	/**
+	 * Reload and store the value unless the per key lock is held by another process, which means the value is already
+	 * being refreshed or loaded elsewhere, or unless the entry has left the refresh ahead window since it has been read,
+	 * which means another process refreshed it in the meantime.
+	 */
+	private void refresh(final byte[] keyBytes, Object key, Callable<?> valueLoader) throws Exception {
+
+		final byte[] lockKey = cacheMetadata.getKeyLockKey(keyBytes);
+		final byte[] token = RedisCacheKeyLock.newToken();
+
+		Boolean locked = (Boolean) redisOperations.execute(new RedisCallback<Boolean>() {
+
+			@Override
+			public Boolean doInRedis(RedisConnection connection) throws DataAccessException {
+
+				if (!RedisCacheKeyLock.tryLock(lockKey, token, cacheMetadata, connection)) {
+					return false;
+				}
+
+				Long timeToLive = connection.pTtl(keyBytes);
+
+				if (timeToLive != null && timeToLive.longValue() > 0
+						&& timeToLive.longValue() <= cacheMetadata.getRefreshAheadWindow()) {
+					return true;
+				}
+
+				RedisCacheKeyLock.unlock(lockKey, token, cacheMetadata, connection);
+				return false;
+			}
+		});
+
+		if (!Boolean.TRUE.equals(locked)) {
+			return;
+		}
+
+		try {
+			loadAndPut(key, valueLoader);
+		} finally {
+
+			redisOperations.execute(new RedisCallback<Void>() {
+
+				@Override
+				public Void doInRedis(RedisConnection connection) throws DataAccessException {
+
+					RedisCacheKeyLock.unlock(lockKey, token, cacheMetadata, connection);
+					return null;
+				}
+			});
+		}
+	}
+
+	private boolean isEarlyExpirationEnabled() {
+		return cacheMetadata.getEarlyExpirationBeta() > 0 && cacheMetadata.getDefaultExpiration() > 0;
+	}
+
+	/**
+	 * Deserialize a value read from Redis. Values stored within an {@link EarlyExpirationEnvelope} are unwrapped
+	 * regardless of the current configuration, so entries written before early expiration got disabled remain readable.
+	 */
+	private Object deserialize(byte[] bytes) {
+		return cacheValueAccessor.deserializeIfNecessary(bytes);
+	}
+
+	private boolean isExpiringEarly(byte[] bytes) {
+		return isEarlyExpirationEnabled() && EarlyExpirationEnvelope.isExpiringEarly(bytes,
+				cacheMetadata.getEarlyExpirationBeta());
+	}
+
+	/**
+	 * Recompute the value in the calling thread without taking the per key lock. The probabilistic early expiration
+	 * makes sure only few readers recompute a given key before it actually expires.
+	 */
+	private Object recomputeEarly(Object key, Callable<?> valueLoader) {
+
+		try {
+			return loadAndPut(key, valueLoader);
+		} catch (Exception e) {
+			throw CacheValueRetrievalExceptionFactory.INSTANCE.create(key, valueLoader, e);
+		}
+	}
+
+	/**
+	 * Load the value using the given {@link Callable} and store it along with the time it took to compute it.
+	 *
+	 * @return the loaded value.
+	 */
+	private Object loadAndPut(Object key, Callable<?> valueLoader) throws Exception {
+
+		long start = System.nanoTime();
+		boolean success = false;
+		Object value;
+
+		try {
+
+			value = valueLoader.call();
+			success = true;
+		} finally {
+			cacheMetadata.getMetrics().recordLoad(System.nanoTime() - start, success);
+		}
+
+		RedisCacheElement element = new RedisCacheElement(getRedisCacheKey(key), toStoreValue(value))
+				.expireAfter(cacheMetadata.getDefaultExpiration());
+		element.setComputeTime(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+
+		put(element);
+		return value;
 	}
 
 	/*
@@ -222,8 +592,158 @@ public class RedisCache extends AbstractValueAdaptingCache {
 
 		Assert.notNull(element, "Element must not be null!");
 
-		redisOperations
-				.execute(new RedisCachePutCallback(new BinaryRedisCacheElement(element, cacheValueAccessor), cacheMetadata));
+		BinaryRedisCacheElement binaryElement = new BinaryRedisCacheElement(element, cacheValueAccessor);
+		binaryElement.setEarlyExpiration(isEarlyExpirationEnabled());
+
+		long start = System.nanoTime();
+		redisOperations.execute(new RedisCachePutCallback(binaryElement, cacheMetadata));
+		cacheMetadata.getMetrics().recordWrite(System.nanoTime() - start);
+		cacheMetadata.getMetrics().recordPut();
+
+		NearCache nearCache = this.nearCache;
+
+		if (nearCache != null) {
+
+			if (element.get() == null) {
+				nearCache.evict(element.getKeyBytes());
+			} else {
+				nearCache.put(element.getKeyBytes(), element.get(),
+						getNearCacheTimeToLive(TimeUnit.SECONDS.toMillis(element.getTimeToLive())));
+			}
+
+			publishInvalidation(nearCache, element.getKeyBytes());
+		}
+	}
+
+	/**
+	 * Return the values to which this cache maps the given keys. Values are read using a single {@literal MGET}, or one
+	 * {@literal MGET} per hash slot when connected to a cluster. Values held by the {@link NearCache} are served from
+	 * memory, values read from Redis are not added to it.
+	 *
+	 * @param keys must not be {@literal null}.
+	 * @return a {@link Map} holding a {@link ValueWrapper} for each key present in the cache. Never {@literal null}.
+	 * @since 1.8.8
+	 */
+	public Map<Object, ValueWrapper> getAll(Collection<?> keys) {
+
+		Assert.notNull(keys, "Keys must not be null!");
+
+		Map<Object, ValueWrapper> result = new LinkedHashMap<Object, ValueWrapper>(keys.size());
+		List<RedisCacheKey> remoteKeys = new ArrayList<RedisCacheKey>(keys.size());
+		List<byte[]> remoteKeyBytes = new ArrayList<byte[]>(keys.size());
+		NearCache nearCache = this.nearCache;
+
+		for (Object key : keys) {
+
+			RedisCacheKey cacheKey = getRedisCacheKey(key);
+
+			if (nearCache != null) {
+
+				ValueWrapper local = nearCache.get(cacheKey.getKeyBytes());
+				if (local != null) {
+
+					result.put(key, new RedisCacheElement(cacheKey, fromStoreValue(local.get())));
+					cacheMetadata.getMetrics().recordHit();
+					continue;
+				}
+			}
+
+			remoteKeys.add(cacheKey);
+			remoteKeyBytes.add(cacheKey.getKeyBytes());
+		}
+
+		if (remoteKeys.isEmpty()) {
+			return result;
+		}
+
+		long start = System.nanoTime();
+		List<byte[]> values = (List<byte[]>) redisOperations.execute(new RedisCacheBulkGetCallback(remoteKeyBytes));
+		cacheMetadata.getMetrics().recordRead(System.nanoTime() - start);
+
+		if (values == null) {
+			return result;
+		}
+
+		for (int i = 0; i < remoteKeys.size(); i++) {
+
+			byte[] bytes = values.get(i);
+
+			if (nearCache != null) {
+				nearCache.recordRemoteLookup(bytes != null);
+			}
+
+			if (bytes != null) {
+				cacheMetadata.getMetrics().recordHit();
+			} else {
+				cacheMetadata.getMetrics().recordMiss();
+			}
+
+			if (bytes != null) {
+
+				RedisCacheKey cacheKey = remoteKeys.get(i);
+				result.put(cacheKey.getKeyElement(),
+						new RedisCacheElement(cacheKey, fromStoreValue(deserialize(bytes))));
+			}
+		}
+
+		return result;
+	}
+
+	/**
+	 * Add all given entries applying the default expiration. Entries are written using a single pipeline, or one command
+	 * per entry when connected to a cluster.
+	 *
+	 * @param entries must not be {@literal null}.
+	 * @since 1.8.8
+	 */
+	public void putAll(Map<?, ?> entries) {
+
+		Assert.notNull(entries, "Entries must not be null!");
+
+		if (entries.isEmpty()) {
+			return;
+		}
+
+		List<RedisCacheElement> elements = new ArrayList<RedisCacheElement>(entries.size());
+		List<BinaryRedisCacheElement> binaryElements = new ArrayList<BinaryRedisCacheElement>(entries.size());
+
+		for (Map.Entry<?, ?> entry : entries.entrySet()) {
+
+			RedisCacheElement element = new RedisCacheElement(getRedisCacheKey(entry.getKey()),
+					toStoreValue(entry.getValue())).expireAfter(cacheMetadata.getDefaultExpiration());
+			BinaryRedisCacheElement binaryElement = new BinaryRedisCacheElement(element, cacheValueAccessor);
+			binaryElement.setEarlyExpiration(isEarlyExpirationEnabled());
+
+			elements.add(element);
+			binaryElements.add(binaryElement);
+		}
+
+		long start = System.nanoTime();
+		redisOperations.execute(new RedisCacheBulkPutCallback(binaryElements, cacheMetadata));
+		cacheMetadata.getMetrics().recordWrite(System.nanoTime() - start);
+
+		cacheMetadata.getMetrics().recordPuts(binaryElements.size());
+
+		NearCache nearCache = this.nearCache;
+
+		if (nearCache != null) {
+
+			List<byte[]> keys = new ArrayList<byte[]>(elements.size());
+
+			for (RedisCacheElement element : elements) {
+
+				if (element.get() == null) {
+					nearCache.evict(element.getKeyBytes());
+				} else {
+					nearCache.put(element.getKeyBytes(), element.get(),
+							getNearCacheTimeToLive(TimeUnit.SECONDS.toMillis(element.getTimeToLive())));
+				}
+
+				keys.add(element.getKeyBytes());
+			}
+
+			publishInvalidations(nearCache, keys);
+		}
 	}
 
 	/*
@@ -248,10 +768,25 @@ public class RedisCache extends AbstractValueAdaptingCache {
 
 		Assert.notNull(element, "Element must not be null!");
 
-		new RedisCachePutIfAbsentCallback(new BinaryRedisCacheElement(element, cacheValueAccessor), cacheMetadata);
+		NearCache nearCache = this.nearCache;
+
+		// the outcome is unknown up front, so do not serve a possibly outdated local value afterwards
+		if (nearCache != null) {
+			nearCache.evict(element.getKeyBytes());
+		}
+
+		BinaryRedisCacheElement binaryElement = new BinaryRedisCacheElement(element, cacheValueAccessor);
+		binaryElement.setEarlyExpiration(isEarlyExpirationEnabled());
+
+		long start = System.nanoTime();
+		byte[] existing = (byte[]) redisOperations.execute(new RedisCachePutIfAbsentCallback(binaryElement, cacheMetadata));
+		cacheMetadata.getMetrics().recordWrite(System.nanoTime() - start);
 
-		return toWrapper(cacheValueAccessor.deserializeIfNecessary((byte[]) redisOperations.execute(
-				new RedisCachePutIfAbsentCallback(new BinaryRedisCacheElement(element, cacheValueAccessor), cacheMetadata))));
+		if (existing == null) {
+			cacheMetadata.getMetrics().recordPut();
+		}
+
+		return toWrapper(deserialize(existing));
 	}
 
 	/*
@@ -269,8 +804,20 @@ public class RedisCache extends AbstractValueAdaptingCache {
 	public void evict(final RedisCacheElement element) {
 
 		Assert.notNull(element, "Element must not be null!");
+
+		long start = System.nanoTime();
 		redisOperations
 				.execute(new RedisCacheEvictCallback(new BinaryRedisCacheElement(element, cacheValueAccessor), cacheMetadata));
+		cacheMetadata.getMetrics().recordWrite(System.nanoTime() - start);
+		cacheMetadata.getMetrics().recordEviction();
+
+		NearCache nearCache = this.nearCache;
+
+		if (nearCache != null) {
+
+			nearCache.evict(element.getKeyBytes());
+			publishInvalidation(nearCache, element.getKeyBytes());
+		}
 	}
 
 	/*
@@ -278,32 +825,232 @@ public class RedisCache extends AbstractValueAdaptingCache {
 	 * @see org.springframework.cache.Cache#clear()
 	 */
 	public void clear() {
-		redisOperations.execute(cacheMetadata.usesKeyPrefix() ? new RedisCacheCleanByPrefixCallback(cacheMetadata)
-				: new RedisCacheCleanByKeysCallback(cacheMetadata));
+
+		if (cacheMetadata.isIncrementalClear()) {
+			redisOperations.execute(new RedisCacheIncrementalCleanCallback(cacheMetadata, clearExecutor));
+		} else {
+			redisOperations.execute(cacheMetadata.usesKeyPrefix() ? new RedisCacheCleanByPrefixCallback(cacheMetadata)
+					: new RedisCacheCleanByKeysCallback(cacheMetadata));
+		}
+
+		NearCache nearCache = this.nearCache;
+
+		if (nearCache != null) {
+
+			nearCache.clear();
+			publishInvalidation(nearCache, null);
+		}
 	}
 
-	/*
-	 * (non-Javadoc)
-	 * @see org.springframework.cache.Cache#getName()
+	/**
+	 * Set whether {@link #clear()} removes entries in bounded batches using {@literal SCAN} instead of locking the cache
+	 * and deleting all keys at once. Incremental clearing does not block Redis or concurrent cache operations for large
+	 * caches, but entries written while clearing is in progress may or may not be removed.
+	 *
+	 * @param incrementalClear
+	 * @since 1.8.8
 	 */
-	public String getName() {
-		return cacheMetadata.getCacheName();
+	public void setIncrementalClear(boolean incrementalClear) {
+		cacheMetadata.setIncrementalClear(incrementalClear);
 	}
 
 	/**
-	 * {@inheritDoc} This implementation simply returns the RedisTemplate used for configuring the cache, giving access to
-	 * the underlying Redis store.
+	 * Set the {@link Executor} used to scan all master nodes in parallel when {@link #setIncrementalClear(boolean)
+	 * incrementally clearing} a prefixed cache on a cluster. {@link #clear()} blocks until all nodes have been scanned.
+	 * Nodes are scanned one after another in the calling thread if not set.
+	 *
+	 * @param clearExecutor can be {@literal null}.
+	 * @since 1.8.8
 	 */
-	public Object getNativeCache() {
-		return redisOperations;
+	public void setClearExecutor(Executor clearExecutor) {
+		this.clearExecutor = clearExecutor;
 	}
 
-	private ValueWrapper toWrapper(Object value) {
-		return (value != null ? new SimpleValueWrapper(value) : null);
+	/**
+	 * Set whether keys tracked in {@literal <cacheName>~keys} (caches without key prefix) are scored by their
+	 * expiration time. Expired keys are then removed on each write, so the index does not grow beyond the number of
+	 * live cache entries. Defaults to {@literal false}, keeping keys until the cache is cleared.
+	 *
+	 * @param expiringKnownKeys
+	 * @since 1.8.8
+	 */
+	public void setExpiringKnownKeys(boolean expiringKnownKeys) {
+		cacheMetadata.setExpiringKnownKeys(expiringKnownKeys);
 	}
 
-	/*
-	 * (non-Javadoc)
+	/**
+	 * Set the number of sorted sets the keys tracked for caches without key prefix are distributed across. Using more
+	 * than one set stores the keys at {@literal <cacheName>~<shard>~keys}, which keeps single keys small and spreads them
+	 * across cluster nodes. Changing the number of shards for an existing cache requires clearing it first. Defaults to
+	 * {@literal 1}.
+	 *
+	 * @param shards must be greater than {@literal zero}.
+	 * @since 1.8.8
+	 */
+	public void setKnownKeysShards(int shards) {
+		cacheMetadata.setKnownKeysShards(shards);
+	}
+
+	/**
+	 * Set the {@link RedisCacheMetrics} recording hits, misses, writes, value loader invocations, lock waits and Redis
+	 * latency of this cache.
+	 *
+	 * @param metrics can be {@literal null} to not record cache operations.
+	 * @since 1.8.8
+	 */
+	public void setMetrics(RedisCacheMetrics metrics) {
+		cacheMetadata.setMetrics(metrics);
+	}
+
+	/**
+	 * @return the {@link RedisCacheMetrics} in use. Never {@literal null}.
+	 * @since 1.8.8
+	 */
+	public RedisCacheMetrics getMetrics() {
+		return cacheMetadata.getMetrics();
+	}
+
+	/**
+	 * Set the {@link NearCache} serving values from memory in front of Redis. Each {@literal put}, {@literal evict} and
+	 * {@literal clear} publishes an invalidation message on {@link #getInvalidationTopic()} that should be consumed by
+	 * the {@link NearCache} of other {@link RedisCache} instances with the same name.
+	 *
+	 * @param nearCache can be {@literal null} to read directly from Redis.
+	 * @since 1.8.8
+	 */
+	public void setNearCache(NearCache nearCache) {
+		this.nearCache = nearCache;
+	}
+
+	/**
+	 * @return the {@link NearCache} in use. Can be {@literal null}.
+	 * @since 1.8.8
+	 */
+	public NearCache getNearCache() {
+		return nearCache;
+	}
+
+	/**
+	 * Get the {@link ChannelTopic} invalidation messages for this cache are published to.
+	 *
+	 * @return never {@literal null}.
+	 * @since 1.8.8
+	 */
+	public ChannelTopic getInvalidationTopic() {
+		return new ChannelTopic(cacheMetadata.getInvalidationChannelName());
+	}
+
+	private void publishInvalidation(final NearCache nearCache, final byte[] keyBytes) {
+
+		final byte[] channel = new StringRedisSerializer().serialize(cacheMetadata.getInvalidationChannelName());
+
+		redisOperations.execute(new RedisCallback<Void>() {
+
+			@Override
+			public Void doInRedis(RedisConnection connection) throws DataAccessException {
+
+				connection.publish(channel, nearCache.createInvalidationMessage(keyBytes));
+				return null;
+			}
+		});
+	}
+
+	private void publishInvalidations(final NearCache nearCache, final List<byte[]> keys) {
+
+		final byte[] channel = new StringRedisSerializer().serialize(cacheMetadata.getInvalidationChannelName());
+
+		redisOperations.execute(new RedisCallback<Void>() {
+
+			@Override
+			public Void doInRedis(RedisConnection connection) throws DataAccessException {
+
+				boolean pipeline = canPipeline(connection);
+
+				if (pipeline) {
+					connection.openPipeline();
+				}
+
+				for (byte[] keyBytes : keys) {
+					connection.publish(channel, nearCache.createInvalidationMessage(keyBytes));
+				}
+
+				if (pipeline) {
+					connection.closePipeline();
+				}
+
+				return null;
+			}
+		});
+	}
+
+	/**
+	 * Set the time (in milliseconds) after which the per key lock guarding {@link #get(Object, Callable)} is released
+	 * automatically. Choose a value exceeding the expected value loader execution time. Defaults to 30 seconds.
+	 *
+	 * @param lockTimeout time in milliseconds. Must be greater than {@literal zero}.
+	 * @since 1.8.8
+	 */
+	public void setLockTimeout(long lockTimeout) {
+		cacheMetadata.setLockTimeout(lockTimeout);
+	}
+
+	/**
+	 * Enable refresh ahead for {@link #get(Object, Callable)}. Entries whose remaining time to live dropped below the
+	 * given fraction of the default expiration are returned as is while a single asynchronous reload is triggered using
+	 * the given {@link Executor}. The per key lock makes sure only one process refreshes a given key. Reloads rejected by
+	 * the {@link Executor} are skipped, so a bounded {@link Executor} should be used. <br />
+	 * Refresh ahead requires a default expiration to be set.
+	 *
+	 * @param threshold fraction of the default expiration between {@literal zero} (inclusive) and {@literal one}
+	 *          (exclusive). Use {@literal zero} to disable refresh ahead.
+	 * @param executor must not be {@literal null} if {@literal threshold} is greater than {@literal zero}.
+	 * @since 1.8.8
+	 */
+	public void setRefreshAhead(double threshold, Executor executor) {
+
+		Assert.isTrue(threshold == 0 || executor != null, "Executor must not be null!");
+
+		cacheMetadata.setRefreshAheadThreshold(threshold);
+		this.refreshExecutor = threshold > 0 ? executor : null;
+	}
+
+	/**
+	 * Enable probabilistic early expiration (XFetch) for {@link #get(Object, Callable)}. Values are stored along with the
+	 * time it took to compute them and their expiration time. Readers recompute a value before it expires with a
+	 * probability rising as the expiration time approaches, which spreads recomputation of hot keys without locking.
+	 * Entries stored without that information are read as is. <br />
+	 * Early expiration requires a default expiration to be set and applies to values read from Redis only.
+	 *
+	 * @param beta values greater than {@literal one} favor earlier recomputation, values less than {@literal one}
+	 *          favor later recomputation. Use {@literal zero} to disable early expiration.
+	 * @since 1.8.8
+	 */
+	public void setEarlyExpiration(double beta) {
+		cacheMetadata.setEarlyExpirationBeta(beta);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.cache.Cache#getName()
+	 */
+	public String getName() {
+		return cacheMetadata.getCacheName();
+	}
+
+	/**
+	 * {@inheritDoc} This implementation simply returns the RedisTemplate used for configuring the cache, giving access to
+	 * the underlying Redis store.
+	 */
+	public Object getNativeCache() {
+		return redisOperations;
+	}
+
+	private ValueWrapper toWrapper(Object value) {
+		return (value != null ? new SimpleValueWrapper(value) : null);
+	}
+
+	/*
+	 * (non-Javadoc)
 	 * @see org.springframework.cache.support.AbstractValueAdaptingCache#lookup(java.lang.Object)
 	 */
 	@Override
@@ -311,16 +1058,32 @@ public class RedisCache extends AbstractValueAdaptingCache {
 
 		RedisCacheKey cacheKey = key instanceof RedisCacheKey ? (RedisCacheKey) key : getRedisCacheKey(key);
 
-		byte[] bytes = (byte[]) redisOperations.execute(new AbstractRedisCacheCallback<byte[]>(
-				new BinaryRedisCacheElement(new RedisCacheElement(cacheKey, null), cacheValueAccessor), cacheMetadata) {
+		byte[] bytes = readValue(cacheKey);
+		return bytes == null ? null : deserialize(bytes);
+	}
 
-			@Override
-			public byte[] doInRedis(BinaryRedisCacheElement element, RedisConnection connection) throws DataAccessException {
-				return connection.get(element.getKeyBytes());
-			}
-		});
+	/**
+	 * Read the raw value stored at the given {@link RedisCacheKey} using a single {@literal GET} command. Reads neither
+	 * check for key existence nor wait for the cache lock, so a lookup costs exactly one round trip.
+	 *
+	 * @param cacheKey must not be {@literal null}.
+	 * @return {@literal null} if no value is stored for the key.
+	 */
+	private byte[] readValue(final RedisCacheKey cacheKey) {
+
+		long start = System.nanoTime();
+
+		try {
+			return (byte[]) redisOperations.execute(new RedisCallback<byte[]>() {
 
-		return bytes == null ? null : cacheValueAccessor.deserializeIfNecessary(bytes);
+				@Override
+				public byte[] doInRedis(RedisConnection connection) throws DataAccessException {
+					return connection.get(cacheKey.getKeyBytes());
+				}
+			});
+		} finally {
+			cacheMetadata.getMetrics().recordRead(System.nanoTime() - start);
+		}
 	}
 
 	private RedisCacheKey getRedisCacheKey(Object key) {
@@ -345,7 +1108,18 @@ public class RedisCache extends AbstractValueAdaptingCache {
 
 		@Override
 		public Object call() throws Exception {
-			return toStoreValue(valueLoader.call());
+
+			long start = System.nanoTime();
+			boolean success = false;
+
+			try {
+
+				Object value = toStoreValue(valueLoader.call());
+				success = true;
+				return value;
+			} finally {
+				cacheMetadata.getMetrics().recordLoad(System.nanoTime() - start, success);
+			}
 		}
 	}
 
@@ -358,11 +1132,21 @@ public class RedisCache extends AbstractValueAdaptingCache {
 	 */
 	static class RedisCacheMetadata {
 
+		static final long DEFAULT_LOCK_TIMEOUT = TimeUnit.SECONDS.toMillis(30);
+
 		private final String cacheName;
 		private final byte[] keyPrefix;
 		private final byte[] setOfKnownKeys;
+		private byte[][] setsOfKnownKeys;
 		private final byte[] cacheLockName;
+		private final byte[] keyLockPrefix;
 		private long defaultExpiration = 0;
+		private long lockTimeout = DEFAULT_LOCK_TIMEOUT;
+		private boolean incrementalClear = false;
+		private double refreshAheadThreshold = 0;
+		private double earlyExpirationBeta = 0;
+		private boolean expiringKnownKeys = false;
+		private volatile RedisCacheMetrics metrics = NoOpRedisCacheMetrics.INSTANCE;
 
 		/**
 		 * @param cacheName must not be {@literal null} or empty.
@@ -378,7 +1162,10 @@ public class RedisCache extends AbstractValueAdaptingCache {
 
 			// name of the set holding the keys
 			this.setOfKnownKeys = usesKeyPrefix() ? new byte[] {} : stringSerializer.serialize(cacheName + "~keys");
+			this.setsOfKnownKeys = new byte[][] { setOfKnownKeys };
 			this.cacheLockName = stringSerializer.serialize(cacheName + "~lock");
+			// key locks live outside the key prefix so clear does not remove them
+			this.keyLockPrefix = stringSerializer.serialize(cacheName + "~locks:");
 		}
 
 		/**
@@ -406,6 +1193,85 @@ public class RedisCache extends AbstractValueAdaptingCache {
 			return setOfKnownKeys;
 		}
 
+		/**
+		 * Get the binary representation of the key identifying the data structure used to maintain the given key.
+		 *
+		 * @param keyBytes must not be {@literal null}.
+		 * @return never {@literal null}.
+		 */
+		public byte[] getSetOfKnownKeysKey(byte[] keyBytes) {
+
+			byte[][] sets = setsOfKnownKeys;
+			return sets.length == 1 ? sets[0] : sets[(Arrays.hashCode(keyBytes) & Integer.MAX_VALUE) % sets.length];
+		}
+
+		/**
+		 * Get the binary representation of all keys identifying the data structures used to maintain known keys.
+		 *
+		 * @return never {@literal null}.
+		 */
+		public List<byte[]> getSetsOfKnownKeysKeys() {
+			return Arrays.asList(setsOfKnownKeys);
+		}
+
+		/**
+		 * Set the number of data structures the known keys are distributed across. Using a single one stores all keys at
+		 * {@literal <cacheName>~keys}, multiple ones are named {@literal <cacheName>~<shard>~keys}.
+		 *
+		 * @param shards must be greater than {@literal zero}.
+		 */
+		public void setKnownKeysShards(int shards) {
+
+			Assert.isTrue(shards > 0, "Shards must be greater than zero!");
+
+			if (usesKeyPrefix() || shards == 1) {
+
+				this.setsOfKnownKeys = new byte[][] { setOfKnownKeys };
+				return;
+			}
+
+			StringRedisSerializer stringSerializer = new StringRedisSerializer();
+			byte[][] sets = new byte[shards][];
+
+			for (int i = 0; i < shards; i++) {
+				sets[i] = stringSerializer.serialize(cacheName + "~" + i + "~keys");
+			}
+
+			this.setsOfKnownKeys = sets;
+		}
+
+		/**
+		 * Set whether known keys are scored by their expiration time and removed once expired.
+		 *
+		 * @param expiringKnownKeys
+		 */
+		public void setExpiringKnownKeys(boolean expiringKnownKeys) {
+			this.expiringKnownKeys = expiringKnownKeys;
+		}
+
+		/**
+		 * @return true if known keys are scored by their expiration time and removed once expired.
+		 */
+		public boolean isExpiringKnownKeys() {
+			return expiringKnownKeys;
+		}
+
+		/**
+		 * Set the {@link RedisCacheMetrics} recording cache operations.
+		 *
+		 * @param metrics can be {@literal null} to not record cache operations.
+		 */
+		public void setMetrics(RedisCacheMetrics metrics) {
+			this.metrics = metrics != null ? metrics : NoOpRedisCacheMetrics.INSTANCE;
+		}
+
+		/**
+		 * @return never {@literal null}.
+		 */
+		public RedisCacheMetrics getMetrics() {
+			return metrics;
+		}
+
 		/**
 		 * Get the binary representation of the key identifying the data structure used to lock the cache.
 		 *
@@ -415,6 +1281,27 @@ public class RedisCache extends AbstractValueAdaptingCache {
 			return cacheLockName;
 		}
 
+		/**
+		 * Get the binary representation of the key identifying the lock guarding the load of a single cache entry. Key
+		 * locks are kept in their own namespace {@literal <cacheName>~locks:}, so they neither collide with cache keys nor
+		 * get removed by {@link RedisCache#clear()}.
+		 *
+		 * @param keyBytes binary representation of the cache key. Must not be {@literal null}.
+		 * @return never {@literal null}.
+		 */
+		public byte[] getKeyLockKey(byte[] keyBytes) {
+			return ByteUtils.concat(keyLockPrefix, keyBytes);
+		}
+
+		/**
+		 * Get the name of the channel used to publish invalidation messages for {@link NearCache} instances.
+		 *
+		 * @return never {@literal null}.
+		 */
+		public String getInvalidationChannelName() {
+			return cacheName + "~invalidation";
+		}
+
 		/**
 		 * Get the name of the cache.
 		 *
@@ -442,6 +1329,89 @@ public class RedisCache extends AbstractValueAdaptingCache {
 			return defaultExpiration;
 		}
 
+		/**
+		 * Set the time in milliseconds after which a per key lock expires.
+		 *
+		 * @param lockTimeout
+		 */
+		public void setLockTimeout(long lockTimeout) {
+
+			Assert.isTrue(lockTimeout > 0, "LockTimeout must be greater than zero!");
+			this.lockTimeout = lockTimeout;
+		}
+
+		/**
+		 * Get the time in milliseconds after which a per key lock expires.
+		 *
+		 * @return
+		 */
+		public long getLockTimeout() {
+			return lockTimeout;
+		}
+
+		/**
+		 * Set whether to clear the cache in batches without locking it.
+		 *
+		 * @param incrementalClear
+		 */
+		public void setIncrementalClear(boolean incrementalClear) {
+			this.incrementalClear = incrementalClear;
+		}
+
+		/**
+		 * @return true if the cache is cleared in batches without locking it.
+		 */
+		public boolean isIncrementalClear() {
+			return incrementalClear;
+		}
+
+		/**
+		 * Set the fraction of the default expiration below which the remaining time to live of an entry triggers a
+		 * refresh.
+		 *
+		 * @param refreshAheadThreshold
+		 */
+		public void setRefreshAheadThreshold(double refreshAheadThreshold) {
+
+			Assert.isTrue(refreshAheadThreshold >= 0 && refreshAheadThreshold < 1,
+					"RefreshAheadThreshold must be between zero (inclusive) and one (exclusive)!");
+			this.refreshAheadThreshold = refreshAheadThreshold;
+		}
+
+		/**
+		 * @return the fraction of the default expiration below which entries are refreshed. {@literal zero} if disabled.
+		 */
+		public double getRefreshAheadThreshold() {
+			return refreshAheadThreshold;
+		}
+
+		/**
+		 * Get the time in milliseconds before expiration within which entries are refreshed.
+		 *
+		 * @return {@literal zero} if refresh ahead is disabled or entries do not expire.
+		 */
+		public long getRefreshAheadWindow() {
+			return (long) (TimeUnit.SECONDS.toMillis(defaultExpiration) * refreshAheadThreshold);
+		}
+
+		/**
+		 * Set the factor scaling the compute time used for probabilistic early expiration.
+		 *
+		 * @param earlyExpirationBeta
+		 */
+		public void setEarlyExpirationBeta(double earlyExpirationBeta) {
+
+			Assert.isTrue(earlyExpirationBeta >= 0, "EarlyExpirationBeta must not be negative!");
+			this.earlyExpirationBeta = earlyExpirationBeta;
+		}
+
+		/**
+		 * @return the factor scaling the compute time used for probabilistic early expiration. {@literal zero} if disabled.
+		 */
+		public double getEarlyExpirationBeta() {
+			return earlyExpirationBeta;
+		}
+
 	}
 
 	/**
@@ -471,8 +1441,14 @@ public class RedisCache extends AbstractValueAdaptingCache {
 			return valueSerializer.serialize(value);
 		}
 
+		/**
+		 * @param value the raw value, possibly stored within an {@link EarlyExpirationEnvelope}.
+		 * @return the deserialized value.
+		 */
 		Object deserializeIfNecessary(byte[] value) {
 
+			value = EarlyExpirationEnvelope.unwrap(value);
+
 			if (valueSerializer != null) {
 				return valueSerializer.deserialize(value);
 			}
@@ -492,6 +1468,8 @@ public class RedisCache extends AbstractValueAdaptingCache {
 		private RedisCacheElement element;
 		private boolean lazyLoad;
 		private CacheValueAccessor accessor;
+		private boolean earlyExpiration;
+		private byte[] envelopedBytes;
 
 		public BinaryRedisCacheElement(RedisCacheElement element, CacheValueAccessor accessor) {
 
@@ -525,20 +1503,125 @@ public class RedisCache extends AbstractValueAdaptingCache {
 			return element.expireAfter(seconds);
 		}
 
+		public long getComputeTime() {
+			return element.getComputeTime();
+		}
+
+		/**
+		 * Set whether to store the value along with its compute and expiration time in an {@link EarlyExpirationEnvelope}.
+		 *
+		 * @param earlyExpiration
+		 */
+		public void setEarlyExpiration(boolean earlyExpiration) {
+			this.earlyExpiration = earlyExpiration;
+		}
+
 		@Override
 		public byte[] get() {
 
 			if (lazyLoad && valueBytes == null) {
 				try {
+
+					long start = System.nanoTime();
 					valueBytes = accessor.convertToBytesIfNecessary(((Callable<?>) element.get()).call());
+					element.setComputeTime(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
 				} catch (Exception e) {
 					throw e instanceof RuntimeException ? (RuntimeException) e : new RuntimeException(e.getMessage(), e);
 				}
 			}
+
+			if (earlyExpiration && !isEternal() && valueBytes != null && valueBytes.length > 0) {
+
+				if (envelopedBytes == null) {
+					envelopedBytes = EarlyExpirationEnvelope.wrap(valueBytes, getComputeTime(),
+							System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(getTimeToLive()));
+				}
+				return envelopedBytes;
+			}
+
 			return valueBytes;
 		}
 	}
 
+	/**
+	 * {@link RedisCacheElement} holding a value recomputed ahead of its expiration, so the lookup is not recorded as a
+	 * hit.
+	 *
+	 * @author agent
+	 * @since 1.8.8
+	 */
+	static class RecomputedRedisCacheElement extends RedisCacheElement {
+
+		RecomputedRedisCacheElement(RedisCacheKey cacheKey, Object value) {
+			super(cacheKey, value);
+		}
+	}
+
+	/**
+	 * Binary layout prefixing a stored value with the time in milliseconds it took to compute it and its expiration time
+	 * (epoch milliseconds), used for probabilistic early expiration. Enveloped values are detected by the {@link #MAGIC}
+	 * bytes and unwrapped on every read, values not starting with them are returned unchanged.
+	 *
+	 * @author agent
+	 * @since 1.8.8
+	 */
+	static class EarlyExpirationEnvelope {
+
+		// 0xFE never occurs in UTF-8 text and does not start a JDK serialization stream
+		private static final byte[] MAGIC = new byte[] { (byte) 0xFE, 'X', 'F', 1 };
+		private static final int HEADER_LENGTH = MAGIC.length + 16;
+
+		static byte[] wrap(byte[] value, long computeTime, long expiresAt) {
+
+			return ByteBuffer.allocate(HEADER_LENGTH + value.length).put(MAGIC).putLong(computeTime).putLong(expiresAt)
+					.put(value).array();
+		}
+
+		static boolean isWrapped(byte[] bytes) {
+
+			if (bytes == null || bytes.length < HEADER_LENGTH) {
+				return false;
+			}
+
+			for (int i = 0; i < MAGIC.length; i++) {
+				if (bytes[i] != MAGIC[i]) {
+					return false;
+				}
+			}
+
+			return true;
+		}
+
+		static byte[] unwrap(byte[] bytes) {
+			return isWrapped(bytes) ? Arrays.copyOfRange(bytes, HEADER_LENGTH, bytes.length) : bytes;
+		}
+
+		/**
+		 * @return {@literal true} if the enveloped value should be recomputed now.
+		 */
+		static boolean isExpiringEarly(byte[] bytes, double beta) {
+
+			if (!isWrapped(bytes)) {
+				return false;
+			}
+
+			ByteBuffer header = ByteBuffer.wrap(bytes, MAGIC.length, HEADER_LENGTH - MAGIC.length);
+			long computeTime = header.getLong();
+			long expiresAt = header.getLong();
+
+			return isExpiringEarly(computeTime, expiresAt, beta, System.currentTimeMillis(),
+					ThreadLocalRandom.current().nextDouble());
+		}
+
+		/**
+		 * XFetch: {@code now - computeTime * beta * ln(random) >= expiresAt}. As {@code ln(random)} is negative the
+		 * expiration is moved forward by a random multiple of the compute time.
+		 */
+		static boolean isExpiringEarly(long computeTime, long expiresAt, double beta, long now, double random) {
+			return now - computeTime * beta * Math.log(random) >= expiresAt;
+		}
+	}
+
 	/**
 	 * @author Christoph Strobl
 	 * @since 1.5
@@ -546,7 +1629,6 @@ public class RedisCache extends AbstractValueAdaptingCache {
 	 */
 	static abstract class AbstractRedisCacheCallback<T> implements RedisCallback<T> {
 
-		private long WAIT_FOR_LOCK_TIMEOUT = 300;
 		private final BinaryRedisCacheElement element;
 		private final RedisCacheMetadata cacheMetadata;
 
@@ -575,64 +1657,443 @@ public class RedisCache extends AbstractValueAdaptingCache {
 
 		protected void maintainKnownKeys(RedisCacheElement element, RedisConnection connection) {
 
-			if (!element.hasKeyPrefix()) {
+			if (!element.hasKeyPrefix()) {
+
+				byte[] setOfKnownKeys = cacheMetadata.getSetOfKnownKeysKey(element.getKeyBytes());
+
+				if (cacheMetadata.isExpiringKnownKeys()) {
+
+					long now = System.currentTimeMillis();
+
+					// trim keys expired in the meantime - keys added with score 0 by the default strategy are retained
+					connection.zRemRangeByScore(setOfKnownKeys, 1, now);
+					connection.zAdd(setOfKnownKeys,
+							element.isEternal() ? Double.MAX_VALUE : now + TimeUnit.SECONDS.toMillis(element.getTimeToLive()),
+							element.getKeyBytes());
+				} else {
+					connection.zAdd(setOfKnownKeys, 0, element.getKeyBytes());
+				}
+
+				if (!element.isEternal()) {
+					connection.expire(setOfKnownKeys, element.getTimeToLive());
+				}
+			}
+		}
+
+		protected void cleanKnownKeys(RedisCacheElement element, RedisConnection connection) {
+
+			if (!element.hasKeyPrefix()) {
+				connection.zRem(cacheMetadata.getSetOfKnownKeysKey(element.getKeyBytes()), element.getKeyBytes());
+			}
+		}
+
+		protected boolean waitForLock(RedisConnection connection) {
+
+			boolean foundLock = false;
+			long start = System.nanoTime();
+
+			while (Boolean.TRUE.equals(connection.exists(cacheMetadata.getCacheLockKey()))) {
+
+				foundLock = true;
+				RedisCacheKeyLock.awaitRelease(cacheMetadata.getCacheLockKey(), CACHE_LOCK_MAX_WAIT, connection);
+			}
+
+			if (foundLock) {
+				cacheMetadata.getMetrics().recordLockWait(System.nanoTime() - start);
+			}
+
+			return foundLock;
+		}
+	}
+
+	/**
+	 * @author Christoph Strobl
+	 * @param <T>
+	 * @since 1.5
+	 */
+	static abstract class LockingRedisCacheCallback<T> implements RedisCallback<T> {
+
+		private final RedisCacheMetadata metadata;
+
+		public LockingRedisCacheCallback(RedisCacheMetadata metadata) {
+			this.metadata = metadata;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.redis.core.RedisCallback#doInRedis(org.springframework.data.redis.connection.RedisConnection)
+		 */
+		@Override
+		public T doInRedis(RedisConnection connection) throws DataAccessException {
+
+			if (connection.exists(metadata.getCacheLockKey())) {
+				return null;
+			}
+			try {
+				connection.set(metadata.getCacheLockKey(), metadata.getCacheLockKey());
+				return doInLock(connection);
+			} finally {
+
+				connection.del(metadata.getCacheLockKey());
+				RedisCacheKeyLock.notifyWaiters(metadata.getCacheLockKey(), CACHE_LOCK_MAX_WAIT, connection);
+			}
+		}
+
+		public abstract T doInLock(RedisConnection connection);
+	}
+
+	/**
+	 * @author Christoph Strobl
+	 * @since 1.5
+	 */
+	static class RedisCacheCleanByKeysCallback extends LockingRedisCacheCallback<Void> {
+
+		private static final int PAGE_SIZE = 128;
+		private final RedisCacheMetadata metadata;
+
+		RedisCacheCleanByKeysCallback(RedisCacheMetadata metadata) {
+			super(metadata);
+			this.metadata = metadata;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.redis.cache.RedisCache.LockingRedisCacheCallback#doInLock(org.springframework.data.redis.connection.RedisConnection)
+		 */
+		@Override
+		public Void doInLock(RedisConnection connection) {
+
+			for (byte[] setOfKnownKeys : metadata.getSetsOfKnownKeysKeys()) {
+
+				int offset = 0;
+				boolean finished = false;
+
+				do {
+					// need to paginate the keys
+					Set<byte[]> keys = connection.zRange(setOfKnownKeys, (offset) * PAGE_SIZE, (offset + 1) * PAGE_SIZE - 1);
+					finished = keys.size() < PAGE_SIZE;
+					offset++;
+					if (!keys.isEmpty()) {
+						connection.del(keys.toArray(new byte[keys.size()][]));
+					}
+				} while (!finished);
+
+				connection.del(setOfKnownKeys);
+			}
+
+			return null;
+		}
+	}
+
+	/**
+	 * @author Christoph Strobl
+	 * @since 1.5
+	 */
+	static class RedisCacheCleanByPrefixCallback extends LockingRedisCacheCallback<Void> {
+
+		private static final byte[] REMOVE_KEYS_BY_PATTERN_LUA = new StringRedisSerializer().serialize(
+				"local keys = redis.call('KEYS', ARGV[1]); local keysCount = table.getn(keys); if(keysCount > 0) then for _, key in ipairs(keys) do redis.call('del', key); end; end; return keysCount;");
+		private static final int SCAN_COUNT = 500;
+		private final RedisCacheMetadata metadata;
+
+		public RedisCacheCleanByPrefixCallback(RedisCacheMetadata metadata) {
+			super(metadata);
+			this.metadata = metadata;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.redis.cache.RedisCache.LockingRedisCacheCallback#doInLock(org.springframework.data.redis.connection.RedisConnection)
+		 */
+		@Override
+		public Void doInLock(RedisConnection connection) throws DataAccessException {
+
+			byte[] prefixToUse = toKeyPrefixPattern(metadata.getKeyPrefix());
+
+			if (isClusterConnection(connection)) {
+
+				// scan keys on the client because currently Redis Cluster connections do not allow eval of lua scripts.
+				Cursor<byte[]> cursor = connection
+						.scan(ScanOptions.scanOptions().match(prefixToUse).count(SCAN_COUNT).build());
+				List<byte[]> keys = new ArrayList<byte[]>(SCAN_COUNT);
+
+				try {
+					while (cursor.hasNext()) {
+
+						keys.add(cursor.next());
+
+						if (keys.size() >= SCAN_COUNT) {
+
+							connection.del(keys.toArray(new byte[keys.size()][]));
+							keys.clear();
+						}
+					}
+				} finally {
+					closeCursor(cursor);
+				}
+
+				if (!keys.isEmpty()) {
+					connection.del(keys.toArray(new byte[keys.size()][]));
+				}
+			} else {
+				connection.eval(REMOVE_KEYS_BY_PATTERN_LUA, ReturnType.INTEGER, 0, prefixToUse);
+			}
+
+			return null;
+		}
+	}
+
+	/**
+	 * Removes all cache entries in bounded batches without locking the cache. Prefixed caches walk the keyspace using
+	 * {@literal SCAN}, scanning all master nodes in parallel when connected to a cluster. Caches without a prefix walk the
+	 * set of known keys using {@literal ZSCAN}. Keys are deleted using pipelined chunks of {@literal DEL} commands, or one
+	 * {@literal DEL} per hash slot on a cluster. <br />
+	 * Cluster nodes are scanned one after another on the cluster connection at hand, or in parallel using the
+	 * {@link Executor} set via {@link RedisCache#setClearExecutor(Executor)}. Parallel scans share that connection, which
+	 * routes the commands for each node to the connection of that node, and complete before {@link #doInRedis} returns.
+	 *
+	 * @author agent
+	 * @since 1.8.8
+	 */
+	static class RedisCacheIncrementalCleanCallback implements RedisCallback<Void> {
+
+		private static final int SCAN_COUNT = 500;
+		private static final int DELETE_CHUNK_SIZE = 100;
+
+		private final RedisCacheMetadata metadata;
+		private final Executor clusterExecutor;
+
+		/**
+		 * @param metadata must not be {@literal null}.
+		 * @param clusterExecutor used to scan cluster nodes in parallel. Can be {@literal null} to scan them one after
+		 *          another.
+		 */
+		RedisCacheIncrementalCleanCallback(RedisCacheMetadata metadata, Executor clusterExecutor) {
+
+			this.metadata = metadata;
+			this.clusterExecutor = clusterExecutor;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.redis.core.RedisCallback#doInRedis(org.springframework.data.redis.connection.RedisConnection)
+		 */
+		@Override
+		public Void doInRedis(RedisConnection connection) throws DataAccessException {
+
+			if (!metadata.usesKeyPrefix()) {
+
+				for (byte[] setOfKnownKeys : metadata.getSetsOfKnownKeysKeys()) {
+					cleanKnownKeys(setOfKnownKeys, connection);
+				}
+				return null;
+			}
+
+			ScanOptions options = ScanOptions.scanOptions().match(toKeyPrefixPattern(metadata.getKeyPrefix()))
+					.count(SCAN_COUNT).build();
+
+			if (isClusterConnection(connection)) {
+				cleanClusterNodes(getClusterConnection(connection), options);
+			} else {
+				deleteScannedKeys(connection.scan(options), connection);
+			}
+
+			return null;
+		}
+
+		private void cleanKnownKeys(byte[] setOfKnownKeys, RedisConnection connection) {
+
+			Cursor<Tuple> cursor = connection.zScan(setOfKnownKeys,
+					ScanOptions.scanOptions().count(SCAN_COUNT).build());
+			List<byte[]> batch = new ArrayList<byte[]>(SCAN_COUNT);
+
+			try {
+				while (cursor.hasNext()) {
+
+					batch.add(cursor.next().getValue());
+
+					if (batch.size() >= SCAN_COUNT) {
+
+						delete(batch, setOfKnownKeys, connection);
+						batch.clear();
+					}
+				}
+			} finally {
+				closeCursor(cursor);
+			}
+
+			delete(batch, setOfKnownKeys, connection);
+		}
+
+		private void cleanClusterNodes(final RedisClusterConnection connection, final ScanOptions options) {
+
+			List<RedisClusterNode> masters = new ArrayList<RedisClusterNode>();
+
+			for (RedisClusterNode node : connection.clusterGetNodes()) {
+				if (node.isMaster()) {
+					masters.add(node);
+				}
+			}
+
+			if (clusterExecutor == null || masters.size() < 2) {
+
+				for (RedisClusterNode node : masters) {
+					deleteScannedKeys(connection.scan(node, options), connection);
+				}
+				return;
+			}
+
+			List<FutureTask<Void>> tasks = new ArrayList<FutureTask<Void>>(masters.size());
+
+			for (final RedisClusterNode node : masters) {
+
+				FutureTask<Void> task = new FutureTask<Void>(new Callable<Void>() {
+
+					@Override
+					public Void call() {
+
+						deleteScannedKeys(connection.scan(node, options), connection);
+						return null;
+					}
+				});
+
+				tasks.add(task);
+				clusterExecutor.execute(task);
+			}
+
+			awaitAll(tasks);
+		}
+
+		/**
+		 * Wait for all tasks to complete before the connection they share is released, rethrowing the first failure.
+		 * Tasks not yet started are cancelled once one of them failed.
+		 */
+		private static void awaitAll(List<FutureTask<Void>> tasks) {
+
+			RuntimeException failure = null;
+			boolean interrupted = false;
+
+			for (FutureTask<Void> task : tasks) {
+
+				while (true) {
+
+					try {
+						task.get();
+						break;
+					} catch (InterruptedException ex) {
+
+						interrupted = true;
+						if (failure == null) {
+							failure = new RedisSystemException("Interrupted while clearing cache.", ex);
+							cancelPending(tasks);
+						}
+					} catch (CancellationException ex) {
+						break;
+					} catch (ExecutionException ex) {
+
+						if (failure == null) {
+							failure = ex.getCause() instanceof RuntimeException ? (RuntimeException) ex.getCause()
+									: new RedisSystemException(ex.getCause().getMessage(), ex.getCause());
+							cancelPending(tasks);
+						}
+						break;
+					}
+				}
+			}
+
+			if (interrupted) {
+				Thread.currentThread().interrupt();
+			}
+
+			if (failure != null) {
+				throw failure;
+			}
+		}
+
+		private static void cancelPending(List<FutureTask<Void>> tasks) {
+
+			for (FutureTask<Void> task : tasks) {
+				task.cancel(false);
+			}
+		}
+
+		private void deleteScannedKeys(Cursor<byte[]> cursor, RedisConnection connection) {
+
+			List<byte[]> batch = new ArrayList<byte[]>(SCAN_COUNT);
+
+			try {
+				while (cursor.hasNext()) {
+
+					batch.add(cursor.next());
 
-				connection.zAdd(cacheMetadata.getSetOfKnownKeysKey(), 0, element.getKeyBytes());
+					if (batch.size() >= SCAN_COUNT) {
 
-				if (!element.isEternal()) {
-					connection.expire(cacheMetadata.getSetOfKnownKeysKey(), element.getTimeToLive());
+						delete(batch, null, connection);
+						batch.clear();
+					}
 				}
+			} finally {
+				closeCursor(cursor);
 			}
+
+			delete(batch, null, connection);
 		}
 
-		protected void cleanKnownKeys(RedisCacheElement element, RedisConnection connection) {
+		/**
+		 * @param setOfKnownKeys the known keys to remove the deleted keys from. Can be {@literal null}.
+		 */
+		private void delete(List<byte[]> keys, byte[] setOfKnownKeys, RedisConnection connection) {
 
-			if (!element.hasKeyPrefix()) {
-				connection.zRem(cacheMetadata.getSetOfKnownKeysKey(), element.getKeyBytes());
+			if (keys.isEmpty()) {
+				return;
 			}
-		}
 
-		protected boolean waitForLock(RedisConnection connection) {
+			if (isClusterConnection(connection)) {
 
-			boolean retry;
-			boolean foundLock = false;
-			do {
-				retry = false;
-				if (connection.exists(cacheMetadata.getCacheLockKey())) {
-					foundLock = true;
-					try {
-						Thread.sleep(WAIT_FOR_LOCK_TIMEOUT);
-					} catch (InterruptedException ex) {
-						Thread.currentThread().interrupt();
-					}
-					retry = true;
+				for (List<byte[]> slotKeys : groupBySlot(keys).values()) {
+					connection.del(slotKeys.toArray(new byte[slotKeys.size()][]));
 				}
-			} while (retry);
 
-			return foundLock;
-		}
+				if (setOfKnownKeys != null) {
+					connection.zRem(setOfKnownKeys, keys.toArray(new byte[keys.size()][]));
+				}
+				return;
+			}
 
-		protected void lock(RedisConnection connection) {
-			waitForLock(connection);
-			connection.set(cacheMetadata.getCacheLockKey(), "locked".getBytes());
-		}
+			connection.openPipeline();
+
+			try {
+
+				for (int i = 0; i < keys.size(); i += DELETE_CHUNK_SIZE) {
+
+					List<byte[]> chunk = keys.subList(i, Math.min(i + DELETE_CHUNK_SIZE, keys.size()));
+					byte[][] chunkKeys = chunk.toArray(new byte[chunk.size()][]);
+
+					connection.del(chunkKeys);
 
-		protected void unlock(RedisConnection connection) {
-			connection.del(cacheMetadata.getCacheLockKey());
+					if (setOfKnownKeys != null) {
+						connection.zRem(setOfKnownKeys, chunkKeys);
+					}
+				}
+			} finally {
+				connection.closePipeline();
+			}
 		}
 	}
 
 	/**
-	 * @author Christoph Strobl
-	 * @param <T>
-	 * @since 1.5
+	 * Reads multiple values using {@literal MGET}. Keys are grouped by hash slot when connected to a cluster, so each
+	 * {@literal MGET} is served by a single node.
+	 *
+	 * @author agent
+	 * @since 1.8.8
 	 */
-	static abstract class LockingRedisCacheCallback<T> implements RedisCallback<T> {
+	static class RedisCacheBulkGetCallback implements RedisCallback<List<byte[]>> {
 
-		private final RedisCacheMetadata metadata;
+		private final List<byte[]> keys;
 
-		public LockingRedisCacheCallback(RedisCacheMetadata metadata) {
-			this.metadata = metadata;
+		public RedisCacheBulkGetCallback(List<byte[]> keys) {
+			this.keys = keys;
 		}
 
 		/*
@@ -640,97 +2101,94 @@ public class RedisCache extends AbstractValueAdaptingCache {
 		 * @see org.springframework.data.redis.core.RedisCallback#doInRedis(org.springframework.data.redis.connection.RedisConnection)
 		 */
 		@Override
-		public T doInRedis(RedisConnection connection) throws DataAccessException {
+		public List<byte[]> doInRedis(RedisConnection connection) throws DataAccessException {
 
-			if (connection.exists(metadata.getCacheLockKey())) {
-				return null;
+			if (!isClusterConnection(connection)) {
+				return connection.mGet(keys.toArray(new byte[keys.size()][]));
 			}
-			try {
-				connection.set(metadata.getCacheLockKey(), metadata.getCacheLockKey());
-				return doInLock(connection);
-			} finally {
-				connection.del(metadata.getCacheLockKey());
+
+			Map<ByteArrayWrapper, byte[]> values = new HashMap<ByteArrayWrapper, byte[]>(keys.size());
+
+			for (List<byte[]> slotKeys : groupBySlot(keys).values()) {
+
+				List<byte[]> slotValues = connection.mGet(slotKeys.toArray(new byte[slotKeys.size()][]));
+
+				for (int i = 0; i < slotKeys.size(); i++) {
+					values.put(new ByteArrayWrapper(slotKeys.get(i)), slotValues.get(i));
+				}
 			}
-		}
 
-		public abstract T doInLock(RedisConnection connection);
+			List<byte[]> result = new ArrayList<byte[]>(keys.size());
+
+			for (byte[] key : keys) {
+				result.add(values.get(new ByteArrayWrapper(key)));
+			}
+
+			return result;
+		}
 	}
 
 	/**
-	 * @author Christoph Strobl
-	 * @since 1.5
+	 * Writes multiple elements along with their expiration and known keys using a single pipeline. On a cluster the
+	 * pipeline sends the commands of each node in one batch. Elements are written one after another when the connection
+	 * already queues commands.
+	 *
+	 * @author agent
+	 * @since 1.8.8
 	 */
-	static class RedisCacheCleanByKeysCallback extends LockingRedisCacheCallback<Void> {
+	static class RedisCacheBulkPutCallback extends AbstractRedisCacheCallback<Void> {
 
-		private static final int PAGE_SIZE = 128;
-		private final RedisCacheMetadata metadata;
+		private final List<BinaryRedisCacheElement> elements;
 
-		RedisCacheCleanByKeysCallback(RedisCacheMetadata metadata) {
-			super(metadata);
-			this.metadata = metadata;
+		public RedisCacheBulkPutCallback(List<BinaryRedisCacheElement> elements, RedisCacheMetadata metadata) {
+
+			super(null, metadata);
+			this.elements = elements;
 		}
 
 		/*
 		 * (non-Javadoc)
-		 * @see org.springframework.data.redis.cache.RedisCache.LockingRedisCacheCallback#doInLock(org.springframework.data.redis.connection.RedisConnection)
+		 * @see org.springframework.data.redis.cache.RedisCache.AbstractRedisCacheCallback#doInRedis(org.springframework.data.redis.connection.RedisConnection)
 		 */
 		@Override
-		public Void doInLock(RedisConnection connection) {
+		public Void doInRedis(RedisConnection connection) throws DataAccessException {
 
-			int offset = 0;
-			boolean finished = false;
-
-			do {
-				// need to paginate the keys
-				Set<byte[]> keys = connection.zRange(metadata.getSetOfKnownKeysKey(), (offset) * PAGE_SIZE,
-						(offset + 1) * PAGE_SIZE - 1);
-				finished = keys.size() < PAGE_SIZE;
-				offset++;
-				if (!keys.isEmpty()) {
-					connection.del(keys.toArray(new byte[keys.size()][]));
-				}
-			} while (!finished);
+			waitForLock(connection);
 
-			connection.del(metadata.getSetOfKnownKeysKey());
-			return null;
-		}
-	}
+			// cluster connections pipeline single key commands as well, routing each one to the node serving its slot
+			boolean pipeline = canPipelineKeyCommands(connection);
 
-	/**
-	 * @author Christoph Strobl
-	 * @since 1.5
-	 */
-	static class RedisCacheCleanByPrefixCallback extends LockingRedisCacheCallback<Void> {
+			if (pipeline) {
+				connection.openPipeline();
+			}
 
-		private static final byte[] REMOVE_KEYS_BY_PATTERN_LUA = new StringRedisSerializer().serialize(
-				"local keys = redis.call('KEYS', ARGV[1]); local keysCount = table.getn(keys); if(keysCount > 0) then for _, key in ipairs(keys) do redis.call('del', key); end; end; return keysCount;");
-		private static final byte[] WILD_CARD = new StringRedisSerializer().serialize("*");
-		private final RedisCacheMetadata metadata;
+			try {
+				for (BinaryRedisCacheElement element : elements) {
+					doInRedis(element, connection);
+				}
+			} finally {
+				if (pipeline) {
+					connection.closePipeline();
+				}
+			}
 
-		public RedisCacheCleanByPrefixCallback(RedisCacheMetadata metadata) {
-			super(metadata);
-			this.metadata = metadata;
+			return null;
 		}
 
 		/*
 		 * (non-Javadoc)
-		 * @see org.springframework.data.redis.cache.RedisCache.LockingRedisCacheCallback#doInLock(org.springframework.data.redis.connection.RedisConnection)
+		 * @see org.springframework.data.redis.cache.RedisCache.AbstractRedisCacheCallback#doInRedis(org.springframework.data.redis.cache.RedisCache.BinaryRedisCacheElement, org.springframework.data.redis.connection.RedisConnection)
 		 */
 		@Override
-		public Void doInLock(RedisConnection connection) throws DataAccessException {
-
-			byte[] prefixToUse = Arrays.copyOf(metadata.getKeyPrefix(), metadata.getKeyPrefix().length + WILD_CARD.length);
-			System.arraycopy(WILD_CARD, 0, prefixToUse, metadata.getKeyPrefix().length, WILD_CARD.length);
-
-			if (isClusterConnection(connection)) {
+		public Void doInRedis(BinaryRedisCacheElement element, RedisConnection connection) throws DataAccessException {
 
-				// load keys to the client because currently Redis Cluster connections do not allow eval of lua scripts.
-				Set<byte[]> keys = connection.keys(prefixToUse);
-				if (!keys.isEmpty()) {
-					connection.del(keys.toArray(new byte[keys.size()][]));
-				}
+			if (element.get().length == 0) {
+				connection.del(element.getKeyBytes());
 			} else {
-				connection.eval(REMOVE_KEYS_BY_PATTERN_LUA, ReturnType.INTEGER, 0, prefixToUse);
+				connection.set(element.getKeyBytes(), element.get());
+
+				processKeyExpiration(element, connection);
+				maintainKnownKeys(element, connection);
 			}
 
 			return null;
@@ -832,27 +2290,56 @@ public class RedisCache extends AbstractValueAdaptingCache {
 	}
 
 	/**
+	 * Loads and stores a single value while holding a lock on its cache key. The lock is a key holding a random owner
+	 * token that expires after {@link RedisCacheMetadata#getLockTimeout()}, so a crashed holder cannot block other
+	 * loaders forever and loads of unrelated keys do not wait for each other.
+	 *
 	 * @author Christoph Strobl
 	 * @since 1.7
 	 */
 	static class RedisWriteThroughCallback extends AbstractRedisCacheCallback<byte[]> {
 
+		private final RedisCacheMetadata metadata;
+		private long timeToLive;
+
 		public RedisWriteThroughCallback(BinaryRedisCacheElement element, RedisCacheMetadata metadata) {
 			super(element, metadata);
+			this.metadata = metadata;
 		}
 
 		@Override
 		public byte[] doInRedis(BinaryRedisCacheElement element, RedisConnection connection) throws DataAccessException {
 
-			try {
+			if (connection.isPipelined() || connection.isQueueing()) {
+				throw new InvalidDataAccessApiUsageException(
+						"Cannot load cache values while the connection is pipelining or queueing commands.");
+			}
+
+			byte[] lockKey = metadata.getKeyLockKey(element.getKeyBytes());
+			byte[] token = RedisCacheKeyLock.newToken();
+
+			while (!RedisCacheKeyLock.tryLock(lockKey, token, metadata, connection)) {
+
+				byte[] value = connection.get(element.getKeyBytes());
+
+				if (value != null) {
+					timeToLive = remainingTimeToLive(element, connection);
+					return value;
+				}
+
+				long start = System.nanoTime();
+				awaitUnlock(lockKey, connection);
+				metadata.getMetrics().recordLockWait(System.nanoTime() - start);
+			}
 
-				lock(connection);
+			try {
 
 				try {
 
 					byte[] value = connection.get(element.getKeyBytes());
 
 					if (value != null) {
+						timeToLive = remainingTimeToLive(element, connection);
 						return value;
 					}
 
@@ -876,6 +2363,7 @@ public class RedisCache extends AbstractValueAdaptingCache {
 						connection.exec();
 					}
 
+					timeToLive = element.isEternal() ? 0 : TimeUnit.SECONDS.toMillis(element.getTimeToLive());
 					return value;
 				} catch (RuntimeException e) {
 					if (!isClusterConnection(connection)) {
@@ -884,11 +2372,203 @@ public class RedisCache extends AbstractValueAdaptingCache {
 					throw e;
 				}
 			} finally {
-				unlock(connection);
+				RedisCacheKeyLock.unlock(lockKey, token, metadata, connection);
+			}
+		}
+
+		private static long remainingTimeToLive(RedisCacheElement element, RedisConnection connection) {
+
+			Long remaining = connection.pTtl(element.getKeyBytes());
+			return remaining != null ? remaining.longValue() : 0;
+		}
+
+		/**
+		 * @return remaining time to live in milliseconds of the value returned by the last invocation. Zero or negative
+		 *         if it does not expire, {@literal -2} if it expired in the meantime.
+		 */
+		long getTimeToLive() {
+			return timeToLive;
+		}
+
+		/**
+		 * Wait for the lock held by another process to be released or to expire. The holder notifies waiters on release,
+		 * the wait is bounded by the remaining time to live of the lock in case the holder crashed.
+		 */
+		private void awaitUnlock(byte[] lockKey, RedisConnection connection) {
+
+			Long remaining = connection.pTtl(lockKey);
+
+			if (remaining == null || remaining.longValue() == -2) {
+				return;
 			}
+
+			RedisCacheKeyLock.awaitRelease(lockKey, remaining.longValue() > 0 ? remaining.longValue() : metadata.getLockTimeout(),
+					connection);
 		}
 	};
 
+	/**
+	 * Lock guarding a single cache key. The lock is held at {@link RedisCacheMetadata#getKeyLockKey(byte[])} by a random
+	 * owner token and expires after {@link RedisCacheMetadata#getLockTimeout()}. Waiters register at
+	 * {@literal <lockKey>~waiters} and block on the list {@literal <lockKey>~released}, which receives one element per
+	 * registered waiter once the lock is released. Notifications expire after {@link #NOTIFICATION_TIMEOUT}, but one left
+	 * by a waiter that gave up may still wake up a later waiter, so waking up never grants the lock.
+	 *
+	 * @author agent
+	 * @since 1.8.8
+	 */
+	static class RedisCacheKeyLock {
+
+		private static final byte[] ACQUIRE_LOCK_LUA = new StringRedisSerializer().serialize(
+				"if redis.call('SET', KEYS[1], ARGV[1], 'NX', 'PX', ARGV[2]) then return 1 else return 0 end");
+		private static final byte[] RELEASE_LOCK_LUA = new StringRedisSerializer().serialize(
+				"if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) else return 0 end");
+		static final long NOTIFICATION_TIMEOUT = 1000;
+		private static final byte[] WAITERS_SUFFIX = new StringRedisSerializer().serialize("~waiters");
+		private static final byte[] RELEASED_SUFFIX = new StringRedisSerializer().serialize("~released");
+		private static final byte[] NO_WAITERS = new StringRedisSerializer().serialize("0");
+
+		/**
+		 * @return a new random owner token.
+		 */
+		static byte[] newToken() {
+			return new StringRedisSerializer().serialize(UUID.randomUUID().toString());
+		}
+
+		/**
+		 * Try to acquire the lock without waiting. The lock is set along with its expiration using a single
+		 * {@literal SET NX PX}, so it cannot be left behind without expiration. The command is sent as script as
+		 * {@link RedisConnection#set(byte[], byte[], Expiration, SetOption)} does not report whether it has been applied.
+		 *
+		 * @return {@literal true} if the lock has been acquired. {@literal false} if held by another owner or if the
+		 *         connection queues commands (pipeline/transaction) and therefore cannot tell.
+		 */
+		static boolean tryLock(byte[] lockKey, byte[] token, RedisCacheMetadata metadata, RedisConnection connection) {
+
+			if (connection.isPipelined() || connection.isQueueing()) {
+				return false;
+			}
+
+			Long acquired = connection.eval(ACQUIRE_LOCK_LUA, ReturnType.INTEGER, 1, lockKey, token,
+					new StringRedisSerializer().serialize(Long.toString(metadata.getLockTimeout())));
+
+			return acquired != null && acquired.longValue() == 1L;
+		}
+
+		/**
+		 * Release the lock if still held by the given token and wake up processes waiting for it.
+		 */
+		static void unlock(byte[] lockKey, byte[] token, RedisCacheMetadata metadata, RedisConnection connection) {
+
+			Long released = connection.eval(RELEASE_LOCK_LUA, ReturnType.INTEGER, 1, lockKey, token);
+
+			if (released != null && released.longValue() == 1L) {
+				notifyWaiters(lockKey, metadata.getLockTimeout(), connection);
+			}
+		}
+
+		/**
+		 * Block until the lock is released or the given time elapsed. Returns immediately if the lock is not held. May
+		 * also return on a notification left over from an earlier release, so callers have to check the lock again.
+		 *
+		 * @param lockKey must not be {@literal null}.
+		 * @param maxWait maximum time to wait in milliseconds.
+		 * @param connection must not be {@literal null}.
+		 */
+		static void awaitRelease(byte[] lockKey, long maxWait, RedisConnection connection) {
+
+			byte[] waitersKey = ByteUtils.concat(lockKey, WAITERS_SUFFIX);
+
+			connection.incr(waitersKey);
+			connection.pExpire(waitersKey, Math.max(maxWait, 1000));
+
+			// released before registering - there will be no notification
+			if (!Boolean.TRUE.equals(connection.exists(lockKey))) {
+				return;
+			}
+
+			connection.bLPop((int) Math.max(1, TimeUnit.MILLISECONDS.toSeconds(maxWait + 999)),
+					ByteUtils.concat(lockKey, RELEASED_SUFFIX));
+		}
+
+		/**
+		 * Push one element per registered waiter to the release list. Has to be called after the lock has been deleted,
+		 * so waiters registering concurrently either get counted here or see the lock gone.
+		 *
+		 * @param lockKey must not be {@literal null}.
+		 * @param timeout time in milliseconds after which the waiter count is discarded. Unconsumed notifications are
+		 *          discarded after {@link #NOTIFICATION_TIMEOUT} at the latest.
+		 * @param connection must not be {@literal null}.
+		 */
+		static void notifyWaiters(byte[] lockKey, long timeout, RedisConnection connection) {
+
+			byte[] waitersKey = ByteUtils.concat(lockKey, WAITERS_SUFFIX);
+
+			if (waiters(connection.get(waitersKey)) == 0) {
+				return;
+			}
+
+			int waiters = waiters(connection.getSet(waitersKey, NO_WAITERS));
+			connection.pExpire(waitersKey, timeout);
+
+			if (waiters == 0) {
+				return;
+			}
+
+			byte[][] notifications = new byte[waiters][];
+			Arrays.fill(notifications, NO_WAITERS);
+
+			byte[] releasedKey = ByteUtils.concat(lockKey, RELEASED_SUFFIX);
+			connection.rPush(releasedKey, notifications);
+			connection.pExpire(releasedKey, Math.min(timeout, NOTIFICATION_TIMEOUT));
+		}
+
+		private static int waiters(byte[] count) {
+			return count == null ? 0 : Integer.parseInt(new StringRedisSerializer().deserialize(count));
+		}
+	}
+
+	/**
+	 * {@link RedisCacheMetrics} discarding all recorded values.
+	 *
+	 * @author agent
+	 * @since 1.8.8
+	 */
+	static enum NoOpRedisCacheMetrics implements RedisCacheMetrics {
+
+		INSTANCE;
+
+		@Override
+		public void recordHit() {}
+
+		@Override
+		public void recordMiss() {}
+
+		@Override
+		public void recordEarlyRecompute() {}
+
+		@Override
+		public void recordPut() {}
+
+		@Override
+		public void recordPuts(int count) {}
+
+		@Override
+		public void recordEviction() {}
+
+		@Override
+		public void recordLoad(long nanos, boolean success) {}
+
+		@Override
+		public void recordLockWait(long nanos) {}
+
+		@Override
+		public void recordRead(long nanos) {}
+
+		@Override
+		public void recordWrite(long nanos) {}
+	}
+
 	/**
 	 * @author Christoph Strobl
 	 * @since 1.7 (TODO: remove when upgrading to spring 4.3)
@@ -923,13 +2603,80 @@ public class RedisCache extends AbstractValueAdaptingCache {
 		}
 	}
 
+	private static Map<Integer, List<byte[]>> groupBySlot(List<byte[]> keys) {
+
+		Map<Integer, List<byte[]>> keysBySlot = new LinkedHashMap<Integer, List<byte[]>>();
+
+		for (byte[] key : keys) {
+
+			int slot = ClusterSlotHashUtil.calculateSlot(key);
+
+			if (!keysBySlot.containsKey(slot)) {
+				keysBySlot.put(slot, new ArrayList<byte[]>());
+			}
+			keysBySlot.get(slot).add(key);
+		}
+
+		return keysBySlot;
+	}
+
+	private static boolean canPipeline(RedisConnection connection) {
+		return !isClusterConnection(connection) && canPipelineKeyCommands(connection);
+	}
+
+	/**
+	 * Check whether single key commands can be pipelined. Other than {@link #canPipeline(RedisConnection)} this includes
+	 * cluster connections, which pipeline key commands per node.
+	 */
+	private static boolean canPipelineKeyCommands(RedisConnection connection) {
+		return !connection.isPipelined() && !connection.isQueueing();
+	}
+
 	private static boolean isClusterConnection(RedisConnection connection) {
+		return getTargetConnection(connection) instanceof RedisClusterConnection;
+	}
+
+	private static RedisClusterConnection getClusterConnection(RedisConnection connection) {
+		return (RedisClusterConnection) getTargetConnection(connection);
+	}
+
+	/**
+	 * Create the binary {@literal SCAN}/{@literal KEYS} pattern matching all keys starting with the given prefix. Glob
+	 * characters within the prefix are escaped, the prefix bytes are used as is so that non {@literal UTF-8} prefixes
+	 * are matched correctly.
+	 */
+	static byte[] toKeyPrefixPattern(byte[] prefix) {
+
+		ByteArrayOutputStream pattern = new ByteArrayOutputStream(prefix.length + 8);
+
+		for (byte b : prefix) {
+
+			if (b == '*' || b == '?' || b == '[' || b == ']' || b == '\\') {
+				pattern.write('\\');
+			}
+			pattern.write(b);
+		}
+
+		pattern.write('*');
+		return pattern.toByteArray();
+	}
+
+	private static void closeCursor(Cursor<?> cursor) {
+
+		try {
+			cursor.close();
+		} catch (IOException e) {
+			// ignore
+		}
+	}
+
+	private static RedisConnection getTargetConnection(RedisConnection connection) {
 
 		while (connection instanceof DecoratedRedisConnection) {
 			connection = ((DecoratedRedisConnection) connection).getDelegate();
 		}
 
-		return connection instanceof RedisClusterConnection;
+		return connection;
 	}
 
 }
@@ -29,6 +29,7 @@ public class RedisCacheElement extends SimpleValueWrapper {
 
 	private final RedisCacheKey cacheKey;
 	private long timeToLive;
+	private long computeTime;
 
 	/**
 	 * @param cacheKey the key to be used for storing value in {@link RedisCache}. Must not be {@literal null}.
@@ -73,6 +74,24 @@ public class RedisCacheElement extends SimpleValueWrapper {
 		return timeToLive;
 	}
 
+	/**
+	 * Set the time in milliseconds it took to compute the value. Used for probabilistic early expiration.
+	 *
+	 * @param computeTime
+	 * @since 1.8.8
+	 */
+	public void setComputeTime(long computeTime) {
+		this.computeTime = computeTime;
+	}
+
+	/**
+	 * @return the time in milliseconds it took to compute the value. {@literal zero} if unknown.
+	 * @since 1.8.8
+	 */
+	public long getComputeTime() {
+		return computeTime;
+	}
+
 	/**
 	 * @return true in case {@link RedisCacheKey} is prefixed.
 	 */
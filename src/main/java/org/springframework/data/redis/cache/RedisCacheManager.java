@@ -23,10 +23,15 @@ import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.support.NullValue;
@@ -36,9 +41,11 @@ import org.springframework.dao.DataAccessException;
 import org.springframework.data.redis.connection.RedisConnection;
 import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.util.Assert;
 import org.springframework.util.CollectionUtils;
+import org.springframework.util.CustomizableThreadFactory;
 
 /**
  * {@link CacheManager} implementation for Redis. By default saves the keys directly, without appending a prefix (which
@@ -54,7 +61,10 @@ import org.springframework.util.CollectionUtils;
  * @author Christoph Strobl
  * @author Thomas Darimont
  */
-public class RedisCacheManager extends AbstractTransactionSupportingCacheManager {
+public class RedisCacheManager extends AbstractTransactionSupportingCacheManager implements DisposableBean {
+
+	private static final int DEFAULT_REFRESH_POOL_SIZE = 2;
+	private static final int DEFAULT_REFRESH_QUEUE_CAPACITY = 1000;
 
 	private final Log logger = LogFactory.getLog(RedisCacheManager.class);
 
@@ -65,11 +75,33 @@ public class RedisCacheManager extends AbstractTransactionSupportingCacheManager
 	private RedisCachePrefix cachePrefix = new DefaultRedisCachePrefix();
 	private boolean loadRemoteCachesOnStartup = false;
 	private boolean dynamic = true;
+	private boolean incrementalClear = false;
+	private boolean expiringKnownKeys = false;
+	private int knownKeysShards = 1;
 
 	// 0 - never expire
 	private long defaultExpiration = 0;
 	private Map<String, Long> expires = null;
 
+	// 0 - no near cache
+	private int defaultNearCacheMaxSize = 0;
+	private Map<String, Integer> nearCacheMaxSizes = null;
+	private long nearCacheExpiration = 0;
+	private NearCache.EvictionPolicy nearCacheEvictionPolicy = NearCache.EvictionPolicy.LRU;
+	private RedisMessageListenerContainer messageListenerContainer;
+
+	// 0 - no refresh ahead
+	private double defaultRefreshAheadThreshold = 0;
+	private Map<String, Double> refreshAheadThresholds = null;
+	private Executor refreshExecutor;
+	private ThreadPoolExecutor defaultRefreshExecutor;
+
+	// 0 - no early expiration
+	private double defaultEarlyExpirationBeta = 0;
+	private Map<String, Double> earlyExpirationBetas = null;
+
+	private RedisCacheMetricsFactory metricsFactory;
+
 	private Set<String> configuredCacheNames;
 
 	private final boolean cacheNullValues;
@@ -162,6 +194,171 @@ public class RedisCacheManager extends AbstractTransactionSupportingCacheManager
 		this.expires = (expires != null ? new ConcurrentHashMap<String, Long>(expires) : null);
 	}
 
+	/**
+	 * If set to {@code true} caches are cleared in bounded {@literal SCAN} batches without locking the cache. Defaults
+	 * to {@code false}.
+	 *
+	 * @param incrementalClear
+	 * @since 1.8.8
+	 * @see RedisCache#setIncrementalClear(boolean)
+	 */
+	public void setIncrementalClear(boolean incrementalClear) {
+		this.incrementalClear = incrementalClear;
+	}
+
+	/**
+	 * If set to {@code true} keys tracked for caches without key prefix are scored by their expiration time and removed
+	 * once expired. Defaults to {@code false}.
+	 *
+	 * @param expiringKnownKeys
+	 * @since 1.8.8
+	 * @see RedisCache#setExpiringKnownKeys(boolean)
+	 */
+	public void setExpiringKnownKeys(boolean expiringKnownKeys) {
+		this.expiringKnownKeys = expiringKnownKeys;
+	}
+
+	/**
+	 * Sets the number of sorted sets the keys tracked for caches without key prefix are distributed across. Defaults to
+	 * {@literal 1}.
+	 *
+	 * @param knownKeysShards must be greater than {@literal zero}.
+	 * @since 1.8.8
+	 * @see RedisCache#setKnownKeysShards(int)
+	 */
+	public void setKnownKeysShards(int knownKeysShards) {
+
+		Assert.isTrue(knownKeysShards > 0, "KnownKeysShards must be greater than zero!");
+		this.knownKeysShards = knownKeysShards;
+	}
+
+	/**
+	 * Sets the default maximum number of entries held in memory by the {@link NearCache} in front of each cache. Use
+	 * {@literal zero} (the default) to read directly from Redis.
+	 *
+	 * @param defaultNearCacheMaxSize maximum number of entries.
+	 * @since 1.8.8
+	 */
+	public void setDefaultNearCacheMaxSize(int defaultNearCacheMaxSize) {
+		this.defaultNearCacheMaxSize = defaultNearCacheMaxSize;
+	}
+
+	/**
+	 * Sets the maximum number of entries held in memory by the {@link NearCache} for cache regions (by key).
+	 *
+	 * @param nearCacheMaxSizes maximum number of entries.
+	 * @since 1.8.8
+	 */
+	public void setNearCacheMaxSizes(Map<String, Integer> nearCacheMaxSizes) {
+		this.nearCacheMaxSizes = (nearCacheMaxSizes != null ? new ConcurrentHashMap<String, Integer>(nearCacheMaxSizes)
+				: null);
+	}
+
+	/**
+	 * Sets the maximum time (in seconds) an entry is held by a {@link NearCache}. Entries never outlive their Redis
+	 * counterpart. Defaults to {@literal zero} applying the Redis expiration only.
+	 *
+	 * @param nearCacheExpiration time in seconds.
+	 * @since 1.8.8
+	 */
+	public void setNearCacheExpiration(long nearCacheExpiration) {
+		this.nearCacheExpiration = nearCacheExpiration;
+	}
+
+	/**
+	 * Sets the {@link NearCache.EvictionPolicy} applied once a {@link NearCache} is full. Defaults to
+	 * {@link NearCache.EvictionPolicy#LRU}.
+	 *
+	 * @param nearCacheEvictionPolicy must not be {@literal null}.
+	 * @since 1.8.8
+	 */
+	public void setNearCacheEvictionPolicy(NearCache.EvictionPolicy nearCacheEvictionPolicy) {
+
+		Assert.notNull(nearCacheEvictionPolicy, "NearCacheEvictionPolicy must not be null!");
+		this.nearCacheEvictionPolicy = nearCacheEvictionPolicy;
+	}
+
+	/**
+	 * Sets the {@link RedisMessageListenerContainer} used to receive invalidation messages published by other
+	 * applications sharing the caches. Required for {@link NearCache}s to stay consistent across JVMs.
+	 *
+	 * @param messageListenerContainer can be {@literal null}.
+	 * @since 1.8.8
+	 */
+	public void setMessageListenerContainer(RedisMessageListenerContainer messageListenerContainer) {
+		this.messageListenerContainer = messageListenerContainer;
+	}
+
+	/**
+	 * Sets the default fraction of the expiration time below which the remaining time to live of an entry triggers an
+	 * asynchronous reload on {@link Cache#get(Object, java.util.concurrent.Callable)}. Use {@literal zero} (the default)
+	 * to disable refresh ahead.
+	 *
+	 * @param defaultRefreshAheadThreshold fraction between {@literal zero} (inclusive) and {@literal one} (exclusive).
+	 * @since 1.8.8
+	 * @see RedisCache#setRefreshAhead(double, Executor)
+	 */
+	public void setDefaultRefreshAheadThreshold(double defaultRefreshAheadThreshold) {
+		this.defaultRefreshAheadThreshold = defaultRefreshAheadThreshold;
+	}
+
+	/**
+	 * Sets the fraction of the expiration time below which entries are refreshed for cache regions (by key).
+	 *
+	 * @param refreshAheadThresholds fraction between {@literal zero} (inclusive) and {@literal one} (exclusive).
+	 * @since 1.8.8
+	 */
+	public void setRefreshAheadThresholds(Map<String, Double> refreshAheadThresholds) {
+		this.refreshAheadThresholds = (refreshAheadThresholds != null
+				? new ConcurrentHashMap<String, Double>(refreshAheadThresholds) : null);
+	}
+
+	/**
+	 * Sets the {@link Executor} running refresh ahead reloads. Reloads rejected by the {@link Executor} are skipped.
+	 * Defaults to a bounded pool of {@literal 2} daemon threads queueing up to {@literal 1000} reloads.
+	 *
+	 * @param refreshExecutor can be {@literal null} to use the default.
+	 * @since 1.8.8
+	 */
+	public void setRefreshExecutor(Executor refreshExecutor) {
+		this.refreshExecutor = refreshExecutor;
+	}
+
+	/**
+	 * Sets the default factor for probabilistic early expiration of entries read via
+	 * {@link Cache#get(Object, java.util.concurrent.Callable)}. {@literal 1.0} is a sensible default. Use
+	 * {@literal zero} (the default) to disable early expiration.
+	 *
+	 * @param defaultEarlyExpirationBeta must not be negative.
+	 * @since 1.8.8
+	 * @see RedisCache#setEarlyExpiration(double)
+	 */
+	public void setDefaultEarlyExpirationBeta(double defaultEarlyExpirationBeta) {
+		this.defaultEarlyExpirationBeta = defaultEarlyExpirationBeta;
+	}
+
+	/**
+	 * Sets the factor for probabilistic early expiration for cache regions (by key).
+	 *
+	 * @param earlyExpirationBetas must not be negative.
+	 * @since 1.8.8
+	 */
+	public void setEarlyExpirationBetas(Map<String, Double> earlyExpirationBetas) {
+		this.earlyExpirationBetas = (earlyExpirationBetas != null
+				? new ConcurrentHashMap<String, Double>(earlyExpirationBetas) : null);
+	}
+
+	/**
+	 * Sets the {@link RedisCacheMetricsFactory} creating the {@link RedisCacheMetrics} for each cache. Defaults to
+	 * {@link DefaultRedisCacheMetrics} per cache, accessible via {@link RedisCache#getMetrics()}.
+	 *
+	 * @param metricsFactory can be {@literal null} to use the default.
+	 * @since 1.8.8
+	 */
+	public void setMetricsFactory(RedisCacheMetricsFactory metricsFactory) {
+		this.metricsFactory = metricsFactory;
+	}
+
 	/**
 	 * If set to {@code true} {@link RedisCacheManager} will try to retrieve cache names from redis server using
 	 * {@literal KEYS} command and initialize {@link RedisCache} for each of them.
@@ -256,9 +453,97 @@ public class RedisCacheManager extends AbstractTransactionSupportingCacheManager
 
 	@SuppressWarnings("unchecked")
 	protected RedisCache createCache(String cacheName) {
+
 		long expiration = computeExpiration(cacheName);
-		return new RedisCache(cacheName, (usePrefix ? cachePrefix.prefix(cacheName) : null), redisOperations, expiration,
-				cacheNullValues);
+		RedisCache cache = new RedisCache(cacheName, (usePrefix ? cachePrefix.prefix(cacheName) : null), redisOperations,
+				expiration, cacheNullValues);
+		cache.setIncrementalClear(incrementalClear);
+		cache.setExpiringKnownKeys(expiringKnownKeys);
+		cache.setKnownKeysShards(knownKeysShards);
+		cache.setMetrics(metricsFactory != null ? metricsFactory.createMetrics(cacheName) : new DefaultRedisCacheMetrics());
+
+		cache.setEarlyExpiration(computeEarlyExpirationBeta(cacheName));
+
+		double refreshAheadThreshold = computeRefreshAheadThreshold(cacheName);
+
+		if (refreshAheadThreshold > 0 && expiration > 0) {
+			cache.setRefreshAhead(refreshAheadThreshold, getRefreshExecutor());
+		}
+
+		int nearCacheMaxSize = computeNearCacheMaxSize(cacheName);
+
+		if (nearCacheMaxSize > 0) {
+
+			NearCache nearCache = new NearCache(nearCacheMaxSize, TimeUnit.SECONDS.toMillis(nearCacheExpiration),
+					nearCacheEvictionPolicy);
+			cache.setNearCache(nearCache);
+
+			if (messageListenerContainer != null) {
+				messageListenerContainer.addMessageListener(nearCache, cache.getInvalidationTopic());
+			}
+		}
+
+		return cache;
+	}
+
+	protected int computeNearCacheMaxSize(String name) {
+
+		Integer maxSize = null;
+		if (nearCacheMaxSizes != null) {
+			maxSize = nearCacheMaxSizes.get(name);
+		}
+		return (maxSize != null ? maxSize.intValue() : defaultNearCacheMaxSize);
+	}
+
+	protected double computeRefreshAheadThreshold(String name) {
+
+		Double threshold = null;
+		if (refreshAheadThresholds != null) {
+			threshold = refreshAheadThresholds.get(name);
+		}
+		return (threshold != null ? threshold.doubleValue() : defaultRefreshAheadThreshold);
+	}
+
+	protected double computeEarlyExpirationBeta(String name) {
+
+		Double beta = null;
+		if (earlyExpirationBetas != null) {
+			beta = earlyExpirationBetas.get(name);
+		}
+		return (beta != null ? beta.doubleValue() : defaultEarlyExpirationBeta);
+	}
+
+	private synchronized Executor getRefreshExecutor() {
+
+		if (refreshExecutor != null) {
+			return refreshExecutor;
+		}
+
+		if (defaultRefreshExecutor == null) {
+
+			CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("redis-cache-refresh-");
+			threadFactory.setDaemon(true);
+
+			defaultRefreshExecutor = new ThreadPoolExecutor(DEFAULT_REFRESH_POOL_SIZE, DEFAULT_REFRESH_POOL_SIZE, 60,
+					TimeUnit.SECONDS, new ArrayBlockingQueue<Runnable>(DEFAULT_REFRESH_QUEUE_CAPACITY), threadFactory);
+			defaultRefreshExecutor.allowCoreThreadTimeOut(true);
+		}
+
+		return defaultRefreshExecutor;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.beans.factory.DisposableBean#destroy()
+	 */
+	@Override
+	public synchronized void destroy() {
+
+		if (defaultRefreshExecutor != null) {
+
+			defaultRefreshExecutor.shutdownNow();
+			defaultRefreshExecutor = null;
+		}
 	}
 
 	protected long computeExpiration(String name) {
@@ -304,7 +589,11 @@ public class RedisCacheManager extends AbstractTransactionSupportingCacheManager
 
 				if (!CollectionUtils.isEmpty(keys)) {
 					for (byte[] key : keys) {
-						cacheKeys.add(redisOperations.getKeySerializer().deserialize(key).toString().replace("~keys", ""));
+
+						String cacheName = redisOperations.getKeySerializer().deserialize(key).toString().replace("~keys", "");
+
+						// sharded known keys are stored at <cacheName>~<shard>~keys
+						cacheKeys.add(knownKeysShards > 1 ? cacheName.replaceFirst("~\\d+$", "") : cacheName);
 					}
 				}
 
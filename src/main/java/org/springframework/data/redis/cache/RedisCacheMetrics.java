@@ -0,0 +1,89 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.cache;
+
+/**
+ * SPI receiving the operations performed by a single {@link RedisCache}. Implementations are called on the hot path
+ * and from multiple threads concurrently and hence must be thread safe and should not block. Durations are reported in
+ * nanoseconds.
+ *
+ * @author agent
+ * @since 1.8.8
+ * @see DefaultRedisCacheMetrics
+ */
+public interface RedisCacheMetrics {
+
+	/**
+	 * Record a lookup that found a value, either in Redis or in the {@link NearCache}.
+	 */
+	void recordHit();
+
+	/**
+	 * Record a lookup that did not find a value.
+	 */
+	void recordMiss();
+
+	/**
+	 * Record a lookup that found a value due for early expiration and recomputed it instead of counting a hit.
+	 */
+	void recordEarlyRecompute();
+
+	/**
+	 * Record a value written to the cache.
+	 */
+	void recordPut();
+
+	/**
+	 * Record multiple values written to the cache at once via {@literal putAll}.
+	 *
+	 * @param count number of values written.
+	 */
+	void recordPuts(int count);
+
+	/**
+	 * Record a value removed from the cache via {@literal evict}.
+	 */
+	void recordEviction();
+
+	/**
+	 * Record an invocation of a value loader.
+	 *
+	 * @param nanos time spent in the value loader.
+	 * @param success {@literal false} if the value loader threw an exception.
+	 */
+	void recordLoad(long nanos, boolean success);
+
+	/**
+	 * Record time spent waiting for a cache or key lock held by another process.
+	 *
+	 * @param nanos
+	 */
+	void recordLockWait(long nanos);
+
+	/**
+	 * Record the latency of reading from Redis.
+	 *
+	 * @param nanos
+	 */
+	void recordRead(long nanos);
+
+	/**
+	 * Record the latency of writing to Redis.
+	 *
+	 * @param nanos
+	 */
+	void recordWrite(long nanos);
+}
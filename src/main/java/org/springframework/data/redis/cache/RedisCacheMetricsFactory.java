@@ -0,0 +1,33 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.cache;
+
+/**
+ * Factory creating the {@link RedisCacheMetrics} for each {@link RedisCache} created by {@link RedisCacheManager}.
+ *
+ * @author agent
+ * @since 1.8.8
+ */
+public interface RedisCacheMetricsFactory {
+
+	/**
+	 * Create the {@link RedisCacheMetrics} for the cache with the given name.
+	 *
+	 * @param cacheName never {@literal null}.
+	 * @return must not be {@literal null}.
+	 */
+	RedisCacheMetrics createMetrics(String cacheName);
+}
@@ -21,7 +21,6 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -30,26 +29,35 @@ import java.util.Map.Entry;
 import java.util.Random;
 import java.util.Set;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 import org.springframework.beans.factory.DisposableBean;
 import org.springframework.core.task.AsyncTaskExecutor;
 import org.springframework.dao.DataAccessException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.dao.TransientDataAccessResourceException;
 import org.springframework.data.redis.ClusterRedirectException;
 import org.springframework.data.redis.ClusterStateFailureException;
 import org.springframework.data.redis.ExceptionTranslationStrategy;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.RedisSystemException;
 import org.springframework.data.redis.TooManyClusterRedirectionsException;
 import org.springframework.data.redis.connection.util.ByteArraySet;
 import org.springframework.data.redis.connection.util.ByteArrayWrapper;
-import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.util.Assert;
 import org.springframework.util.CollectionUtils;
 import org.springframework.util.ObjectUtils;
+import org.springframework.util.StringUtils;
 
 /**
- * {@link ClusterCommandExecutor} takes care of running commands across the known cluster nodes. By providing an
- * {@link AsyncTaskExecutor} the execution behavior can be influenced.
+ * {@link ClusterCommandExecutor} takes care of running commands across the known cluster nodes. By default commands
+ * run on the per node worker lanes of a {@link ClusterNodeTaskExecutor}. By providing an {@link AsyncTaskExecutor}
+ * the execution behavior can be influenced.
  *
  * @author Christoph Strobl
  * @author Mark Paluch
@@ -57,14 +65,17 @@ import org.springframework.util.ObjectUtils;
  */
 public class ClusterCommandExecutor implements DisposableBean {
 
-	private AsyncTaskExecutor executor;
+	private final AsyncTaskExecutor executor;
+	private final ClusterNodeTaskExecutor nodeTaskExecutor;
 	private final ClusterTopologyProvider topologyProvider;
 	private final ClusterNodeResourceProvider resourceProvider;
 	private final ExceptionTranslationStrategy exceptionTranslationStrategy;
 	private int maxRedirects = 5;
+	private long commandTimeout = 0;
 
 	/**
-	 * Create a new instance of {@link ClusterCommandExecutor}.
+	 * Create a new instance of {@link ClusterCommandExecutor} running commands on a {@link ClusterNodeTaskExecutor}
+	 * with default settings.
 	 *
 	 * @param topologyProvider must not be {@literal null}.
 	 * @param resourceProvider must not be {@literal null}.
@@ -72,14 +83,7 @@ public class ClusterCommandExecutor implements DisposableBean {
 	 */
 	public ClusterCommandExecutor(ClusterTopologyProvider topologyProvider, ClusterNodeResourceProvider resourceProvider,
 			ExceptionTranslationStrategy exceptionTranslation) {
-
-		Assert.notNull(topologyProvider, "ClusterTopologyProvider must not be null!");
-		Assert.notNull(resourceProvider, "ClusterNodeResourceProvider must not be null!");
-		Assert.notNull(exceptionTranslation, "ExceptionTranslationStrategy must not be null!");
-
-		this.topologyProvider = topologyProvider;
-		this.resourceProvider = resourceProvider;
-		this.exceptionTranslationStrategy = exceptionTranslation;
+		this(topologyProvider, resourceProvider, exceptionTranslation, new ClusterNodeTaskExecutor());
 	}
 
 	/**
@@ -91,16 +95,41 @@ public class ClusterCommandExecutor implements DisposableBean {
 	public ClusterCommandExecutor(ClusterTopologyProvider topologyProvider, ClusterNodeResourceProvider resourceProvider,
 			ExceptionTranslationStrategy exceptionTranslation, AsyncTaskExecutor executor) {
 
-		this(topologyProvider, resourceProvider, exceptionTranslation);
-		this.executor = executor;
+		this(topologyProvider, resourceProvider, exceptionTranslation, executor,
+				executor != null ? null : new ClusterNodeTaskExecutor());
 	}
 
-	{
-		if (executor == null) {
-			ThreadPoolTaskExecutor threadPoolTaskExecutor = new ThreadPoolTaskExecutor();
-			threadPoolTaskExecutor.initialize();
-			this.executor = threadPoolTaskExecutor;
-		}
+	/**
+	 * Create a new instance of {@link ClusterCommandExecutor} running commands on the worker lanes of the given
+	 * {@link ClusterNodeTaskExecutor}.
+	 *
+	 * @param topologyProvider must not be {@literal null}.
+	 * @param resourceProvider must not be {@literal null}.
+	 * @param exceptionTranslation must not be {@literal null}.
+	 * @param nodeTaskExecutor must not be {@literal null}.
+	 * @since 1.8.8
+	 */
+	public ClusterCommandExecutor(ClusterTopologyProvider topologyProvider, ClusterNodeResourceProvider resourceProvider,
+			ExceptionTranslationStrategy exceptionTranslation, ClusterNodeTaskExecutor nodeTaskExecutor) {
+
+		this(topologyProvider, resourceProvider, exceptionTranslation, null, nodeTaskExecutor);
+
+		Assert.notNull(nodeTaskExecutor, "ClusterNodeTaskExecutor must not be null!");
+	}
+
+	private ClusterCommandExecutor(ClusterTopologyProvider topologyProvider,
+			ClusterNodeResourceProvider resourceProvider, ExceptionTranslationStrategy exceptionTranslation,
+			AsyncTaskExecutor executor, ClusterNodeTaskExecutor nodeTaskExecutor) {
+
+		Assert.notNull(topologyProvider, "ClusterTopologyProvider must not be null!");
+		Assert.notNull(resourceProvider, "ClusterNodeResourceProvider must not be null!");
+		Assert.notNull(exceptionTranslation, "ExceptionTranslationStrategy must not be null!");
+
+		this.topologyProvider = topologyProvider;
+		this.resourceProvider = resourceProvider;
+		this.exceptionTranslationStrategy = exceptionTranslation;
+		this.executor = executor;
+		this.nodeTaskExecutor = nodeTaskExecutor;
 	}
 
 	/**
@@ -125,24 +154,32 @@ public class ClusterCommandExecutor implements DisposableBean {
 	 * @return
 	 */
 	public <S, T> NodeResult<T> executeCommandOnSingleNode(ClusterCommandCallback<S, T> cmd, RedisClusterNode node) {
-		return executeCommandOnSingleNode(cmd, node, 0);
-	}
-
-	private <S, T> NodeResult<T> executeCommandOnSingleNode(ClusterCommandCallback<S, T> cmd, RedisClusterNode node,
-			int redirectCount) {
 
 		Assert.notNull(cmd, "ClusterCommandCallback must not be null!");
 		Assert.notNull(node, "RedisClusterNode must not be null!");
 
+		return executeCommandOnResolvedNode(cmd, lookupNode(node), 0);
+	}
+
+	/**
+	 * Run {@link ClusterCommandCallback} on the given {@link RedisClusterNode} without looking it up in the
+	 * {@link ClusterTopology} again.
+	 *
+	 * @param cmd must not be {@literal null}.
+	 * @param node the node to obtain the resource for. Must not be {@literal null}.
+	 * @param redirectCount number of redirects followed so far.
+	 * @return
+	 */
+	private <S, T> NodeResult<T> executeCommandOnResolvedNode(ClusterCommandCallback<S, T> cmd, RedisClusterNode node,
+			int redirectCount) {
+
 		if (redirectCount > maxRedirects) {
 			throw new TooManyClusterRedirectionsException(String.format(
 					"Cannot follow Cluster Redirects over more than %s legs. Please consider increasing the number of redirects to follow. Current value is: %s.",
 					redirectCount, maxRedirects));
 		}
 
-		RedisClusterNode nodeToUse = lookupNode(node);
-
-		S client = this.resourceProvider.getResourceForSpecificNode(nodeToUse);
+		S client = this.resourceProvider.getResourceForSpecificNode(node);
 		Assert.notNull(client, "Could not acquire resource for node. Is your cluster info up to date?");
 
 		try {
@@ -150,15 +187,32 @@ public class ClusterCommandExecutor implements DisposableBean {
 		} catch (RuntimeException ex) {
 
 			RuntimeException translatedException = convertToDataAccessException(ex);
+			requestTopologyRefreshIfRequired(translatedException);
+
 			if (translatedException instanceof ClusterRedirectException) {
 				ClusterRedirectException cre = (ClusterRedirectException) translatedException;
-				return executeCommandOnSingleNode(cmd,
-						topologyProvider.getTopology().lookup(cre.getTargetHost(), cre.getTargetPort()), redirectCount + 1);
+				return executeCommandOnResolvedNode(cmd, resolveRedirectTarget(cre), redirectCount + 1);
 			} else {
 				throw translatedException != null ? translatedException : ex;
 			}
 		} finally {
-			this.resourceProvider.returnResourceForSpecificNode(nodeToUse, client);
+			this.resourceProvider.returnResourceForSpecificNode(node, client);
+		}
+	}
+
+	/**
+	 * Resolve the node a redirect points to. The topology refresh triggered by the redirect runs asynchronously, so the
+	 * target is addressed by host and port if the current snapshot does not contain it yet.
+	 *
+	 * @param redirect must not be {@literal null}.
+	 * @return
+	 */
+	private RedisClusterNode resolveRedirectTarget(ClusterRedirectException redirect) {
+
+		try {
+			return topologyProvider.getTopology().lookup(redirect.getTargetHost(), redirect.getTargetPort());
+		} catch (ClusterStateFailureException e) {
+			return new RedisClusterNode(redirect.getTargetHost(), redirect.getTargetPort());
 		}
 	}
 
@@ -215,7 +269,7 @@ public class ClusterCommandExecutor implements DisposableBean {
 		Map<NodeExecution, Future<NodeResult<T>>> futures = new LinkedHashMap<NodeExecution, Future<NodeResult<T>>>();
 		for (final RedisClusterNode node : resolvedRedisClusterNodes) {
 
-			futures.put(new NodeExecution(node), executor.submit(new Callable<NodeResult<T>>() {
+			futures.put(new NodeExecution(node), submit(node, futures.values(), new Callable<NodeResult<T>>() {
 
 				@Override
 				public NodeResult<T> call() throws Exception {
@@ -227,49 +281,124 @@ public class ClusterCommandExecutor implements DisposableBean {
 		return collectResults(futures);
 	}
 
-	private <T> MulitNodeResult<T> collectResults(Map<NodeExecution, Future<NodeResult<T>>> futures) {
+	/**
+	 * Run the {@link ClusterCommandCallback} registered for each {@link RedisClusterNode} in parallel. Other than
+	 * {@link #executeCommandAsyncOnNodes(ClusterCommandCallback, Iterable)} every node runs its own callback. Nodes
+	 * unknown to the current {@link ClusterTopology} are addressed by their host and port, as redirects may point to
+	 * nodes the topology does not contain yet.
+	 *
+	 * @param callbacks must not be {@literal null}.
+	 * @return
+	 * @throws ClusterCommandExecutionFailureException
+	 * @throws IllegalArgumentException in case a node unknown to the topology does not provide host and port
+	 * @since 1.8.8
+	 */
+	public <S, T> MulitNodeResult<T> executeCommandAsyncOnNodes(
+			Map<RedisClusterNode, ? extends ClusterCommandCallback<S, T>> callbacks) {
 
-		boolean done = false;
+		Assert.notNull(callbacks, "Callbacks must not be null!");
 
-		MulitNodeResult<T> result = new MulitNodeResult<T>();
-		Map<RedisClusterNode, Throwable> exceptions = new HashMap<RedisClusterNode, Throwable>();
+		Map<RedisClusterNode, ClusterCommandCallback<S, T>> resolvedCallbacks = new LinkedHashMap<RedisClusterNode, ClusterCommandCallback<S, T>>();
+		ClusterTopology topology = topologyProvider.getTopology();
 
-		Set<String> saveGuard = new HashSet<String>();
-		while (!done) {
+		for (Entry<RedisClusterNode, ? extends ClusterCommandCallback<S, T>> entry : callbacks.entrySet()) {
 
-			done = true;
-			for (Map.Entry<NodeExecution, Future<NodeResult<T>>> entry : futures.entrySet()) {
+			Assert.notNull(entry.getValue(), "Callback must not be null!");
 
-				if (!entry.getValue().isDone() && !entry.getValue().isCancelled()) {
-					done = false;
-				} else {
-					try {
+			try {
+				resolvedCallbacks.put(topology.lookup(entry.getKey()), entry.getValue());
+			} catch (ClusterStateFailureException e) {
+
+				if (!StringUtils.hasText(entry.getKey().getHost()) || entry.getKey().getPort() == null) {
+					throw new IllegalArgumentException(String.format("Node %s is unknown to cluster", entry.getKey()), e);
+				}
+				resolvedCallbacks.put(entry.getKey(), entry.getValue());
+			}
+		}
 
-						String futureId = ObjectUtils.getIdentityHexString(entry.getValue());
-						if (!saveGuard.contains(futureId)) {
-							result.add(entry.getValue().get());
-							saveGuard.add(futureId);
+		Map<NodeExecution, Future<NodeResult<T>>> futures = new LinkedHashMap<NodeExecution, Future<NodeResult<T>>>();
+		for (final Entry<RedisClusterNode, ClusterCommandCallback<S, T>> entry : resolvedCallbacks.entrySet()) {
+
+			futures.put(new NodeExecution(entry.getKey()),
+					submit(entry.getKey(), futures.values(), new Callable<NodeResult<T>>() {
+
+						@Override
+						public NodeResult<T> call() throws Exception {
+							return executeCommandOnResolvedNode(entry.getValue(), entry.getKey(), 0);
 						}
-					} catch (ExecutionException e) {
+					}));
+		}
 
-						RuntimeException ex = convertToDataAccessException((Exception) e.getCause());
-						exceptions.put(entry.getKey().getNode(), ex != null ? ex : e.getCause());
-					} catch (InterruptedException e) {
+		return collectResults(futures);
+	}
 
-						Thread.currentThread().interrupt();
+	/**
+	 * Submit the given task to the worker lane of the {@link RedisClusterNode} or to the {@link AsyncTaskExecutor} if
+	 * one has been configured. Tasks already submitted for the same command get cancelled when the task is rejected.
+	 *
+	 * @param node the node the task operates on.
+	 * @param submitted the tasks already submitted for the same command.
+	 * @param task the task to run.
+	 * @return
+	 * @throws TransientDataAccessResourceException if the task has been rejected.
+	 */
+	private <T> Future<T> submit(RedisClusterNode node, Collection<? extends Future<?>> submitted, Callable<T> task) {
+
+		try {
+			return executor != null ? executor.submit(task) : nodeTaskExecutor.submit(node, task);
+		} catch (RejectedExecutionException e) {
+
+			cancelAll(submitted);
+			throw new TransientDataAccessResourceException(
+					String.format("Command on node %s has been rejected by the executor.", node.asString()), e);
+		}
+	}
+
+	/**
+	 * Wait for all given {@link Future futures} to complete. Executions not completed within {@link #commandTimeout}
+	 * get cancelled and are reported as {@link QueryTimeoutException}.
+	 *
+	 * @param futures must not be {@literal null}.
+	 * @return
+	 * @throws ClusterCommandExecutionFailureException if any of the executions failed.
+	 */
+	private <T> MulitNodeResult<T> collectResults(Map<NodeExecution, Future<NodeResult<T>>> futures) {
+
+		MulitNodeResult<T> result = new MulitNodeResult<T>();
+		Map<RedisClusterNode, Throwable> exceptions = new HashMap<RedisClusterNode, Throwable>();
+
+		long deadline = commandTimeout > 0 ? System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(commandTimeout) : 0;
+
+		for (Map.Entry<NodeExecution, Future<NodeResult<T>>> entry : futures.entrySet()) {
+
+			Future<NodeResult<T>> future = entry.getValue();
+			RedisClusterNode node = entry.getKey().getNode();
 
-						RuntimeException ex = convertToDataAccessException((Exception) e.getCause());
-						exceptions.put(entry.getKey().getNode(), ex != null ? ex : e.getCause());
-						break;
-					}
-				}
-			}
 			try {
-				Thread.sleep(10);
+
+				if (deadline == 0) {
+					result.add(future.get());
+				} else {
+					result.add(future.get(Math.max(deadline - System.nanoTime(), 0), TimeUnit.NANOSECONDS));
+				}
+			} catch (ExecutionException e) {
+
+				RuntimeException ex = convertToDataAccessException((Exception) e.getCause());
+				exceptions.put(node, ex != null ? ex : e.getCause());
+			} catch (TimeoutException e) {
+
+				future.cancel(true);
+				exceptions.put(node, new QueryTimeoutException(
+						String.format("Command on node %s did not complete within %s ms.", node.asString(), commandTimeout), e));
+			} catch (CancellationException e) {
+				exceptions.put(node, e);
 			} catch (InterruptedException e) {
 
-				done = true;
 				Thread.currentThread().interrupt();
+
+				cancelAll(futures.values());
+				exceptions.put(node, new RedisSystemException("Interrupted while waiting for cluster command.", e));
+				break;
 			}
 		}
 
@@ -279,6 +408,13 @@ public class ClusterCommandExecutor implements DisposableBean {
 		return result;
 	}
 
+	private static void cancelAll(Collection<? extends Future<?>> futures) {
+
+		for (Future<?> future : futures) {
+			future.cancel(true);
+		}
+	}
+
 	/**
 	 * Run {@link MultiKeyClusterCommandCallback} with on a curated set of nodes serving one or more keys.
 	 *
@@ -310,18 +446,113 @@ public class ClusterCommandExecutor implements DisposableBean {
 
 			if (entry.getKey().isMaster()) {
 				for (final byte[] key : entry.getValue()) {
-					futures.put(new NodeExecution(entry.getKey(), key), executor.submit(new Callable<NodeResult<T>>() {
+					futures.put(new NodeExecution(entry.getKey(), key),
+							submit(entry.getKey(), futures.values(), new Callable<NodeResult<T>>() {
+
+								@Override
+								public NodeResult<T> call() throws Exception {
+									return executeMultiKeyCommandOnSingleNode(cmd, entry.getKey(), key);
+								}
+							}));
+				}
+			}
+		}
+
+		return collectResults(futures);
+	}
+
+	/**
+	 * Run {@link SlotBatchClusterCommandCallback} for keys grouped by slot. Keys are assigned to the master node serving
+	 * their slot and each node processes all of its slot batches within a single task using one resource. Other than
+	 * {@link #executeMuliKeyCommand(MultiKeyClusterCommandCallback, Iterable)} the callback is invoked once per slot
+	 * instead of once per key, allowing commands such as {@code MGET}, {@code MSET} or {@code DEL} to be issued with all
+	 * keys of a slot.
+	 *
+	 * @param cmd must not be {@literal null}.
+	 * @param keys must not be {@literal null}.
+	 * @return {@link MulitNodeResult} holding one {@link NodeResult} per slot batch.
+	 * @throws ClusterCommandExecutionFailureException
+	 * @since 1.8.8
+	 */
+	public <S, T> MulitNodeResult<T> executeMultiKeyCommandBySlot(final SlotBatchClusterCommandCallback<S, T> cmd,
+			Iterable<byte[]> keys) {
+
+		Assert.notNull(cmd, "SlotBatchClusterCommandCallback must not be null!");
+		Assert.notNull(keys, "Keys must not be null!");
+
+		ClusterTopology topology = getClusterTopology();
+		Map<RedisClusterNode, Map<Integer, List<byte[]>>> nodeSlotKeyMap = new LinkedHashMap<RedisClusterNode, Map<Integer, List<byte[]>>>();
+
+		for (byte[] key : keys) {
+
+			RedisClusterNode node = topology.getKeyServingMasterNode(key);
+			Map<Integer, List<byte[]>> slotKeyMap = nodeSlotKeyMap.get(node);
+
+			if (slotKeyMap == null) {
+
+				slotKeyMap = new LinkedHashMap<Integer, List<byte[]>>();
+				nodeSlotKeyMap.put(node, slotKeyMap);
+			}
+
+			Integer slot = ClusterSlotHashUtil.calculateSlot(key);
+			List<byte[]> slotKeys = slotKeyMap.get(slot);
+
+			if (slotKeys == null) {
+
+				slotKeys = new ArrayList<byte[]>();
+				slotKeyMap.put(slot, slotKeys);
+			}
+
+			slotKeys.add(key);
+		}
+
+		Map<NodeExecution, Future<NodeResult<List<T>>>> futures = new LinkedHashMap<NodeExecution, Future<NodeResult<List<T>>>>();
+
+		for (final Entry<RedisClusterNode, Map<Integer, List<byte[]>>> entry : nodeSlotKeyMap.entrySet()) {
+
+			futures.put(new NodeExecution(entry.getKey(), entry.getValue().keySet().toArray()),
+					submit(entry.getKey(), futures.values(), new Callable<NodeResult<List<T>>>() {
 
 						@Override
-						public NodeResult<T> call() throws Exception {
-							return executeMultiKeyCommandOnSingleNode(cmd, entry.getKey(), key);
+						public NodeResult<List<T>> call() throws Exception {
+							return executeSlotBatchesOnSingleNode(cmd, entry.getKey(), entry.getValue().values());
 						}
 					}));
-				}
+		}
+
+		MulitNodeResult<T> result = new MulitNodeResult<T>();
+		for (NodeResult<List<T>> nodeResult : collectResults(futures).getResults()) {
+			for (T value : nodeResult.getValue()) {
+				result.add(new NodeResult<T>(nodeResult.getNode(), value));
 			}
 		}
 
-		return collectResults(futures);
+		return result;
+	}
+
+	private <S, T> NodeResult<List<T>> executeSlotBatchesOnSingleNode(SlotBatchClusterCommandCallback<S, T> cmd,
+			RedisClusterNode node, Collection<List<byte[]>> slotBatches) {
+
+		S client = this.resourceProvider.getResourceForSpecificNode(node);
+		Assert.notNull(client, "Could not acquire resource for node. Is your cluster info up to date?");
+
+		try {
+
+			List<T> values = new ArrayList<T>(slotBatches.size());
+			for (List<byte[]> slotKeys : slotBatches) {
+				values.add(cmd.doInCluster(client, slotKeys.toArray(new byte[slotKeys.size()][])));
+			}
+
+			return new NodeResult<List<T>>(node, values);
+		} catch (RuntimeException ex) {
+
+			RuntimeException translatedException = convertToDataAccessException(ex);
+			requestTopologyRefreshIfRequired(translatedException);
+
+			throw translatedException != null ? translatedException : ex;
+		} finally {
+			this.resourceProvider.returnResourceForSpecificNode(node, client);
+		}
 	}
 
 	private <S, T> NodeResult<T> executeMultiKeyCommandOnSingleNode(MultiKeyClusterCommandCallback<S, T> cmd,
@@ -339,6 +570,8 @@ public class ClusterCommandExecutor implements DisposableBean {
 		} catch (RuntimeException ex) {
 
 			RuntimeException translatedException = convertToDataAccessException(ex);
+			requestTopologyRefreshIfRequired(translatedException);
+
 			throw translatedException != null ? translatedException : ex;
 		} finally {
 			this.resourceProvider.returnResourceForSpecificNode(node, client);
@@ -353,6 +586,20 @@ public class ClusterCommandExecutor implements DisposableBean {
 		return exceptionTranslationStrategy.translate(e);
 	}
 
+	/**
+	 * Notify a {@link RefreshableClusterTopologyProvider} about redirects and unreachable nodes indicating the current
+	 * {@link ClusterTopology} to be outdated.
+	 *
+	 * @param ex can be {@literal null}.
+	 */
+	private void requestTopologyRefreshIfRequired(RuntimeException ex) {
+
+		if (topologyProvider instanceof RefreshableClusterTopologyProvider
+				&& (ex instanceof ClusterRedirectException || ex instanceof RedisConnectionFailureException)) {
+			((RefreshableClusterTopologyProvider) topologyProvider).refreshTopology();
+		}
+	}
+
 	/**
 	 * Set the maximum number of redirects to follow on {@code MOVED} or {@code ASK}.
 	 *
@@ -362,6 +609,46 @@ public class ClusterCommandExecutor implements DisposableBean {
 		this.maxRedirects = maxRedirects;
 	}
 
+	/**
+	 * @return the maximum number of redirects to follow on {@code MOVED} or {@code ASK}.
+	 * @since 1.8.8
+	 */
+	public int getMaxRedirects() {
+		return maxRedirects;
+	}
+
+	/**
+	 * Set the maximum time to wait for commands running on multiple nodes. Commands not completed in time are cancelled
+	 * and reported as {@link QueryTimeoutException}.
+	 *
+	 * @param commandTimeout timeout in milliseconds. Use {@literal zero} to wait until all commands completed.
+	 * @since 1.8.8
+	 */
+	public void setCommandTimeout(long commandTimeout) {
+
+		Assert.isTrue(commandTimeout >= 0, "CommandTimeout must not be negative!");
+		this.commandTimeout = commandTimeout;
+	}
+
+	/**
+	 * @return the maximum time in milliseconds to wait for commands running on multiple nodes. {@literal zero} if not
+	 *         limited.
+	 * @since 1.8.8
+	 */
+	public long getCommandTimeout() {
+		return commandTimeout;
+	}
+
+	/**
+	 * Get the {@link ClusterNodeTaskExecutor} running commands, providing access to its per node statistics.
+	 *
+	 * @return {@literal null} if commands are run by a custom {@link AsyncTaskExecutor}.
+	 * @since 1.8.8
+	 */
+	public ClusterNodeTaskExecutor getNodeTaskExecutor() {
+		return nodeTaskExecutor;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.beans.factory.DisposableBean#destroy()
@@ -373,6 +660,10 @@ public class ClusterCommandExecutor implements DisposableBean {
 			((DisposableBean) executor).destroy();
 		}
 
+		if (nodeTaskExecutor != null) {
+			nodeTaskExecutor.destroy();
+		}
+
 		if (resourceProvider instanceof DisposableBean) {
 			((DisposableBean) resourceProvider).destroy();
 		}
@@ -402,6 +693,19 @@ public class ClusterCommandExecutor implements DisposableBean {
 		S doInCluster(T client, byte[] key);
 	}
 
+	/**
+	 * Callback interface for Redis 'low level' code using the cluster client to execute multi key commands for a batch
+	 * of keys mapping to the same slot.
+	 *
+	 * @author agent
+	 * @param <T> native driver connection
+	 * @param <S>
+	 * @since 1.8.8
+	 */
+	public static interface SlotBatchClusterCommandCallback<T, S> {
+		S doInCluster(T client, byte[]... keys);
+	}
+
 	/**
 	 * {@link NodeExecution} encapsulates the execution of a command on a specific node along with arguments, such as
 	 * keys, involved.
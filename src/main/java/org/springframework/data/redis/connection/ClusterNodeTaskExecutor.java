@@ -0,0 +1,531 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.connection;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.util.Assert;
+
+/**
+ * Executor running tasks on one worker lane per {@link RedisClusterNode}. Each lane uses its own threads and a bounded
+ * queue so a slow or unreachable node cannot occupy the threads serving other nodes. <br />
+ * Tasks exceeding the queue capacity or the number of tasks allowed in flight for a node are handled according to the
+ * configured {@link RejectionPolicy}, which defaults to {@link RejectionPolicy#CALLER_RUNS} so that bursts slow down
+ * callers instead of failing commands. Lanes are created on first use and release their threads when idle. Lanes not
+ * used for the {@link #setIdleLaneTimeout(long) idle lane timeout}, eg. of nodes that left the cluster, are removed
+ * along with their statistics. Queue depth, rejections and latencies are available per node via
+ * {@link #getStatistics()}.
+ *
+ * @author agent
+ * @since 1.8.8
+ */
+public class ClusterNodeTaskExecutor implements DisposableBean {
+
+	private static final long IDLE_THREAD_KEEP_ALIVE_SECONDS = 60;
+
+	private final ConcurrentMap<String, NodeLane> lanes = new ConcurrentHashMap<String, NodeLane>();
+	private final AtomicLong nextEviction = new AtomicLong(System.nanoTime());
+
+	private int threadsPerNode = 4;
+	private int queueCapacity = 256;
+	private int maxInFlightPerNode = 0;
+	private RejectionPolicy rejectionPolicy = RejectionPolicy.CALLER_RUNS;
+	private long idleLaneTimeout = TimeUnit.MINUTES.toMillis(5);
+
+	private volatile boolean destroyed;
+
+	/**
+	 * Submit the given {@link Callable} to the lane of the given {@link RedisClusterNode}.
+	 *
+	 * @param node must not be {@literal null}.
+	 * @param task must not be {@literal null}.
+	 * @return never {@literal null}.
+	 * @throws TaskRejectedException if the lane is saturated and {@link RejectionPolicy#ABORT} is used or the executor
+	 *           has been destroyed.
+	 */
+	public <T> Future<T> submit(RedisClusterNode node, Callable<T> task) {
+
+		Assert.notNull(node, "RedisClusterNode must not be null!");
+		Assert.notNull(task, "Task must not be null!");
+
+		if (destroyed) {
+			throw new TaskRejectedException("ClusterNodeTaskExecutor has already been destroyed.");
+		}
+
+		evictIdleLanesIfDue();
+
+		Future<T> future;
+		do {
+			// a lane evicted concurrently does not accept the task, so retry on a new one
+			future = getLane(node).submit(task);
+		} while (future == null);
+
+		return future;
+	}
+
+	/**
+	 * Get a snapshot of the {@link NodeLaneStatistics} for every node a task has been submitted for.
+	 *
+	 * @return never {@literal null}.
+	 */
+	public Map<RedisClusterNode, NodeLaneStatistics> getStatistics() {
+
+		Map<RedisClusterNode, NodeLaneStatistics> statistics = new LinkedHashMap<RedisClusterNode, NodeLaneStatistics>();
+		for (NodeLane lane : lanes.values()) {
+			statistics.put(lane.node, lane.getStatistics());
+		}
+		return statistics;
+	}
+
+	/**
+	 * Get a snapshot of the {@link NodeLaneStatistics} for the given {@link RedisClusterNode}.
+	 *
+	 * @param node must not be {@literal null}.
+	 * @return {@literal null} if no task has been submitted for the node yet.
+	 */
+	public NodeLaneStatistics getStatistics(RedisClusterNode node) {
+
+		Assert.notNull(node, "RedisClusterNode must not be null!");
+
+		NodeLane lane = lanes.get(node.asString());
+		return lane != null ? lane.getStatistics() : null;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.beans.factory.DisposableBean#destroy()
+	 */
+	@Override
+	public void destroy() {
+
+		destroyed = true;
+
+		for (NodeLane lane : lanes.values()) {
+			lane.executor.shutdownNow();
+		}
+		lanes.clear();
+	}
+
+	/**
+	 * Set the number of threads serving a single node. Only applies to lanes created afterwards.
+	 *
+	 * @param threadsPerNode must be greater than {@literal zero}.
+	 */
+	public void setThreadsPerNode(int threadsPerNode) {
+
+		Assert.isTrue(threadsPerNode > 0, "ThreadsPerNode must be greater than zero!");
+		this.threadsPerNode = threadsPerNode;
+	}
+
+	/**
+	 * @return the number of threads serving a single node.
+	 */
+	public int getThreadsPerNode() {
+		return threadsPerNode;
+	}
+
+	/**
+	 * Set the number of tasks that may wait for a free thread of a single node. Only applies to lanes created
+	 * afterwards.
+	 *
+	 * @param queueCapacity must be greater than {@literal zero}.
+	 */
+	public void setQueueCapacity(int queueCapacity) {
+
+		Assert.isTrue(queueCapacity > 0, "QueueCapacity must be greater than zero!");
+		this.queueCapacity = queueCapacity;
+	}
+
+	/**
+	 * @return the number of tasks that may wait for a free thread of a single node.
+	 */
+	public int getQueueCapacity() {
+		return queueCapacity;
+	}
+
+	/**
+	 * Set the maximum number of queued and running tasks per node. Only applies to lanes created afterwards.
+	 *
+	 * @param maxInFlightPerNode use {@literal zero} to only limit by thread count and queue capacity.
+	 */
+	public void setMaxInFlightPerNode(int maxInFlightPerNode) {
+
+		Assert.isTrue(maxInFlightPerNode >= 0, "MaxInFlightPerNode must not be negative!");
+		this.maxInFlightPerNode = maxInFlightPerNode;
+	}
+
+	/**
+	 * @return the maximum number of queued and running tasks per node. {@literal zero} if not limited explicitly.
+	 */
+	public int getMaxInFlightPerNode() {
+		return maxInFlightPerNode;
+	}
+
+	/**
+	 * Set the {@link RejectionPolicy} applied to tasks exceeding the capacity of a lane. Defaults to
+	 * {@link RejectionPolicy#CALLER_RUNS}.
+	 *
+	 * @param rejectionPolicy must not be {@literal null}.
+	 */
+	public void setRejectionPolicy(RejectionPolicy rejectionPolicy) {
+
+		Assert.notNull(rejectionPolicy, "RejectionPolicy must not be null!");
+		this.rejectionPolicy = rejectionPolicy;
+	}
+
+	/**
+	 * @return the {@link RejectionPolicy} applied to tasks exceeding the capacity of a lane.
+	 */
+	public RejectionPolicy getRejectionPolicy() {
+		return rejectionPolicy;
+	}
+
+	/**
+	 * Set the time in milliseconds after which a lane without queued or running tasks is removed. Idle lanes are looked
+	 * for at most once per timeout when submitting tasks. Defaults to {@literal 5 minutes}.
+	 *
+	 * @param idleLaneTimeout must not be negative.
+	 */
+	public void setIdleLaneTimeout(long idleLaneTimeout) {
+
+		Assert.isTrue(idleLaneTimeout >= 0, "IdleLaneTimeout must not be negative!");
+		this.idleLaneTimeout = idleLaneTimeout;
+		this.nextEviction.set(System.nanoTime());
+	}
+
+	/**
+	 * @return the time in milliseconds after which a lane without queued or running tasks is removed.
+	 */
+	public long getIdleLaneTimeout() {
+		return idleLaneTimeout;
+	}
+
+	private void evictIdleLanesIfDue() {
+
+		long now = System.nanoTime();
+		long due = nextEviction.get();
+
+		if (now - due < 0 || !nextEviction.compareAndSet(due, now + TimeUnit.MILLISECONDS.toNanos(idleLaneTimeout))) {
+			return;
+		}
+
+		long idleSince = now - TimeUnit.MILLISECONDS.toNanos(idleLaneTimeout);
+
+		for (Map.Entry<String, NodeLane> entry : lanes.entrySet()) {
+
+			NodeLane lane = entry.getValue();
+			if (lane.isIdleSince(idleSince) && lanes.remove(entry.getKey(), lane)) {
+				lane.retire();
+			}
+		}
+	}
+
+	private NodeLane getLane(RedisClusterNode node) {
+
+		String key = node.asString();
+		NodeLane lane = lanes.get(key);
+
+		if (lane != null) {
+			return lane;
+		}
+
+		NodeLane newLane = new NodeLane(node);
+		lane = lanes.putIfAbsent(key, newLane);
+
+		if (lane != null) {
+			newLane.executor.shutdown();
+			return lane;
+		}
+
+		return newLane;
+	}
+
+	/**
+	 * Policy deciding what happens to a task exceeding the capacity of a node lane.
+	 *
+	 * @author agent
+	 * @since 1.8.8
+	 */
+	public static enum RejectionPolicy {
+
+		/**
+		 * Reject the task by throwing {@link TaskRejectedException}.
+		 */
+		ABORT,
+
+		/**
+		 * Run the task in the submitting thread, slowing down the caller.
+		 */
+		CALLER_RUNS
+	}
+
+	/**
+	 * Point in time snapshot of the state of a single node lane. Latencies are measured from submitting a task until its
+	 * completion and hence include time spent in the queue.
+	 *
+	 * @author agent
+	 * @since 1.8.8
+	 */
+	public static class NodeLaneStatistics {
+
+		private final int queueDepth;
+		private final int activeCount;
+		private final long completedCount;
+		private final long rejectedCount;
+		private final long totalLatency;
+		private final long maxLatency;
+
+		NodeLaneStatistics(int queueDepth, int activeCount, long completedCount, long rejectedCount, long totalLatency,
+				long maxLatency) {
+
+			this.queueDepth = queueDepth;
+			this.activeCount = activeCount;
+			this.completedCount = completedCount;
+			this.rejectedCount = rejectedCount;
+			this.totalLatency = totalLatency;
+			this.maxLatency = maxLatency;
+		}
+
+		/**
+		 * @return number of tasks waiting for a free thread.
+		 */
+		public int getQueueDepth() {
+			return queueDepth;
+		}
+
+		/**
+		 * @return number of tasks currently running.
+		 */
+		public int getActiveCount() {
+			return activeCount;
+		}
+
+		/**
+		 * @return number of tasks completed, including failed ones.
+		 */
+		public long getCompletedCount() {
+			return completedCount;
+		}
+
+		/**
+		 * @return number of tasks exceeding the lane capacity, including the ones run by the caller.
+		 */
+		public long getRejectedCount() {
+			return rejectedCount;
+		}
+
+		/**
+		 * @param unit must not be {@literal null}.
+		 * @return the mean latency of completed tasks.
+		 */
+		public long getMeanLatency(TimeUnit unit) {
+			return unit.convert(completedCount == 0 ? 0 : totalLatency / completedCount, TimeUnit.NANOSECONDS);
+		}
+
+		/**
+		 * @param unit must not be {@literal null}.
+		 * @return the highest latency of completed tasks.
+		 */
+		public long getMaxLatency(TimeUnit unit) {
+			return unit.convert(maxLatency, TimeUnit.NANOSECONDS);
+		}
+	}
+
+	/**
+	 * Worker lane for a single {@link RedisClusterNode}.
+	 *
+	 * @author agent
+	 */
+	private class NodeLane {
+
+		private final RedisClusterNode node;
+		private final ThreadPoolExecutor executor;
+		private final Semaphore inFlight;
+		private final RejectionPolicy rejectionPolicy;
+
+		private final LongAdder completed = new LongAdder();
+		private final LongAdder rejected = new LongAdder();
+		private final LongAdder totalLatency = new LongAdder();
+		private final AtomicLong maxLatency = new AtomicLong();
+
+		private volatile long lastUsed = System.nanoTime();
+		private volatile boolean retired;
+
+		NodeLane(RedisClusterNode node) {
+
+			CustomizableThreadFactory threadFactory = new CustomizableThreadFactory(
+					"redis-cluster-" + node.asString() + "-");
+			threadFactory.setDaemon(true);
+
+			this.node = node;
+			this.executor = new ThreadPoolExecutor(threadsPerNode, threadsPerNode, IDLE_THREAD_KEEP_ALIVE_SECONDS,
+					TimeUnit.SECONDS, new ArrayBlockingQueue<Runnable>(queueCapacity), threadFactory);
+			this.executor.allowCoreThreadTimeOut(true);
+			this.inFlight = maxInFlightPerNode > 0 ? new Semaphore(maxInFlightPerNode) : null;
+			this.rejectionPolicy = ClusterNodeTaskExecutor.this.rejectionPolicy;
+		}
+
+		/**
+		 * @return {@literal null} if the lane has been evicted and does not accept tasks anymore.
+		 */
+		<T> Future<T> submit(Callable<T> task) {
+
+			lastUsed = System.nanoTime();
+
+			if (retired) {
+				return null;
+			}
+
+			if (inFlight != null && !inFlight.tryAcquire()) {
+				return reject(new TimedTask<T>(this, task, false), null);
+			}
+
+			TimedTask<T> timedTask = new TimedTask<T>(this, task, inFlight != null);
+			try {
+				executor.execute(timedTask);
+			} catch (RejectedExecutionException e) {
+
+				timedTask.releasePermit();
+				return reject(new TimedTask<T>(this, task, false), e);
+			}
+
+			return timedTask;
+		}
+
+		boolean isIdleSince(long nanoTime) {
+			return lastUsed - nanoTime <= 0 && executor.getActiveCount() == 0 && executor.getQueue().isEmpty();
+		}
+
+		/**
+		 * Stop accepting tasks and release the threads once tasks submitted concurrently to the eviction completed.
+		 */
+		void retire() {
+
+			retired = true;
+			executor.shutdown();
+		}
+
+		private <T> Future<T> reject(TimedTask<T> task, RejectedExecutionException cause) {
+
+			if (retired) {
+				return null;
+			}
+
+			rejected.increment();
+
+			if (RejectionPolicy.CALLER_RUNS.equals(rejectionPolicy) && !executor.isShutdown()) {
+
+				task.run();
+				return task;
+			}
+
+			throw new TaskRejectedException(String.format("Lane for node %s is saturated (%s queued, %s running).",
+					node.asString(), executor.getQueue().size(), executor.getActiveCount()), cause);
+		}
+
+		void recordCompletion(long nanos) {
+
+			completed.increment();
+			totalLatency.add(nanos);
+
+			long max = maxLatency.get();
+			while (nanos > max && !maxLatency.compareAndSet(max, nanos)) {
+				max = maxLatency.get();
+			}
+		}
+
+		NodeLaneStatistics getStatistics() {
+			return new NodeLaneStatistics(executor.getQueue().size(), executor.getActiveCount(), completed.sum(),
+					rejected.sum(), totalLatency.sum(), maxLatency.get());
+		}
+	}
+
+	/**
+	 * {@link FutureTask} recording its latency before publishing the outcome and returning the in-flight permit of its
+	 * lane on completion.
+	 *
+	 * @author agent
+	 */
+	private static class TimedTask<T> extends FutureTask<T> {
+
+		private final NodeLane lane;
+		private final long submittedAt = System.nanoTime();
+		private final AtomicBoolean holdsPermit;
+
+		TimedTask(NodeLane lane, Callable<T> callable, boolean holdsPermit) {
+
+			super(callable);
+
+			this.lane = lane;
+			this.holdsPermit = new AtomicBoolean(holdsPermit);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.util.concurrent.FutureTask#set(java.lang.Object)
+		 */
+		@Override
+		protected void set(T value) {
+
+			lane.recordCompletion(System.nanoTime() - submittedAt);
+			super.set(value);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.util.concurrent.FutureTask#setException(java.lang.Throwable)
+		 */
+		@Override
+		protected void setException(Throwable ex) {
+
+			lane.recordCompletion(System.nanoTime() - submittedAt);
+			super.setException(ex);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.util.concurrent.FutureTask#done()
+		 */
+		@Override
+		protected void done() {
+			releasePermit();
+		}
+
+		void releasePermit() {
+
+			if (holdsPermit.compareAndSet(true, false)) {
+				lane.inFlight.release();
+			}
+		}
+	}
+}
@@ -0,0 +1,306 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.connection;
+
+import java.io.IOException;
+import java.util.BitSet;
+import java.util.NoSuchElementException;
+
+import org.springframework.data.redis.ClusterRedirectException;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.util.Assert;
+
+/**
+ * {@link Cursor} iterating over the keys of all master nodes within a cluster by walking the nodes one after another
+ * using {@link RedisClusterConnection#scan(RedisClusterNode, ScanOptions)}. {@link ScanOptions} are applied to each
+ * node. <br />
+ * The cursor keeps track of the hash slots already covered and picks the next node from the current
+ * {@link ClusterTopology}. A node that gets unavailable or answers with a redirect while being scanned is scanned again
+ * from its start after the topology has been refreshed, so slots moved by a failover or resharding are still visited.
+ * As with a plain {@literal SCAN} keys may therefore be returned more than once.
+ *
+ * @author agent
+ * @since 1.8.8
+ */
+public class ClusterScanCursor implements Cursor<byte[]> {
+
+	private static final int SLOT_COUNT = 16384;
+	private static final int MAX_ATTEMPTS_PER_NODE = 3;
+	private static final long RETRY_BACKOFF = 100;
+
+	private final ClusterTopologyProvider topologyProvider;
+	private final RedisClusterConnection connection;
+	private final ScanOptions options;
+	private final BitSet scannedSlots = new BitSet(SLOT_COUNT);
+
+	private RedisClusterNode currentNode;
+	private Cursor<byte[]> delegate;
+	private int attempts;
+	private long position;
+	private boolean open;
+	private boolean closed;
+
+	/**
+	 * Create new {@link ClusterScanCursor}.
+	 *
+	 * @param topologyProvider must not be {@literal null}.
+	 * @param connection must not be {@literal null}.
+	 * @param options can be {@literal null}.
+	 */
+	public ClusterScanCursor(ClusterTopologyProvider topologyProvider, RedisClusterConnection connection,
+			ScanOptions options) {
+
+		Assert.notNull(topologyProvider, "ClusterTopologyProvider must not be null!");
+		Assert.notNull(connection, "RedisClusterConnection must not be null!");
+
+		this.topologyProvider = topologyProvider;
+		this.connection = connection;
+		this.options = options != null ? options : ScanOptions.NONE;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.core.Cursor#open()
+	 */
+	@Override
+	public ClusterScanCursor open() {
+
+		if (open || closed) {
+			throw new IllegalStateException("Cursor already " + (closed ? "closed" : "open") + "!");
+		}
+
+		open = true;
+		moveToNextNode();
+		return this;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.util.Iterator#hasNext()
+	 */
+	@Override
+	public boolean hasNext() {
+
+		assertOpen();
+
+		while (delegate != null) {
+
+			try {
+
+				if (delegate.hasNext()) {
+					return true;
+				}
+			} catch (RuntimeException ex) {
+
+				retryCurrentNode(ex);
+				continue;
+			}
+
+			scannedSlots.or(toBitSet(currentNode));
+			closeQuietly(delegate);
+			moveToNextNode();
+		}
+
+		return false;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.util.Iterator#next()
+	 */
+	@Override
+	public byte[] next() {
+
+		if (!hasNext()) {
+			throw new NoSuchElementException("No more elements available for cursor " + getCursorId() + ".");
+		}
+
+		position++;
+		return delegate.next();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.util.Iterator#remove()
+	 */
+	@Override
+	public void remove() {
+		throw new UnsupportedOperationException("Remove is not supported");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.io.Closeable#close()
+	 */
+	@Override
+	public void close() throws IOException {
+
+		closed = true;
+
+		if (delegate != null) {
+
+			Cursor<byte[]> toClose = delegate;
+			delegate = null;
+			toClose.close();
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.core.Cursor#getCursorId()
+	 */
+	@Override
+	public long getCursorId() {
+		return delegate != null ? delegate.getCursorId() : 0;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.core.Cursor#isClosed()
+	 */
+	@Override
+	public boolean isClosed() {
+		return closed;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.core.Cursor#getPosition()
+	 */
+	@Override
+	public long getPosition() {
+		return position;
+	}
+
+	/**
+	 * @return the {@link RedisClusterNode} currently scanned. {@literal null} if all nodes have been scanned.
+	 */
+	public RedisClusterNode getCurrentNode() {
+		return currentNode;
+	}
+
+	private void moveToNextNode() {
+
+		attempts = 0;
+		openCursorOnNextUnscannedNode();
+	}
+
+	private void openCursorOnNextUnscannedNode() {
+
+		delegate = null;
+		currentNode = nextUnscannedNode();
+
+		while (currentNode != null) {
+
+			try {
+
+				delegate = connection.scan(currentNode, options);
+				return;
+			} catch (RuntimeException ex) {
+
+				handleFailure(ex);
+				currentNode = nextUnscannedNode();
+			}
+		}
+	}
+
+	private void retryCurrentNode(RuntimeException ex) {
+
+		handleFailure(ex);
+		openCursorOnNextUnscannedNode();
+	}
+
+	/**
+	 * Request a topology refresh and back off after a redirect or connection failure. Rethrows the given exception for
+	 * any other failure or once {@link #MAX_ATTEMPTS_PER_NODE} is exceeded.
+	 *
+	 * @param ex
+	 */
+	private void handleFailure(RuntimeException ex) {
+
+		closeQuietly(delegate);
+		delegate = null;
+
+		if (!(ex instanceof ClusterRedirectException || ex instanceof RedisConnectionFailureException)
+				|| ++attempts >= MAX_ATTEMPTS_PER_NODE) {
+			throw ex;
+		}
+
+		if (topologyProvider instanceof RefreshableClusterTopologyProvider) {
+			((RefreshableClusterTopologyProvider) topologyProvider).refreshTopology();
+		}
+
+		try {
+			Thread.sleep(RETRY_BACKOFF * attempts);
+		} catch (InterruptedException ie) {
+
+			Thread.currentThread().interrupt();
+			throw ex;
+		}
+	}
+
+	private RedisClusterNode nextUnscannedNode() {
+
+		for (RedisClusterNode node : topologyProvider.getTopology().getActiveMasterNodes()) {
+
+			BitSet slots = toBitSet(node);
+			slots.andNot(scannedSlots);
+
+			if (!slots.isEmpty()) {
+				return node;
+			}
+		}
+
+		return null;
+	}
+
+	private void assertOpen() {
+
+		if (!open) {
+			throw new IllegalStateException("Cursor not open!");
+		}
+		if (closed) {
+			throw new IllegalStateException("Cursor already closed!");
+		}
+	}
+
+	private static BitSet toBitSet(RedisClusterNode node) {
+
+		BitSet slots = new BitSet(SLOT_COUNT);
+
+		if (node.getSlotRange() != null) {
+			for (int slot : node.getSlotRange().getSlotsArray()) {
+				slots.set(slot);
+			}
+		}
+		return slots;
+	}
+
+	private static void closeQuietly(Cursor<byte[]> cursor) {
+
+		if (cursor == null) {
+			return;
+		}
+
+		try {
+			cursor.close();
+		} catch (IOException e) {
+			// ignore
+		}
+	}
+}
@@ -15,8 +15,13 @@
  */
 package org.springframework.data.redis.connection;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import org.springframework.data.redis.ClusterStateFailureException;
@@ -32,7 +37,10 @@ import org.springframework.util.StringUtils;
  */
 public class ClusterTopology {
 
+	private static final int SLOT_COUNT = 16384;
+
 	private final Set<RedisClusterNode> nodes;
+	private volatile SlotRouting slotRouting;
 
 	/**
 	 * Creates new instance of {@link ClusterTopology}.
@@ -110,15 +118,34 @@ public class ClusterTopology {
 	 */
 	public Set<RedisClusterNode> getSlotServingNodes(int slot) {
 
-		Set<RedisClusterNode> slotServingNodes = new LinkedHashSet<RedisClusterNode>(nodes.size());
-		for (RedisClusterNode node : nodes) {
-			if (node.servesSlot(slot)) {
-				slotServingNodes.add(node);
-			}
+		if (slot < 0 || slot >= SLOT_COUNT) {
+			return new LinkedHashSet<RedisClusterNode>(0);
+		}
+
+		RedisClusterNode[] servingNodes = getSlotRouting().servingNodes[slot];
+		Set<RedisClusterNode> slotServingNodes = new LinkedHashSet<RedisClusterNode>(servingNodes.length);
+		for (RedisClusterNode node : servingNodes) {
+			slotServingNodes.add(node);
 		}
 		return slotServingNodes;
 	}
 
+	/**
+	 * Get the slaves of the given master where {@code link-state} is {@literal connected} and {@code flags} does not
+	 * contain {@literal fail} or {@literal fail?}.
+	 *
+	 * @param master must not be {@literal null}.
+	 * @return never {@literal null}.
+	 * @since 1.8.8
+	 */
+	public List<RedisClusterNode> getActiveSlaveNodes(RedisClusterNode master) {
+
+		Assert.notNull(master, "Master must not be null!");
+
+		RedisClusterNode[] slaves = getSlotRouting().activeSlaves.get(master.getId());
+		return slaves != null ? Arrays.asList(slaves) : Collections.<RedisClusterNode> emptyList();
+	}
+
 	/**
 	 * Get the {@link RedisClusterNode} that is the current master serving the given key.
 	 * 
@@ -131,10 +158,10 @@ public class ClusterTopology {
 		Assert.notNull(key, "Key for node lookup must not be null!");
 
 		int slot = ClusterSlotHashUtil.calculateSlot(key);
-		for (RedisClusterNode node : nodes) {
-			if (node.isMaster() && node.servesSlot(slot)) {
-				return node;
-			}
+		RedisClusterNode node = getSlotRouting().masters[slot];
+
+		if (node != null) {
+			return node;
 		}
 		throw new ClusterStateFailureException(String.format("Could not find master node serving slot %s for key '%s',",
 				slot, key));
@@ -216,4 +243,102 @@ public class ClusterTopology {
 		Assert.notNull(key, "Key must not be null for Cluster Node lookup.");
 		return getSlotServingNodes(ClusterSlotHashUtil.calculateSlot(key));
 	}
+
+	/**
+	 * Get the {@link SlotRouting} computing it on first access. Concurrent first access may compute the table more than
+	 * once, which is harmless as the outcome is the same.
+	 *
+	 * @return never {@literal null}.
+	 */
+	private SlotRouting getSlotRouting() {
+
+		SlotRouting routing = this.slotRouting;
+		if (routing == null) {
+
+			routing = new SlotRouting(nodes);
+			this.slotRouting = routing;
+		}
+		return routing;
+	}
+
+	/**
+	 * Routing table holding the master and all serving nodes for each of the {@link #SLOT_COUNT} slots so that a slot
+	 * resolves to its nodes by array index instead of scanning the {@link RedisClusterNode.SlotRange} of every node.
+	 * Slots served by the same nodes share the very same array. Active slaves are indexed by the id of their master.
+	 *
+	 * @author agent
+	 * @since 1.8.8
+	 */
+	private static class SlotRouting {
+
+		private static final RedisClusterNode[] NO_NODES = new RedisClusterNode[0];
+
+		private final RedisClusterNode[] masters = new RedisClusterNode[SLOT_COUNT];
+		private final RedisClusterNode[][] servingNodes = new RedisClusterNode[SLOT_COUNT][];
+		private final Map<String, RedisClusterNode[]> activeSlaves = new HashMap<String, RedisClusterNode[]>();
+
+		SlotRouting(Set<RedisClusterNode> nodes) {
+
+			Map<String, List<RedisClusterNode>> slavesByMaster = new HashMap<String, List<RedisClusterNode>>();
+			for (RedisClusterNode node : nodes) {
+
+				if (!node.isSlave() || node.getMasterId() == null || !node.isConnected() || node.isMarkedAsFail()) {
+					continue;
+				}
+
+				List<RedisClusterNode> slaves = slavesByMaster.get(node.getMasterId());
+				if (slaves == null) {
+
+					slaves = new ArrayList<RedisClusterNode>(2);
+					slavesByMaster.put(node.getMasterId(), slaves);
+				}
+				slaves.add(node);
+			}
+
+			for (Map.Entry<String, List<RedisClusterNode>> entry : slavesByMaster.entrySet()) {
+				activeSlaves.put(entry.getKey(), entry.getValue().toArray(new RedisClusterNode[entry.getValue().size()]));
+			}
+
+			List<List<RedisClusterNode>> slotNodes = new ArrayList<List<RedisClusterNode>>(SLOT_COUNT);
+			for (int slot = 0; slot < SLOT_COUNT; slot++) {
+				slotNodes.add(null);
+			}
+
+			for (RedisClusterNode node : nodes) {
+				for (int slot : node.getSlotRange().getSlotsArray()) {
+
+					if (slot >= SLOT_COUNT) {
+						continue;
+					}
+
+					if (node.isMaster() && masters[slot] == null) {
+						masters[slot] = node;
+					}
+
+					List<RedisClusterNode> serving = slotNodes.get(slot);
+					if (serving == null) {
+
+						serving = new ArrayList<RedisClusterNode>(1);
+						slotNodes.set(slot, serving);
+					}
+					serving.add(node);
+				}
+			}
+
+			RedisClusterNode[] previous = NO_NODES;
+			for (int slot = 0; slot < SLOT_COUNT; slot++) {
+
+				List<RedisClusterNode> serving = slotNodes.get(slot);
+				if (serving == null) {
+					servingNodes[slot] = NO_NODES;
+					continue;
+				}
+
+				if (!serving.equals(Arrays.asList(previous))) {
+					previous = serving.toArray(new RedisClusterNode[serving.size()]);
+				}
+				servingNodes[slot] = previous;
+			}
+		}
+	}
 }
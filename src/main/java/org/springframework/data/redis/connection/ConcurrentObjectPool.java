@@ -0,0 +1,656 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.connection;
+
+import java.lang.ref.WeakReference;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.commons.pool2.PooledObject;
+import org.apache.commons.pool2.PooledObjectFactory;
+import org.apache.commons.pool2.impl.GenericObjectPool;
+import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.util.Assert;
+
+/**
+ * {@link Pool} implementation not taking locks on the borrow and return path. Other than {@link GenericObjectPool},
+ * which it can replace, pooled resources are claimed by a compare-and-set on their state:
+ * <ol>
+ * <li>A thread first tries to claim the resource it returned last.</li>
+ * <li>Then it scans all pooled resources for an idle one.</li>
+ * <li>It creates a new resource while {@literal maxTotal} is not reached.</li>
+ * <li>Otherwise it waits for a resource handed over by a returning thread, up to {@literal maxWaitMillis}.</li>
+ * </ol>
+ * Resources are created, validated and destroyed using a {@link PooledObjectFactory}. {@literal maxTotal},
+ * {@literal maxIdle}, {@literal minIdle}, {@literal maxWaitMillis}, {@literal blockWhenExhausted}, the
+ * {@literal testOn*} flags and the eviction settings of {@link GenericObjectPoolConfig} are honored. Idle resources
+ * are evicted and validated by a background thread if {@literal timeBetweenEvictionRunsMillis} is positive.
+ *
+ * @author agent
+ * @since 1.8.8
+ * @param <T> type of the pooled resource.
+ */
+public class ConcurrentObjectPool<T> implements Pool<T> {
+
+	private static final int IDLE = 0;
+	private static final int IN_USE = 1;
+	private static final int REMOVED = 2;
+	private static final int RETURNING = 3;
+
+	private static final long HANDOFF_POLL_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+
+	private final PooledObjectFactory<T> factory;
+
+	private final int maxTotal;
+	private final int maxIdle;
+	private final int minIdle;
+	private final long maxWaitMillis;
+	private final boolean blockWhenExhausted;
+	private final boolean testOnCreate;
+	private final boolean testOnBorrow;
+	private final boolean testOnReturn;
+	private final boolean testWhileIdle;
+	private final long minEvictableIdleTimeMillis;
+
+	private final CopyOnWriteArrayList<Entry<T>> entries = new CopyOnWriteArrayList<Entry<T>>();
+	private final ConcurrentMap<IdentityKey, Entry<T>> entriesByResource = new ConcurrentHashMap<IdentityKey, Entry<T>>();
+	private final ThreadLocal<WeakReference<Entry<T>>> lastReturned = new ThreadLocal<WeakReference<Entry<T>>>();
+	private final SynchronousQueue<Entry<T>> handoff = new SynchronousQueue<Entry<T>>();
+
+	private final AtomicInteger size = new AtomicInteger();
+	private final AtomicInteger idle = new AtomicInteger();
+	private final AtomicInteger waiters = new AtomicInteger();
+
+	private final LongAdder created = new LongAdder();
+	private final LongAdder destroyed = new LongAdder();
+	private final LongAdder borrowed = new LongAdder();
+	private final LongAdder totalBorrowWait = new LongAdder();
+	private final AtomicLong maxBorrowWait = new AtomicLong();
+
+	private final ScheduledExecutorService evictor;
+	private volatile boolean closed;
+
+	/**
+	 * Create a new {@link ConcurrentObjectPool}.
+	 *
+	 * @param factory must not be {@literal null}.
+	 * @param config must not be {@literal null}.
+	 */
+	public ConcurrentObjectPool(PooledObjectFactory<T> factory, GenericObjectPoolConfig config) {
+
+		Assert.notNull(factory, "PooledObjectFactory must not be null!");
+		Assert.notNull(config, "GenericObjectPoolConfig must not be null!");
+
+		this.factory = factory;
+		this.maxTotal = config.getMaxTotal();
+		this.maxIdle = config.getMaxIdle();
+		this.minIdle = config.getMinIdle();
+		this.maxWaitMillis = config.getMaxWaitMillis();
+		this.blockWhenExhausted = config.getBlockWhenExhausted();
+		this.testOnCreate = config.getTestOnCreate();
+		this.testOnBorrow = config.getTestOnBorrow();
+		this.testOnReturn = config.getTestOnReturn();
+		this.testWhileIdle = config.getTestWhileIdle();
+		this.minEvictableIdleTimeMillis = config.getMinEvictableIdleTimeMillis();
+
+		if (config.getTimeBetweenEvictionRunsMillis() > 0) {
+
+			CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("redis-pool-evictor-");
+			threadFactory.setDaemon(true);
+
+			this.evictor = Executors.newSingleThreadScheduledExecutor(threadFactory);
+			this.evictor.scheduleWithFixedDelay(new Runnable() {
+
+				@Override
+				public void run() {
+					evict();
+				}
+			}, config.getTimeBetweenEvictionRunsMillis(), config.getTimeBetweenEvictionRunsMillis(), TimeUnit.MILLISECONDS);
+		} else {
+			this.evictor = null;
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.Pool#getResource()
+	 */
+	@Override
+	public T getResource() {
+
+		long start = System.nanoTime();
+
+		while (true) {
+
+			Entry<T> entry = acquire(start);
+
+			if (prepare(entry)) {
+
+				recordBorrow(System.nanoTime() - start);
+				return entry.pooledObject.getObject();
+			}
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.Pool#returnBrokenResource(java.lang.Object)
+	 */
+	@Override
+	public void returnBrokenResource(T resource) {
+
+		Entry<T> entry = getEntry(resource);
+
+		claimForReturn(entry);
+		destroy(entry);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.Pool#returnResource(java.lang.Object)
+	 */
+	@Override
+	public void returnResource(T resource) {
+
+		Entry<T> entry = getEntry(resource);
+
+		claimForReturn(entry);
+
+		if (closed || (testOnReturn && !validate(entry))) {
+
+			destroy(entry);
+			return;
+		}
+
+		try {
+			factory.passivateObject(entry.pooledObject);
+		} catch (Exception e) {
+
+			destroy(entry);
+			return;
+		}
+
+		if (maxIdle >= 0 && idle.get() >= maxIdle) {
+
+			destroy(entry);
+			return;
+		}
+
+		release(entry);
+		lastReturned.set(entry.reference);
+
+		if (waiters.get() > 0) {
+			handoff.offer(entry);
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.Pool#destroy()
+	 */
+	@Override
+	public void destroy() {
+
+		closed = true;
+
+		if (evictor != null) {
+			evictor.shutdownNow();
+		}
+
+		for (Entry<T> entry : entries) {
+			if (tryClaim(entry)) {
+				destroy(entry);
+			}
+		}
+	}
+
+	/**
+	 * @return number of resources currently borrowed.
+	 */
+	public int getNumActive() {
+		return Math.max(size.get() - idle.get(), 0);
+	}
+
+	/**
+	 * @return number of idle resources.
+	 */
+	public int getNumIdle() {
+		return idle.get();
+	}
+
+	/**
+	 * @return number of threads waiting for a resource.
+	 */
+	public int getNumWaiters() {
+		return waiters.get();
+	}
+
+	/**
+	 * @return total number of resources created.
+	 */
+	public long getCreatedCount() {
+		return created.sum();
+	}
+
+	/**
+	 * @return total number of resources destroyed.
+	 */
+	public long getDestroyedCount() {
+		return destroyed.sum();
+	}
+
+	/**
+	 * @return total number of resources borrowed.
+	 */
+	public long getBorrowedCount() {
+		return borrowed.sum();
+	}
+
+	/**
+	 * @param unit must not be {@literal null}.
+	 * @return mean time spent obtaining a resource.
+	 */
+	public long getMeanBorrowWaitTime(TimeUnit unit) {
+
+		long count = borrowed.sum();
+		return unit.convert(count == 0 ? 0 : totalBorrowWait.sum() / count, TimeUnit.NANOSECONDS);
+	}
+
+	/**
+	 * @param unit must not be {@literal null}.
+	 * @return longest time spent obtaining a resource.
+	 */
+	public long getMaxBorrowWaitTime(TimeUnit unit) {
+		return unit.convert(maxBorrowWait.get(), TimeUnit.NANOSECONDS);
+	}
+
+	/**
+	 * Claim an idle or newly created resource, waiting for one to be returned if the pool is exhausted.
+	 *
+	 * @param start time in nanos the borrow started at.
+	 * @return never {@literal null}.
+	 */
+	private Entry<T> acquire(long start) {
+
+		assertOpen();
+
+		Entry<T> entry = claimLastReturned();
+		if (entry != null) {
+			return entry;
+		}
+
+		entry = claimIdle();
+		if (entry != null) {
+			return entry;
+		}
+
+		entry = tryCreate();
+		if (entry != null) {
+			return entry;
+		}
+
+		if (!blockWhenExhausted) {
+			throw new PoolException("Pool exhausted");
+		}
+
+		waiters.incrementAndGet();
+		try {
+
+			while (true) {
+
+				long remaining = maxWaitMillis < 0 ? HANDOFF_POLL_NANOS
+						: TimeUnit.MILLISECONDS.toNanos(maxWaitMillis) - (System.nanoTime() - start);
+
+				if (remaining <= 0) {
+					throw new PoolException(String.format("Could not get a resource within %s ms", maxWaitMillis));
+				}
+
+				Entry<T> handedOff = handoff.poll(Math.min(remaining, HANDOFF_POLL_NANOS), TimeUnit.NANOSECONDS);
+				if (handedOff != null && tryClaim(handedOff)) {
+					return handedOff;
+				}
+
+				assertOpen();
+
+				entry = claimIdle();
+				if (entry == null) {
+					entry = tryCreate();
+				}
+				if (entry != null) {
+					return entry;
+				}
+			}
+		} catch (InterruptedException e) {
+
+			Thread.currentThread().interrupt();
+			throw new PoolException("Interrupted while waiting for a resource", e);
+		} finally {
+			waiters.decrementAndGet();
+		}
+	}
+
+	private Entry<T> claimLastReturned() {
+
+		WeakReference<Entry<T>> reference = lastReturned.get();
+		Entry<T> entry = reference != null ? reference.get() : null;
+
+		return entry != null && tryClaim(entry) ? entry : null;
+	}
+
+	private Entry<T> claimIdle() {
+
+		for (Entry<T> entry : entries) {
+			if (tryClaim(entry)) {
+				return entry;
+			}
+		}
+
+		return null;
+	}
+
+	/**
+	 * Create a new resource unless {@literal maxTotal} is reached.
+	 *
+	 * @return {@literal null} if the pool is exhausted.
+	 */
+	private Entry<T> tryCreate() {
+
+		int current;
+		do {
+
+			current = size.get();
+			if (maxTotal >= 0 && current >= maxTotal) {
+				return null;
+			}
+		} while (!size.compareAndSet(current, current + 1));
+
+		PooledObject<T> pooledObject;
+		try {
+			pooledObject = factory.makeObject();
+		} catch (Exception e) {
+
+			size.decrementAndGet();
+			throw new PoolException("Could not create a resource", e);
+		}
+
+		Entry<T> entry = new Entry<T>(pooledObject);
+		entries.add(entry);
+		entriesByResource.put(new IdentityKey(pooledObject.getObject()), entry);
+		created.increment();
+
+		if (testOnCreate && !validate(entry)) {
+
+			destroy(entry);
+			throw new PoolException("Could not validate a newly created resource");
+		}
+
+		return entry;
+	}
+
+	/**
+	 * Activate and, if required, validate a claimed resource. Resources failing are destroyed.
+	 *
+	 * @param entry
+	 * @return {@literal false} if the resource has been destroyed.
+	 */
+	private boolean prepare(Entry<T> entry) {
+
+		boolean fresh = entry.fresh;
+		entry.fresh = false;
+
+		try {
+
+			factory.activateObject(entry.pooledObject);
+
+			if (!testOnBorrow || factory.validateObject(entry.pooledObject)) {
+				return true;
+			}
+		} catch (Exception e) {
+
+			destroy(entry);
+
+			if (fresh) {
+				throw new PoolException("Could not activate a newly created resource", e);
+			}
+			return false;
+		}
+
+		destroy(entry);
+
+		if (fresh) {
+			throw new PoolException("Could not validate a newly created resource");
+		}
+		return false;
+	}
+
+	private boolean validate(Entry<T> entry) {
+
+		try {
+			return factory.validateObject(entry.pooledObject);
+		} catch (Exception e) {
+			return false;
+		}
+	}
+
+	/**
+	 * Destroy idle resources exceeding {@literal maxIdle} or idle for longer than {@literal minEvictableIdleTimeMillis},
+	 * validate the remaining ones and replenish the pool to {@literal minIdle}.
+	 */
+	void evict() {
+
+		long now = System.currentTimeMillis();
+
+		for (Entry<T> entry : entries) {
+
+			if (closed || !tryClaim(entry)) {
+				continue;
+			}
+
+			int remainingIdle = idle.get();
+			boolean expired = minEvictableIdleTimeMillis > 0
+					&& now - entry.lastReturnTime > minEvictableIdleTimeMillis && remainingIdle >= minIdle;
+
+			if (expired || (maxIdle >= 0 && remainingIdle >= maxIdle)) {
+
+				destroy(entry);
+				continue;
+			}
+
+			if (testWhileIdle) {
+
+				try {
+
+					factory.activateObject(entry.pooledObject);
+					if (!factory.validateObject(entry.pooledObject)) {
+
+						destroy(entry);
+						continue;
+					}
+					factory.passivateObject(entry.pooledObject);
+				} catch (Exception e) {
+
+					destroy(entry);
+					continue;
+				}
+			}
+
+			release(entry);
+		}
+
+		while (!closed && idle.get() < minIdle) {
+
+			Entry<T> entry;
+			try {
+				entry = tryCreate();
+			} catch (PoolException e) {
+				return;
+			}
+
+			if (entry == null) {
+				return;
+			}
+
+			entry.fresh = false;
+			release(entry);
+		}
+	}
+
+	private boolean tryClaim(Entry<T> entry) {
+
+		if (entry.state.compareAndSet(IDLE, IN_USE)) {
+
+			idle.decrementAndGet();
+			return true;
+		}
+		return false;
+	}
+
+	/**
+	 * Move a borrowed resource into the returning state, making sure it is returned only once.
+	 *
+	 * @param entry
+	 * @throws PoolException if the resource is not borrowed.
+	 */
+	private void claimForReturn(Entry<T> entry) {
+
+		if (!entry.state.compareAndSet(IN_USE, RETURNING)) {
+			throw new PoolException("Resource has already been returned to this pool");
+		}
+	}
+
+	private void release(Entry<T> entry) {
+
+		entry.lastReturnTime = System.currentTimeMillis();
+		idle.incrementAndGet();
+		entry.state.set(IDLE);
+	}
+
+	/**
+	 * Remove the given claimed resource from the pool and destroy it.
+	 *
+	 * @param entry
+	 */
+	private void destroy(Entry<T> entry) {
+
+		if (entry.state.getAndSet(REMOVED) == REMOVED) {
+			return;
+		}
+
+		entries.remove(entry);
+		entriesByResource.remove(new IdentityKey(entry.pooledObject.getObject()));
+		size.decrementAndGet();
+		destroyed.increment();
+
+		try {
+			factory.destroyObject(entry.pooledObject);
+		} catch (Exception e) {
+			// errors may happen when destroying broken resources
+		}
+	}
+
+	private Entry<T> getEntry(T resource) {
+
+		Assert.notNull(resource, "Resource must not be null!");
+
+		Entry<T> entry = entriesByResource.get(new IdentityKey(resource));
+
+		if (entry == null) {
+			throw new PoolException("Resource is not part of this pool");
+		}
+		return entry;
+	}
+
+	private void recordBorrow(long nanos) {
+
+		borrowed.increment();
+		totalBorrowWait.add(nanos);
+
+		long max = maxBorrowWait.get();
+		while (nanos > max && !maxBorrowWait.compareAndSet(max, nanos)) {
+			max = maxBorrowWait.get();
+		}
+	}
+
+	private void assertOpen() {
+
+		if (closed) {
+			throw new PoolException("Pool has already been destroyed");
+		}
+	}
+
+	/**
+	 * A pooled resource along with its state.
+	 *
+	 * @author agent
+	 * @param <T>
+	 */
+	private static class Entry<T> {
+
+		private final PooledObject<T> pooledObject;
+		private final AtomicInteger state = new AtomicInteger(IN_USE);
+		private final WeakReference<Entry<T>> reference;
+		private volatile long lastReturnTime = System.currentTimeMillis();
+		private volatile boolean fresh = true;
+
+		Entry(PooledObject<T> pooledObject) {
+
+			this.pooledObject = pooledObject;
+			this.reference = new WeakReference<Entry<T>>(this);
+		}
+	}
+
+	/**
+	 * Map key comparing resources by identity as pooled resources do not necessarily implement
+	 * {@link Object#equals(Object)} in a way suitable for pooling.
+	 *
+	 * @author agent
+	 */
+	private static class IdentityKey {
+
+		private final Object value;
+
+		IdentityKey(Object value) {
+			this.value = value;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.lang.Object#hashCode()
+		 */
+		@Override
+		public int hashCode() {
+			return System.identityHashCode(value);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.lang.Object#equals(java.lang.Object)
+		 */
+		@Override
+		public boolean equals(Object obj) {
+			return obj instanceof IdentityKey && ((IdentityKey) obj).value == value;
+		}
+	}
+}
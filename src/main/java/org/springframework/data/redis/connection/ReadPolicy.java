@@ -0,0 +1,45 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.connection;
+
+/**
+ * Policy defining which nodes serve read commands issued via a {@link RedisClusterConnection} or, using Lettuce, a
+ * connection to a master monitored by Redis Sentinel. Write commands are always sent to the master serving the key.
+ *
+ * @author agent
+ * @since 1.8.8
+ * @see RedisClusterConfiguration#setReadPolicy(ReadPolicy)
+ * @see RedisSentinelConfiguration#setReadPolicy(ReadPolicy)
+ */
+public enum ReadPolicy {
+
+	/**
+	 * Read from the master serving the key.
+	 */
+	MASTER,
+
+	/**
+	 * Read from a slave of the master serving the key. Falls back to the master when no slave is available or the read
+	 * on the slave fails.
+	 */
+	REPLICA_PREFERRED,
+
+	/**
+	 * Read from the master or slave with the lowest latency. Drivers not measuring node latencies treat this like
+	 * {@link #REPLICA_PREFERRED}.
+	 */
+	NEAREST
+}
@@ -47,6 +47,7 @@ public class RedisClusterConfiguration {
 
 	private Set<RedisNode> clusterNodes;
 	private Integer maxRedirects;
+	private ReadPolicy readPolicy = ReadPolicy.MASTER;
 
 	/**
 	 * Creates new {@link RedisClusterConfiguration}.
@@ -163,6 +164,26 @@ public class RedisClusterConfiguration {
 		this.maxRedirects = maxRedirects;
 	}
 
+	/**
+	 * @return the {@link ReadPolicy} applied to connections. Never {@literal null}.
+	 * @since 1.8.8
+	 */
+	public ReadPolicy getReadPolicy() {
+		return readPolicy;
+	}
+
+	/**
+	 * Set the {@link ReadPolicy} defining which nodes serve read commands. Defaults to {@link ReadPolicy#MASTER}.
+	 *
+	 * @param readPolicy must not be {@literal null}.
+	 * @since 1.8.8
+	 */
+	public void setReadPolicy(ReadPolicy readPolicy) {
+
+		Assert.notNull(readPolicy, "ReadPolicy must not be null!");
+		this.readPolicy = readPolicy;
+	}
+
 	/**
 	 * @param host
 	 * @param port
@@ -19,6 +19,8 @@ import java.util.List;
 import java.util.Properties;
 import java.util.Set;
 
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
 import org.springframework.data.redis.core.types.RedisClientInfo;
 
 /**
@@ -107,6 +109,31 @@ public interface RedisClusterConnection extends RedisConnection, RedisClusterCom
 	 */
 	Set<byte[]> keys(RedisClusterNode node, byte[] pattern);
 
+	/**
+	 * Use a {@link Cursor} to iterate over keys stored at the given {@link RedisClusterNode}.
+	 *
+	 * @param node must not be {@literal null}.
+	 * @param options can be {@literal null}.
+	 * @return never {@literal null}.
+	 * @since 1.8.8
+	 * @see RedisKeyCommands#scan(ScanOptions)
+	 */
+	Cursor<byte[]> scan(RedisClusterNode node, ScanOptions options);
+
+	/**
+	 * Set the {@link ReadPolicy} defining which nodes serve read commands issued via this connection.
+	 *
+	 * @param readPolicy must not be {@literal null}.
+	 * @since 1.8.8
+	 */
+	void setReadPolicy(ReadPolicy readPolicy);
+
+	/**
+	 * @return the {@link ReadPolicy} in use. Never {@literal null}.
+	 * @since 1.8.8
+	 */
+	ReadPolicy getReadPolicy();
+
 	/**
 	 * @param node must not be {@literal null}.
 	 * @return
@@ -15,9 +15,12 @@
  */
 package org.springframework.data.redis.connection;
 
+import java.util.AbstractSet;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.LinkedHashSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
 import java.util.Set;
 
 import org.springframework.util.Assert;
@@ -159,10 +162,14 @@ public class RedisClusterNode extends RedisNode {
 	 */
 	public static class SlotRange {
 
-		private final Set<Integer> range;
+		private final BitSet range;
+		private final Set<Integer> slots = new SlotSet();
 
 		/**
-		 * @param lowerBound must not be {@literal null}.
+		 * Creates a new {@link SlotRange} containing all slots from {@literal lowerBound} to {@literal upperBound}
+		 * (inclusive). The range is empty if {@literal lowerBound} is greater than {@literal upperBound}.
+		 *
+		 * @param lowerBound must not be {@literal null} or negative unless the range is empty.
 		 * @param upperBound must not be {@literal null}.
 		 */
 		public SlotRange(Integer lowerBound, Integer upperBound) {
@@ -170,20 +177,38 @@ public class RedisClusterNode extends RedisNode {
 			Assert.notNull(lowerBound, "LowerBound must not be null!");
 			Assert.notNull(upperBound, "UpperBound must not be null!");
 
-			this.range = new LinkedHashSet<Integer>();
-			for (int i = lowerBound; i <= upperBound; i++) {
-				this.range.add(i);
+			if (lowerBound > upperBound) {
+
+				this.range = new BitSet(0);
+				return;
 			}
+
+			Assert.isTrue(lowerBound >= 0, String.format("LowerBound must not be negative but was %s!", lowerBound));
+
+			this.range = new BitSet(upperBound + 1);
+			this.range.set(lowerBound, upperBound + 1);
 		}
 
+		/**
+		 * @param range can be {@literal null}. Slots must not be {@literal null} or negative.
+		 */
 		public SlotRange(Collection<Integer> range) {
-			this.range = CollectionUtils.isEmpty(range) ? Collections.<Integer> emptySet()
-					: new LinkedHashSet<Integer>(range);
+
+			this.range = new BitSet();
+
+			if (!CollectionUtils.isEmpty(range)) {
+				for (Integer slot : range) {
+
+					Assert.isTrue(slot != null && slot >= 0,
+							String.format("Slot must not be null or negative but was %s!", slot));
+					this.range.set(slot);
+				}
+			}
 		}
 
 		@Override
 		public String toString() {
-			return range.toString();
+			return getSlots().toString();
 		}
 
 		/**
@@ -191,27 +216,74 @@ public class RedisClusterNode extends RedisNode {
 		 * @return true when slot is part of the range.
 		 */
 		public boolean contains(int slot) {
-			return range.contains(slot);
+			return slot >= 0 && range.get(slot);
 		}
 
 		/**
-		 * @return
+		 * @return unmodifiable view of the slots in ascending order.
 		 */
 		public Set<Integer> getSlots() {
-			return Collections.unmodifiableSet(range);
+			return slots;
 		}
 
 		public int[] getSlotsArray() {
 
-			int[] slots = new int[range.size()];
+			int[] slots = new int[range.cardinality()];
 			int pos = 0;
 
-			for (Integer value : range) {
-				slots[pos++] = value.intValue();
+			for (int slot = range.nextSetBit(0); slot >= 0; slot = range.nextSetBit(slot + 1)) {
+				slots[pos++] = slot;
 			}
 
 			return slots;
 		}
+
+		/**
+		 * Unmodifiable {@link Set} view on the slots of the {@link SlotRange}, which never changes once created.
+		 */
+		private class SlotSet extends AbstractSet<Integer> {
+
+			@Override
+			public Iterator<Integer> iterator() {
+
+				return new Iterator<Integer>() {
+
+					private int next = range.nextSetBit(0);
+
+					@Override
+					public boolean hasNext() {
+						return next >= 0;
+					}
+
+					@Override
+					public Integer next() {
+
+						if (next < 0) {
+							throw new NoSuchElementException();
+						}
+
+						int slot = next;
+						next = range.nextSetBit(slot + 1);
+						return slot;
+					}
+
+					@Override
+					public void remove() {
+						throw new UnsupportedOperationException();
+					}
+				};
+			}
+
+			@Override
+			public int size() {
+				return range.cardinality();
+			}
+
+			@Override
+			public boolean contains(Object o) {
+				return o instanceof Integer && SlotRange.this.contains((Integer) o);
+			}
+		}
 	}
 
 	/**
@@ -35,6 +35,7 @@ import org.springframework.util.StringUtils;
  * 
  * @author Christoph Strobl
  * @author Thomas Darimont
+ * @author agent
  * @since 1.4
  */
 public class RedisSentinelConfiguration {
@@ -44,6 +45,7 @@ public class RedisSentinelConfiguration {
 
 	private NamedNode master;
 	private Set<RedisNode> sentinels;
+	private ReadPolicy readPolicy = ReadPolicy.MASTER;
 
 	/**
 	 * Creates new {@link RedisSentinelConfiguration}.
@@ -171,6 +173,27 @@ public class RedisSentinelConfiguration {
 		return master;
 	}
 
+	/**
+	 * @return the {@link ReadPolicy} applied to connections. Never {@literal null}.
+	 * @since 1.8.8
+	 */
+	public ReadPolicy getReadPolicy() {
+		return readPolicy;
+	}
+
+	/**
+	 * Set the {@link ReadPolicy} defining whether the master or its slaves serve read commands. Defaults to
+	 * {@link ReadPolicy#MASTER}. Currently only applied by the Lettuce driver, Jedis always reads from the master.
+	 *
+	 * @param readPolicy must not be {@literal null}.
+	 * @since 1.8.8
+	 */
+	public void setReadPolicy(ReadPolicy readPolicy) {
+
+		notNull(readPolicy, "ReadPolicy must not be null!");
+		this.readPolicy = readPolicy;
+	}
+
 	/**
 	 * @see #setMaster(String)
 	 * @param master
@@ -0,0 +1,32 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.connection;
+
+/**
+ * {@link ClusterTopologyProvider} that can be notified about its current {@link ClusterTopology} being potentially
+ * outdated, eg. when a node answered with {@code MOVED} or {@code ASK} or could not be reached.
+ *
+ * @author agent
+ * @since 1.8.8
+ */
+public interface RefreshableClusterTopologyProvider extends ClusterTopologyProvider {
+
+	/**
+	 * Request the {@link ClusterTopology} to be refreshed. Implementations may refresh asynchronously and are free to
+	 * ignore requests arriving too frequently.
+	 */
+	void refreshTopology();
+}
@@ -0,0 +1,238 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.connection.jedis;
+
+import org.apache.commons.pool2.BasePooledObjectFactory;
+import org.apache.commons.pool2.PooledObject;
+import org.apache.commons.pool2.impl.DefaultPooledObject;
+import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
+import org.springframework.data.redis.connection.ConcurrentObjectPool;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.JedisPool;
+import redis.clients.util.Pool;
+
+/**
+ * Jedis {@link Pool} backed by a {@link ConcurrentObjectPool} instead of the {@link JedisPool} internal
+ * {@link org.apache.commons.pool2.impl.GenericObjectPool}. {@link Jedis} instances obtained from the pool return
+ * themselves on {@link Jedis#close()}.
+ *
+ * @author agent
+ * @since 1.8.8
+ */
+public class ConcurrentJedisPool extends Pool<Jedis> {
+
+	private final ConcurrentObjectPool<Jedis> pool;
+
+	/**
+	 * Create a new {@link ConcurrentJedisPool}.
+	 *
+	 * @param poolConfig must not be {@literal null}.
+	 * @param host must not be {@literal null}.
+	 * @param port
+	 * @param timeout connection and socket timeout in milliseconds.
+	 * @param password can be {@literal null}.
+	 * @param clientName can be {@literal null}.
+	 * @param useSsl
+	 */
+	public ConcurrentJedisPool(GenericObjectPoolConfig poolConfig, String host, int port, int timeout, String password,
+			String clientName, boolean useSsl) {
+
+		Assert.notNull(poolConfig, "PoolConfig must not be null!");
+		Assert.hasText(host, "Host must not be null or empty!");
+
+		this.pool = new ConcurrentObjectPool<Jedis>(
+				new JedisPooledObjectFactory(host, port, timeout, password, clientName, useSsl), poolConfig);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see redis.clients.util.Pool#getResource()
+	 */
+	@Override
+	public Jedis getResource() {
+
+		Jedis jedis = pool.getResource();
+		jedis.setDataSource(this);
+		return jedis;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see redis.clients.util.Pool#returnResource(java.lang.Object)
+	 */
+	@Override
+	public void returnResource(Jedis resource) {
+
+		if (resource == null) {
+			return;
+		}
+
+		try {
+			resource.resetState();
+		} catch (Exception e) {
+
+			pool.returnBrokenResource(resource);
+			return;
+		}
+
+		pool.returnResource(resource);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see redis.clients.util.Pool#returnBrokenResource(java.lang.Object)
+	 */
+	@Override
+	public void returnBrokenResource(Jedis resource) {
+
+		if (resource != null) {
+			pool.returnBrokenResource(resource);
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see redis.clients.util.Pool#destroy()
+	 */
+	@Override
+	public void destroy() {
+		pool.destroy();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see redis.clients.util.Pool#close()
+	 */
+	@Override
+	public void close() {
+		destroy();
+	}
+
+	/**
+	 * Get the {@link ConcurrentObjectPool} holding the {@link Jedis} instances, providing access to its metrics.
+	 *
+	 * @return never {@literal null}.
+	 */
+	public ConcurrentObjectPool<Jedis> getPool() {
+		return pool;
+	}
+
+	/**
+	 * {@link BasePooledObjectFactory} creating connected {@link Jedis} instances.
+	 *
+	 * @author agent
+	 */
+	private static class JedisPooledObjectFactory extends BasePooledObjectFactory<Jedis> {
+
+		private final String host;
+		private final int port;
+		private final int timeout;
+		private final String password;
+		private final String clientName;
+		private final boolean useSsl;
+
+		JedisPooledObjectFactory(String host, int port, int timeout, String password, String clientName,
+				boolean useSsl) {
+
+			this.host = host;
+			this.port = port;
+			this.timeout = timeout;
+			this.password = password;
+			this.clientName = clientName;
+			this.useSsl = useSsl;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.apache.commons.pool2.BasePooledObjectFactory#create()
+		 */
+		@Override
+		public Jedis create() throws Exception {
+
+			Jedis jedis = new Jedis(host, port, timeout, timeout, useSsl);
+
+			try {
+
+				jedis.connect();
+
+				if (StringUtils.hasText(password)) {
+					jedis.auth(password);
+				}
+				if (StringUtils.hasText(clientName)) {
+					jedis.clientSetname(clientName);
+				}
+			} catch (Exception e) {
+
+				jedis.close();
+				throw e;
+			}
+
+			return jedis;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.apache.commons.pool2.BasePooledObjectFactory#wrap(java.lang.Object)
+		 */
+		@Override
+		public PooledObject<Jedis> wrap(Jedis jedis) {
+			return new DefaultPooledObject<Jedis>(jedis);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.apache.commons.pool2.BasePooledObjectFactory#validateObject(org.apache.commons.pool2.PooledObject)
+		 */
+		@Override
+		public boolean validateObject(PooledObject<Jedis> pooledObject) {
+
+			try {
+				return pooledObject.getObject().isConnected() && "PONG".equals(pooledObject.getObject().ping());
+			} catch (Exception e) {
+				return false;
+			}
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.apache.commons.pool2.BasePooledObjectFactory#destroyObject(org.apache.commons.pool2.PooledObject)
+		 */
+		@Override
+		public void destroyObject(PooledObject<Jedis> pooledObject) throws Exception {
+
+			Jedis jedis = pooledObject.getObject();
+
+			if (!jedis.isConnected()) {
+				return;
+			}
+
+			try {
+				jedis.quit();
+			} catch (Exception e) {
+				// ignore errors on broken connections
+			}
+
+			try {
+				jedis.disconnect();
+			} catch (Exception e) {
+				// ignore errors on broken connections
+			}
+		}
+	}
+}
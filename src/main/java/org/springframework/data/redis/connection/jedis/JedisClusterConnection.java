@@ -23,13 +23,22 @@ import redis.clients.jedis.Jedis;
 import redis.clients.jedis.JedisCluster;
 import redis.clients.jedis.JedisClusterConnectionHandler;
 import redis.clients.jedis.JedisPool;
+import redis.clients.jedis.Pipeline;
+import redis.clients.jedis.Response;
 import redis.clients.jedis.ScanParams;
 import redis.clients.jedis.ZParams;
 import redis.clients.jedis.params.geo.GeoRadiusParam;
 
+import java.net.Socket;
 import java.util.*;
 import java.util.Map.Entry;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -50,9 +59,12 @@ import org.springframework.data.redis.connection.*;
 import org.springframework.data.redis.connection.ClusterCommandExecutor.ClusterCommandCallback;
 import org.springframework.data.redis.connection.ClusterCommandExecutor.MultiKeyClusterCommandCallback;
 import org.springframework.data.redis.connection.ClusterCommandExecutor.NodeResult;
+import org.springframework.data.redis.connection.ClusterCommandExecutor.SlotBatchClusterCommandCallback;
 import org.springframework.data.redis.connection.RedisClusterNode.SlotRange;
+import org.springframework.data.redis.connection.jedis.JedisClusterPipeline.JedisPipelineCallback;
 import org.springframework.data.redis.connection.convert.Converters;
 import org.springframework.data.redis.connection.util.ByteArraySet;
+import org.springframework.data.redis.connection.util.ByteArrayWrapper;
 import org.springframework.data.redis.core.Cursor;
 import org.springframework.data.redis.core.ScanCursor;
 import org.springframework.data.redis.core.ScanIteration;
@@ -63,7 +75,10 @@ import org.springframework.data.redis.util.ByteUtils;
 import org.springframework.data.util.DirectFieldAccessFallbackBeanWrapper;
 import org.springframework.util.Assert;
 import org.springframework.util.CollectionUtils;
+import org.springframework.util.ConcurrentReferenceHashMap;
+import org.springframework.util.ConcurrentReferenceHashMap.ReferenceType;
 import org.springframework.util.ObjectUtils;
+import org.springframework.util.StringUtils;
 
 /**
  * {@link RedisClusterConnection} implementation on top of {@link JedisCluster}.<br/>
@@ -86,11 +101,13 @@ public class JedisClusterConnection implements RedisClusterConnection {
 
 	private boolean closed;
 
-	private final JedisClusterTopologyProvider topologyProvider;
+	private final ClusterTopologyProvider topologyProvider;
 	private ClusterCommandExecutor clusterCommandExecutor;
 	private final boolean disposeClusterCommandExecutorOnClose;
 
 	private volatile JedisSubscription subscription;
+	private JedisClusterPipeline pipeline;
+	private ReadPolicy readPolicy = ReadPolicy.MASTER;
 
 	/**
 	 * Create new {@link JedisClusterConnection} utilizing native connections via {@link JedisCluster}.
@@ -137,6 +154,30 @@ public class JedisClusterConnection implements RedisClusterConnection {
 		this.disposeClusterCommandExecutorOnClose = false;
 	}
 
+	/**
+	 * Create new {@link JedisClusterConnection} utilizing native connections via {@link JedisCluster} running commands
+	 * across the cluster via given {@link ClusterCommandExecutor} and obtaining the {@link ClusterTopology} from the
+	 * given, typically shared, {@link ClusterTopologyProvider}.
+	 *
+	 * @param cluster must not be {@literal null}.
+	 * @param executor must not be {@literal null}.
+	 * @param topologyProvider must not be {@literal null}.
+	 * @since 1.8.8
+	 */
+	public JedisClusterConnection(JedisCluster cluster, ClusterCommandExecutor executor,
+			ClusterTopologyProvider topologyProvider) {
+
+		Assert.notNull(cluster, "JedisCluster must not be null.");
+		Assert.notNull(executor, "ClusterCommandExecutor must not be null.");
+		Assert.notNull(topologyProvider, "ClusterTopologyProvider must not be null.");
+
+		this.closed = false;
+		this.cluster = cluster;
+		this.topologyProvider = topologyProvider;
+		this.clusterCommandExecutor = executor;
+		this.disposeClusterCommandExecutorOnClose = false;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.redis.connection.RedisCommands#execute(java.lang.String, byte[][])
@@ -153,10 +194,26 @@ public class JedisClusterConnection implements RedisClusterConnection {
 	 * @see org.springframework.data.redis.connection.RedisKeyCommands#del(byte[][])
 	 */
 	@Override
-	public Long del(byte[]... keys) {
+	public Long del(final byte[]... keys) {
 
 		Assert.noNullElements(keys, "Keys must not be null or contain null key!");
 
+		if (isPipelined()) {
+
+			if (!ClusterSlotHashUtil.isSameSlotForAllKeys(keys)) {
+				throw new UnsupportedOperationException("DEL for keys mapping to different slots is not supported in pipeline mode.");
+			}
+
+			pipeline.queue(keys[0], new JedisPipelineCallback<Long>() {
+
+				@Override
+				public Response<Long> doInPipeline(Pipeline pipeline) {
+					return pipeline.del(keys);
+				}
+			});
+			return null;
+		}
+
 		if (ClusterSlotHashUtil.isSameSlotForAllKeys(keys)) {
 			try {
 				return cluster.del(keys);
@@ -165,14 +222,20 @@ public class JedisClusterConnection implements RedisClusterConnection {
 			}
 		}
 
-		return Long
-				.valueOf(this.clusterCommandExecutor.executeMuliKeyCommand(new JedisMultiKeyClusterCommandCallback<Long>() {
+		List<Long> deleted = this.clusterCommandExecutor
+				.executeMultiKeyCommandBySlot(new JedisSlotBatchClusterCommandCallback<Long>() {
 
 					@Override
-					public Long doInCluster(Jedis client, byte[] key) {
-						return client.del(key);
+					public Long doInCluster(Jedis client, byte[]... slotKeys) {
+						return client.del(slotKeys);
 					}
-				}, Arrays.asList(keys)).resultsAsList().size());
+				}, Arrays.asList(keys)).resultsAsList();
+
+		long total = 0;
+		for (Long count : deleted) {
+			total += count != null ? count.longValue() : 0;
+		}
+		return total;
 	}
 
 	/*
@@ -180,7 +243,29 @@ public class JedisClusterConnection implements RedisClusterConnection {
 	 * @see org.springframework.data.redis.connection.RedisKeyCommands#type(byte[])
 	 */
 	@Override
-	public DataType type(byte[] key) {
+	public DataType type(final byte[] key) {
+
+		if (isPipelined()) {
+
+			pipeline.queue(key, new JedisPipelineCallback<String>() {
+
+				@Override
+				public Response<String> doInPipeline(Pipeline pipeline) {
+					return pipeline.type(key);
+				}
+			}, JedisConverters.stringToDataType());
+			return null;
+		}
+
+		if (isReadingFromSlaves()) {
+			return executeRead(key, new JedisClusterCommandCallback<DataType>() {
+
+				@Override
+				public DataType doInCluster(Jedis client) {
+					return JedisConverters.toDataType(client.type(key));
+				}
+			});
+		}
 
 		try {
 			return JedisConverters.toDataType(cluster.type(key));
@@ -196,6 +281,8 @@ public class JedisClusterConnection implements RedisClusterConnection {
 	@Override
 	public Set<byte[]> keys(final byte[] pattern) {
 
+		assertNotPipelined("KEYS");
+
 		Assert.notNull(pattern, "Pattern must not be null!");
 
 		Collection<Set<byte[]>> keysPerNode = clusterCommandExecutor
@@ -221,6 +308,8 @@ public class JedisClusterConnection implements RedisClusterConnection {
 	@Override
 	public Set<byte[]> keys(RedisClusterNode node, final byte[] pattern) {
 
+		assertNotPipelined("KEYS");
+
 		Assert.notNull(pattern, "Pattern must not be null!");
 
 		return clusterCommandExecutor.executeCommandOnSingleNode(new JedisClusterCommandCallback<Set<byte[]>>() {
@@ -232,13 +321,48 @@ public class JedisClusterConnection implements RedisClusterConnection {
 		}, node).getValue();
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.RedisClusterConnection#scan(org.springframework.data.redis.connection.RedisClusterNode, org.springframework.data.redis.core.ScanOptions)
+	 */
+	@Override
+	public Cursor<byte[]> scan(final RedisClusterNode node, ScanOptions options) {
+
+		assertNotPipelined("SCAN");
+
+		Assert.notNull(node, "RedisClusterNode must not be null!");
+
+		return new ScanCursor<byte[]>(options) {
+
+			@Override
+			protected ScanIteration<byte[]> doScan(final long cursorId, ScanOptions options) {
+
+				final ScanParams params = JedisConverters.toScanParams(options);
+
+				redis.clients.jedis.ScanResult<byte[]> result = clusterCommandExecutor
+						.executeCommandOnSingleNode(new JedisClusterCommandCallback<redis.clients.jedis.ScanResult<byte[]>>() {
+
+							@Override
+							public redis.clients.jedis.ScanResult<byte[]> doInCluster(Jedis client) {
+								return client.scan(JedisConverters.toBytes(cursorId), params);
+							}
+						}, node).getValue();
+
+				return new ScanIteration<byte[]>(Long.valueOf(result.getStringCursor()), result.getResult());
+			}
+		}.open();
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.redis.connection.RedisKeyCommands#scan(org.springframework.data.redis.core.ScanOptions)
 	 */
 	@Override
 	public Cursor<byte[]> scan(ScanOptions options) {
-		throw new InvalidDataAccessApiUsageException("Scan is not supported accros multiple nodes within a cluster");
+
+		assertNotPipelined("SCAN");
+
+		return new ClusterScanCursor(topologyProvider, this, options).open();
 	}
 
 	/*
@@ -248,6 +372,8 @@ public class JedisClusterConnection implements RedisClusterConnection {
 	@Override
 	public byte[] randomKey() {
 
+		assertNotPipelined("RANDOMKEY");
+
 		List<RedisClusterNode> nodes = new ArrayList<RedisClusterNode>(
 				topologyProvider.getTopology().getActiveMasterNodes());
 		Set<RedisNode> inspectedNodes = new HashSet<RedisNode>(nodes.size());
@@ -277,6 +403,8 @@ public class JedisClusterConnection implements RedisClusterConnection {
 	@Override
 	public byte[] randomKey(RedisClusterNode node) {
 
+		assertNotPipelined("RANDOMKEY");
+
 		return clusterCommandExecutor.executeCommandOnSingleNode(new JedisClusterCommandCallback<byte[]>() {
 
 			@Override
@@ -293,6 +421,8 @@ public class JedisClusterConnection implements RedisClusterConnection {
 	@Override
 	public void rename(final byte[] sourceKey, final byte[] targetKey) {
 
+		assertNotPipelined("RENAME");
+
 		if (ClusterSlotHashUtil.isSameSlotForAllKeys(sourceKey, targetKey)) {
 
 			try {
@@ -319,6 +449,8 @@ public class JedisClusterConnection implements RedisClusterConnection {
 	@Override
 	public Boolean renameNX(final byte[] sourceKey, final byte[] targetKey) {
 
+		assertNotPipelined("RENAMENX");
+
 		if (ClusterSlotHashUtil.isSameSlotForAllKeys(sourceKey, targetKey)) {
 
 			try {
@@ -344,11 +476,24 @@ public class JedisClusterConnection implements RedisClusterConnection {
 	 * @see org.springframework.data.redis.connection.RedisKeyCommands#expire(byte[], long)
 	 */
 	@Override
-	public Boolean expire(byte[] key, long seconds) {
+	public Boolean expire(final byte[] key, final long seconds) {
 
 		if (seconds > Integer.MAX_VALUE) {
 			throw new UnsupportedOperationException("Jedis does not support seconds exceeding Integer.MAX_VALUE.");
 		}
+
+		if (isPipelined()) {
+
+			pipeline.queue(key, new JedisPipelineCallback<Long>() {
+
+				@Override
+				public Response<Long> doInPipeline(Pipeline pipeline) {
+					return pipeline.expire(key, (int) seconds);
+				}
+			}, JedisConverters.longToBoolean());
+			return null;
+		}
+
 		try {
 			return JedisConverters.toBoolean(cluster.expire(key, Long.valueOf(seconds).intValue()));
 		} catch (Exception ex) {
@@ -363,6 +508,18 @@ public class JedisClusterConnection implements RedisClusterConnection {
 	@Override
 	public Boolean pExpire(final byte[] key, final long millis) {
 
+		if (isPipelined()) {
+
+			pipeline.queue(key, new JedisPipelineCallback<Long>() {
+
+				@Override
+				public Response<Long> doInPipeline(Pipeline pipeline) {
+					return pipeline.pexpire(key, millis);
+				}
+			}, JedisConverters.longToBoolean());
+			return null;
+		}
+
 		try {
 			return JedisConverters.toBoolean(cluster.pexpire(key, millis));
 		} catch (Exception ex) {
@@ -377,6 +534,8 @@ public class JedisClusterConnection implements RedisClusterConnection {
 	@Override
 	public Boolean expireAt(byte[] key, long unixTime) {
 
+		assertNotPipelined("EXPIREAT");
+
 		try {
 			return JedisConverters.toBoolean(cluster.expireAt(key, unixTime));
 		} catch (Exception ex) {
@@ -391,6 +550,8 @@ public class JedisClusterConnection implements RedisClusterConnection {
 	@Override
 	public Boolean pExpireAt(byte[] key, long unixTimeInMillis) {
 
+		assertNotPipelined("PEXPIREAT");
+
 		try {
 			return JedisConverters.toBoolean(cluster.pexpireAt(key, unixTimeInMillis));
 		} catch (Exception ex) {
@@ -405,6 +566,8 @@ public class JedisClusterConnection implements RedisClusterConnection {
 	@Override
 	public Boolean persist(byte[] key) {
 
+		assertNotPipelined("PERSIST");
+
 		try {
 			return JedisConverters.toBoolean(cluster.persist(key));
 		} catch (Exception ex) {
@@ -426,7 +589,29 @@ public class JedisClusterConnection implements RedisClusterConnection {
 	 * @see org.springframework.data.redis.connection.RedisKeyCommands#ttl(byte[])
 	 */
 	@Override
-	public Long ttl(byte[] key) {
+	public Long ttl(final byte[] key) {
+
+		if (isPipelined()) {
+
+			pipeline.queue(key, new JedisPipelineCallback<Long>() {
+
+				@Override
+				public Response<Long> doInPipeline(Pipeline pipeline) {
+					return pipeline.ttl(key);
+				}
+			});
+			return null;
+		}
+
+		if (isReadingFromSlaves()) {
+			return executeRead(key, new JedisClusterCommandCallback<Long>() {
+
+				@Override
+				public Long doInCluster(Jedis client) {
+					return client.ttl(key);
+				}
+			});
+		}
 
 		try {
 			return cluster.ttl(key);
@@ -440,7 +625,19 @@ public class JedisClusterConnection implements RedisClusterConnection {
 	 * @see org.springframework.data.redis.connection.RedisKeyCommands#ttl(byte[], java.util.concurrent.TimeUnit)
 	 */
 	@Override
-	public Long ttl(byte[] key, TimeUnit timeUnit) {
+	public Long ttl(final byte[] key, TimeUnit timeUnit) {
+
+		if (isPipelined()) {
+
+			pipeline.queue(key, new JedisPipelineCallback<Long>() {
+
+				@Override
+				public Response<Long> doInPipeline(Pipeline pipeline) {
+					return pipeline.ttl(key);
+				}
+			}, Converters.secondsToTimeUnit(timeUnit));
+			return null;
+		}
 
 		try {
 			return Converters.secondsToTimeUnit(cluster.ttl(key), timeUnit);
@@ -456,6 +653,18 @@ public class JedisClusterConnection implements RedisClusterConnection {
 	@Override
 	public Long pTtl(final byte[] key) {
 
+		if (isPipelined()) {
+
+			pipeline.queue(key, new JedisPipelineCallback<Long>() {
+
+				@Override
+				public Response<Long> doInPipeline(Pipeline pipeline) {
+					return pipeline.pttl(key);
+				}
+			});
+			return null;
+		}
+
 		return clusterCommandExecutor.executeCommandOnSingleNode(new JedisClusterCommandCallback<Long>() {
 
 			@Override
@@ -472,6 +681,18 @@ public class JedisClusterConnection implements RedisClusterConnection {
 	@Override
 	public Long pTtl(final byte[] key, final TimeUnit timeUnit) {
 
+		if (isPipelined()) {
+
+			pipeline.queue(key, new JedisPipelineCallback<Long>() {
+
+				@Override
+				public Response<Long> doInPipeline(Pipeline pipeline) {
+					return pipeline.pttl(key);
+				}
+			}, Converters.millisecondsToTimeUnit(timeUnit));
+			return null;
+		}
+
 		return clusterCommandExecutor.executeCommandOnSingleNode(new JedisClusterCommandCallback<Long>() {
 
 			@Override
@@ -488,6 +709,8 @@ public class JedisClusterConnection implements RedisClusterConnection {
 	@Override
 	public List<byte[]> sort(byte[] key, SortParameters params) {
 
+		assertNotPipelined("SORT");
+
 		try {
 			return cluster.sort(key, JedisConverters.toSortingParams(params));
 		} catch (Exception ex) {
@@ -502,6 +725,8 @@ public class JedisClusterConnection implements RedisClusterConnection {
 	@Override
 	public Long sort(byte[] key, SortParameters params, byte[] storeKey) {
 
+		assertNotPipelined("SORT");
+
 		List<byte[]> sorted = sort(key, params);
 		if (!CollectionUtils.isEmpty(sorted)) {
 
@@ -528,6 +753,8 @@ public class JedisClusterConnection implements RedisClusterConnection {
 	@Override
 	public byte[] dump(final byte[] key) {
 
+		assertNotPipelined("DUMP");
+
 		return clusterCommandExecutor.executeCommandOnSingleNode(new JedisClusterCommandCallback<byte[]>() {
 
 			@Override
@@ -544,6 +771,8 @@ public class JedisClusterConnection implements RedisClusterConnection {
 	@Override
 	public void restore(final byte[] key, final long ttlInMillis, final byte[] serializedValue) {
 
+		assertNotPipelined("RESTORE");
+
 		if (ttlInMillis > Integer.MAX_VALUE) {
 			throw new UnsupportedOperationException("Jedis does not support ttlInMillis exceeding Integer.MAX_VALUE.");
 		}
@@ -562,7 +791,29 @@ public class JedisClusterConnection implements RedisClusterConnection {
 	 * @see org.springframework.data.redis.connection.RedisStringCommands#get(byte[])
 	 */
 	@Override
-	public byte[] get(byte[] key) {
+	public byte[] get(final byte[] key) {
+
+		if (isPipelined()) {
+
+			pipeline.queue(key, new JedisPipelineCallback<byte[]>() {
+
+				@Override
+				public Response<byte[]> doInPipeline(Pipeline pipeline) {
+					return pipeline.get(key);
+				}
+			});
+			return null;
+		}
+
+		if (isReadingFromSlaves()) {
+			return executeRead(key, new JedisClusterCommandCallback<byte[]>() {
+
+				@Override
+				public byte[] doInCluster(Jedis client) {
+					return client.get(key);
+				}
+			});
+		}
 
 		try {
 			return cluster.get(key);
@@ -576,7 +827,19 @@ public class JedisClusterConnection implements RedisClusterConnection {
 	 * @see org.springframework.data.redis.connection.RedisStringCommands#getSet(byte[], byte[])
 	 */
 	@Override
-	public byte[] getSet(byte[] key, byte[] value) {
+	public byte[] getSet(final byte[] key, final byte[] value) {
+
+		if (isPipelined()) {
+
+			pipeline.queue(key, new JedisPipelineCallback<byte[]>() {
+
+				@Override
+				public Response<byte[]> doInPipeline(Pipeline pipeline) {
+					return pipeline.getSet(key, value);
+				}
+			});
+			return null;
+		}
 
 		try {
 			return cluster.getSet(key, value);
@@ -592,19 +855,40 @@ public class JedisClusterConnection implements RedisClusterConnection {
 	@Override
 	public List<byte[]> mGet(byte[]... keys) {
 
+		assertNotPipelined("MGET");
+
 		Assert.noNullElements(keys, "Keys must not contain null elements!");
 
 		if (ClusterSlotHashUtil.isSameSlotForAllKeys(keys)) {
 			return cluster.mget(keys);
 		}
 
-		return this.clusterCommandExecutor.executeMuliKeyCommand(new JedisMultiKeyClusterCommandCallback<byte[]>() {
+		List<Map<ByteArrayWrapper, byte[]>> slotValues = this.clusterCommandExecutor
+				.executeMultiKeyCommandBySlot(new JedisSlotBatchClusterCommandCallback<Map<ByteArrayWrapper, byte[]>>() {
 
-			@Override
-			public byte[] doInCluster(Jedis client, byte[] key) {
-				return client.get(key);
-			}
-		}, Arrays.asList(keys)).resultsAsListSortBy(keys);
+					@Override
+					public Map<ByteArrayWrapper, byte[]> doInCluster(Jedis client, byte[]... slotKeys) {
+
+						List<byte[]> values = client.mget(slotKeys);
+
+						Map<ByteArrayWrapper, byte[]> result = new HashMap<ByteArrayWrapper, byte[]>(slotKeys.length);
+						for (int i = 0; i < slotKeys.length; i++) {
+							result.put(new ByteArrayWrapper(slotKeys[i]), values.get(i));
+						}
+						return result;
+					}
+				}, Arrays.asList(keys)).resultsAsList();
+
+		Map<ByteArrayWrapper, byte[]> values = new HashMap<ByteArrayWrapper, byte[]>(keys.length);
+		for (Map<ByteArrayWrapper, byte[]> slotValue : slotValues) {
+			values.putAll(slotValue);
+		}
+
+		List<byte[]> result = new ArrayList<byte[]>(keys.length);
+		for (byte[] key : keys) {
+			result.add(values.get(new ByteArrayWrapper(key)));
+		}
+		return result;
 	}
 
 	/*
@@ -612,7 +896,19 @@ public class JedisClusterConnection implements RedisClusterConnection {
 	 * @see org.springframework.data.redis.connection.RedisStringCommands#set(byte[], byte[])
 	 */
 	@Override
-	public void set(byte[] key, byte[] value) {
+	public void set(final byte[] key, final byte[] value) {
+
+		if (isPipelined()) {
+
+			pipeline.queueStatus(key, new JedisPipelineCallback<String>() {
+
+				@Override
+				public Response<String> doInPipeline(Pipeline pipeline) {
+					return pipeline.set(key, value);
+				}
+			});
+			return;
+		}
 
 		try {
 			cluster.set(key, value);
@@ -626,7 +922,7 @@ public class JedisClusterConnection implements RedisClusterConnection {
 	 * @see org.springframework.data.redis.connection.RedisStringCommands#set(byte[], byte[], org.springframework.data.redis.core.types.Expiration, org.springframework.data.redis.connection.RedisStringCommands.SetOptions)
 	 */
 	@Override
-	public void set(byte[] key, byte[] value, Expiration expiration, SetOption option) {
+	public void set(final byte[] key, final byte[] value, final Expiration expiration, SetOption option) {
 
 		if (expiration == null || expiration.isPersistent()) {
 
@@ -652,8 +948,20 @@ public class JedisClusterConnection implements RedisClusterConnection {
 				}
 			} else {
 
-				byte[] nxxx = JedisConverters.toSetCommandNxXxArgument(option);
-				byte[] expx = JedisConverters.toSetCommandExPxArgument(expiration);
+				final byte[] nxxx = JedisConverters.toSetCommandNxXxArgument(option);
+				final byte[] expx = JedisConverters.toSetCommandExPxArgument(expiration);
+
+				if (isPipelined()) {
+
+					pipeline.queueStatus(key, new JedisPipelineCallback<String>() {
+
+						@Override
+						public Response<String> doInPipeline(Pipeline pipeline) {
+							return pipeline.set(key, value, nxxx, expx, (int) expiration.getExpirationTime());
+						}
+					});
+					return;
+				}
 
 				try {
 					cluster.set(key, value, nxxx, expx, expiration.getExpirationTime());
@@ -669,7 +977,19 @@ public class JedisClusterConnection implements RedisClusterConnection {
 	 * @see org.springframework.data.redis.connection.RedisStringCommands#setNX(byte[], byte[])
 	 */
 	@Override
-	public Boolean setNX(byte[] key, byte[] value) {
+	public Boolean setNX(final byte[] key, final byte[] value) {
+
+		if (isPipelined()) {
+
+			pipeline.queue(key, new JedisPipelineCallback<Long>() {
+
+				@Override
+				public Response<Long> doInPipeline(Pipeline pipeline) {
+					return pipeline.setnx(key, value);
+				}
+			}, JedisConverters.longToBoolean());
+			return null;
+		}
 
 		try {
 			return JedisConverters.toBoolean(cluster.setnx(key, value));
@@ -683,12 +1003,24 @@ public class JedisClusterConnection implements RedisClusterConnection {
 	 * @see org.springframework.data.redis.connection.RedisStringCommands#setEx(byte[], long, byte[])
 	 */
 	@Override
-	public void setEx(byte[] key, long seconds, byte[] value) {
+	public void setEx(final byte[] key, final long seconds, final byte[] value) {
 
 		if (seconds > Integer.MAX_VALUE) {
 			throw new IllegalArgumentException("Seconds have cannot exceed Integer.MAX_VALUE!");
 		}
 
+		if (isPipelined()) {
+
+			pipeline.queueStatus(key, new JedisPipelineCallback<String>() {
+
+				@Override
+				public Response<String> doInPipeline(Pipeline pipeline) {
+					return pipeline.setex(key, (int) seconds, value);
+				}
+			});
+			return;
+		}
+
 		try {
 			cluster.setex(key, Long.valueOf(seconds).intValue(), value);
 		} catch (Exception ex) {
@@ -707,6 +1039,18 @@ public class JedisClusterConnection implements RedisClusterConnection {
 			throw new IllegalArgumentException("Milliseconds have cannot exceed Integer.MAX_VALUE!");
 		}
 
+		if (isPipelined()) {
+
+			pipeline.queueStatus(key, new JedisPipelineCallback<String>() {
+
+				@Override
+				public Response<String> doInPipeline(Pipeline pipeline) {
+					return pipeline.psetex(key, milliseconds, value);
+				}
+			});
+			return;
+		}
+
 		this.clusterCommandExecutor.executeCommandOnSingleNode(new JedisClusterCommandCallback<String>() {
 
 			@Override
@@ -723,6 +1067,8 @@ public class JedisClusterConnection implements RedisClusterConnection {
 	@Override
 	public void mSet(Map<byte[], byte[]> tuples) {
 
+		assertNotPipelined("MSET");
+
 		Assert.notNull(tuples, "Tuples must not be null!");
 
 		if (ClusterSlotHashUtil.isSameSlotForAllKeys(tuples.keySet().toArray(new byte[tuples.keySet().size()][]))) {
@@ -734,9 +1080,25 @@ public class JedisClusterConnection implements RedisClusterConnection {
 			}
 		}
 
+		final Map<ByteArrayWrapper, byte[]> values = new HashMap<ByteArrayWrapper, byte[]>(tuples.size());
 		for (Map.Entry<byte[], byte[]> entry : tuples.entrySet()) {
-			set(entry.getKey(), entry.getValue());
+			values.put(new ByteArrayWrapper(entry.getKey()), entry.getValue());
 		}
+
+		this.clusterCommandExecutor.executeMultiKeyCommandBySlot(new JedisSlotBatchClusterCommandCallback<String>() {
+
+			@Override
+			public String doInCluster(Jedis client, byte[]... slotKeys) {
+
+				byte[][] keysAndValues = new byte[slotKeys.length * 2][];
+				for (int i = 0; i < slotKeys.length; i++) {
+
+					keysAndValues[i * 2] = slotKeys[i];
+					keysAndValues[i * 2 + 1] = values.get(new ByteArrayWrapper(slotKeys[i]));
+				}
+				return client.mset(keysAndValues);
+			}
+		}, tuples.keySet());
 	}
 
 	/*
@@ -746,6 +1108,8 @@ public class JedisClusterConnection implements RedisClusterConnection {
 	@Override
 	public Boolean mSetNX(Map<byte[], byte[]> tuples) {
 
+		assertNotPipelined("MSETNX");
+
 		Assert.notNull(tuples, "Tuple must not be null!");
 
 		if (ClusterSlotHashUtil.isSameSlotForAllKeys(tuples.keySet().toArray(new byte[tuples.keySet().size()][]))) {
@@ -770,7 +1134,19 @@ public class JedisClusterConnection implements RedisClusterConnection {
 	 * @see org.springframework.data.redis.connection.RedisStringCommands#incr(byte[])
 	 */
 	@Override
-	public Long incr(byte[] key) {
+	public Long incr(final byte[] key) {
+
+		if (isPipelined()) {
+
+			pipeline.queue(key, new JedisPipelineCallback<Long>() {
+
+				@Override
+				public Response<Long> doInPipeline(Pipeline pipeline) {
+					return pipeline.incr(key);
+				}
+			});
+			return null;
+		}
 
 		try {
 			return cluster.incr(key);
@@ -784,7 +1160,19 @@ public class JedisClusterConnection implements RedisClusterConnection {
 	 * @see org.springframework.data.redis.connection.RedisStringCommands#incrBy(byte[], long)
 	 */
 	@Override
-	public Long incrBy(byte[] key, long value) {
+	public Long incrBy(final byte[] key, final long value) {
+
+		if (isPipelined()) {
+
+			pipeline.queue(key, new JedisPipelineCallback<Long>() {
+
+				@Override
+				public Response<Long> doInPipeline(Pipeline pipeline) {
+					return pipeline.incrBy(key, value);
+				}
+			});
+			return null;
+		}
 
 		try {
 			return cluster.incrBy(key, value);
@@ -800,6 +1188,8 @@ public class JedisClusterConnection implements RedisClusterConnection {
 	@Override
 	public Double incrBy(byte[] key, double value) {
 
+		assertNotPipelined("INCRBY");
+
 		try {
 			return cluster.incrByFloat(key, value);
 		} catch (Exception ex) {
@@ -814,6 +1204,8 @@ public class JedisClusterConnection implements RedisClusterConnection {
 	@Override
 	public Long decr(byte[] key) {
 
+		assertNotPipelined("DECR");
+
 		try {
 			return cluster.decr(key);
 		} catch (Exception ex) {
@@ -828,6 +1220,8 @@ public class JedisClusterConnection implements RedisClusterConnection {
 	@Override
 	public Long decrBy(byte[] key, long value) {
 
+		assertNotPipelined("DECRBY");
+
 		try {
 			return cluster.decrBy(key, value);
 		} catch (Exception ex) {
@@ -842,6 +1236,8 @@ public class JedisClusterConnection implements RedisClusterConnection {
 	@Override
 	public Long append(byte[] key, byte[] value) {
 
+		assertNotPipelined("APPEND");
+
 		try {
 			return cluster.append(key, value);
 		} catch (Exception ex) {
@@ -856,6 +1252,8 @@ public class JedisClusterConnection implements RedisClusterConnection {
 	@Override
 	public byte[] getRange(byte[] key, long begin, long end) {
 
+		assertNotPipelined("GETRANGE");
+
 		try {
 			return cluster.getrange(key, begin, end);
 		} catch (Exception ex) {
@@ -870,6 +1268,8 @@ public class JedisClusterConnection implements RedisClusterConnection {
 	@Override
 	public void setRange(byte[] key, byte[] value, long offset) {
 
+		assertNotPipelined("SETRANGE");
+
 		try {
 			cluster.setrange(key, offset, value);
 		} catch (Exception ex) {
@@ -880,6 +1280,8 @@ public class JedisClusterConnection implements RedisClusterConnection {
 	@Override
 	public Boolean getBit(byte[] key, long offset) {
 
+		assertNotPipelined("GETBIT");
+
 		try {
 			return cluster.getbit(key, offset);
 		} catch (Exception ex) {
@@ -890,6 +1292,8 @@ public class JedisClusterConnection implements RedisClusterConnection {
 	@Override
 	public Boolean setBit(byte[] key, long offset, boolean value) {
 
+		assertNotPipelined("SETBIT");
+
 		try {
 			return cluster.setbit(key, offset, value);
 		} catch (Exception ex) {
@@ -900,6 +1304,8 @@ public class JedisClusterConnection implements RedisClusterConnection {
 	@Override
 	public Long bitCount(byte[] key) {
 
+		assertNotPipelined("BITCOUNT");
+
 		try {
 			return cluster.bitcount(key);
 		} catch (Exception ex) {
@@ -910,6 +1316,8 @@ public class JedisClusterConnection implements RedisClusterConnection {
 	@Override
 	public Long bitCount(byte[] key, long begin, long end) {
 
+		assertNotPipelined("BITCOUNT");
+
 		try {
 			return cluster.bitcount(key, begin, end);
 		} catch (Exception ex) {
@@ -920,6 +1328,8 @@ public class JedisClusterConnection implements RedisClusterConnection {
 	@Override
 	public Long bitOp(BitOperation op, byte[] destination, byte[]... keys) {
 
+		assertNotPipelined("BITOP");
+
 		byte[][] allKeys = ByteUtils.mergeArrays(destination, keys);
 
 		if (ClusterSlotHashUtil.isSameSlotForAllKeys(allKeys)) {
@@ -938,7 +1348,19 @@ public class JedisClusterConnection implements RedisClusterConnection {
 	 * @see org.springframework.data.redis.connection.RedisStringCommands#strLen(byte[])
 	 */
 	@Override
-	public Long strLen(byte[] key) {
+	public Long strLen(final byte[] key) {
+
+		assertNotPipelined("STRLEN");
+
+		if (isReadingFromSlaves()) {
+			return executeRead(key, new JedisClusterCommandCallback<Long>() {
+
+				@Override
+				public Long doInCluster(Jedis client) {
+					return client.strlen(key);
+				}
+			});
+		}
 
 		try {
 			return cluster.strlen(key);
@@ -952,7 +1374,19 @@ public class JedisClusterConnection implements RedisClusterConnection {
 	 * @see org.springframework.data.redis.connection.RedisListCommands#rPush(byte[], byte[][])
 	 */
 	@Override
-	public Long rPush(byte[] key, byte[]... values) {
+	public Long rPush(final byte[] key, final byte[]... values) {
+
+		if (isPipelined()) {
+
+			pipeline.queue(key, new JedisPipelineCallback<Long>() {
+
+				@Override
+				public Response<Long> doInPipeline(Pipeline pipeline) {
+					return pipeline.rpush(key, values);
+				}
+			});
+			return null;
+		}
 
 		try {
 			return cluster.rpush(key, values);
@@ -966,7 +1400,19 @@ public class JedisClusterConnection implements RedisClusterConnection {
 	 * @see org.springframework.data.redis.connection.RedisListCommands#lPush(byte[], byte[][])
 	 */
 	@Override
-	public Long lPush(byte[] key, byte[]... values) {
+	public Long lPush(final byte[] key, final byte[]... values) {
+
+		if (isPipelined()) {
+
+			pipeline.queue(key, new JedisPipelineCallback<Long>() {
+
+				@Override
+				public Response<Long> doInPipeline(Pipeline pipeline) {
+					return pipeline.lpush(key, values);
+				}
+			});
+			return null;
+		}
 
 		try {
 			return cluster.lpush(key, values);
@@ -982,6 +1428,8 @@ public class JedisClusterConnection implements RedisClusterConnection {
 	@Override
 	public Long rPushX(byte[] key, byte[] value) {
 
+		assertNotPipelined("RPUSHX");
+
 		try {
 			return cluster.rpushx(key, value);
 		} catch (Exception ex) {
@@ -996,6 +1444,8 @@ public class JedisClusterConnection implements RedisClusterConnection {
 	@Override
 	public Long lPushX(byte[] key, byte[] value) {
 
+		assertNotPipelined("LPUSHX");
+
 		try {
 			return cluster.lpushx(key, value);
 		} catch (Exception ex) {
@@ -1008,7 +1458,19 @@ public class JedisClusterConnection implements RedisClusterConnection {
 	 * @see org.springframework.data.redis.connection.RedisListCommands#lLen(byte[])
 	 */
 	@Override
-	public Long lLen(byte[] key) {
+	public Long lLen(final byte[] key) {
+
+		assertNotPipelined("LLEN");
+
+		if (isReadingFromSlaves()) {
+			return executeRead(key, new JedisClusterCommandCallback<Long>() {
+
+				@Override
+				public Long doInCluster(Jedis client) {
+					return client.llen(key);
+				}
+			});
+		}
 
 		try {
 			return cluster.llen(key);
@@ -1022,7 +1484,29 @@ public class JedisClusterConnection implements RedisClusterConnection {
 	 * @see org.springframework.data.redis.connection.RedisListCommands#lRange(byte[], long, long)
 	 */
 	@Override
-	public List<byte[]> lRange(byte[] key, long begin, long end) {
+	public List<byte[]> lRange(final byte[] key, final long begin, final long end) {
+
+		if (isPipelined()) {
+
+			pipeline.queue(key, new JedisPipelineCallback<List<byte[]>>() {
+
+				@Override
+				public Response<List<byte[]>> doInPipeline(Pipeline pipeline) {
+					return pipeline.lrange(key, begin, end);
+				}
+			});
+			return null;
+		}
+
+		if (isReadingFromSlaves()) {
+			return executeRead(key, new JedisClusterCommandCallback<List<byte[]>>() {
+
+				@Override
+				public List<byte[]> doInCluster(Jedis client) {
+					return client.lrange(key, begin, end);
+				}
+			});
+		}
 
 		try {
 			return cluster.lrange(key, begin, end);
@@ -1038,6 +1522,8 @@ public class JedisClusterConnection implements RedisClusterConnection {
 	@Override
 	public void lTrim(final byte[] key, final long begin, final long end) {
 
+		assertNotPipelined("LTRIM");
+
 		try {
 			cluster.ltrim(key, begin, end);
 		} catch (Exception ex) {
@@ -1050,7 +1536,19 @@ public class JedisClusterConnection implements RedisClusterConnection {
 	 * @see org.springframework.data.redis.connection.RedisListCommands#lIndex(byte[], long)
 	 */
 	@Override
-	public byte[] lIndex(byte[] key, long index) {
+	public byte[] lIndex(final byte[] key, final long index) {
+
+		assertNotPipelined("LINDEX");
+
+		if (isReadingFromSlaves()) {
+			return executeRead(key, new JedisClusterCommandCallback<byte[]>() {
+
+				@Override
+				public byte[] doInCluster(Jedis client) {
+					return client.lindex(key, index);
+				}
+			});
+		}
 
 		try {
 			return cluster.lindex(key, index);
@@ -1066,6 +1564,8 @@ public class JedisClusterConnection implements RedisClusterConnection {
 	@Override
 	public Long lInsert(byte[] key, Position where, byte[] pivot, byte[] value) {
 
+		assertNotPipelined("LINSERT");
+
 		try {
 			return cluster.linsert(key, JedisConverters.toListPosition(where), pivot, value);
 		} catch (Exception ex) {
@@ -1080,6 +1580,8 @@ public class JedisClusterConnection implements RedisClusterConnection {
 	@Override
 	public void lSet(byte[] key, long index, byte[] value) {
 
+		assertNotPipelined("LSET");
+
 		try {
 			cluster.lset(key, index, value);
 		} catch (Exception ex) {
@@ -1094,6 +1596,8 @@ public class JedisClusterConnection implements RedisClusterConnection {
 	@Override
 	public Long lRem(byte[] key, long count, byte[] value) {
 
+		assertNotPipelined("LREM");
+
 		try {
 			return cluster.lrem(key, count, value);
 		} catch (Exception ex) {
@@ -1108,6 +1612,8 @@ public class JedisClusterConnection implements RedisClusterConnection {
 	@Override
 	public byte[] lPop(byte[] key) {
 
+		assertNotPipelined("LPOP");
+
 		try {
 			return cluster.lpop(key);
 		} catch (Exception ex) {
@@ -1122,6 +1628,8 @@ public class JedisClusterConnection implements RedisClusterConnection {
 	@Override
 	public byte[] rPop(byte[] key) {
 
+		assertNotPipelined("RPOP");
+
 		try {
 			return cluster.rpop(key);
 		} catch (Exception ex) {
@@ -1136,6 +1644,8 @@ public class JedisClusterConnection implements RedisClusterConnection {
 	@Override
 	public List<byte[]> bLPop(final int timeout, final byte[]... keys) {
 
+		assertNotPipelined("BLPOP");
+
 		if (ClusterSlotHashUtil.isSameSlotForAllKeys(keys)) {
 			try {
 				return cluster.blpop(timeout, keys);
@@ -1160,6 +1670,8 @@ public class JedisClusterConnection implements RedisClusterConnection {
 	@Override
 	public List<byte[]> bRPop(final int timeout, byte[]... keys) {
 
+		assertNotPipelined("BRPOP");
+
 		return this.clusterCommandExecutor.executeMuliKeyCommand(new JedisMultiKeyClusterCommandCallback<List<byte[]>>() {
 
 			@Override
@@ -1176,6 +1688,8 @@ public class JedisClusterConnection implements RedisClusterConnection {
 	@Override
 	public byte[] rPopLPush(byte[] srcKey, byte[] dstKey) {
 
+		assertNotPipelined("RPOPLPUSH");
+
 		if (ClusterSlotHashUtil.isSameSlotForAllKeys(srcKey, dstKey)) {
 			try {
 				return cluster.rpoplpush(srcKey, dstKey);
@@ -1196,6 +1710,8 @@ public class JedisClusterConnection implements RedisClusterConnection {
 	@Override
 	public byte[] bRPopLPush(int timeout, byte[] srcKey, byte[] dstKey) {
 
+		assertNotPipelined("BRPOPLPUSH");
+
 		if (ClusterSlotHashUtil.isSameSlotForAllKeys(srcKey, dstKey)) {
 			try {
 				return cluster.brpoplpush(srcKey, dstKey, timeout);
@@ -1218,7 +1734,19 @@ public class JedisClusterConnection implements RedisClusterConnection {
 	 * @see org.springframework.data.redis.connection.RedisSetCommands#sAdd(byte[], byte[][])
 	 */
 	@Override
-	public Long sAdd(byte[] key, byte[]... values) {
+	public Long sAdd(final byte[] key, final byte[]... values) {
+
+		if (isPipelined()) {
+
+			pipeline.queue(key, new JedisPipelineCallback<Long>() {
+
+				@Override
+				public Response<Long> doInPipeline(Pipeline pipeline) {
+					return pipeline.sadd(key, values);
+				}
+			});
+			return null;
+		}
 
 		try {
 			return cluster.sadd(key, values);
@@ -1232,7 +1760,19 @@ public class JedisClusterConnection implements RedisClusterConnection {
 	 * @see org.springframework.data.redis.connection.RedisSetCommands#sRem(byte[], byte[][])
 	 */
 	@Override
-	public Long sRem(byte[] key, byte[]... values) {
+	public Long sRem(final byte[] key, final byte[]... values) {
+
+		if (isPipelined()) {
+
+			pipeline.queue(key, new JedisPipelineCallback<Long>() {
+
+				@Override
+				public Response<Long> doInPipeline(Pipeline pipeline) {
+					return pipeline.srem(key, values);
+				}
+			});
+			return null;
+		}
 
 		try {
 			return cluster.srem(key, values);
@@ -1247,6 +1787,9 @@ public class JedisClusterConnection implements RedisClusterConnection {
 	 */
 	@Override
 	public byte[] sPop(byte[] key) {
+
+		assertNotPipelined("SPOP");
+
 		try {
 			return cluster.spop(key);
 		} catch (Exception ex) {
@@ -1261,6 +1804,8 @@ public class JedisClusterConnection implements RedisClusterConnection {
 	@Override
 	public Boolean sMove(byte[] srcKey, byte[] destKey, byte[] value) {
 
+		assertNotPipelined("SMOVE");
+
 		if (ClusterSlotHashUtil.isSameSlotForAllKeys(srcKey, destKey)) {
 			try {
 				return JedisConverters.toBoolean(cluster.smove(srcKey, destKey, value));
@@ -1282,7 +1827,19 @@ public class JedisClusterConnection implements RedisClusterConnection {
 	 * @see org.springframework.data.redis.connection.RedisSetCommands#sCard(byte[])
 	 */
 	@Override
-	public Long sCard(byte[] key) {
+	public Long sCard(final byte[] key) {
+
+		assertNotPipelined("SCARD");
+
+		if (isReadingFromSlaves()) {
+			return executeRead(key, new JedisClusterCommandCallback<Long>() {
+
+				@Override
+				public Long doInCluster(Jedis client) {
+					return client.scard(key);
+				}
+			});
+		}
 
 		try {
 			return cluster.scard(key);
@@ -1296,7 +1853,29 @@ public class JedisClusterConnection implements RedisClusterConnection {
 	 * @see org.springframework.data.redis.connection.RedisSetCommands#sIsMember(byte[], byte[])
 	 */
 	@Override
-	public Boolean sIsMember(byte[] key, byte[] value) {
+	public Boolean sIsMember(final byte[] key, final byte[] value) {
+
+		if (isPipelined()) {
+
+			pipeline.queue(key, new JedisPipelineCallback<Boolean>() {
+
+				@Override
+				public Response<Boolean> doInPipeline(Pipeline pipeline) {
+					return pipeline.sismember(key, value);
+				}
+			});
+			return null;
+		}
+
+		if (isReadingFromSlaves()) {
+			return executeRead(key, new JedisClusterCommandCallback<Boolean>() {
+
+				@Override
+				public Boolean doInCluster(Jedis client) {
+					return client.sismember(key, value);
+				}
+			});
+		}
 
 		try {
 			return cluster.sismember(key, value);
@@ -1312,6 +1891,8 @@ public class JedisClusterConnection implements RedisClusterConnection {
 	@Override
 	public Set<byte[]> sInter(byte[]... keys) {
 
+		assertNotPipelined("SINTER");
+
 		if (ClusterSlotHashUtil.isSameSlotForAllKeys(keys)) {
 			try {
 				return cluster.sinter(keys);
@@ -1358,6 +1939,8 @@ public class JedisClusterConnection implements RedisClusterConnection {
 	@Override
 	public Long sInterStore(byte[] destKey, byte[]... keys) {
 
+		assertNotPipelined("SINTERSTORE");
+
 		byte[][] allKeys = ByteUtils.mergeArrays(destKey, keys);
 
 		if (ClusterSlotHashUtil.isSameSlotForAllKeys(allKeys)) {
@@ -1382,6 +1965,8 @@ public class JedisClusterConnection implements RedisClusterConnection {
 	@Override
 	public Set<byte[]> sUnion(byte[]... keys) {
 
+		assertNotPipelined("SUNION");
+
 		if (ClusterSlotHashUtil.isSameSlotForAllKeys(keys)) {
 			try {
 				return cluster.sunion(keys);
@@ -1418,6 +2003,8 @@ public class JedisClusterConnection implements RedisClusterConnection {
 	@Override
 	public Long sUnionStore(byte[] destKey, byte[]... keys) {
 
+		assertNotPipelined("SUNIONSTORE");
+
 		byte[][] allKeys = ByteUtils.mergeArrays(destKey, keys);
 
 		if (ClusterSlotHashUtil.isSameSlotForAllKeys(allKeys)) {
@@ -1442,6 +2029,8 @@ public class JedisClusterConnection implements RedisClusterConnection {
 	@Override
 	public Set<byte[]> sDiff(byte[]... keys) {
 
+		assertNotPipelined("SDIFF");
+
 		if (ClusterSlotHashUtil.isSameSlotForAllKeys(keys)) {
 			try {
 				return cluster.sdiff(keys);
@@ -1481,6 +2070,8 @@ public class JedisClusterConnection implements RedisClusterConnection {
 	@Override
 	public Long sDiffStore(byte[] destKey, byte[]... keys) {
 
+		assertNotPipelined("SDIFFSTORE");
+
 		byte[][] allKeys = ByteUtils.mergeArrays(destKey, keys);
 
 		if (ClusterSlotHashUtil.isSameSlotForAllKeys(allKeys)) {
@@ -1504,7 +2095,29 @@ public class JedisClusterConnection implements RedisClusterConnection {
 	 * @see org.springframework.data.redis.connection.RedisSetCommands#sMembers(byte[])
 	 */
 	@Override
-	public Set<byte[]> sMembers(byte[] key) {
+	public Set<byte[]> sMembers(final byte[] key) {
+
+		if (isPipelined()) {
+
+			pipeline.queue(key, new JedisPipelineCallback<Set<byte[]>>() {
+
+				@Override
+				public Response<Set<byte[]>> doInPipeline(Pipeline pipeline) {
+					return pipeline.smembers(key);
+				}
+			});
+			return null;
+		}
+
+		if (isReadingFromSlaves()) {
+			return executeRead(key, new JedisClusterCommandCallback<Set<byte[]>>() {
+
+				@Override
+				public Set<byte[]> doInCluster(Jedis client) {
+					return client.smembers(key);
+				}
+			});
+		}
 
 		try {
 			return cluster.smembers(key);
@@ -1520,6 +2133,8 @@ public class JedisClusterConnection implements RedisClusterConnection {
 	@Override
 	public byte[] sRandMember(byte[] key) {
 
+		assertNotPipelined("SRANDMEMBER");
+
 		try {
 			return cluster.srandmember(key);
 		} catch (Exception ex) {
@@ -1534,6 +2149,8 @@ public class JedisClusterConnection implements RedisClusterConnection {
 	@Override
 	public List<byte[]> sRandMember(byte[] key, long count) {
 
+		assertNotPipelined("SRANDMEMBER");
+
 		if (count > Integer.MAX_VALUE) {
 			throw new IllegalArgumentException("Count cannot exceed Integer.MAX_VALUE!");
 		}
@@ -1552,6 +2169,8 @@ public class JedisClusterConnection implements RedisClusterConnection {
 	@Override
 	public Cursor<byte[]> sScan(final byte[] key, ScanOptions options) {
 
+		assertNotPipelined("SSCAN");
+
 		return new ScanCursor<byte[]>(options) {
 
 			@Override
@@ -1569,7 +2188,19 @@ public class JedisClusterConnection implements RedisClusterConnection {
 	 * @see org.springframework.data.redis.connection.RedisZSetCommands#zAdd(byte[], double, byte[])
 	 */
 	@Override
-	public Boolean zAdd(byte[] key, double score, byte[] value) {
+	public Boolean zAdd(final byte[] key, final double score, final byte[] value) {
+
+		if (isPipelined()) {
+
+			pipeline.queue(key, new JedisPipelineCallback<Long>() {
+
+				@Override
+				public Response<Long> doInPipeline(Pipeline pipeline) {
+					return pipeline.zadd(key, score, value);
+				}
+			}, JedisConverters.longToBoolean());
+			return null;
+		}
 
 		try {
 			return JedisConverters.toBoolean(cluster.zadd(key, score, value));
@@ -1585,6 +2216,8 @@ public class JedisClusterConnection implements RedisClusterConnection {
 	@Override
 	public Long zAdd(byte[] key, Set<Tuple> tuples) {
 
+		assertNotPipelined("ZADD");
+
 		try {
 			return cluster.zadd(key, JedisConverters.toTupleMap(tuples));
 		} catch (Exception ex) {
@@ -1597,7 +2230,19 @@ public class JedisClusterConnection implements RedisClusterConnection {
 	 * @see org.springframework.data.redis.connection.RedisZSetCommands#zRem(byte[], byte[][])
 	 */
 	@Override
-	public Long zRem(byte[] key, byte[]... values) {
+	public Long zRem(final byte[] key, final byte[]... values) {
+
+		if (isPipelined()) {
+
+			pipeline.queue(key, new JedisPipelineCallback<Long>() {
+
+				@Override
+				public Response<Long> doInPipeline(Pipeline pipeline) {
+					return pipeline.zrem(key, values);
+				}
+			});
+			return null;
+		}
 
 		try {
 			return cluster.zrem(key, values);
@@ -1613,6 +2258,9 @@ public class JedisClusterConnection implements RedisClusterConnection {
 	 */
 	@Override
 	public Double zIncrBy(byte[] key, double increment, byte[] value) {
+
+		assertNotPipelined("ZINCRBY");
+
 		try {
 			return cluster.zincrby(key, increment, value);
 		} catch (Exception ex) {
@@ -1627,6 +2275,8 @@ public class JedisClusterConnection implements RedisClusterConnection {
 	@Override
 	public Long zRank(byte[] key, byte[] value) {
 
+		assertNotPipelined("ZRANK");
+
 		try {
 			return cluster.zrank(key, value);
 		} catch (Exception ex) {
@@ -1641,6 +2291,8 @@ public class JedisClusterConnection implements RedisClusterConnection {
 	@Override
 	public Long zRevRank(byte[] key, byte[] value) {
 
+		assertNotPipelined("ZREVRANK");
+
 		try {
 			return cluster.zrevrank(key, value);
 		} catch (Exception ex) {
@@ -1653,7 +2305,29 @@ public class JedisClusterConnection implements RedisClusterConnection {
 	 * @see org.springframework.data.redis.connection.RedisZSetCommands#zRange(byte[], long, long)
 	 */
 	@Override
-	public Set<byte[]> zRange(byte[] key, long begin, long end) {
+	public Set<byte[]> zRange(final byte[] key, final long begin, final long end) {
+
+		if (isPipelined()) {
+
+			pipeline.queue(key, new JedisPipelineCallback<Set<byte[]>>() {
+
+				@Override
+				public Response<Set<byte[]>> doInPipeline(Pipeline pipeline) {
+					return pipeline.zrange(key, begin, end);
+				}
+			});
+			return null;
+		}
+
+		if (isReadingFromSlaves()) {
+			return executeRead(key, new JedisClusterCommandCallback<Set<byte[]>>() {
+
+				@Override
+				public Set<byte[]> doInCluster(Jedis client) {
+					return client.zrange(key, begin, end);
+				}
+			});
+		}
 
 		try {
 			return cluster.zrange(key, begin, end);
@@ -1678,6 +2352,8 @@ public class JedisClusterConnection implements RedisClusterConnection {
 	@Override
 	public Set<Tuple> zRangeByScoreWithScores(byte[] key, Range range, Limit limit) {
 
+		assertNotPipelined("ZRANGEBYSCORE");
+
 		Assert.notNull(range, "Range cannot be null for ZRANGEBYSCOREWITHSCORES.");
 
 		byte[] min = JedisConverters.boundaryToBytesForZRange(range.getMin(), JedisConverters.NEGATIVE_INFINITY_BYTES);
@@ -1710,6 +2386,8 @@ public class JedisClusterConnection implements RedisClusterConnection {
 	@Override
 	public Set<byte[]> zRevRangeByScore(byte[] key, Range range, Limit limit) {
 
+		assertNotPipelined("ZREVRANGEBYSCORE");
+
 		Assert.notNull(range, "Range cannot be null for ZREVRANGEBYSCORE.");
 		byte[] min = JedisConverters.boundaryToBytesForZRange(range.getMin(), JedisConverters.NEGATIVE_INFINITY_BYTES);
 		byte[] max = JedisConverters.boundaryToBytesForZRange(range.getMax(), JedisConverters.POSITIVE_INFINITY_BYTES);
@@ -1740,6 +2418,8 @@ public class JedisClusterConnection implements RedisClusterConnection {
 	@Override
 	public Set<Tuple> zRevRangeByScoreWithScores(byte[] key, Range range, Limit limit) {
 
+		assertNotPipelined("ZREVRANGEBYSCORE");
+
 		Assert.notNull(range, "Range cannot be null for ZREVRANGEBYSCOREWITHSCORES.");
 
 		byte[] min = JedisConverters.boundaryToBytesForZRange(range.getMin(), JedisConverters.NEGATIVE_INFINITY_BYTES);
@@ -1763,6 +2443,8 @@ public class JedisClusterConnection implements RedisClusterConnection {
 	@Override
 	public Long zCount(byte[] key, Range range) {
 
+		assertNotPipelined("ZCOUNT");
+
 		Assert.notNull(range, "Range cannot be null for ZCOUNT.");
 
 		byte[] min = JedisConverters.boundaryToBytesForZRange(range.getMin(), JedisConverters.NEGATIVE_INFINITY_BYTES);
@@ -1782,6 +2464,8 @@ public class JedisClusterConnection implements RedisClusterConnection {
 	@Override
 	public Long zRemRangeByScore(byte[] key, Range range) {
 
+		assertNotPipelined("ZREMRANGEBYSCORE");
+
 		Assert.notNull(range, "Range cannot be null for ZREMRANGEBYSCORE.");
 
 		byte[] min = JedisConverters.boundaryToBytesForZRange(range.getMin(), JedisConverters.NEGATIVE_INFINITY_BYTES);
@@ -1811,6 +2495,8 @@ public class JedisClusterConnection implements RedisClusterConnection {
 	@Override
 	public Set<byte[]> zRangeByScore(byte[] key, Range range, Limit limit) {
 
+		assertNotPipelined("ZRANGEBYSCORE");
+
 		Assert.notNull(range, "Range cannot be null for ZRANGEBYSCORE.");
 
 		byte[] min = JedisConverters.boundaryToBytesForZRange(range.getMin(), JedisConverters.NEGATIVE_INFINITY_BYTES);
@@ -1851,6 +2537,8 @@ public class JedisClusterConnection implements RedisClusterConnection {
 	@Override
 	public Set<byte[]> zRangeByLex(byte[] key, Range range, Limit limit) {
 
+		assertNotPipelined("ZRANGEBYLEX");
+
 		Assert.notNull(range, "Range cannot be null for ZRANGEBYLEX.");
 
 		byte[] min = JedisConverters.boundaryToBytesForZRangeByLex(range.getMin(), JedisConverters.toBytes("-"));
@@ -1873,6 +2561,8 @@ public class JedisClusterConnection implements RedisClusterConnection {
 	@Override
 	public Set<Tuple> zRangeWithScores(byte[] key, long begin, long end) {
 
+		assertNotPipelined("ZRANGE");
+
 		try {
 			return JedisConverters.toTupleSet(cluster.zrangeWithScores(key, begin, end));
 		} catch (Exception ex) {
@@ -1887,6 +2577,8 @@ public class JedisClusterConnection implements RedisClusterConnection {
 	@Override
 	public Set<byte[]> zRangeByScore(byte[] key, double min, double max) {
 
+		assertNotPipelined("ZRANGEBYSCORE");
+
 		try {
 			return cluster.zrangeByScore(key, min, max);
 		} catch (Exception ex) {
@@ -1901,6 +2593,8 @@ public class JedisClusterConnection implements RedisClusterConnection {
 	@Override
 	public Set<Tuple> zRangeByScoreWithScores(byte[] key, double min, double max) {
 
+		assertNotPipelined("ZRANGEBYSCORE");
+
 		try {
 			return JedisConverters.toTupleSet(cluster.zrangeByScoreWithScores(key, min, max));
 		} catch (Exception ex) {
@@ -1915,6 +2609,8 @@ public class JedisClusterConnection implements RedisClusterConnection {
 	@Override
 	public Set<byte[]> zRangeByScore(byte[] key, double min, double max, long offset, long count) {
 
+		assertNotPipelined("ZRANGEBYSCORE");
+
 		if (offset > Integer.MAX_VALUE || count > Integer.MAX_VALUE) {
 			throw new IllegalArgumentException("Count/Offset cannot exceed Integer.MAX_VALUE!");
 		}
@@ -1933,6 +2629,8 @@ public class JedisClusterConnection implements RedisClusterConnection {
 	@Override
 	public Set<Tuple> zRangeByScoreWithScores(byte[] key, double min, double max, long offset, long count) {
 
+		assertNotPipelined("ZRANGEBYSCORE");
+
 		if (offset > Integer.MAX_VALUE || count > Integer.MAX_VALUE) {
 			throw new IllegalArgumentException("Count/Offset cannot exceed Integer.MAX_VALUE!");
 		}
@@ -1952,6 +2650,8 @@ public class JedisClusterConnection implements RedisClusterConnection {
 	@Override
 	public Set<byte[]> zRevRange(byte[] key, long begin, long end) {
 
+		assertNotPipelined("ZREVRANGE");
+
 		try {
 			return cluster.zrevrange(key, begin, end);
 		} catch (Exception ex) {
@@ -1966,6 +2666,8 @@ public class JedisClusterConnection implements RedisClusterConnection {
 	@Override
 	public Set<Tuple> zRevRangeWithScores(byte[] key, long begin, long end) {
 
+		assertNotPipelined("ZREVRANGE");
+
 		try {
 			return JedisConverters.toTupleSet(cluster.zrevrangeWithScores(key, begin, end));
 		} catch (Exception ex) {
@@ -1980,6 +2682,8 @@ public class JedisClusterConnection implements RedisClusterConnection {
 	@Override
 	public Set<byte[]> zRevRangeByScore(byte[] key, double min, double max) {
 
+		assertNotPipelined("ZREVRANGEBYSCORE");
+
 		try {
 			return cluster.zrevrangeByScore(key, max, min);
 		} catch (Exception ex) {
@@ -1994,6 +2698,8 @@ public class JedisClusterConnection implements RedisClusterConnection {
 	@Override
 	public Set<Tuple> zRevRangeByScoreWithScores(byte[] key, double min, double max) {
 
+		assertNotPipelined("ZREVRANGEBYSCORE");
+
 		try {
 			return JedisConverters.toTupleSet(cluster.zrevrangeByScoreWithScores(key, max, min));
 		} catch (Exception ex) {
@@ -2008,6 +2714,8 @@ public class JedisClusterConnection implements RedisClusterConnection {
 	@Override
 	public Set<byte[]> zRevRangeByScore(byte[] key, double min, double max, long offset, long count) {
 
+		assertNotPipelined("ZREVRANGEBYSCORE");
+
 		if (offset > Integer.MAX_VALUE || count > Integer.MAX_VALUE) {
 			throw new IllegalArgumentException("Count/Offset cannot exceed Integer.MAX_VALUE!");
 		}
@@ -2026,6 +2734,8 @@ public class JedisClusterConnection implements RedisClusterConnection {
 	@Override
 	public Set<Tuple> zRevRangeByScoreWithScores(byte[] key, double min, double max, long offset, long count) {
 
+		assertNotPipelined("ZREVRANGEBYSCORE");
+
 		if (offset > Integer.MAX_VALUE || count > Integer.MAX_VALUE) {
 			throw new IllegalArgumentException("Count/Offset cannot exceed Integer.MAX_VALUE!");
 		}
@@ -2045,6 +2755,8 @@ public class JedisClusterConnection implements RedisClusterConnection {
 	@Override
 	public Long zCount(byte[] key, double min, double max) {
 
+		assertNotPipelined("ZCOUNT");
+
 		try {
 			return cluster.zcount(key, min, max);
 		} catch (Exception ex) {
@@ -2057,7 +2769,19 @@ public class JedisClusterConnection implements RedisClusterConnection {
 	 * @see org.springframework.data.redis.connection.RedisZSetCommands#zCard(byte[])
 	 */
 	@Override
-	public Long zCard(byte[] key) {
+	public Long zCard(final byte[] key) {
+
+		assertNotPipelined("ZCARD");
+
+		if (isReadingFromSlaves()) {
+			return executeRead(key, new JedisClusterCommandCallback<Long>() {
+
+				@Override
+				public Long doInCluster(Jedis client) {
+					return client.zcard(key);
+				}
+			});
+		}
 
 		try {
 			return cluster.zcard(key);
@@ -2071,7 +2795,29 @@ public class JedisClusterConnection implements RedisClusterConnection {
 	 * @see org.springframework.data.redis.connection.RedisZSetCommands#zScore(byte[], byte[])
 	 */
 	@Override
-	public Double zScore(byte[] key, byte[] value) {
+	public Double zScore(final byte[] key, final byte[] value) {
+
+		if (isPipelined()) {
+
+			pipeline.queue(key, new JedisPipelineCallback<Double>() {
+
+				@Override
+				public Response<Double> doInPipeline(Pipeline pipeline) {
+					return pipeline.zscore(key, value);
+				}
+			});
+			return null;
+		}
+
+		if (isReadingFromSlaves()) {
+			return executeRead(key, new JedisClusterCommandCallback<Double>() {
+
+				@Override
+				public Double doInCluster(Jedis client) {
+					return client.zscore(key, value);
+				}
+			});
+		}
 
 		try {
 			return cluster.zscore(key, value);
@@ -2087,6 +2833,8 @@ public class JedisClusterConnection implements RedisClusterConnection {
 	@Override
 	public Long zRemRange(byte[] key, long begin, long end) {
 
+		assertNotPipelined("ZREMRANGEBYRANK");
+
 		try {
 			return cluster.zremrangeByRank(key, begin, end);
 		} catch (Exception ex) {
@@ -2099,7 +2847,19 @@ public class JedisClusterConnection implements RedisClusterConnection {
 	 * @see org.springframework.data.redis.connection.RedisZSetCommands#zRemRangeByScore(byte[], double, double)
 	 */
 	@Override
-	public Long zRemRangeByScore(byte[] key, double min, double max) {
+	public Long zRemRangeByScore(final byte[] key, final double min, final double max) {
+
+		if (isPipelined()) {
+
+			pipeline.queue(key, new JedisPipelineCallback<Long>() {
+
+				@Override
+				public Response<Long> doInPipeline(Pipeline pipeline) {
+					return pipeline.zremrangeByScore(key, min, max);
+				}
+			});
+			return null;
+		}
 
 		try {
 			return cluster.zremrangeByScore(key, min, max);
@@ -2115,6 +2875,8 @@ public class JedisClusterConnection implements RedisClusterConnection {
 	@Override
 	public Long zUnionStore(byte[] destKey, byte[]... sets) {
 
+		assertNotPipelined("ZUNIONSTORE");
+
 		byte[][] allKeys = ByteUtils.mergeArrays(destKey, sets);
 
 		if (ClusterSlotHashUtil.isSameSlotForAllKeys(allKeys)) {
@@ -2136,6 +2898,8 @@ public class JedisClusterConnection implements RedisClusterConnection {
 	@Override
 	public Long zUnionStore(byte[] destKey, Aggregate aggregate, int[] weights, byte[]... sets) {
 
+		assertNotPipelined("ZUNIONSTORE");
+
 		byte[][] allKeys = ByteUtils.mergeArrays(destKey, sets);
 
 		if (ClusterSlotHashUtil.isSameSlotForAllKeys(allKeys)) {
@@ -2155,6 +2919,8 @@ public class JedisClusterConnection implements RedisClusterConnection {
 	@Override
 	public Long zInterStore(byte[] destKey, byte[]... sets) {
 
+		assertNotPipelined("ZINTERSTORE");
+
 		byte[][] allKeys = ByteUtils.mergeArrays(destKey, sets);
 
 		if (ClusterSlotHashUtil.isSameSlotForAllKeys(allKeys)) {
@@ -2172,6 +2938,8 @@ public class JedisClusterConnection implements RedisClusterConnection {
 	@Override
 	public Long zInterStore(byte[] destKey, Aggregate aggregate, int[] weights, byte[]... sets) {
 
+		assertNotPipelined("ZINTERSTORE");
+
 		byte[][] allKeys = ByteUtils.mergeArrays(destKey, sets);
 
 		if (ClusterSlotHashUtil.isSameSlotForAllKeys(allKeys)) {
@@ -2190,6 +2958,9 @@ public class JedisClusterConnection implements RedisClusterConnection {
 
 	@Override
 	public Cursor<Tuple> zScan(final byte[] key, final ScanOptions options) {
+
+		assertNotPipelined("ZSCAN");
+
 		return new ScanCursor<Tuple>(options) {
 
 			@Override
@@ -2212,6 +2983,8 @@ public class JedisClusterConnection implements RedisClusterConnection {
 	@Override
 	public Set<byte[]> zRangeByScore(byte[] key, String min, String max) {
 
+		assertNotPipelined("ZRANGEBYSCORE");
+
 		try {
 			return cluster.zrangeByScore(key, JedisConverters.toBytes(min), JedisConverters.toBytes(max));
 		} catch (Exception ex) {
@@ -2226,6 +2999,8 @@ public class JedisClusterConnection implements RedisClusterConnection {
 	@Override
 	public Set<byte[]> zRangeByScore(byte[] key, String min, String max, long offset, long count) {
 
+		assertNotPipelined("ZRANGEBYSCORE");
+
 		if (offset > Integer.MAX_VALUE || count > Integer.MAX_VALUE) {
 			throw new IllegalArgumentException("Count/Offset cannot exceed Integer.MAX_VALUE!");
 		}
@@ -2243,7 +3018,19 @@ public class JedisClusterConnection implements RedisClusterConnection {
 	 * @see org.springframework.data.redis.connection.RedisHashCommands#hSet(byte[], byte[], byte[])
 	 */
 	@Override
-	public Boolean hSet(byte[] key, byte[] field, byte[] value) {
+	public Boolean hSet(final byte[] key, final byte[] field, final byte[] value) {
+
+		if (isPipelined()) {
+
+			pipeline.queue(key, new JedisPipelineCallback<Long>() {
+
+				@Override
+				public Response<Long> doInPipeline(Pipeline pipeline) {
+					return pipeline.hset(key, field, value);
+				}
+			}, JedisConverters.longToBoolean());
+			return null;
+		}
 
 		try {
 			return JedisConverters.toBoolean(cluster.hset(key, field, value));
@@ -2259,6 +3046,8 @@ public class JedisClusterConnection implements RedisClusterConnection {
 	@Override
 	public Boolean hSetNX(byte[] key, byte[] field, byte[] value) {
 
+		assertNotPipelined("HSETNX");
+
 		try {
 			return JedisConverters.toBoolean(cluster.hsetnx(key, field, value));
 		} catch (Exception ex) {
@@ -2271,7 +3060,29 @@ public class JedisClusterConnection implements RedisClusterConnection {
 	 * @see org.springframework.data.redis.connection.RedisHashCommands#hGet(byte[], byte[])
 	 */
 	@Override
-	public byte[] hGet(byte[] key, byte[] field) {
+	public byte[] hGet(final byte[] key, final byte[] field) {
+
+		if (isPipelined()) {
+
+			pipeline.queue(key, new JedisPipelineCallback<byte[]>() {
+
+				@Override
+				public Response<byte[]> doInPipeline(Pipeline pipeline) {
+					return pipeline.hget(key, field);
+				}
+			});
+			return null;
+		}
+
+		if (isReadingFromSlaves()) {
+			return executeRead(key, new JedisClusterCommandCallback<byte[]>() {
+
+				@Override
+				public byte[] doInCluster(Jedis client) {
+					return client.hget(key, field);
+				}
+			});
+		}
 
 		try {
 			return cluster.hget(key, field);
@@ -2285,7 +3096,29 @@ public class JedisClusterConnection implements RedisClusterConnection {
 	 * @see org.springframework.data.redis.connection.RedisHashCommands#hMGet(byte[], byte[][])
 	 */
 	@Override
-	public List<byte[]> hMGet(byte[] key, byte[]... fields) {
+	public List<byte[]> hMGet(final byte[] key, final byte[]... fields) {
+
+		if (isPipelined()) {
+
+			pipeline.queue(key, new JedisPipelineCallback<List<byte[]>>() {
+
+				@Override
+				public Response<List<byte[]>> doInPipeline(Pipeline pipeline) {
+					return pipeline.hmget(key, fields);
+				}
+			});
+			return null;
+		}
+
+		if (isReadingFromSlaves()) {
+			return executeRead(key, new JedisClusterCommandCallback<List<byte[]>>() {
+
+				@Override
+				public List<byte[]> doInCluster(Jedis client) {
+					return client.hmget(key, fields);
+				}
+			});
+		}
 
 		try {
 			return cluster.hmget(key, fields);
@@ -2299,7 +3132,19 @@ public class JedisClusterConnection implements RedisClusterConnection {
 	 * @see org.springframework.data.redis.connection.RedisHashCommands#hMSet(byte[], java.util.Map)
 	 */
 	@Override
-	public void hMSet(byte[] key, Map<byte[], byte[]> hashes) {
+	public void hMSet(final byte[] key, final Map<byte[], byte[]> hashes) {
+
+		if (isPipelined()) {
+
+			pipeline.queueStatus(key, new JedisPipelineCallback<String>() {
+
+				@Override
+				public Response<String> doInPipeline(Pipeline pipeline) {
+					return pipeline.hmset(key, hashes);
+				}
+			});
+			return;
+		}
 
 		try {
 			cluster.hmset(key, hashes);
@@ -2315,6 +3160,8 @@ public class JedisClusterConnection implements RedisClusterConnection {
 	@Override
 	public Long hIncrBy(byte[] key, byte[] field, long delta) {
 
+		assertNotPipelined("HINCRBY");
+
 		try {
 			return cluster.hincrBy(key, field, delta);
 		} catch (Exception ex) {
@@ -2328,6 +3175,9 @@ public class JedisClusterConnection implements RedisClusterConnection {
 	 */
 	@Override
 	public Double hIncrBy(byte[] key, byte[] field, double delta) {
+
+		assertNotPipelined("HINCRBY");
+
 		try {
 			return cluster.hincrByFloat(key, field, delta);
 		} catch (Exception ex) {
@@ -2340,7 +3190,19 @@ public class JedisClusterConnection implements RedisClusterConnection {
 	 * @see org.springframework.data.redis.connection.RedisHashCommands#hExists(byte[], byte[])
 	 */
 	@Override
-	public Boolean hExists(byte[] key, byte[] field) {
+	public Boolean hExists(final byte[] key, final byte[] field) {
+
+		assertNotPipelined("HEXISTS");
+
+		if (isReadingFromSlaves()) {
+			return executeRead(key, new JedisClusterCommandCallback<Boolean>() {
+
+				@Override
+				public Boolean doInCluster(Jedis client) {
+					return client.hexists(key, field);
+				}
+			});
+		}
 
 		try {
 			return cluster.hexists(key, field);
@@ -2354,7 +3216,19 @@ public class JedisClusterConnection implements RedisClusterConnection {
 	 * @see org.springframework.data.redis.connection.RedisHashCommands#hDel(byte[], byte[][])
 	 */
 	@Override
-	public Long hDel(byte[] key, byte[]... fields) {
+	public Long hDel(final byte[] key, final byte[]... fields) {
+
+		if (isPipelined()) {
+
+			pipeline.queue(key, new JedisPipelineCallback<Long>() {
+
+				@Override
+				public Response<Long> doInPipeline(Pipeline pipeline) {
+					return pipeline.hdel(key, fields);
+				}
+			});
+			return null;
+		}
 
 		try {
 			return cluster.hdel(key, fields);
@@ -2368,7 +3242,19 @@ public class JedisClusterConnection implements RedisClusterConnection {
 	 * @see org.springframework.data.redis.connection.RedisHashCommands#hLen(byte[])
 	 */
 	@Override
-	public Long hLen(byte[] key) {
+	public Long hLen(final byte[] key) {
+
+		assertNotPipelined("HLEN");
+
+		if (isReadingFromSlaves()) {
+			return executeRead(key, new JedisClusterCommandCallback<Long>() {
+
+				@Override
+				public Long doInCluster(Jedis client) {
+					return client.hlen(key);
+				}
+			});
+		}
 
 		try {
 			return cluster.hlen(key);
@@ -2382,7 +3268,19 @@ public class JedisClusterConnection implements RedisClusterConnection {
 	 * @see org.springframework.data.redis.connection.RedisHashCommands#hKeys(byte[])
 	 */
 	@Override
-	public Set<byte[]> hKeys(byte[] key) {
+	public Set<byte[]> hKeys(final byte[] key) {
+
+		assertNotPipelined("HKEYS");
+
+		if (isReadingFromSlaves()) {
+			return executeRead(key, new JedisClusterCommandCallback<Set<byte[]>>() {
+
+				@Override
+				public Set<byte[]> doInCluster(Jedis client) {
+					return client.hkeys(key);
+				}
+			});
+		}
 
 		try {
 			return cluster.hkeys(key);
@@ -2396,7 +3294,19 @@ public class JedisClusterConnection implements RedisClusterConnection {
 	 * @see org.springframework.data.redis.connection.RedisHashCommands#hVals(byte[])
 	 */
 	@Override
-	public List<byte[]> hVals(byte[] key) {
+	public List<byte[]> hVals(final byte[] key) {
+
+		assertNotPipelined("HVALS");
+
+		if (isReadingFromSlaves()) {
+			return executeRead(key, new JedisClusterCommandCallback<List<byte[]>>() {
+
+				@Override
+				public List<byte[]> doInCluster(Jedis client) {
+					return new ArrayList<byte[]>(client.hvals(key));
+				}
+			});
+		}
 
 		try {
 			return new ArrayList<byte[]>(cluster.hvals(key));
@@ -2410,7 +3320,29 @@ public class JedisClusterConnection implements RedisClusterConnection {
 	 * @see org.springframework.data.redis.connection.RedisHashCommands#hGetAll(byte[])
 	 */
 	@Override
-	public Map<byte[], byte[]> hGetAll(byte[] key) {
+	public Map<byte[], byte[]> hGetAll(final byte[] key) {
+
+		if (isPipelined()) {
+
+			pipeline.queue(key, new JedisPipelineCallback<Map<byte[], byte[]>>() {
+
+				@Override
+				public Response<Map<byte[], byte[]>> doInPipeline(Pipeline pipeline) {
+					return pipeline.hgetAll(key);
+				}
+			});
+			return null;
+		}
+
+		if (isReadingFromSlaves()) {
+			return executeRead(key, new JedisClusterCommandCallback<Map<byte[], byte[]>>() {
+
+				@Override
+				public Map<byte[], byte[]> doInCluster(Jedis client) {
+					return client.hgetAll(key);
+				}
+			});
+		}
 
 		try {
 			return cluster.hgetAll(key);
@@ -2426,6 +3358,8 @@ public class JedisClusterConnection implements RedisClusterConnection {
 	@Override
 	public Cursor<Entry<byte[], byte[]>> hScan(final byte[] key, ScanOptions options) {
 
+		assertNotPipelined("HSCAN");
+
 		return new ScanCursor<Map.Entry<byte[], byte[]>>(options) {
 
 			@Override
@@ -2505,6 +3439,9 @@ public class JedisClusterConnection implements RedisClusterConnection {
 
 	@Override
 	public Long publish(byte[] channel, byte[] message) {
+
+		assertNotPipelined("PUBLISH");
+
 		try {
 			return cluster.publish(channel, message);
 		} catch (Exception ex) {
@@ -2515,6 +3452,8 @@ public class JedisClusterConnection implements RedisClusterConnection {
 	@Override
 	public void subscribe(MessageListener listener, byte[]... channels) {
 
+		assertNotPipelined("SUBSCRIBE");
+
 		if (isSubscribed()) {
 			throw new RedisSubscribedConnectionException(
 					"Connection already subscribed; use the connection Subscription to cancel or add new channels");
@@ -2531,6 +3470,8 @@ public class JedisClusterConnection implements RedisClusterConnection {
 	@Override
 	public void pSubscribe(MessageListener listener, byte[]... patterns) {
 
+		assertNotPipelined("PSUBSCRIBE");
+
 		if (isSubscribed()) {
 			throw new RedisSubscribedConnectionException(
 					"Connection already subscribed; use the connection Subscription to cancel or add new channels");
@@ -2551,6 +3492,8 @@ public class JedisClusterConnection implements RedisClusterConnection {
 	@Override
 	public Long geoAdd(byte[] key, Point point, byte[] member) {
 
+		assertNotPipelined("GEOADD");
+
 		Assert.notNull(key, "Key must not be null!");
 		Assert.notNull(point, "Point must not be null!");
 		Assert.notNull(member, "Member must not be null!");
@@ -2568,6 +3511,8 @@ public class JedisClusterConnection implements RedisClusterConnection {
 	 */
 	public Long geoAdd(byte[] key, GeoLocation<byte[]> location) {
 
+		assertNotPipelined("GEOADD");
+
 		Assert.notNull(key, "Key must not be null!");
 		Assert.notNull(location, "Location must not be null!");
 
@@ -2581,6 +3526,8 @@ public class JedisClusterConnection implements RedisClusterConnection {
 	@Override
 	public Long geoAdd(byte[] key, Map<byte[], Point> memberCoordinateMap) {
 
+		assertNotPipelined("GEOADD");
+
 		Assert.notNull(key, "Key must not be null!");
 		Assert.notNull(memberCoordinateMap, "MemberCoordinateMap must not be null!");
 
@@ -2603,6 +3550,8 @@ public class JedisClusterConnection implements RedisClusterConnection {
 	@Override
 	public Long geoAdd(byte[] key, Iterable<GeoLocation<byte[]>> locations) {
 
+		assertNotPipelined("GEOADD");
+
 		Assert.notNull(key, "Key must not be null!");
 		Assert.notNull(locations, "Locations must not be null!");
 
@@ -2625,6 +3574,8 @@ public class JedisClusterConnection implements RedisClusterConnection {
 	@Override
 	public Distance geoDist(byte[] key, byte[] member1, byte[] member2) {
 
+		assertNotPipelined("GEODIST");
+
 		Assert.notNull(key, "Key must not be null!");
 		Assert.notNull(member1, "Member1 must not be null!");
 		Assert.notNull(member2, "Member2 must not be null!");
@@ -2644,6 +3595,8 @@ public class JedisClusterConnection implements RedisClusterConnection {
 	@Override
 	public Distance geoDist(byte[] key, byte[] member1, byte[] member2, Metric metric) {
 
+		assertNotPipelined("GEODIST");
+
 		Assert.notNull(key, "Key must not be null!");
 		Assert.notNull(member1, "Member1 must not be null!");
 		Assert.notNull(member2, "Member2 must not be null!");
@@ -2665,6 +3618,8 @@ public class JedisClusterConnection implements RedisClusterConnection {
 	@Override
 	public List<String> geoHash(byte[] key, byte[]... members) {
 
+		assertNotPipelined("GEOHASH");
+
 		Assert.notNull(key, "Key must not be null!");
 		Assert.notNull(members, "Members must not be null!");
 		Assert.noNullElements(members, "Members must not contain null!");
@@ -2683,6 +3638,8 @@ public class JedisClusterConnection implements RedisClusterConnection {
 	@Override
 	public List<Point> geoPos(byte[] key, byte[]... members) {
 
+		assertNotPipelined("GEOPOS");
+
 		Assert.notNull(key, "Key must not be null!");
 		Assert.notNull(members, "Members must not be null!");
 		Assert.noNullElements(members, "Members must not contain null!");
@@ -2701,6 +3658,8 @@ public class JedisClusterConnection implements RedisClusterConnection {
 	@Override
 	public GeoResults<GeoLocation<byte[]>> geoRadius(byte[] key, Circle within) {
 
+		assertNotPipelined("GEORADIUS");
+
 		Assert.notNull(key, "Key must not be null!");
 		Assert.notNull(within, "Within must not be null!");
 
@@ -2720,6 +3679,8 @@ public class JedisClusterConnection implements RedisClusterConnection {
 	@Override
 	public GeoResults<GeoLocation<byte[]>> geoRadius(byte[] key, Circle within, GeoRadiusCommandArgs args) {
 
+		assertNotPipelined("GEORADIUS");
+
 		Assert.notNull(key, "Key must not be null!");
 		Assert.notNull(within, "Within must not be null!");
 		Assert.notNull(args, "Args must not be null!");
@@ -2752,6 +3713,8 @@ public class JedisClusterConnection implements RedisClusterConnection {
 	@Override
 	public GeoResults<GeoLocation<byte[]>> geoRadiusByMember(byte[] key, byte[] member, Distance radius) {
 
+		assertNotPipelined("GEORADIUSBYMEMBER");
+
 		Assert.notNull(key, "Key must not be null!");
 		Assert.notNull(member, "Member must not be null!");
 		Assert.notNull(radius, "Radius must not be null!");
@@ -2773,6 +3736,8 @@ public class JedisClusterConnection implements RedisClusterConnection {
 	public GeoResults<GeoLocation<byte[]>> geoRadiusByMember(byte[] key, byte[] member, Distance radius,
 			GeoRadiusCommandArgs args) {
 
+		assertNotPipelined("GEORADIUSBYMEMBER");
+
 		Assert.notNull(key, "Key must not be null!");
 		Assert.notNull(member, "Member must not be null!");
 		Assert.notNull(radius, "Radius must not be null!");
@@ -2818,6 +3783,8 @@ public class JedisClusterConnection implements RedisClusterConnection {
 	@Override
 	public byte[] echo(final byte[] message) {
 
+		assertNotPipelined("ECHO");
+
 		try {
 			return cluster.echo(message);
 		} catch (Exception ex) {
@@ -2832,6 +3799,8 @@ public class JedisClusterConnection implements RedisClusterConnection {
 	@Override
 	public String ping() {
 
+		assertNotPipelined("PING");
+
 		return !clusterCommandExecutor.executeCommandOnAllNodes(new JedisClusterCommandCallback<String>() {
 
 			@Override
@@ -2849,6 +3818,8 @@ public class JedisClusterConnection implements RedisClusterConnection {
 	@Override
 	public String ping(RedisClusterNode node) {
 
+		assertNotPipelined("PING");
+
 		return clusterCommandExecutor.executeCommandOnSingleNode(new JedisClusterCommandCallback<String>() {
 
 			@Override
@@ -2865,6 +3836,8 @@ public class JedisClusterConnection implements RedisClusterConnection {
 	@Override
 	public void bgWriteAof() {
 
+		assertNotPipelined("BGREWRITEAOF");
+
 		clusterCommandExecutor.executeCommandOnAllNodes(new JedisClusterCommandCallback<String>() {
 
 			@Override
@@ -2881,6 +3854,8 @@ public class JedisClusterConnection implements RedisClusterConnection {
 	@Override
 	public void bgReWriteAof(RedisClusterNode node) {
 
+		assertNotPipelined("BGREWRITEAOF");
+
 		clusterCommandExecutor.executeCommandOnSingleNode(new JedisClusterCommandCallback<String>() {
 
 			@Override
@@ -2897,6 +3872,8 @@ public class JedisClusterConnection implements RedisClusterConnection {
 	@Override
 	public void bgReWriteAof() {
 
+		assertNotPipelined("BGREWRITEAOF");
+
 		clusterCommandExecutor.executeCommandOnAllNodes(new JedisClusterCommandCallback<String>() {
 
 			@Override
@@ -2913,6 +3890,8 @@ public class JedisClusterConnection implements RedisClusterConnection {
 	@Override
 	public void bgSave() {
 
+		assertNotPipelined("BGSAVE");
+
 		clusterCommandExecutor.executeCommandOnAllNodes(new JedisClusterCommandCallback<String>() {
 
 			@Override
@@ -2929,6 +3908,8 @@ public class JedisClusterConnection implements RedisClusterConnection {
 	@Override
 	public void bgSave(RedisClusterNode node) {
 
+		assertNotPipelined("BGSAVE");
+
 		clusterCommandExecutor.executeCommandOnSingleNode(new JedisClusterCommandCallback<String>() {
 
 			@Override
@@ -2945,6 +3926,8 @@ public class JedisClusterConnection implements RedisClusterConnection {
 	@Override
 	public Long lastSave() {
 
+		assertNotPipelined("LASTSAVE");
+
 		List<Long> result = new ArrayList<Long>(
 				clusterCommandExecutor.executeCommandOnAllNodes(new JedisClusterCommandCallback<Long>() {
 
@@ -2969,6 +3952,8 @@ public class JedisClusterConnection implements RedisClusterConnection {
 	@Override
 	public Long lastSave(RedisClusterNode node) {
 
+		assertNotPipelined("LASTSAVE");
+
 		return clusterCommandExecutor.executeCommandOnSingleNode(new JedisClusterCommandCallback<Long>() {
 
 			@Override
@@ -2985,6 +3970,8 @@ public class JedisClusterConnection implements RedisClusterConnection {
 	@Override
 	public void save() {
 
+		assertNotPipelined("SAVE");
+
 		clusterCommandExecutor.executeCommandOnAllNodes(new JedisClusterCommandCallback<String>() {
 
 			@Override
@@ -3001,6 +3988,8 @@ public class JedisClusterConnection implements RedisClusterConnection {
 	@Override
 	public void save(RedisClusterNode node) {
 
+		assertNotPipelined("SAVE");
+
 		clusterCommandExecutor.executeCommandOnSingleNode(new JedisClusterCommandCallback<String>() {
 
 			@Override
@@ -3017,6 +4006,8 @@ public class JedisClusterConnection implements RedisClusterConnection {
 	@Override
 	public Long dbSize() {
 
+		assertNotPipelined("DBSIZE");
+
 		Collection<Long> dbSizes = clusterCommandExecutor.executeCommandOnAllNodes(new JedisClusterCommandCallback<Long>() {
 
 			@Override
@@ -3043,6 +4034,8 @@ public class JedisClusterConnection implements RedisClusterConnection {
 	@Override
 	public Long dbSize(RedisClusterNode node) {
 
+		assertNotPipelined("DBSIZE");
+
 		return clusterCommandExecutor.executeCommandOnSingleNode(new JedisClusterCommandCallback<Long>() {
 
 			@Override
@@ -3059,6 +4052,8 @@ public class JedisClusterConnection implements RedisClusterConnection {
 	@Override
 	public void flushDb() {
 
+		assertNotPipelined("FLUSHDB");
+
 		clusterCommandExecutor.executeCommandOnAllNodes(new JedisClusterCommandCallback<String>() {
 
 			@Override
@@ -3075,6 +4070,8 @@ public class JedisClusterConnection implements RedisClusterConnection {
 	@Override
 	public void flushDb(RedisClusterNode node) {
 
+		assertNotPipelined("FLUSHDB");
+
 		clusterCommandExecutor.executeCommandOnSingleNode(new JedisClusterCommandCallback<String>() {
 
 			@Override
@@ -3091,6 +4088,8 @@ public class JedisClusterConnection implements RedisClusterConnection {
 	@Override
 	public void flushAll() {
 
+		assertNotPipelined("FLUSHALL");
+
 		clusterCommandExecutor.executeCommandOnAllNodes(new JedisClusterCommandCallback<String>() {
 
 			@Override
@@ -3107,6 +4106,8 @@ public class JedisClusterConnection implements RedisClusterConnection {
 	@Override
 	public void flushAll(RedisClusterNode node) {
 
+		assertNotPipelined("FLUSHALL");
+
 		clusterCommandExecutor.executeCommandOnSingleNode(new JedisClusterCommandCallback<String>() {
 
 			@Override
@@ -3123,6 +4124,8 @@ public class JedisClusterConnection implements RedisClusterConnection {
 	@Override
 	public Properties info() {
 
+		assertNotPipelined("INFO");
+
 		Properties infos = new Properties();
 
 		List<NodeResult<Properties>> nodeResults = clusterCommandExecutor
@@ -3150,6 +4153,8 @@ public class JedisClusterConnection implements RedisClusterConnection {
 	@Override
 	public Properties info(RedisClusterNode node) {
 
+		assertNotPipelined("INFO");
+
 		return JedisConverters
 				.toProperties(clusterCommandExecutor.executeCommandOnSingleNode(new JedisClusterCommandCallback<String>() {
 
@@ -3167,6 +4172,8 @@ public class JedisClusterConnection implements RedisClusterConnection {
 	@Override
 	public Properties info(final String section) {
 
+		assertNotPipelined("INFO");
+
 		Properties infos = new Properties();
 
 		List<NodeResult<Properties>> nodeResults = clusterCommandExecutor
@@ -3194,6 +4201,8 @@ public class JedisClusterConnection implements RedisClusterConnection {
 	@Override
 	public Properties info(RedisClusterNode node, final String section) {
 
+		assertNotPipelined("INFO");
+
 		return JedisConverters
 				.toProperties(clusterCommandExecutor.executeCommandOnSingleNode(new JedisClusterCommandCallback<String>() {
 
@@ -3211,6 +4220,8 @@ public class JedisClusterConnection implements RedisClusterConnection {
 	@Override
 	public void shutdown() {
 
+		assertNotPipelined("SHUTDOWN");
+
 		clusterCommandExecutor.executeCommandOnAllNodes(new JedisClusterCommandCallback<String>() {
 
 			@Override
@@ -3227,6 +4238,8 @@ public class JedisClusterConnection implements RedisClusterConnection {
 	@Override
 	public void shutdown(RedisClusterNode node) {
 
+		assertNotPipelined("SHUTDOWN");
+
 		clusterCommandExecutor.executeCommandOnSingleNode(new JedisClusterCommandCallback<String>() {
 
 			@Override
@@ -3244,6 +4257,8 @@ public class JedisClusterConnection implements RedisClusterConnection {
 	@Override
 	public void shutdown(ShutdownOption option) {
 
+		assertNotPipelined("SHUTDOWN");
+
 		if (option == null) {
 			shutdown();
 			return;
@@ -3259,6 +4274,8 @@ public class JedisClusterConnection implements RedisClusterConnection {
 	@Override
 	public List<String> getConfig(final String pattern) {
 
+		assertNotPipelined("CONFIG GET");
+
 		List<NodeResult<List<String>>> mapResult = clusterCommandExecutor
 				.executeCommandOnAllNodes(new JedisClusterCommandCallback<List<String>>() {
 
@@ -3288,6 +4305,8 @@ public class JedisClusterConnection implements RedisClusterConnection {
 	@Override
 	public List<String> getConfig(RedisClusterNode node, final String pattern) {
 
+		assertNotPipelined("CONFIG GET");
+
 		return clusterCommandExecutor.executeCommandOnSingleNode(new JedisClusterCommandCallback<List<String>>() {
 
 			@Override
@@ -3304,6 +4323,8 @@ public class JedisClusterConnection implements RedisClusterConnection {
 	@Override
 	public void setConfig(final String param, final String value) {
 
+		assertNotPipelined("CONFIG SET");
+
 		clusterCommandExecutor.executeCommandOnAllNodes(new JedisClusterCommandCallback<String>() {
 
 			@Override
@@ -3320,6 +4341,8 @@ public class JedisClusterConnection implements RedisClusterConnection {
 	@Override
 	public void setConfig(RedisClusterNode node, final String param, final String value) {
 
+		assertNotPipelined("CONFIG SET");
+
 		clusterCommandExecutor.executeCommandOnSingleNode(new JedisClusterCommandCallback<String>() {
 
 			@Override
@@ -3336,6 +4359,8 @@ public class JedisClusterConnection implements RedisClusterConnection {
 	@Override
 	public void resetConfigStats() {
 
+		assertNotPipelined("CONFIG RESETSTAT");
+
 		clusterCommandExecutor.executeCommandOnAllNodes(new JedisClusterCommandCallback<String>() {
 
 			@Override
@@ -3352,6 +4377,8 @@ public class JedisClusterConnection implements RedisClusterConnection {
 	@Override
 	public void resetConfigStats(RedisClusterNode node) {
 
+		assertNotPipelined("CONFIG RESETSTAT");
+
 		clusterCommandExecutor.executeCommandOnSingleNode(new JedisClusterCommandCallback<String>() {
 
 			@Override
@@ -3368,6 +4395,8 @@ public class JedisClusterConnection implements RedisClusterConnection {
 	@Override
 	public Long time() {
 
+		assertNotPipelined("TIME");
+
 		return convertListOfStringToTime(
 				clusterCommandExecutor.executeCommandOnArbitraryNode(new JedisClusterCommandCallback<List<String>>() {
 
@@ -3385,6 +4414,8 @@ public class JedisClusterConnection implements RedisClusterConnection {
 	@Override
 	public Long time(RedisClusterNode node) {
 
+		assertNotPipelined("TIME");
+
 		return convertListOfStringToTime(
 				clusterCommandExecutor.executeCommandOnSingleNode(new JedisClusterCommandCallback<List<String>>() {
 
@@ -3411,6 +4442,8 @@ public class JedisClusterConnection implements RedisClusterConnection {
 	@Override
 	public void killClient(String host, int port) {
 
+		assertNotPipelined("CLIENT KILL");
+
 		final String hostAndPort = String.format("%s:%s", host, port);
 
 		clusterCommandExecutor.executeCommandOnAllNodes(new JedisClusterCommandCallback<String>() {
@@ -3447,6 +4480,8 @@ public class JedisClusterConnection implements RedisClusterConnection {
 	@Override
 	public List<RedisClientInfo> getClientList() {
 
+		assertNotPipelined("CLIENT LIST");
+
 		Collection<String> map = clusterCommandExecutor.executeCommandOnAllNodes(new JedisClusterCommandCallback<String>() {
 
 			@Override
@@ -3469,6 +4504,8 @@ public class JedisClusterConnection implements RedisClusterConnection {
 	@Override
 	public List<RedisClientInfo> getClientList(RedisClusterNode node) {
 
+		assertNotPipelined("CLIENT LIST");
+
 		return JedisConverters.toListOfRedisClientInformation(
 				clusterCommandExecutor.executeCommandOnSingleNode(new JedisClusterCommandCallback<String>() {
 
@@ -3540,8 +4577,16 @@ public class JedisClusterConnection implements RedisClusterConnection {
 	 * @see org.springframework.data.redis.connection.RedisScriptingCommands#eval(byte[], org.springframework.data.redis.connection.ReturnType, int, byte[][])
 	 */
 	@Override
+	@SuppressWarnings("unchecked")
 	public <T> T eval(byte[] script, ReturnType returnType, int numKeys, byte[]... keysAndArgs) {
-		throw new InvalidDataAccessApiUsageException("Eval is not supported in cluster environment.");
+
+		assertSingleSlotScript("Eval", numKeys, keysAndArgs);
+
+		try {
+			return (T) new JedisScriptReturnConverter(returnType).convert(cluster.eval(script, numKeys, keysAndArgs));
+		} catch (Exception ex) {
+			throw convertJedisAccessException(ex);
+		}
 	}
 
 	/*
@@ -3550,7 +4595,7 @@ public class JedisClusterConnection implements RedisClusterConnection {
 	 */
 	@Override
 	public <T> T evalSha(String scriptSha, ReturnType returnType, int numKeys, byte[]... keysAndArgs) {
-		throw new InvalidDataAccessApiUsageException("EvalSha is not supported in cluster environment.");
+		return evalSha(JedisConverters.toBytes(scriptSha), returnType, numKeys, keysAndArgs);
 	}
 
 	/*
@@ -3558,8 +4603,41 @@ public class JedisClusterConnection implements RedisClusterConnection {
 	 * @see org.springframework.data.redis.connection.RedisScriptingCommands#evalSha(byte[], org.springframework.data.redis.connection.ReturnType, int, byte[][])
 	 */
 	@Override
+	@SuppressWarnings("unchecked")
 	public <T> T evalSha(byte[] scriptSha, ReturnType returnType, int numKeys, byte[]... keysAndArgs) {
-		throw new InvalidDataAccessApiUsageException("EvalSha is not supported in cluster environment.");
+
+		assertSingleSlotScript("EvalSha", numKeys, keysAndArgs);
+
+		try {
+			return (T) new JedisScriptReturnConverter(returnType).convert(cluster.evalsha(scriptSha, numKeys, keysAndArgs));
+		} catch (Exception ex) {
+			throw convertJedisAccessException(ex);
+		}
+	}
+
+	/**
+	 * Commands executed immediately while pipelining would not show up in {@link #closePipeline()} results, so every
+	 * command without pipeline support is rejected while the connection is pipelined.
+	 */
+	private void assertNotPipelined(String command) {
+
+		if (isPipelined()) {
+			throw new UnsupportedOperationException(String.format("%s is not supported in pipeline mode.", command));
+		}
+	}
+
+	/**
+	 * Scripts are routed by their keys, so they need at least one key and all keys have to map to the same slot.
+	 */
+	private void assertSingleSlotScript(String command, int numKeys, byte[]... keysAndArgs) {
+
+		assertNotPipelined(command);
+
+		if (numKeys <= 0 || keysAndArgs.length < numKeys
+				|| !ClusterSlotHashUtil.isSameSlotForAllKeys(Arrays.copyOf(keysAndArgs, numKeys))) {
+			throw new InvalidDataAccessApiUsageException(String
+					.format("%s is only supported in cluster environment for keys mapping to the same slot.", command));
+		}
 	}
 
 	/*
@@ -3569,6 +4647,8 @@ public class JedisClusterConnection implements RedisClusterConnection {
 	@Override
 	public Long pfAdd(byte[] key, byte[]... values) {
 
+		assertNotPipelined("PFADD");
+
 		try {
 			return cluster.pfadd(key, values);
 		} catch (Exception ex) {
@@ -3583,6 +4663,8 @@ public class JedisClusterConnection implements RedisClusterConnection {
 	@Override
 	public Long pfCount(byte[]... keys) {
 
+		assertNotPipelined("PFCOUNT");
+
 		if (ClusterSlotHashUtil.isSameSlotForAllKeys(keys)) {
 
 			try {
@@ -3602,6 +4684,8 @@ public class JedisClusterConnection implements RedisClusterConnection {
 	@Override
 	public void pfMerge(byte[] destinationKey, byte[]... sourceKeys) {
 
+		assertNotPipelined("PFMERGE");
+
 		byte[][] allKeys = ByteUtils.mergeArrays(destinationKey, sourceKeys);
 
 		if (ClusterSlotHashUtil.isSameSlotForAllKeys(allKeys)) {
@@ -3623,6 +4707,28 @@ public class JedisClusterConnection implements RedisClusterConnection {
 	@Override
 	public Boolean exists(final byte[] key) {
 
+		if (isPipelined()) {
+
+			pipeline.queue(key, new JedisPipelineCallback<Boolean>() {
+
+				@Override
+				public Response<Boolean> doInPipeline(Pipeline pipeline) {
+					return pipeline.exists(key);
+				}
+			});
+			return null;
+		}
+
+		if (isReadingFromSlaves()) {
+			return executeRead(key, new JedisClusterCommandCallback<Boolean>() {
+
+				@Override
+				public Boolean doInCluster(Jedis client) {
+					return client.exists(key);
+				}
+			});
+		}
+
 		try {
 			return cluster.exists(key);
 		} catch (Exception ex) {
@@ -3641,6 +4747,8 @@ public class JedisClusterConnection implements RedisClusterConnection {
 	@Override
 	public void clusterSetSlot(final RedisClusterNode node, final int slot, final AddSlots mode) {
 
+		assertNotPipelined("CLUSTER SETSLOT");
+
 		Assert.notNull(node, "Node must not be null.");
 		Assert.notNull(mode, "AddSlots mode must not be null.");
 
@@ -3676,6 +4784,8 @@ public class JedisClusterConnection implements RedisClusterConnection {
 	@Override
 	public List<byte[]> clusterGetKeysInSlot(final int slot, final Integer count) {
 
+		assertNotPipelined("CLUSTER GETKEYSINSLOT");
+
 		RedisClusterNode node = clusterGetNodeForSlot(slot);
 
 		clusterCommandExecutor.executeCommandOnSingleNode(new JedisClusterCommandCallback<List<byte[]>>() {
@@ -3696,6 +4806,8 @@ public class JedisClusterConnection implements RedisClusterConnection {
 	@Override
 	public void clusterAddSlots(RedisClusterNode node, final int... slots) {
 
+		assertNotPipelined("CLUSTER ADDSLOTS");
+
 		clusterCommandExecutor.executeCommandOnSingleNode(new JedisClusterCommandCallback<String>() {
 
 			@Override
@@ -3714,6 +4826,8 @@ public class JedisClusterConnection implements RedisClusterConnection {
 	@Override
 	public void clusterAddSlots(RedisClusterNode node, SlotRange range) {
 
+		assertNotPipelined("CLUSTER ADDSLOTS");
+
 		Assert.notNull(range, "Range must not be null.");
 
 		clusterAddSlots(node, range.getSlotsArray());
@@ -3726,6 +4840,8 @@ public class JedisClusterConnection implements RedisClusterConnection {
 	@Override
 	public Long clusterCountKeysInSlot(final int slot) {
 
+		assertNotPipelined("CLUSTER COUNTKEYSINSLOT");
+
 		RedisClusterNode node = clusterGetNodeForSlot(slot);
 
 		return clusterCommandExecutor.executeCommandOnSingleNode(new JedisClusterCommandCallback<Long>() {
@@ -3746,6 +4862,8 @@ public class JedisClusterConnection implements RedisClusterConnection {
 	@Override
 	public void clusterDeleteSlots(RedisClusterNode node, final int... slots) {
 
+		assertNotPipelined("CLUSTER DELSLOTS");
+
 		clusterCommandExecutor.executeCommandOnSingleNode(new JedisClusterCommandCallback<String>() {
 
 			@Override
@@ -3763,6 +4881,8 @@ public class JedisClusterConnection implements RedisClusterConnection {
 	@Override
 	public void clusterDeleteSlotsInRange(RedisClusterNode node, SlotRange range) {
 
+		assertNotPipelined("CLUSTER DELSLOTS");
+
 		Assert.notNull(range, "Range must not be null.");
 
 		clusterDeleteSlots(node, range.getSlotsArray());
@@ -3775,6 +4895,8 @@ public class JedisClusterConnection implements RedisClusterConnection {
 	@Override
 	public void clusterForget(final RedisClusterNode node) {
 
+		assertNotPipelined("CLUSTER FORGET");
+
 		Set<RedisClusterNode> nodes = new LinkedHashSet<RedisClusterNode>(
 				topologyProvider.getTopology().getActiveMasterNodes());
 		final RedisClusterNode nodeToRemove = topologyProvider.getTopology().lookup(node);
@@ -3796,6 +4918,8 @@ public class JedisClusterConnection implements RedisClusterConnection {
 	@Override
 	public void clusterMeet(final RedisClusterNode node) {
 
+		assertNotPipelined("CLUSTER MEET");
+
 		Assert.notNull(node, "Cluster node must not be null for CLUSTER MEET command!");
 		Assert.hasText(node.getHost(), "Node to meet cluster must have a host!");
 		Assert.isTrue(node.getPort() > 0, "Node to meet cluster must have a port greater 0!");
@@ -3817,6 +4941,8 @@ public class JedisClusterConnection implements RedisClusterConnection {
 	@Override
 	public void clusterReplicate(final RedisClusterNode master, RedisClusterNode slave) {
 
+		assertNotPipelined("CLUSTER REPLICATE");
+
 		final RedisClusterNode masterNode = topologyProvider.getTopology().lookup(master);
 
 		clusterCommandExecutor.executeCommandOnSingleNode(new JedisClusterCommandCallback<String>() {
@@ -3837,6 +4963,8 @@ public class JedisClusterConnection implements RedisClusterConnection {
 	@Override
 	public Integer clusterGetSlotForKey(final byte[] key) {
 
+		assertNotPipelined("CLUSTER KEYSLOT");
+
 		return clusterCommandExecutor.executeCommandOnArbitraryNode(new JedisClusterCommandCallback<Integer>() {
 
 			@Override
@@ -3878,6 +5006,8 @@ public class JedisClusterConnection implements RedisClusterConnection {
 	@Override
 	public Set<RedisClusterNode> clusterGetSlaves(final RedisClusterNode master) {
 
+		assertNotPipelined("CLUSTER SLAVES");
+
 		Assert.notNull(master, "Master cannot be null!");
 
 		final RedisClusterNode nodeToUse = topologyProvider.getTopology().lookup(master);
@@ -3899,6 +5029,8 @@ public class JedisClusterConnection implements RedisClusterConnection {
 	@Override
 	public Map<RedisClusterNode, Collection<RedisClusterNode>> clusterGetMasterSlaveMap() {
 
+		assertNotPipelined("CLUSTER SLAVES");
+
 		List<NodeResult<Collection<RedisClusterNode>>> nodeResults = clusterCommandExecutor
 				.executeCommandAsyncOnNodes(new JedisClusterCommandCallback<Collection<RedisClusterNode>>() {
 
@@ -3936,6 +5068,8 @@ public class JedisClusterConnection implements RedisClusterConnection {
 	@Override
 	public ClusterInfo clusterGetClusterInfo() {
 
+		assertNotPipelined("CLUSTER INFO");
+
 		return new ClusterInfo(JedisConverters
 				.toProperties(clusterCommandExecutor.executeCommandOnArbitraryNode(new JedisClusterCommandCallback<String>() {
 
@@ -3963,6 +5097,8 @@ public class JedisClusterConnection implements RedisClusterConnection {
 	public void migrate(final byte[] key, final RedisNode target, final int dbIndex, final MigrateOption option,
 			final long timeout) {
 
+		assertNotPipelined("MIGRATE");
+
 		final int timeoutToUse = timeout <= Integer.MAX_VALUE ? (int) timeout : Integer.MAX_VALUE;
 
 		RedisClusterNode node = topologyProvider.getTopology().lookup(target.getHost(), target.getPort());
@@ -3987,6 +5123,63 @@ public class JedisClusterConnection implements RedisClusterConnection {
 		return translated != null ? translated : new RedisSystemException(ex.getMessage(), ex);
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.RedisClusterConnection#setReadPolicy(org.springframework.data.redis.connection.ReadPolicy)
+	 */
+	@Override
+	public void setReadPolicy(ReadPolicy readPolicy) {
+
+		Assert.notNull(readPolicy, "ReadPolicy must not be null!");
+		this.readPolicy = readPolicy;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.RedisClusterConnection#getReadPolicy()
+	 */
+	@Override
+	public ReadPolicy getReadPolicy() {
+		return readPolicy;
+	}
+
+	private boolean isReadingFromSlaves() {
+		return !ReadPolicy.MASTER.equals(readPolicy);
+	}
+
+	/**
+	 * Run the given read command on a randomly chosen active slave of the master serving the key. Falls back to the
+	 * master when there is no active slave or the slave failed to execute the command. Jedis does not measure node
+	 * latencies so {@link ReadPolicy#NEAREST} is treated like {@link ReadPolicy#REPLICA_PREFERRED}.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @param callback must not be {@literal null}.
+	 * @return
+	 */
+	private <T> T executeRead(byte[] key, JedisClusterCommandCallback<T> callback) {
+
+		ClusterTopology topology = topologyProvider.getTopology();
+		RedisClusterNode master = topology.getKeyServingMasterNode(key);
+		List<RedisClusterNode> slaves = topology.getActiveSlaveNodes(master);
+
+		if (!slaves.isEmpty()) {
+
+			RedisClusterNode slave = slaves.size() == 1 ? slaves.get(0)
+					: slaves.get(ThreadLocalRandom.current().nextInt(slaves.size()));
+
+			try {
+				return clusterCommandExecutor.executeCommandOnSingleNode(callback, slave).getValue();
+			} catch (DataAccessException ex) {
+
+				if (log.isDebugEnabled()) {
+					log.debug(String.format("Reading from slave %s failed. Falling back to master %s.", slave, master), ex);
+				}
+			}
+		}
+
+		return clusterCommandExecutor.executeCommandOnSingleNode(callback, master).getValue();
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.redis.connection.RedisConnection#close()
@@ -4038,16 +5231,23 @@ public class JedisClusterConnection implements RedisClusterConnection {
 	 */
 	@Override
 	public boolean isPipelined() {
-		return false;
+		return pipeline != null;
 	}
 
-	/*
-	 * (non-Javadoc)
+	/**
+	 * Start a pipeline queueing commands until {@link #closePipeline()}. Queued commands are sent as one pipeline per
+	 * master node serving their keys. Pipelining is available for single key string, key expiration, list, set, sorted
+	 * set and hash commands as well as {@code DEL} on keys mapping to the same slot. Other commands are not queued and
+	 * executed immediately.
+	 *
 	 * @see org.springframework.data.redis.connection.RedisConnection#openPipeline()
 	 */
 	@Override
 	public void openPipeline() {
-		throw new UnsupportedOperationException("Pipeline is currently not supported for JedisClusterConnection.");
+
+		if (pipeline == null) {
+			pipeline = new JedisClusterPipeline(topologyProvider, clusterCommandExecutor, EXCEPTION_TRANSLATION);
+		}
 	}
 
 	/*
@@ -4056,7 +5256,16 @@ public class JedisClusterConnection implements RedisClusterConnection {
 	 */
 	@Override
 	public List<Object> closePipeline() throws RedisPipelineException {
-		throw new UnsupportedOperationException("Pipeline is currently not supported for JedisClusterConnection.");
+
+		if (pipeline == null) {
+			return Collections.emptyList();
+		}
+
+		try {
+			return pipeline.closePipeline();
+		} finally {
+			pipeline = null;
+		}
 	}
 
 	/*
@@ -4086,6 +5295,15 @@ public class JedisClusterConnection implements RedisClusterConnection {
 	 */
 	protected interface JedisMultiKeyClusterCommandCallback<T> extends MultiKeyClusterCommandCallback<Jedis, T> {}
 
+	/**
+	 * {@link Jedis} specific {@link SlotBatchClusterCommandCallback}.
+	 *
+	 * @author agent
+	 * @param <T>
+	 * @since 1.8.8
+	 */
+	protected interface JedisSlotBatchClusterCommandCallback<T> extends SlotBatchClusterCommandCallback<Jedis, T> {}
+
 	/**
 	 * Jedis specific implementation of {@link ClusterNodeResourceProvider}.
 	 *
@@ -4098,6 +5316,8 @@ public class JedisClusterConnection implements RedisClusterConnection {
 		private final JedisCluster cluster;
 		private final ClusterTopologyProvider topologyProvider;
 		private final JedisClusterConnectionHandler connectionHandler;
+		private final Map<Socket, Boolean> readOnlyConnections = new ConcurrentReferenceHashMap<Socket, Boolean>(16,
+				ReferenceType.WEAK);
 
 		/**
 		 * Creates new {@link JedisClusterNodeResourceProvider}.
@@ -4132,18 +5352,48 @@ public class JedisClusterConnection implements RedisClusterConnection {
 
 			JedisPool pool = getResourcePoolForSpecificNode(node);
 			if (pool != null) {
-				return pool.getResource();
+				return enableSlaveReads(node, pool.getResource());
 			}
 
 			Jedis connection = getConnectionForSpecificNode(node);
 
 			if (connection != null) {
-				return connection;
+				return enableSlaveReads(node, connection);
 			}
 
 			throw new IllegalStateException(String.format("Node %s is unknown to cluster", node));
 		}
 
+		/**
+		 * Send {@code READONLY} on connections to slave nodes so that they serve reads for the slots of their master. The
+		 * command is sent once per physical connection, tracked by its socket which changes on reconnect.
+		 */
+		private Jedis enableSlaveReads(RedisClusterNode node, Jedis connection) {
+
+			if (!node.isSlave()) {
+				return connection;
+			}
+
+			Socket socket = connection.getClient().getSocket();
+
+			if (socket != null && readOnlyConnections.containsKey(socket)) {
+				return connection;
+			}
+
+			try {
+
+				connection.readonly();
+				readOnlyConnections.put(connection.getClient().getSocket(), Boolean.TRUE);
+				return connection;
+			} catch (RuntimeException ex) {
+
+				connection.close();
+
+				DataAccessException translated = EXCEPTION_TRANSLATION.translate(ex);
+				throw translated != null ? translated : ex;
+			}
+		}
+
 		private JedisPool getResourcePoolForSpecificNode(RedisClusterNode node) {
 
 			Map<String, JedisPool> clusterNodes = cluster.getClusterNodes();
@@ -4156,7 +5406,9 @@ public class JedisClusterConnection implements RedisClusterConnection {
 
 		private Jedis getConnectionForSpecificNode(RedisClusterNode node) {
 
-			RedisClusterNode member = topologyProvider.getTopology().lookup(node);
+			// redirect targets are addressed by host and port and might not be part of the topology yet
+			RedisClusterNode member = StringUtils.hasText(node.getHost()) && node.getPort() != null ? node
+					: topologyProvider.getTopology().lookup(node);
 
 			if (member != null && connectionHandler != null) {
 				return connectionHandler.getConnectionFromNode(new HostAndPort(member.getHost(), member.getPort()));
@@ -4176,25 +5428,76 @@ public class JedisClusterConnection implements RedisClusterConnection {
 	}
 
 	/**
-	 * Jedis specific implementation of {@link ClusterTopologyProvider}.
+	 * Jedis specific implementation of {@link ClusterTopologyProvider}. By default the {@link ClusterTopology} is loaded
+	 * on access once the cached snapshot is older than {@literal 100ms}. When created with a
+	 * {@link ScheduledExecutorService} the snapshot is instead refreshed in the background on a fixed period and
+	 * whenever {@link #refreshTopology()} is called, limited to one refresh per {@literal minRefreshInterval}. Requests
+	 * arriving within that interval are coalesced into a single refresh scheduled once the interval has passed. <br />
+	 * Readers obtain the current immutable snapshot without locking.
 	 *
 	 * @author Christoph Strobl
 	 * @since 1.7
 	 */
-	static class JedisClusterTopologyProvider implements ClusterTopologyProvider {
+	static class JedisClusterTopologyProvider implements RefreshableClusterTopologyProvider {
+
+		private static final Log LOGGER = LogFactory.getLog(JedisClusterTopologyProvider.class);
+		private static final long DEFAULT_MAX_AGE = 100;
 
-		private final Object lock = new Object();
+		private final Lock lock = new ReentrantLock();
+		private final AtomicBoolean refreshPending = new AtomicBoolean();
 		private final JedisCluster cluster;
-		private long time = 0;
-		private ClusterTopology cached;
+		private final long maxAge;
+		private final long minRefreshInterval;
+		private final ScheduledExecutorService scheduler;
+
+		private volatile long time = 0;
+		private volatile boolean stale;
+		private volatile ClusterTopology cached;
 
 		/**
-		 * Create new {@link JedisClusterTopologyProvider}.s
+		 * Create new {@link JedisClusterTopologyProvider}.
 		 *
 		 * @param cluster
 		 */
 		public JedisClusterTopologyProvider(JedisCluster cluster) {
+
+			this.cluster = cluster;
+			this.maxAge = DEFAULT_MAX_AGE;
+			this.minRefreshInterval = 0;
+			this.scheduler = null;
+		}
+
+		/**
+		 * Create new {@link JedisClusterTopologyProvider} refreshing the {@link ClusterTopology} in the background.
+		 *
+		 * @param cluster must not be {@literal null}.
+		 * @param refreshPeriod period in milliseconds between two scheduled refreshes. Must be greater than
+		 *          {@literal zero}.
+		 * @param minRefreshInterval minimum time in milliseconds between two refreshes triggered via
+		 *          {@link #refreshTopology()}.
+		 * @param scheduler must not be {@literal null}.
+		 * @since 1.8.8
+		 */
+		JedisClusterTopologyProvider(JedisCluster cluster, long refreshPeriod, long minRefreshInterval,
+				ScheduledExecutorService scheduler) {
+
+			Assert.notNull(cluster, "JedisCluster must not be null!");
+			Assert.isTrue(refreshPeriod > 0, "RefreshPeriod must be greater than zero!");
+			Assert.isTrue(minRefreshInterval >= 0, "MinRefreshInterval must not be negative!");
+			Assert.notNull(scheduler, "ScheduledExecutorService must not be null!");
+
 			this.cluster = cluster;
+			this.maxAge = -1;
+			this.minRefreshInterval = minRefreshInterval;
+			this.scheduler = scheduler;
+
+			scheduler.scheduleWithFixedDelay(new Runnable() {
+
+				@Override
+				public void run() {
+					refreshQuietly();
+				}
+			}, refreshPeriod, refreshPeriod, TimeUnit.MILLISECONDS);
 		}
 
 		/*
@@ -4204,9 +5507,87 @@ public class JedisClusterConnection implements RedisClusterConnection {
 		@Override
 		public ClusterTopology getTopology() {
 
-			if (cached != null && time + 100 > System.currentTimeMillis()) {
-				return cached;
+			ClusterTopology topology = cached;
+			if (topology != null && !isExpired()) {
+				return topology;
+			}
+
+			// keep serving the current snapshot while another thread is loading a new one
+			if (topology != null) {
+				if (!lock.tryLock()) {
+					return topology;
+				}
+			} else {
+				lock.lock();
+			}
+
+			try {
+
+				topology = cached;
+				if (topology != null && !isExpired()) {
+					return topology;
+				}
+
+				return load();
+			} finally {
+				lock.unlock();
+			}
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.redis.connection.RefreshableClusterTopologyProvider#refreshTopology()
+		 */
+		@Override
+		public void refreshTopology() {
+
+			if (scheduler == null) {
+
+				stale = true;
+				return;
+			}
+
+			if (refreshPending.compareAndSet(false, true)) {
+
+				// defer instead of dropping requests within minRefreshInterval, so the change is picked up eventually
+				long delay = Math.max(0, time + minRefreshInterval - System.currentTimeMillis());
+
+				try {
+					scheduler.schedule(new Runnable() {
+
+						@Override
+						public void run() {
+
+							try {
+								refreshQuietly();
+							} finally {
+								refreshPending.set(false);
+							}
+						}
+					}, delay, TimeUnit.MILLISECONDS);
+				} catch (RejectedExecutionException e) {
+					refreshPending.set(false);
+				}
+			}
+		}
+
+		private boolean isExpired() {
+			return stale || (maxAge >= 0 && time + maxAge <= System.currentTimeMillis());
+		}
+
+		private void refreshQuietly() {
+
+			lock.lock();
+			try {
+				load();
+			} catch (Exception e) {
+				LOGGER.warn("Cannot refresh cluster topology", e);
+			} finally {
+				lock.unlock();
 			}
+		}
+
+		private ClusterTopology load() {
 
 			Map<String, Exception> errors = new LinkedHashMap<String, Exception>();
 
@@ -4217,13 +5598,13 @@ public class JedisClusterConnection implements RedisClusterConnection {
 				try {
 					jedis = entry.getValue().getResource();
 
-					time = System.currentTimeMillis();
 					Set<RedisClusterNode> nodes = Converters.toSetOfRedisClusterNodes(jedis.clusterNodes());
+					ClusterTopology topology = new ClusterTopology(nodes);
 
-					synchronized (lock) {
-						cached = new ClusterTopology(nodes);
-					}
-					return cached;
+					cached = topology;
+					time = System.currentTimeMillis();
+					stale = false;
+					return topology;
 				} catch (Exception ex) {
 					errors.put(entry.getKey(), ex);
 				} finally {
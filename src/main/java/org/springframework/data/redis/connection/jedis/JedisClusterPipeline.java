@@ -0,0 +1,396 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.connection.jedis;
+
+import redis.clients.jedis.HostAndPort;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.Pipeline;
+import redis.clients.jedis.Response;
+import redis.clients.jedis.exceptions.JedisAskDataException;
+import redis.clients.jedis.exceptions.JedisDataException;
+import redis.clients.jedis.exceptions.JedisRedirectionException;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.ClusterStateFailureException;
+import org.springframework.data.redis.ExceptionTranslationStrategy;
+import org.springframework.data.redis.RedisSystemException;
+import org.springframework.data.redis.connection.ClusterCommandExecutor;
+import org.springframework.data.redis.connection.ClusterTopology;
+import org.springframework.data.redis.connection.ClusterTopologyProvider;
+import org.springframework.data.redis.connection.RedisClusterNode;
+import org.springframework.data.redis.connection.RedisPipelineException;
+import org.springframework.data.redis.connection.RefreshableClusterTopologyProvider;
+import org.springframework.data.redis.connection.jedis.JedisClusterConnection.JedisClusterCommandCallback;
+import org.springframework.util.Assert;
+
+/**
+ * Pipeline for {@link JedisClusterConnection} queueing commands until {@link #closePipeline()}. Queued commands are
+ * grouped by the master node serving their key and sent as one {@link Pipeline} per node. Nodes are flushed in
+ * parallel using the {@link ClusterCommandExecutor}. Commands answered with {@code MOVED} or {@code ASK} are sent again
+ * to the node the redirect points to until {@link ClusterCommandExecutor#getMaxRedirects()} is reached. <br />
+ * Results are returned in the order the commands have been queued. Commands sent to a node that failed are reported
+ * as failed while the results of all other nodes are retained.
+ *
+ * @author agent
+ * @since 1.8.8
+ */
+class JedisClusterPipeline {
+
+	private final ClusterTopologyProvider topologyProvider;
+	private final ClusterCommandExecutor executor;
+	private final ExceptionTranslationStrategy exceptionTranslation;
+	private final List<PipelinedCommand> commands = new ArrayList<PipelinedCommand>();
+
+	/**
+	 * Creates new {@link JedisClusterPipeline}.
+	 *
+	 * @param topologyProvider must not be {@literal null}.
+	 * @param executor must not be {@literal null}.
+	 * @param exceptionTranslation must not be {@literal null}.
+	 */
+	JedisClusterPipeline(ClusterTopologyProvider topologyProvider, ClusterCommandExecutor executor,
+			ExceptionTranslationStrategy exceptionTranslation) {
+
+		Assert.notNull(topologyProvider, "ClusterTopologyProvider must not be null!");
+		Assert.notNull(executor, "ClusterCommandExecutor must not be null!");
+		Assert.notNull(exceptionTranslation, "ExceptionTranslationStrategy must not be null!");
+
+		this.topologyProvider = topologyProvider;
+		this.executor = executor;
+		this.exceptionTranslation = exceptionTranslation;
+	}
+
+	/**
+	 * Queue a command operating on the given key.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @param callback must not be {@literal null}.
+	 */
+	void queue(byte[] key, JedisPipelineCallback<?> callback) {
+		queue(key, callback, null, false);
+	}
+
+	/**
+	 * Queue a command operating on the given key converting its result using the given {@link Converter}.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @param callback must not be {@literal null}.
+	 * @param converter can be {@literal null}.
+	 */
+	<T> void queue(byte[] key, JedisPipelineCallback<T> callback, Converter<T, ?> converter) {
+		queue(key, callback, converter, false);
+	}
+
+	/**
+	 * Queue a command operating on the given key whose status reply is not part of the pipeline results.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @param callback must not be {@literal null}.
+	 */
+	void queueStatus(byte[] key, JedisPipelineCallback<?> callback) {
+		queue(key, callback, null, true);
+	}
+
+	private void queue(byte[] key, JedisPipelineCallback<?> callback, Converter<?, ?> converter, boolean status) {
+
+		Assert.notNull(key, "Key must not be null!");
+		Assert.notNull(callback, "Callback must not be null!");
+
+		commands.add(new PipelinedCommand(key, callback, converter, status));
+	}
+
+	/**
+	 * Send all queued commands and return their results in the order the commands have been queued.
+	 *
+	 * @return never {@literal null}.
+	 * @throws RedisPipelineException if at least one of the commands failed.
+	 */
+	List<Object> closePipeline() {
+
+		if (commands.isEmpty()) {
+			return new ArrayList<Object>();
+		}
+
+		Object[] replies = new Object[commands.size()];
+		ClusterTopology topology = topologyProvider.getTopology();
+
+		Map<RedisClusterNode, List<Integer>> batches = new LinkedHashMap<RedisClusterNode, List<Integer>>();
+		for (int i = 0; i < commands.size(); i++) {
+			addToBatch(batches, topology.getKeyServingMasterNode(commands.get(i).key), i);
+		}
+
+		flush(batches, replies);
+
+		for (int redirects = 0; redirects < executor.getMaxRedirects(); redirects++) {
+
+			batches = collectRedirects(replies);
+			if (batches.isEmpty()) {
+				break;
+			}
+
+			if (topologyProvider instanceof RefreshableClusterTopologyProvider) {
+				((RefreshableClusterTopologyProvider) topologyProvider).refreshTopology();
+			}
+
+			flush(batches, replies);
+		}
+
+		return convertReplies(replies);
+	}
+
+	private void flush(Map<RedisClusterNode, List<Integer>> batches, Object[] replies) {
+
+		Map<RedisClusterNode, NodePipelineCallback> callbacks = new LinkedHashMap<RedisClusterNode, NodePipelineCallback>();
+		for (Map.Entry<RedisClusterNode, List<Integer>> entry : batches.entrySet()) {
+			callbacks.put(entry.getKey(), new NodePipelineCallback(entry.getValue(), replies));
+		}
+
+		try {
+			executor.executeCommandAsyncOnNodes(callbacks);
+		} catch (RuntimeException ex) {
+
+			// retain the replies of completed nodes and fail the commands of all others
+			for (NodePipelineCallback callback : callbacks.values()) {
+				callback.failIfIncomplete(ex);
+			}
+		}
+	}
+
+	/**
+	 * Group commands answered with {@code MOVED} or {@code ASK} by the node the redirect points to.
+	 *
+	 * @param replies
+	 * @return
+	 */
+	private Map<RedisClusterNode, List<Integer>> collectRedirects(Object[] replies) {
+
+		Map<RedisClusterNode, List<Integer>> batches = new LinkedHashMap<RedisClusterNode, List<Integer>>();
+		ClusterTopology topology = topologyProvider.getTopology();
+
+		for (int i = 0; i < replies.length; i++) {
+
+			if (replies[i] instanceof JedisRedirectionException) {
+
+				HostAndPort target = ((JedisRedirectionException) replies[i]).getTargetNode();
+				addToBatch(batches, resolveRedirectTarget(topology, target), i);
+			}
+		}
+
+		return batches;
+	}
+
+	/**
+	 * Resolve the node a redirect points to. Nodes not yet part of the {@link ClusterTopology}, eg. right after a
+	 * failover or slot migration, are addressed by host and port.
+	 */
+	private static RedisClusterNode resolveRedirectTarget(ClusterTopology topology, HostAndPort target) {
+
+		try {
+			return topology.lookup(target.getHost(), target.getPort());
+		} catch (ClusterStateFailureException e) {
+			return new RedisClusterNode(target.getHost(), target.getPort());
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private List<Object> convertReplies(Object[] replies) {
+
+		List<Object> results = new ArrayList<Object>(replies.length);
+		Exception cause = null;
+
+		for (int i = 0; i < replies.length; i++) {
+
+			PipelinedCommand command = commands.get(i);
+			Object reply = replies[i];
+
+			if (reply instanceof Exception) {
+
+				DataAccessException dataAccessException = convertException((Exception) reply);
+				if (cause == null) {
+					cause = dataAccessException;
+				}
+				results.add(dataAccessException);
+				continue;
+			}
+
+			if (command.status) {
+				continue;
+			}
+
+			results.add(command.converter != null && reply != null ? command.converter.convert(reply) : reply);
+		}
+
+		if (cause != null) {
+			throw new RedisPipelineException(cause, results);
+		}
+
+		return results;
+	}
+
+	private DataAccessException convertException(Exception ex) {
+
+		if (ex instanceof DataAccessException) {
+			return (DataAccessException) ex;
+		}
+
+		DataAccessException translated = exceptionTranslation.translate(ex);
+		return translated != null ? translated : new RedisSystemException(ex.getMessage(), ex);
+	}
+
+	private static void addToBatch(Map<RedisClusterNode, List<Integer>> batches, RedisClusterNode node, int index) {
+
+		List<Integer> batch = batches.get(node);
+		if (batch == null) {
+
+			batch = new ArrayList<Integer>();
+			batches.put(node, batch);
+		}
+		batch.add(index);
+	}
+
+	/**
+	 * Callback adding a single command to a Jedis {@link Pipeline}.
+	 *
+	 * @author agent
+	 * @param <T> the raw reply type.
+	 * @since 1.8.8
+	 */
+	interface JedisPipelineCallback<T> {
+		Response<T> doInPipeline(Pipeline pipeline);
+	}
+
+	/**
+	 * Sends the commands at the given positions to a single node and stores their replies at the very same positions.
+	 * Commands previously answered with {@code ASK} are sent one by one each preceded by {@code ASKING}.
+	 *
+	 * @author agent
+	 * @since 1.8.8
+	 */
+	private class NodePipelineCallback implements JedisClusterCommandCallback<Void> {
+
+		private final List<Integer> indexes;
+		private final Object[] replies;
+		private volatile boolean completed;
+		private volatile RuntimeException failure;
+
+		NodePipelineCallback(List<Integer> indexes, Object[] replies) {
+
+			this.indexes = indexes;
+			this.replies = replies;
+		}
+
+		@Override
+		public Void doInCluster(Jedis client) {
+
+			try {
+				sendCommands(client);
+				completed = true;
+			} catch (RuntimeException e) {
+
+				failure = e;
+				throw e;
+			}
+
+			return null;
+		}
+
+		/**
+		 * Store the failure of this node, or the given one if the node did not run at all, as reply of all its commands
+		 * unless the node completed.
+		 *
+		 * @param fallback the failure reported for the batch of nodes.
+		 */
+		void failIfIncomplete(RuntimeException fallback) {
+
+			if (completed) {
+				return;
+			}
+
+			RuntimeException cause = failure != null ? failure : fallback;
+			for (Integer index : indexes) {
+				replies[index] = cause;
+			}
+		}
+
+		private void sendCommands(Jedis client) {
+
+			List<Integer> pipelined = new ArrayList<Integer>(indexes.size());
+			List<Integer> asking = new ArrayList<Integer>();
+
+			for (Integer index : indexes) {
+				(replies[index] instanceof JedisAskDataException ? asking : pipelined).add(index);
+			}
+
+			if (!pipelined.isEmpty()) {
+
+				Pipeline pipeline = client.pipelined();
+				List<Response<?>> responses = new ArrayList<Response<?>>(pipelined.size());
+
+				for (Integer index : pipelined) {
+					responses.add(commands.get(index).callback.doInPipeline(pipeline));
+				}
+
+				pipeline.sync();
+
+				for (int i = 0; i < pipelined.size(); i++) {
+					replies[pipelined.get(i)] = read(responses.get(i));
+				}
+			}
+
+			for (Integer index : asking) {
+
+				client.asking();
+
+				Pipeline pipeline = client.pipelined();
+				Response<?> response = commands.get(index).callback.doInPipeline(pipeline);
+				pipeline.sync();
+
+				replies[index] = read(response);
+			}
+		}
+
+		private Object read(Response<?> response) {
+
+			try {
+				return response.get();
+			} catch (JedisDataException e) {
+				return e;
+			}
+		}
+	}
+
+	private static class PipelinedCommand {
+
+		private final byte[] key;
+		private final JedisPipelineCallback<?> callback;
+		@SuppressWarnings("rawtypes") private final Converter converter;
+		private final boolean status;
+
+		PipelinedCommand(byte[] key, JedisPipelineCallback<?> callback, Converter<?, ?> converter, boolean status) {
+
+			this.key = key;
+			this.callback = callback;
+			this.converter = converter;
+			this.status = status;
+		}
+	}
+}
@@ -21,6 +21,8 @@ import java.util.Collections;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -34,6 +36,7 @@ import org.springframework.data.redis.ExceptionTranslationStrategy;
 import org.springframework.data.redis.PassThroughExceptionTranslationStrategy;
 import org.springframework.data.redis.RedisConnectionFailureException;
 import org.springframework.data.redis.connection.ClusterCommandExecutor;
+import org.springframework.data.redis.connection.ClusterNodeTaskExecutor;
 import org.springframework.data.redis.connection.RedisClusterConfiguration;
 import org.springframework.data.redis.connection.RedisClusterConnection;
 import org.springframework.data.redis.connection.RedisConnection;
@@ -41,6 +44,7 @@ import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.RedisNode;
 import org.springframework.data.redis.connection.RedisSentinelConfiguration;
 import org.springframework.data.redis.connection.RedisSentinelConnection;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.util.Assert;
 import org.springframework.util.CollectionUtils;
 import org.springframework.util.ReflectionUtils;
@@ -98,6 +102,7 @@ public class JedisConnectionFactory implements InitializingBean, DisposableBean,
 	private int timeout = Protocol.DEFAULT_TIMEOUT;
 	private String password;
 	private boolean usePool = true;
+	private boolean useConcurrentPool = false;
 	private boolean useSsl = false;
 	private Pool<Jedis> pool;
 	private JedisPoolConfig poolConfig = new JedisPoolConfig();
@@ -108,6 +113,12 @@ public class JedisConnectionFactory implements InitializingBean, DisposableBean,
 	private RedisClusterConfiguration clusterConfig;
 	private JedisCluster cluster;
 	private ClusterCommandExecutor clusterCommandExecutor;
+	private JedisClusterConnection.JedisClusterTopologyProvider clusterTopologyProvider;
+	private ScheduledExecutorService clusterTopologyRefreshScheduler;
+	private long clusterTopologyRefreshPeriod = 60000;
+	private long clusterTopologyMinRefreshInterval = 1000;
+	private ClusterNodeTaskExecutor clusterNodeTaskExecutor;
+	private long clusterCommandTimeout = 0;
 
 	/**
 	 * Constructs a new <code>JedisConnectionFactory</code> instance with default settings (default connection pooling, no
@@ -264,13 +275,18 @@ public class JedisConnectionFactory implements InitializingBean, DisposableBean,
 	}
 
 	/**
-	 * Creates {@link JedisPool}.
+	 * Creates {@link JedisPool} or {@link ConcurrentJedisPool} if {@link #isUseConcurrentPool() enabled}.
 	 *
 	 * @return
 	 * @since 1.4
 	 */
 	protected Pool<Jedis> createRedisPool() {
 
+		if (useConcurrentPool) {
+			return new ConcurrentJedisPool(getPoolConfig(), getShardInfo().getHost(), getShardInfo().getPort(),
+					getTimeoutFrom(getShardInfo()), getShardInfo().getPassword(), clientName, useSsl);
+		}
+
 		return new JedisPool(getPoolConfig(), getShardInfo().getHost(), getShardInfo().getPort(),
 				getTimeoutFrom(getShardInfo()), getShardInfo().getPassword(), Protocol.DEFAULT_DATABASE, clientName, useSsl);
 	}
@@ -278,9 +294,19 @@ public class JedisConnectionFactory implements InitializingBean, DisposableBean,
 	private JedisCluster createCluster() {
 
 		JedisCluster cluster = createCluster(this.clusterConfig, getPoolConfig());
-		JedisClusterConnection.JedisClusterTopologyProvider topologyProvider = new JedisClusterConnection.JedisClusterTopologyProvider(cluster);
-		this.clusterCommandExecutor = new ClusterCommandExecutor(topologyProvider,
-				new JedisClusterConnection.JedisClusterNodeResourceProvider(cluster, topologyProvider), EXCEPTION_TRANSLATION);
+
+		CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("jedis-cluster-topology-");
+		threadFactory.setDaemon(true);
+		this.clusterTopologyRefreshScheduler = Executors.newSingleThreadScheduledExecutor(threadFactory);
+
+		// a single topology snapshot shared by all connections created by this factory
+		this.clusterTopologyProvider = new JedisClusterConnection.JedisClusterTopologyProvider(cluster,
+				clusterTopologyRefreshPeriod, clusterTopologyMinRefreshInterval, clusterTopologyRefreshScheduler);
+		this.clusterCommandExecutor = new ClusterCommandExecutor(clusterTopologyProvider,
+				new JedisClusterConnection.JedisClusterNodeResourceProvider(cluster, clusterTopologyProvider),
+				EXCEPTION_TRANSLATION,
+				clusterNodeTaskExecutor != null ? clusterNodeTaskExecutor : new ClusterNodeTaskExecutor());
+		this.clusterCommandExecutor.setCommandTimeout(clusterCommandTimeout);
 		return cluster;
 	}
 
@@ -333,6 +359,10 @@ public class JedisConnectionFactory implements InitializingBean, DisposableBean,
 				log.warn("Cannot properly close cluster command executor", ex);
 			}
 		}
+		if (clusterTopologyRefreshScheduler != null) {
+			clusterTopologyRefreshScheduler.shutdownNow();
+			clusterTopologyRefreshScheduler = null;
+		}
 	}
 
 	/*
@@ -362,7 +392,11 @@ public class JedisConnectionFactory implements InitializingBean, DisposableBean,
 		if (cluster == null) {
 			throw new InvalidDataAccessApiUsageException("Cluster is not configured!");
 		}
-		return new JedisClusterConnection(cluster, clusterCommandExecutor);
+
+		JedisClusterConnection connection = new JedisClusterConnection(cluster, clusterCommandExecutor,
+				clusterTopologyProvider);
+		connection.setReadPolicy(clusterConfig.getReadPolicy());
+		return connection;
 	}
 
 	/*
@@ -501,6 +535,28 @@ public class JedisConnectionFactory implements InitializingBean, DisposableBean,
 		this.usePool = usePool;
 	}
 
+	/**
+	 * Indicates the use of {@link ConcurrentJedisPool} instead of {@link JedisPool} for pooled connections.
+	 *
+	 * @return {@literal true} if the concurrent pool is used.
+	 * @since 1.8.8
+	 */
+	public boolean isUseConcurrentPool() {
+		return useConcurrentPool;
+	}
+
+	/**
+	 * Use a {@link ConcurrentJedisPool} instead of {@link JedisPool} when pooling connections to a single Redis server.
+	 * The concurrent pool does not serialize borrowers on a shared lock and hands out the connection last returned by the
+	 * borrowing thread if available. Sentinel pools are not affected. Defaults to {@literal false}.
+	 *
+	 * @param useConcurrentPool
+	 * @since 1.8.8
+	 */
+	public void setUseConcurrentPool(boolean useConcurrentPool) {
+		this.useConcurrentPool = useConcurrentPool;
+	}
+
 	/**
 	 * Returns the poolConfig.
 	 *
@@ -580,6 +636,92 @@ public class JedisConnectionFactory implements InitializingBean, DisposableBean,
 		this.convertPipelineAndTxResults = convertPipelineAndTxResults;
 	}
 
+	/**
+	 * @return period in milliseconds between two background refreshes of the cluster topology.
+	 * @since 1.8.8
+	 */
+	public long getClusterTopologyRefreshPeriod() {
+		return clusterTopologyRefreshPeriod;
+	}
+
+	/**
+	 * Set the period in milliseconds between two background refreshes of the cluster topology shared by all cluster
+	 * connections. Independent of the period the topology is refreshed as soon as a node answers with {@code MOVED} or
+	 * {@code ASK} or cannot be reached. Defaults to {@literal 60 seconds}.
+	 *
+	 * @param clusterTopologyRefreshPeriod must be greater than {@literal zero}.
+	 * @since 1.8.8
+	 */
+	public void setClusterTopologyRefreshPeriod(long clusterTopologyRefreshPeriod) {
+
+		Assert.isTrue(clusterTopologyRefreshPeriod > 0, "ClusterTopologyRefreshPeriod must be greater than zero!");
+		this.clusterTopologyRefreshPeriod = clusterTopologyRefreshPeriod;
+	}
+
+	/**
+	 * @return minimum time in milliseconds between two refreshes of the cluster topology triggered by redirects or
+	 *         connection failures.
+	 * @since 1.8.8
+	 */
+	public long getClusterTopologyMinRefreshInterval() {
+		return clusterTopologyMinRefreshInterval;
+	}
+
+	/**
+	 * Set the minimum time in milliseconds between two refreshes of the cluster topology triggered by redirects or
+	 * connection failures. Triggers arriving within the interval are coalesced into a single refresh deferred until the
+	 * interval has passed. Defaults to {@literal 1 second}.
+	 *
+	 * @param clusterTopologyMinRefreshInterval must not be negative.
+	 * @since 1.8.8
+	 */
+	public void setClusterTopologyMinRefreshInterval(long clusterTopologyMinRefreshInterval) {
+
+		Assert.isTrue(clusterTopologyMinRefreshInterval >= 0, "ClusterTopologyMinRefreshInterval must not be negative!");
+		this.clusterTopologyMinRefreshInterval = clusterTopologyMinRefreshInterval;
+	}
+
+	/**
+	 * @return the {@link ClusterNodeTaskExecutor} running cluster commands on multiple nodes. {@literal null} if not set.
+	 * @since 1.8.8
+	 */
+	public ClusterNodeTaskExecutor getClusterNodeTaskExecutor() {
+		return clusterNodeTaskExecutor;
+	}
+
+	/**
+	 * Set the {@link ClusterNodeTaskExecutor} running cluster commands on multiple nodes, allowing to configure the per
+	 * node worker lanes and to read their statistics. The executor is destroyed along with this factory. A default one
+	 * is used if not set.
+	 *
+	 * @param clusterNodeTaskExecutor can be {@literal null}.
+	 * @since 1.8.8
+	 */
+	public void setClusterNodeTaskExecutor(ClusterNodeTaskExecutor clusterNodeTaskExecutor) {
+		this.clusterNodeTaskExecutor = clusterNodeTaskExecutor;
+	}
+
+	/**
+	 * @return maximum time in milliseconds to wait for cluster commands running on multiple nodes.
+	 * @since 1.8.8
+	 */
+	public long getClusterCommandTimeout() {
+		return clusterCommandTimeout;
+	}
+
+	/**
+	 * Set the maximum time in milliseconds to wait for cluster commands running on multiple nodes. Defaults to
+	 * {@literal zero}, waiting until all nodes replied.
+	 *
+	 * @param clusterCommandTimeout must not be negative.
+	 * @since 1.8.8
+	 */
+	public void setClusterCommandTimeout(long clusterCommandTimeout) {
+
+		Assert.isTrue(clusterCommandTimeout >= 0, "ClusterCommandTimeout must not be negative!");
+		this.clusterCommandTimeout = clusterCommandTimeout;
+	}
+
 	/**
 	 * @return true when {@link RedisSentinelConfiguration} is present.
 	 * @since 1.4
@@ -534,7 +534,9 @@ abstract public class JedisConverters extends Converters {
 			if (options.getCount() != null) {
 				sp.count(options.getCount().intValue());
 			}
-			if (StringUtils.hasText(options.getPattern())) {
+			if (options.isBinaryPattern()) {
+				sp.match(options.getBytePattern());
+			} else if (StringUtils.hasText(options.getPattern())) {
 				sp.match(options.getPattern());
 			}
 		}
@@ -0,0 +1,301 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.connection.lettuce;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.util.Assert;
+
+import com.lambdaworks.redis.LettuceFutures;
+import com.lambdaworks.redis.RedisFuture;
+import com.lambdaworks.redis.api.StatefulRedisConnection;
+import com.lambdaworks.redis.api.async.RedisAsyncCommands;
+import com.lambdaworks.redis.api.sync.RedisCommands;
+
+/**
+ * Decorator for a shared {@link StatefulRedisConnection} coalescing commands written by many threads into fewer socket
+ * writes. The decorated connection does not flush commands on its own. Instead written commands are flushed
+ * <ul>
+ * <li>by the writing thread as soon as {@literal batchSize} commands are pending,</li>
+ * <li>by a background thread as soon as no further commands arrived for a short moment, or</li>
+ * <li>by the background thread once the oldest pending command waited for {@literal maxDelay}.</li>
+ * </ul>
+ * Synchronous commands are issued via the asynchronous API and awaited after being counted, so a command is never
+ * waiting for a flush that does not happen. The reactive API is not available on the decorated connection.
+ *
+ * @author agent
+ * @since 1.8.8
+ */
+class AutoBatchingConnection implements InvocationHandler {
+
+	private static final long IDLE_CHECK_NANOS = TimeUnit.MICROSECONDS.toNanos(10);
+
+	private final StatefulRedisConnection<byte[], byte[]> delegate;
+	private final int batchSize;
+	private final long maxDelayNanos;
+	private final long timeout;
+
+	private final AtomicLong pending = new AtomicLong();
+	private final Map<Method, Method> asyncMethods = new ConcurrentHashMap<Method, Method>();
+	private final Thread flusher;
+	private volatile boolean running = true;
+
+	private final RedisCommands<byte[], byte[]> sync;
+	private final RedisAsyncCommands<byte[], byte[]> async;
+
+	@SuppressWarnings("unchecked")
+	private AutoBatchingConnection(StatefulRedisConnection<byte[], byte[]> delegate, int batchSize, long maxDelayMicros,
+			long timeout) {
+
+		this.delegate = delegate;
+		this.batchSize = batchSize;
+		this.maxDelayNanos = TimeUnit.MICROSECONDS.toNanos(maxDelayMicros);
+		this.timeout = timeout;
+
+		ClassLoader classLoader = getClass().getClassLoader();
+		this.sync = (RedisCommands<byte[], byte[]>) Proxy.newProxyInstance(classLoader,
+				new Class<?>[] { RedisCommands.class }, new SyncCommandsInvocationHandler());
+		this.async = (RedisAsyncCommands<byte[], byte[]>) Proxy.newProxyInstance(classLoader,
+				new Class<?>[] { RedisAsyncCommands.class }, new AsyncCommandsInvocationHandler());
+
+		CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("lettuce-auto-batch-");
+		threadFactory.setDaemon(true);
+		this.flusher = threadFactory.newThread(new Flusher());
+	}
+
+	/**
+	 * Decorate the given {@link StatefulRedisConnection} to batch commands. Disables automatic flushing on the given
+	 * connection.
+	 *
+	 * @param connection must not be {@literal null}.
+	 * @param batchSize number of pending commands triggering an immediate flush. Must be greater than {@literal zero}.
+	 * @param maxDelayMicros maximum time in microseconds a command waits for being flushed.
+	 * @param timeout timeout in milliseconds for synchronous commands.
+	 * @return the decorated connection.
+	 */
+	@SuppressWarnings("unchecked")
+	static StatefulRedisConnection<byte[], byte[]> decorate(StatefulRedisConnection<byte[], byte[]> connection,
+			int batchSize, long maxDelayMicros, long timeout) {
+
+		Assert.notNull(connection, "Connection must not be null!");
+		Assert.isTrue(batchSize > 0, "BatchSize must be greater than zero!");
+		Assert.isTrue(maxDelayMicros > 0, "MaxDelay must be greater than zero!");
+
+		AutoBatchingConnection handler = new AutoBatchingConnection(connection, batchSize, maxDelayMicros, timeout);
+
+		connection.setAutoFlushCommands(false);
+		handler.flusher.start();
+
+		return (StatefulRedisConnection<byte[], byte[]>) Proxy.newProxyInstance(
+				AutoBatchingConnection.class.getClassLoader(), new Class<?>[] { StatefulRedisConnection.class }, handler);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.reflect.InvocationHandler#invoke(java.lang.Object, java.lang.reflect.Method, java.lang.Object[])
+	 */
+	@Override
+	public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+
+		String name = method.getName();
+
+		if ("sync".equals(name)) {
+			return sync;
+		}
+
+		if ("async".equals(name)) {
+			return async;
+		}
+
+		if ("reactive".equals(name)) {
+			throw new UnsupportedOperationException("The reactive API is not supported when batching commands.");
+		}
+
+		if ("close".equals(name)) {
+
+			running = false;
+			LockSupport.unpark(flusher);
+			flush();
+		}
+
+		Object result = invokeOn(delegate, method, args);
+
+		if ("dispatch".equals(name)) {
+			commandWritten();
+		}
+
+		return result;
+	}
+
+	/**
+	 * Count a command written to the connection and flush if the batch is full. Wakes up the {@link Flusher} for the
+	 * first pending command.
+	 */
+	private void commandWritten() {
+
+		long count = pending.incrementAndGet();
+
+		if (count >= batchSize || !running) {
+			flush();
+		} else if (count == 1) {
+			LockSupport.unpark(flusher);
+		}
+	}
+
+	private void flush() {
+
+		if (pending.getAndSet(0) > 0) {
+			delegate.flushCommands();
+		}
+	}
+
+	private static Object invokeOn(Object target, Method method, Object[] args) throws Throwable {
+
+		try {
+			return method.invoke(target, args);
+		} catch (InvocationTargetException e) {
+			throw e.getCause();
+		}
+	}
+
+	/**
+	 * Resolve the method of the asynchronous API matching the given method of the synchronous one.
+	 *
+	 * @param method
+	 * @return {@literal null} if the asynchronous API does not provide a matching method.
+	 */
+	private Method getAsyncMethod(Method method) {
+
+		Method asyncMethod = asyncMethods.get(method);
+
+		if (asyncMethod == null) {
+
+			try {
+				asyncMethod = RedisAsyncCommands.class.getMethod(method.getName(), method.getParameterTypes());
+			} catch (NoSuchMethodException e) {
+				asyncMethod = method;
+			}
+
+			asyncMethods.put(method, asyncMethod);
+		}
+
+		return asyncMethod != method ? asyncMethod : null;
+	}
+
+	/**
+	 * {@link InvocationHandler} for the synchronous API issuing commands via the asynchronous one.
+	 *
+	 * @author agent
+	 */
+	private class SyncCommandsInvocationHandler implements InvocationHandler {
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.lang.reflect.InvocationHandler#invoke(java.lang.Object, java.lang.reflect.Method, java.lang.Object[])
+		 */
+		@Override
+		public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+
+			Method asyncMethod = getAsyncMethod(method);
+
+			if (asyncMethod == null) {
+				return invokeOn(delegate.sync(), method, args);
+			}
+
+			Object result = invokeOn(delegate.async(), asyncMethod, args);
+
+			if (!(result instanceof RedisFuture)) {
+				return result;
+			}
+
+			commandWritten();
+			return LettuceFutures.awaitOrCancel((RedisFuture<?>) result, timeout, TimeUnit.MILLISECONDS);
+		}
+	}
+
+	/**
+	 * {@link InvocationHandler} for the asynchronous API counting written commands.
+	 *
+	 * @author agent
+	 */
+	private class AsyncCommandsInvocationHandler implements InvocationHandler {
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.lang.reflect.InvocationHandler#invoke(java.lang.Object, java.lang.reflect.Method, java.lang.Object[])
+		 */
+		@Override
+		public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+
+			Object result = invokeOn(delegate.async(), method, args);
+
+			if (result instanceof RedisFuture) {
+				commandWritten();
+			}
+
+			return result;
+		}
+	}
+
+	/**
+	 * Background task flushing pending commands once writers went idle or {@link #maxDelayNanos} elapsed.
+	 *
+	 * @author agent
+	 */
+	private class Flusher implements Runnable {
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.lang.Runnable#run()
+		 */
+		@Override
+		public void run() {
+
+			while (running) {
+
+				if (pending.get() == 0) {
+					LockSupport.park(this);
+					continue;
+				}
+
+				long deadline = System.nanoTime() + maxDelayNanos;
+				long seen = pending.get();
+
+				while (running && System.nanoTime() < deadline) {
+
+					LockSupport.parkNanos(this, IDLE_CHECK_NANOS);
+
+					long current = pending.get();
+					if (current == seen || current == 0) {
+						break;
+					}
+					seen = current;
+				}
+
+				flush();
+			}
+		}
+	}
+}
@@ -23,6 +23,7 @@ import org.apache.commons.pool2.impl.DefaultPooledObject;
 import org.apache.commons.pool2.impl.GenericObjectPool;
 import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
 import org.springframework.beans.factory.InitializingBean;
+import org.springframework.data.redis.connection.ConcurrentObjectPool;
 import org.springframework.data.redis.connection.PoolException;
 import org.springframework.data.redis.connection.RedisSentinelConfiguration;
 import org.springframework.util.Assert;
@@ -45,6 +46,8 @@ public class DefaultLettucePool implements LettucePool, InitializingBean {
 
 	@SuppressWarnings("rawtypes") //
 	private GenericObjectPool<StatefulConnection<byte[], byte[]>> internalPool;
+	private ConcurrentObjectPool<StatefulConnection<byte[], byte[]>> concurrentPool;
+	private boolean useConcurrentPool = false;
 	private RedisClient client;
 	private int dbIndex = 0;
 	private GenericObjectPoolConfig poolConfig = new GenericObjectPoolConfig();
@@ -117,8 +120,14 @@ public class DefaultLettucePool implements LettucePool, InitializingBean {
 		}
 
 		client.setDefaultTimeout(timeout, TimeUnit.MILLISECONDS);
-		this.internalPool = new GenericObjectPool<StatefulConnection<byte[], byte[]>>(new LettuceFactory(client, dbIndex),
-				poolConfig);
+
+		if (useConcurrentPool) {
+			this.concurrentPool = new ConcurrentObjectPool<StatefulConnection<byte[], byte[]>>(
+					new LettuceFactory(client, dbIndex), poolConfig);
+		} else {
+			this.internalPool = new GenericObjectPool<StatefulConnection<byte[], byte[]>>(
+					new LettuceFactory(client, dbIndex), poolConfig);
+		}
 	}
 
 	/**
@@ -147,6 +156,11 @@ public class DefaultLettucePool implements LettucePool, InitializingBean {
 	@Override
 	@SuppressWarnings("unchecked")
 	public StatefulConnection<byte[], byte[]> getResource() {
+
+		if (concurrentPool != null) {
+			return concurrentPool.getResource();
+		}
+
 		try {
 			return internalPool.borrowObject();
 		} catch (Exception e) {
@@ -161,6 +175,12 @@ public class DefaultLettucePool implements LettucePool, InitializingBean {
 	@Override
 	public void returnBrokenResource(final StatefulConnection<byte[], byte[]> resource) {
 
+		if (concurrentPool != null) {
+
+			concurrentPool.returnBrokenResource(resource);
+			return;
+		}
+
 		try {
 			internalPool.invalidateObject(resource);
 		} catch (Exception e) {
@@ -175,6 +195,12 @@ public class DefaultLettucePool implements LettucePool, InitializingBean {
 	@Override
 	public void returnResource(final StatefulConnection<byte[], byte[]> resource) {
 
+		if (concurrentPool != null) {
+
+			concurrentPool.returnResource(resource);
+			return;
+		}
+
 		try {
 			internalPool.returnObject(resource);
 		} catch (Exception e) {
@@ -190,8 +216,14 @@ public class DefaultLettucePool implements LettucePool, InitializingBean {
 	public void destroy() {
 
 		try {
+
 			client.shutdown();
-			internalPool.close();
+
+			if (concurrentPool != null) {
+				concurrentPool.destroy();
+			} else {
+				internalPool.close();
+			}
 		} catch (Exception e) {
 			throw new PoolException("Could not destroy the pool", e);
 		}
@@ -218,6 +250,38 @@ public class DefaultLettucePool implements LettucePool, InitializingBean {
 		this.poolConfig = poolConfig;
 	}
 
+	/**
+	 * @return {@literal true} if connections are pooled by a {@link ConcurrentObjectPool}.
+	 * @since 1.8.8
+	 */
+	public boolean isUseConcurrentPool() {
+		return useConcurrentPool;
+	}
+
+	/**
+	 * Pool connections using a {@link ConcurrentObjectPool} instead of a {@link GenericObjectPool}. The
+	 * {@link ConcurrentObjectPool} does not take locks when borrowing and returning connections and performs better if
+	 * many threads use the pool concurrently. It is configured via the same {@link #setPoolConfig(GenericObjectPoolConfig)
+	 * pool configuration}. Needs to be set before {@link #afterPropertiesSet()}. Defaults to {@literal false}.
+	 *
+	 * @param useConcurrentPool
+	 * @since 1.8.8
+	 */
+	public void setUseConcurrentPool(boolean useConcurrentPool) {
+		this.useConcurrentPool = useConcurrentPool;
+	}
+
+	/**
+	 * Get the {@link ConcurrentObjectPool} holding the connections, providing access to its metrics.
+	 *
+	 * @return {@literal null} unless {@link #setUseConcurrentPool(boolean) useConcurrentPool} is enabled and the pool
+	 *         has been initialized.
+	 * @since 1.8.8
+	 */
+	public ConcurrentObjectPool<StatefulConnection<byte[], byte[]>> getConcurrentPool() {
+		return concurrentPool;
+	}
+
 	/**
 	 * Returns the index of the database.
 	 * 
@@ -28,6 +28,9 @@ import java.util.Map.Entry;
 import java.util.Properties;
 import java.util.Random;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -35,23 +38,30 @@ import org.springframework.beans.DirectFieldAccessor;
 import org.springframework.beans.factory.DisposableBean;
 import org.springframework.dao.DataAccessException;
 import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.dao.QueryTimeoutException;
 import org.springframework.data.redis.ExceptionTranslationStrategy;
 import org.springframework.data.redis.PassThroughExceptionTranslationStrategy;
+import org.springframework.data.redis.RedisSystemException;
+import org.springframework.data.redis.connection.ClusterCommandExecutionFailureException;
 import org.springframework.data.redis.connection.ClusterCommandExecutor;
 import org.springframework.data.redis.connection.ClusterCommandExecutor.ClusterCommandCallback;
 import org.springframework.data.redis.connection.ClusterCommandExecutor.MultiKeyClusterCommandCallback;
 import org.springframework.data.redis.connection.ClusterCommandExecutor.NodeResult;
 import org.springframework.data.redis.connection.ClusterInfo;
 import org.springframework.data.redis.connection.ClusterNodeResourceProvider;
+import org.springframework.data.redis.connection.ClusterScanCursor;
 import org.springframework.data.redis.connection.ClusterSlotHashUtil;
 import org.springframework.data.redis.connection.ClusterTopology;
 import org.springframework.data.redis.connection.ClusterTopologyProvider;
+import org.springframework.data.redis.connection.ReadPolicy;
 import org.springframework.data.redis.connection.RedisClusterNode;
 import org.springframework.data.redis.connection.RedisClusterNode.SlotRange;
 import org.springframework.data.redis.connection.SortParameters;
 import org.springframework.data.redis.connection.convert.Converters;
 import org.springframework.data.redis.connection.util.ByteArraySet;
 import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanCursor;
+import org.springframework.data.redis.core.ScanIteration;
 import org.springframework.data.redis.core.ScanOptions;
 import org.springframework.data.redis.core.types.RedisClientInfo;
 import org.springframework.data.redis.util.ByteUtils;
@@ -59,13 +69,18 @@ import org.springframework.util.Assert;
 import org.springframework.util.CollectionUtils;
 import org.springframework.util.ObjectUtils;
 
+import com.lambdaworks.redis.KeyScanCursor;
 import com.lambdaworks.redis.KeyValue;
 import com.lambdaworks.redis.RedisException;
+import com.lambdaworks.redis.RedisFuture;
 import com.lambdaworks.redis.RedisURI;
+import com.lambdaworks.redis.ScanArgs;
 import com.lambdaworks.redis.api.StatefulConnection;
 import com.lambdaworks.redis.cluster.RedisClusterClient;
 import com.lambdaworks.redis.cluster.SlotHash;
 import com.lambdaworks.redis.cluster.api.StatefulRedisClusterConnection;
+import com.lambdaworks.redis.cluster.api.async.RedisAdvancedClusterAsyncCommands;
+import com.lambdaworks.redis.cluster.api.async.RedisClusterAsyncCommands;
 import com.lambdaworks.redis.cluster.api.sync.RedisClusterCommands;
 import com.lambdaworks.redis.cluster.models.partitions.Partitions;
 import com.lambdaworks.redis.codec.ByteArrayCodec;
@@ -83,12 +98,18 @@ public class LettuceClusterConnection extends LettuceConnection
 			new LettuceExceptionConverter());
 	static final RedisCodec<byte[], byte[]> CODEC = ByteArrayCodec.INSTANCE;
 
+	// RedisURI.DEFAULT_TIMEOUT is expressed in RedisURI.DEFAULT_TIMEOUT_UNIT while connections use milliseconds
+	private static final long DEFAULT_TIMEOUT = RedisURI.DEFAULT_TIMEOUT_UNIT.toMillis(RedisURI.DEFAULT_TIMEOUT);
+
 	private final Log log = LogFactory.getLog(getClass());
 
 	private final RedisClusterClient clusterClient;
+	private final long timeout;
 	private ClusterCommandExecutor clusterCommandExecutor;
 	private ClusterTopologyProvider topologyProvider;
 	private boolean disposeClusterCommandExecutorOnClose;
+	private ReadPolicy readPolicy = ReadPolicy.MASTER;
+	private StatefulRedisClusterConnection<byte[], byte[]> dedicatedConnection;
 
 	/**
 	 * Creates new {@link LettuceClusterConnection} using {@link RedisClusterClient} with default
@@ -98,7 +119,7 @@ public class LettuceClusterConnection extends LettuceConnection
 	 */
 	public LettuceClusterConnection(RedisClusterClient clusterClient) {
 
-		this(clusterClient, RedisURI.DEFAULT_TIMEOUT,
+		this(clusterClient, DEFAULT_TIMEOUT,
 				new ClusterCommandExecutor(new LettuceClusterTopologyProvider(clusterClient),
 						new LettuceClusterNodeResourceProvider(clusterClient), exceptionConverter));
 
@@ -113,7 +134,7 @@ public class LettuceClusterConnection extends LettuceConnection
 	 * @param executor must not be {@literal null}.
 	 */
 	public LettuceClusterConnection(RedisClusterClient clusterClient, ClusterCommandExecutor executor) {
-		this(clusterClient, RedisURI.DEFAULT_TIMEOUT, executor);
+		this(clusterClient, DEFAULT_TIMEOUT, executor);
 	}
 
 	/**
@@ -133,6 +154,7 @@ public class LettuceClusterConnection extends LettuceConnection
 		Assert.notNull(executor, "ClusterCommandExecutor must not be null.");
 
 		this.clusterClient = clusterClient;
+		this.timeout = timeout;
 		this.topologyProvider = new LettuceClusterTopologyProvider(clusterClient);
 		this.clusterCommandExecutor = executor;
 	}
@@ -143,7 +165,43 @@ public class LettuceClusterConnection extends LettuceConnection
 	 */
 	@Override
 	public Cursor<byte[]> scan(long cursorId, ScanOptions options) {
-		throw new InvalidDataAccessApiUsageException("Scan is not supported across multiple nodes within a cluster.");
+
+		if (cursorId != 0) {
+			throw new InvalidDataAccessApiUsageException(
+					"Resuming a scan from a cursor id is not supported across multiple nodes within a cluster.");
+		}
+
+		return new ClusterScanCursor(topologyProvider, this, options).open();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.RedisClusterConnection#scan(org.springframework.data.redis.connection.RedisClusterNode, org.springframework.data.redis.core.ScanOptions)
+	 */
+	@Override
+	public Cursor<byte[]> scan(final RedisClusterNode node, ScanOptions options) {
+
+		Assert.notNull(node, "RedisClusterNode must not be null!");
+
+		return new ScanCursor<byte[]>(options) {
+
+			@Override
+			protected ScanIteration<byte[]> doScan(final long cursorId, ScanOptions options) {
+
+				final ScanArgs scanArgs = getScanArgs(options);
+
+				KeyScanCursor<byte[]> keyScanCursor = clusterCommandExecutor
+						.executeCommandOnSingleNode(new LettuceClusterCommandCallback<KeyScanCursor<byte[]>>() {
+
+							@Override
+							public KeyScanCursor<byte[]> doInCluster(RedisClusterCommands<byte[], byte[]> client) {
+								return client.scan(getScanCursor(cursorId), scanArgs);
+							}
+						}, node).getValue();
+
+				return new ScanIteration<byte[]>(Long.valueOf(keyScanCursor.getCursor()), keyScanCursor.getKeys());
+			}
+		}.open();
 	}
 
 	/*
@@ -155,14 +213,13 @@ public class LettuceClusterConnection extends LettuceConnection
 
 		Assert.notNull(pattern, "Pattern must not be null!");
 
-		Collection<List<byte[]>> keysPerNode = clusterCommandExecutor
-				.executeCommandOnAllNodes(new LettuceClusterCommandCallback<List<byte[]>>() {
+		List<List<byte[]>> keysPerNode = executeAsyncOnAllMasters(new LettuceAsyncClusterCommandCallback<List<byte[]>>() {
 
-					@Override
-					public List<byte[]> doInCluster(RedisClusterCommands<byte[], byte[]> connection) {
-						return connection.keys(pattern);
-					}
-				}).resultsAsList();
+			@Override
+			public RedisFuture<List<byte[]>> doInCluster(RedisClusterAsyncCommands<byte[], byte[]> client) {
+				return client.keys(pattern);
+			}
+		});
 
 		Set<byte[]> keys = new HashSet<byte[]>();
 
@@ -179,10 +236,10 @@ public class LettuceClusterConnection extends LettuceConnection
 	@Override
 	public void flushAll() {
 
-		clusterCommandExecutor.executeCommandOnAllNodes(new LettuceClusterCommandCallback<String>() {
+		executeAsyncOnAllMasters(new LettuceAsyncClusterCommandCallback<String>() {
 
 			@Override
-			public String doInCluster(RedisClusterCommands<byte[], byte[]> client) {
+			public RedisFuture<String> doInCluster(RedisClusterAsyncCommands<byte[], byte[]> client) {
 				return client.flushall();
 			}
 		});
@@ -195,10 +252,10 @@ public class LettuceClusterConnection extends LettuceConnection
 	@Override
 	public void flushDb() {
 
-		clusterCommandExecutor.executeCommandOnAllNodes(new LettuceClusterCommandCallback<String>() {
+		executeAsyncOnAllMasters(new LettuceAsyncClusterCommandCallback<String>() {
 
 			@Override
-			public String doInCluster(RedisClusterCommands<byte[], byte[]> client) {
+			public RedisFuture<String> doInCluster(RedisClusterAsyncCommands<byte[], byte[]> client) {
 				return client.flushdb();
 			}
 		});
@@ -211,15 +268,13 @@ public class LettuceClusterConnection extends LettuceConnection
 	@Override
 	public Long dbSize() {
 
-		Collection<Long> dbSizes = clusterCommandExecutor
-				.executeCommandOnAllNodes(new LettuceClusterCommandCallback<Long>() {
-
-					@Override
-					public Long doInCluster(RedisClusterCommands<byte[], byte[]> client) {
-						return client.dbsize();
-					}
+		List<Long> dbSizes = executeAsyncOnAllMasters(new LettuceAsyncClusterCommandCallback<Long>() {
 
-				}).resultsAsList();
+			@Override
+			public RedisFuture<Long> doInCluster(RedisClusterAsyncCommands<byte[], byte[]> client) {
+				return client.dbsize();
+			}
+		});
 
 		if (CollectionUtils.isEmpty(dbSizes)) {
 			return 0L;
@@ -1225,13 +1280,108 @@ public class LettuceClusterConnection extends LettuceConnection
 		return sAdd(destKey, diff.toArray(new byte[diff.size()][]));
 	}
 
+	/**
+	 * Dispatch the command issued by the given callback to all active master nodes using their non-blocking connections
+	 * and wait for all nodes to reply. Unlike {@link ClusterCommandExecutor#executeCommandOnAllNodes} this does not occupy
+	 * a thread per node.
+	 *
+	 * @param callback must not be {@literal null}.
+	 * @return the replies of all nodes. Never {@literal null}.
+	 * @throws ClusterCommandExecutionFailureException if one or more nodes failed to execute the command.
+	 * @since 1.8.8
+	 */
+	private <T> List<T> executeAsyncOnAllMasters(LettuceAsyncClusterCommandCallback<T> callback) {
+
+		Map<RedisClusterNode, RedisFuture<T>> futures = new LinkedHashMap<RedisClusterNode, RedisFuture<T>>();
+		List<Throwable> exceptions = new ArrayList<Throwable>();
+
+		for (RedisClusterNode node : topologyProvider.getTopology().getActiveMasterNodes()) {
+
+			try {
+				futures.put(node, callback.doInCluster(getAsyncNodeConnection(node)));
+			} catch (Exception ex) {
+				exceptions.add(convertLettuceAccessException(ex));
+			}
+		}
+
+		List<T> results = new ArrayList<T>(futures.size());
+		long deadline = System.currentTimeMillis() + timeout;
+
+		for (Map.Entry<RedisClusterNode, RedisFuture<T>> entry : futures.entrySet()) {
+
+			try {
+				long remaining = Math.max(0, deadline - System.currentTimeMillis());
+				results.add(entry.getValue().get(remaining, TimeUnit.MILLISECONDS));
+			} catch (ExecutionException ex) {
+				exceptions.add(ex.getCause() instanceof Exception ? convertLettuceAccessException((Exception) ex.getCause())
+						: ex.getCause());
+			} catch (TimeoutException ex) {
+				exceptions.add(new QueryTimeoutException(String.format("Node %s did not reply within %s ms.",
+						entry.getKey().asString(), timeout), ex));
+			} catch (InterruptedException ex) {
+
+				Thread.currentThread().interrupt();
+				throw new RedisSystemException("Interrupted while waiting for cluster nodes to reply.", ex);
+			}
+		}
+
+		if (!exceptions.isEmpty()) {
+			throw new ClusterCommandExecutionFailureException(exceptions);
+		}
+		return results;
+	}
+
+	/**
+	 * Get the non-blocking connection to the given {@link RedisClusterNode} multiplexed by the dedicated cluster
+	 * connection.
+	 *
+	 * @param node must not be {@literal null}.
+	 * @return never {@literal null}.
+	 * @since 1.8.8
+	 */
+	@SuppressWarnings("unchecked")
+	protected RedisClusterAsyncCommands<byte[], byte[]> getAsyncNodeConnection(RedisClusterNode node) {
+		return ((RedisAdvancedClusterAsyncCommands<byte[], byte[]>) getAsyncDedicatedConnection())
+				.getConnection(node.getHost(), node.getPort());
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.redis.connection.lettuce.LettuceConnection#getAsyncDedicatedConnection()
 	 */
 	@Override
 	protected StatefulConnection<byte[], byte[]> doGetAsyncDedicatedConnection() {
-		return clusterClient.connect(CODEC);
+
+		StatefulRedisClusterConnection<byte[], byte[]> connection = clusterClient.connect(CODEC);
+		connection.setReadFrom(LettuceConverters.toReadFrom(readPolicy));
+
+		this.dedicatedConnection = connection;
+		return connection;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.RedisClusterConnection#setReadPolicy(org.springframework.data.redis.connection.ReadPolicy)
+	 */
+	@Override
+	public void setReadPolicy(ReadPolicy readPolicy) {
+
+		Assert.notNull(readPolicy, "ReadPolicy must not be null!");
+
+		this.readPolicy = readPolicy;
+
+		if (dedicatedConnection != null) {
+			dedicatedConnection.setReadFrom(LettuceConverters.toReadFrom(readPolicy));
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.RedisClusterConnection#getReadPolicy()
+	 */
+	@Override
+	public ReadPolicy getReadPolicy() {
+		return readPolicy;
 	}
 
 	// --> cluster node stuff
@@ -1559,6 +1709,22 @@ public class LettuceClusterConnection extends LettuceConnection
 	protected interface LettuceClusterCommandCallback<T>
 			extends ClusterCommandCallback<RedisClusterCommands<byte[], byte[]>, T> {}
 
+	/**
+	 * Callback issuing a command on the non-blocking connection of a single cluster node.
+	 *
+	 * @author agent
+	 * @param <T>
+	 * @since 1.8.8
+	 */
+	protected interface LettuceAsyncClusterCommandCallback<T> {
+
+		/**
+		 * @param client never {@literal null}.
+		 * @return the {@link RedisFuture} completing with the command reply.
+		 */
+		RedisFuture<T> doInCluster(RedisClusterAsyncCommands<byte[], byte[]> client);
+	}
+
 	/**
 	 * Lettuce specific implementation of {@link MultiKeyClusterCommandCallback}.
 	 *
@@ -1634,6 +1800,8 @@ public class LettuceClusterConnection extends LettuceConnection
 	static class LettuceClusterTopologyProvider implements ClusterTopologyProvider {
 
 		private final RedisClusterClient client;
+		private volatile long time = 0;
+		private volatile ClusterTopology cached;
 
 		/**
 		 * @param client must not be {@literal null}.
@@ -1650,8 +1818,19 @@ public class LettuceClusterConnection extends LettuceConnection
 		 */
 		@Override
 		public ClusterTopology getTopology() {
-			return new ClusterTopology(
+
+			ClusterTopology topology = cached;
+			if (topology != null && time + 100 > System.currentTimeMillis()) {
+				return topology;
+			}
+
+			// reuse the snapshot for a short period so its slot routing table is not rebuilt for every single command
+			topology = new ClusterTopology(
 					new LinkedHashSet<RedisClusterNode>(LettuceConverters.partitionsToClusterNodes(client.getPartitions())));
+
+			cached = topology;
+			time = System.currentTimeMillis();
+			return topology;
 		}
 	}
 
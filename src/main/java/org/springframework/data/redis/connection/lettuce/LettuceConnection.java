@@ -18,6 +18,7 @@ package org.springframework.data.redis.connection.lettuce;
 import static com.lambdaworks.redis.protocol.CommandType.*;
 
 import java.lang.reflect.Constructor;
+import java.nio.charset.Charset;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -141,6 +142,7 @@ public class LettuceConnection extends AbstractRedisConnection {
 	private static final ExceptionTranslationStrategy EXCEPTION_TRANSLATION = new FallbackExceptionTranslationStrategy(
 			LettuceConverters.exceptionConverter());
 	private static final TypeHints typeHints = new TypeHints();
+	private static final Charset ISO_8859_1 = Charset.forName("ISO-8859-1");
 
 	private final int defaultDbIndex;
 	private int dbIndex;
@@ -4065,18 +4067,21 @@ public class LettuceConnection extends AbstractRedisConnection {
 		return new byte[0][0];
 	}
 
-	private com.lambdaworks.redis.ScanCursor getScanCursor(long cursorId) {
+	com.lambdaworks.redis.ScanCursor getScanCursor(long cursorId) {
 		return com.lambdaworks.redis.ScanCursor.of(Long.toString(cursorId));
 	}
 
-	private ScanArgs getScanArgs(ScanOptions options) {
+	ScanArgs getScanArgs(ScanOptions options) {
 		if (options == null) {
 			return null;
 		}
 
 		ScanArgs scanArgs = new ScanArgs();
 
-		if (options.getPattern() != null) {
+		if (options.isBinaryPattern()) {
+			// Lettuce writes String arguments using one byte per char, so ISO-8859-1 hands over the raw pattern bytes
+			scanArgs.match(new String(options.getBytePattern(), ISO_8859_1));
+		} else if (options.getPattern() != null) {
 			scanArgs.match(options.getPattern());
 		}
 
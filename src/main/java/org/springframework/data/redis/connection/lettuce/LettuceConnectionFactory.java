@@ -17,7 +17,10 @@ package org.springframework.data.redis.connection.lettuce;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -30,7 +33,9 @@ import org.springframework.data.redis.ExceptionTranslationStrategy;
 import org.springframework.data.redis.PassThroughExceptionTranslationStrategy;
 import org.springframework.data.redis.RedisConnectionFailureException;
 import org.springframework.data.redis.connection.ClusterCommandExecutor;
+import org.springframework.data.redis.connection.ClusterNodeTaskExecutor;
 import org.springframework.data.redis.connection.Pool;
+import org.springframework.data.redis.connection.ReadPolicy;
 import org.springframework.data.redis.connection.RedisClusterConfiguration;
 import org.springframework.data.redis.connection.RedisClusterConnection;
 import org.springframework.data.redis.connection.RedisConnection;
@@ -38,6 +43,7 @@ import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.RedisNode;
 import org.springframework.data.redis.connection.RedisSentinelConfiguration;
 import org.springframework.data.redis.connection.RedisSentinelConnection;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
 import org.springframework.util.StringUtils;
@@ -48,6 +54,8 @@ import com.lambdaworks.redis.RedisException;
 import com.lambdaworks.redis.RedisURI;
 import com.lambdaworks.redis.api.StatefulRedisConnection;
 import com.lambdaworks.redis.cluster.RedisClusterClient;
+import com.lambdaworks.redis.masterslave.MasterSlave;
+import com.lambdaworks.redis.masterslave.StatefulRedisMasterSlaveConnection;
 import com.lambdaworks.redis.resource.ClientResources;
 
 /**
@@ -57,10 +65,11 @@ import com.lambdaworks.redis.resource.ClientResources;
  * {@link LettuceConnection}s share a single thread-safe native connection by default.
  * <p>
  * The shared native connection is never closed by {@link LettuceConnection}, therefore it is not validated by default
- * on {@link #getConnection()}. Use {@link #setValidateConnection(boolean)} to change this behavior if necessary. Inject
- * a {@link Pool} to pool dedicated connections. If shareNativeConnection is true, the pool will be used to select a
- * connection for blocking and tx operations only, which should not share a connection. If native connection sharing is
- * disabled, the selected connection will be used for all operations.
+ * on {@link #getConnection()}. Use {@link #setValidateConnection(boolean)} to change this behavior if necessary or
+ * {@link #setHealthCheckInterval(long)} to validate it in the background. Inject a {@link Pool} to pool dedicated
+ * connections. If shareNativeConnection is true, the pool will be used to select a connection for blocking and tx
+ * operations only, which should not share a connection. If native connection sharing is disabled, the selected
+ * connection will be used for all operations.
  *
  * @author Costin Leau
  * @author Jennifer Hickey
@@ -84,17 +93,27 @@ public class LettuceConnectionFactory implements InitializingBean, DisposableBea
 	private long timeout = TimeUnit.MILLISECONDS.convert(60, TimeUnit.SECONDS);
 	private long shutdownTimeout = TimeUnit.MILLISECONDS.convert(2, TimeUnit.SECONDS);
 	private boolean validateConnection = false;
+	private long healthCheckInterval = 0;
+	private ScheduledExecutorService healthCheckScheduler;
 	private boolean shareNativeConnection = true;
-	private StatefulRedisConnection<byte[], byte[]> connection;
+	private boolean autoBatching = false;
+	private int autoBatchSize = 64;
+	private long autoBatchMaxDelay = 100;
+	private int sharedConnectionCount = 1;
+	private SharedConnectionAssignment sharedConnectionAssignment = SharedConnectionAssignment.ROUND_ROBIN;
+	private volatile SharedConnection[] sharedConnections;
+	private final AtomicInteger sharedConnectionCounter = new AtomicInteger();
 	private LettucePool pool;
 	private int dbIndex = 0;
-	/** Synchronization monitor for the shared Connection */
+	/** Synchronization monitor for creating the shared Connections */
 	private final Object connectionMonitor = new Object();
 	private String password;
 	private boolean convertPipelineAndTxResults = true;
 	private RedisSentinelConfiguration sentinelConfiguration;
 	private RedisClusterConfiguration clusterConfiguration;
 	private ClusterCommandExecutor clusterCommandExecutor;
+	private ClusterNodeTaskExecutor clusterNodeTaskExecutor;
+	private long clusterCommandTimeout = 0;
 	private ClientResources clientResources;
 	private boolean useSsl = false;
 	private boolean verifyPeer = true;
@@ -143,7 +162,23 @@ public class LettuceConnectionFactory implements InitializingBean, DisposableBea
 	 * @see org.springframework.beans.factory.InitializingBean#afterPropertiesSet()
 	 */
 	public void afterPropertiesSet() {
+
 		this.client = createRedisClient();
+
+		if (healthCheckInterval > 0 && shareNativeConnection && !isClusterAware()) {
+
+			CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("lettuce-health-check-");
+			threadFactory.setDaemon(true);
+
+			this.healthCheckScheduler = Executors.newSingleThreadScheduledExecutor(threadFactory);
+			this.healthCheckScheduler.scheduleWithFixedDelay(new Runnable() {
+
+				@Override
+				public void run() {
+					checkSharedConnectionHealth();
+				}
+			}, healthCheckInterval, healthCheckInterval, TimeUnit.MILLISECONDS);
+		}
 	}
 
 	/*
@@ -152,6 +187,11 @@ public class LettuceConnectionFactory implements InitializingBean, DisposableBea
 	 */
 	public void destroy() {
 
+		if (healthCheckScheduler != null) {
+			healthCheckScheduler.shutdownNow();
+			healthCheckScheduler = null;
+		}
+
 		resetConnection();
 
 		try {
@@ -200,52 +240,39 @@ public class LettuceConnectionFactory implements InitializingBean, DisposableBea
 			throw new InvalidDataAccessApiUsageException("Cluster is not configured!");
 		}
 
-		return new LettuceClusterConnection((RedisClusterClient) client, getTimeout(), clusterCommandExecutor);
+		LettuceClusterConnection connection = new LettuceClusterConnection((RedisClusterClient) client, getTimeout(),
+				clusterCommandExecutor);
+		connection.setReadPolicy(clusterConfiguration.getReadPolicy());
+		return connection;
 	}
 
+	/**
+	 * Initialize the shared Connections, closing and replacing any previously initialized ones.
+	 */
 	public void initConnection() {
 
-		synchronized (this.connectionMonitor) {
-			if (this.connection != null) {
-				resetConnection();
-			}
-			this.connection = createLettuceConnector();
+		for (SharedConnection sharedConnection : getSharedConnections()) {
+			sharedConnection.init();
 		}
 	}
 
 	/**
-	 * Reset the underlying shared Connection, to be reinitialized on next access.
+	 * Reset the underlying shared Connections, to be reinitialized on next access.
 	 */
 	public void resetConnection() {
-		synchronized (this.connectionMonitor) {
-			if (this.connection != null) {
-				this.connection.close();
-			}
-			this.connection = null;
+
+		for (SharedConnection sharedConnection : getSharedConnections()) {
+			sharedConnection.reset();
 		}
 	}
 
 	/**
-	 * Validate the shared Connection and reinitialize if invalid
+	 * Validate the shared Connections and reinitialize the invalid ones.
 	 */
 	public void validateConnection() {
-		synchronized (this.connectionMonitor) {
-
-			boolean valid = false;
-
-			if (connection.isOpen()) {
-				try {
-					connection.sync().ping();
-					valid = true;
-				} catch (Exception e) {
-					log.debug("Validation failed", e);
-				}
-			}
 
-			if (!valid) {
-				log.warn("Validation of shared connection failed. Creating a new connection.");
-				initConnection();
-			}
+		for (SharedConnection sharedConnection : getSharedConnections()) {
+			sharedConnection.validate();
 		}
 	}
 
@@ -387,6 +414,34 @@ public class LettuceConnectionFactory implements InitializingBean, DisposableBea
 		this.validateConnection = validateConnection;
 	}
 
+	/**
+	 * @return interval in milliseconds between background health checks of the shared native connections.
+	 *         {@literal 0} if disabled.
+	 * @since 1.8.8
+	 */
+	public long getHealthCheckInterval() {
+		return healthCheckInterval;
+	}
+
+	/**
+	 * Set the interval in milliseconds between background health checks of the shared native connections. A background
+	 * thread sends a {@code PING} on each initialized shared connection and replaces connections that are closed or fail
+	 * to respond. Replacements are created off the request path and swapped in atomically, so {@link #getConnection()}
+	 * never waits for a validation round trip. When enabled, {@link #setValidateConnection(boolean) validation on
+	 * getConnection()} is skipped. Needs to be set before {@link #afterPropertiesSet()}. Defaults to {@literal 0}
+	 * (disabled).
+	 * <p>
+	 * Pooled connections are checked by the pool itself, eg. via {@code testWhileIdle}.
+	 *
+	 * @param healthCheckInterval interval in milliseconds. {@literal 0} to disable health checks.
+	 * @since 1.8.8
+	 */
+	public void setHealthCheckInterval(long healthCheckInterval) {
+
+		Assert.isTrue(healthCheckInterval >= 0, "HealthCheckInterval must not be negative!");
+		this.healthCheckInterval = healthCheckInterval;
+	}
+
 	/**
 	 * Indicates if multiple {@link LettuceConnection}s should share a single native connection.
 	 *
@@ -406,6 +461,113 @@ public class LettuceConnectionFactory implements InitializingBean, DisposableBea
 		this.shareNativeConnection = shareNativeConnection;
 	}
 
+	/**
+	 * @return number of shared native connections.
+	 * @since 1.8.8
+	 */
+	public int getSharedConnectionCount() {
+		return sharedConnectionCount;
+	}
+
+	/**
+	 * Set the number of shared native connections {@link LettuceConnection}s are spread across. Each of them is
+	 * initialized on first use and validated and reconnected independently of the others. Blocking and transactional
+	 * commands keep using dedicated connections. Needs to be set before the first connection is obtained. Defaults to
+	 * {@literal 1}.
+	 *
+	 * @param sharedConnectionCount must be greater than {@literal zero}.
+	 * @since 1.8.8
+	 */
+	public void setSharedConnectionCount(int sharedConnectionCount) {
+
+		Assert.isTrue(sharedConnectionCount > 0, "SharedConnectionCount must be greater than zero!");
+		this.sharedConnectionCount = sharedConnectionCount;
+	}
+
+	/**
+	 * @return the {@link SharedConnectionAssignment} used to pick one of multiple shared native connections.
+	 * @since 1.8.8
+	 */
+	public SharedConnectionAssignment getSharedConnectionAssignment() {
+		return sharedConnectionAssignment;
+	}
+
+	/**
+	 * Set the {@link SharedConnectionAssignment} used to pick one of multiple shared native connections. Defaults to
+	 * {@link SharedConnectionAssignment#ROUND_ROBIN}.
+	 *
+	 * @param sharedConnectionAssignment must not be {@literal null}.
+	 * @since 1.8.8
+	 */
+	public void setSharedConnectionAssignment(SharedConnectionAssignment sharedConnectionAssignment) {
+
+		Assert.notNull(sharedConnectionAssignment, "SharedConnectionAssignment must not be null!");
+		this.sharedConnectionAssignment = sharedConnectionAssignment;
+	}
+
+	/**
+	 * @return {@literal true} if commands issued on the shared native connection are batched.
+	 * @since 1.8.8
+	 */
+	public boolean isAutoBatching() {
+		return autoBatching;
+	}
+
+	/**
+	 * Coalesce commands issued by multiple threads on the shared native connection into fewer socket writes. Pending
+	 * commands are flushed once {@link #setAutoBatchSize(int) autoBatchSize} commands are pending, no further commands
+	 * arrive or {@link #setAutoBatchMaxDelay(long) autoBatchMaxDelay} elapsed. Only applies if
+	 * {@link #setShareNativeConnection(boolean) shareNativeConnection} is enabled. Defaults to {@literal false}.
+	 *
+	 * @param autoBatching
+	 * @since 1.8.8
+	 */
+	public void setAutoBatching(boolean autoBatching) {
+		this.autoBatching = autoBatching;
+	}
+
+	/**
+	 * @return number of pending commands triggering an immediate flush when batching commands.
+	 * @since 1.8.8
+	 */
+	public int getAutoBatchSize() {
+		return autoBatchSize;
+	}
+
+	/**
+	 * Set the number of pending commands triggering an immediate flush when batching commands. Defaults to
+	 * {@literal 64}.
+	 *
+	 * @param autoBatchSize must be greater than {@literal zero}.
+	 * @since 1.8.8
+	 */
+	public void setAutoBatchSize(int autoBatchSize) {
+
+		Assert.isTrue(autoBatchSize > 0, "AutoBatchSize must be greater than zero!");
+		this.autoBatchSize = autoBatchSize;
+	}
+
+	/**
+	 * @return maximum time in microseconds a command waits for being flushed when batching commands.
+	 * @since 1.8.8
+	 */
+	public long getAutoBatchMaxDelay() {
+		return autoBatchMaxDelay;
+	}
+
+	/**
+	 * Set the maximum time in microseconds a command waits for being flushed when batching commands. Defaults to
+	 * {@literal 100 microseconds}.
+	 *
+	 * @param autoBatchMaxDelay must be greater than {@literal zero}.
+	 * @since 1.8.8
+	 */
+	public void setAutoBatchMaxDelay(long autoBatchMaxDelay) {
+
+		Assert.isTrue(autoBatchMaxDelay > 0, "AutoBatchMaxDelay must be greater than zero!");
+		this.autoBatchMaxDelay = autoBatchMaxDelay;
+	}
+
 	/**
 	 * Returns the index of the database.
 	 *
@@ -484,6 +646,47 @@ public class LettuceConnectionFactory implements InitializingBean, DisposableBea
 		this.clientResources = clientResources;
 	}
 
+	/**
+	 * @return the {@link ClusterNodeTaskExecutor} running cluster commands on multiple nodes. {@literal null} if not set.
+	 * @since 1.8.8
+	 */
+	public ClusterNodeTaskExecutor getClusterNodeTaskExecutor() {
+		return clusterNodeTaskExecutor;
+	}
+
+	/**
+	 * Set the {@link ClusterNodeTaskExecutor} running cluster commands on multiple nodes, allowing to configure the per
+	 * node worker lanes and to read their statistics. The executor is destroyed along with this factory. A default one
+	 * is used if not set.
+	 *
+	 * @param clusterNodeTaskExecutor can be {@literal null}.
+	 * @since 1.8.8
+	 */
+	public void setClusterNodeTaskExecutor(ClusterNodeTaskExecutor clusterNodeTaskExecutor) {
+		this.clusterNodeTaskExecutor = clusterNodeTaskExecutor;
+	}
+
+	/**
+	 * @return maximum time in milliseconds to wait for cluster commands running on multiple nodes.
+	 * @since 1.8.8
+	 */
+	public long getClusterCommandTimeout() {
+		return clusterCommandTimeout;
+	}
+
+	/**
+	 * Set the maximum time in milliseconds to wait for cluster commands running on multiple nodes. Defaults to
+	 * {@literal zero}, waiting until all nodes replied.
+	 *
+	 * @param clusterCommandTimeout must not be negative.
+	 * @since 1.8.8
+	 */
+	public void setClusterCommandTimeout(long clusterCommandTimeout) {
+
+		Assert.isTrue(clusterCommandTimeout >= 0, "ClusterCommandTimeout must not be negative!");
+		this.clusterCommandTimeout = clusterCommandTimeout;
+	}
+
 	/**
 	 * Specifies if pipelined results should be converted to the expected data type. If false, results of
 	 * {@link LettuceConnection#closePipeline()} and {LettuceConnection#exec()} will be of the type returned by the
@@ -523,19 +726,69 @@ public class LettuceConnectionFactory implements InitializingBean, DisposableBea
 	}
 
 	protected StatefulRedisConnection<byte[], byte[]> getSharedConnection() {
-		if (shareNativeConnection) {
+
+		if (!shareNativeConnection) {
+			return null;
+		}
+
+		SharedConnection[] sharedConnections = getSharedConnections();
+
+		int index;
+		if (sharedConnections.length == 1) {
+			index = 0;
+		} else if (SharedConnectionAssignment.THREAD_AFFINE.equals(sharedConnectionAssignment)) {
+			index = (int) (Thread.currentThread().getId() % sharedConnections.length);
+		} else {
+			index = (sharedConnectionCounter.getAndIncrement() & Integer.MAX_VALUE) % sharedConnections.length;
+		}
+
+		return sharedConnections[index].get();
+	}
+
+	/**
+	 * Check the health of all initialized shared connections, replacing broken ones. Called by the health check
+	 * scheduler.
+	 */
+	private void checkSharedConnectionHealth() {
+
+		SharedConnection[] sharedConnections = this.sharedConnections;
+
+		if (sharedConnections == null) {
+			return;
+		}
+
+		for (SharedConnection sharedConnection : sharedConnections) {
+
+			try {
+				sharedConnection.checkHealth();
+			} catch (Exception e) {
+				log.warn("Health check of shared connection failed.", e);
+			}
+		}
+	}
+
+	private SharedConnection[] getSharedConnections() {
+
+		SharedConnection[] sharedConnections = this.sharedConnections;
+
+		if (sharedConnections == null) {
+
 			synchronized (this.connectionMonitor) {
-				if (this.connection == null) {
-					initConnection();
-				}
-				if (validateConnection) {
-					validateConnection();
+
+				if (this.sharedConnections == null) {
+
+					SharedConnection[] stripes = new SharedConnection[sharedConnectionCount];
+					for (int i = 0; i < stripes.length; i++) {
+						stripes[i] = new SharedConnection();
+					}
+					this.sharedConnections = stripes;
 				}
-				return this.connection;
+
+				sharedConnections = this.sharedConnections;
 			}
-		} else {
-			return null;
 		}
+
+		return sharedConnections;
 	}
 
 	protected StatefulRedisConnection<byte[], byte[]> createLettuceConnector() {
@@ -543,7 +796,8 @@ public class LettuceConnectionFactory implements InitializingBean, DisposableBea
 
 			StatefulRedisConnection<byte[], byte[]> connection = null;
 			if (client instanceof RedisClient) {
-				connection = ((RedisClient) client).connect(LettuceConnection.CODEC);
+				connection = isReadingFromSentinelSlaves() ? connectMasterSlave((RedisClient) client)
+						: ((RedisClient) client).connect(LettuceConnection.CODEC);
 				if (dbIndex > 0) {
 					connection.sync().select(dbIndex);
 				}
@@ -556,6 +810,23 @@ public class LettuceConnectionFactory implements InitializingBean, DisposableBea
 		}
 	}
 
+	private boolean isReadingFromSentinelSlaves() {
+		return isRedisSentinelAware() && !ReadPolicy.MASTER.equals(sentinelConfiguration.getReadPolicy());
+	}
+
+	/**
+	 * Connect to the master and slaves discovered via Redis Sentinel routing reads according to the configured
+	 * {@link ReadPolicy}. Used for the shared connection only, dedicated connections for blocking commands and
+	 * transactions always connect to the master.
+	 */
+	private StatefulRedisConnection<byte[], byte[]> connectMasterSlave(RedisClient client) {
+
+		StatefulRedisMasterSlaveConnection<byte[], byte[]> connection = MasterSlave.connect(client,
+				LettuceConnection.CODEC, getSentinelRedisURI());
+		connection.setReadFrom(LettuceConverters.toReadFrom(sentinelConfiguration.getReadPolicy()));
+		return connection;
+	}
+
 	private AbstractRedisClient createRedisClient() {
 
 		if (isRedisSentinelAware()) {
@@ -581,7 +852,9 @@ public class LettuceConnectionFactory implements InitializingBean, DisposableBea
 
 			this.clusterCommandExecutor = new ClusterCommandExecutor(
 					new LettuceClusterConnection.LettuceClusterTopologyProvider(clusterClient),
-					new LettuceClusterConnection.LettuceClusterNodeResourceProvider(clusterClient), EXCEPTION_TRANSLATION);
+					new LettuceClusterConnection.LettuceClusterNodeResourceProvider(clusterClient), EXCEPTION_TRANSLATION,
+					clusterNodeTaskExecutor != null ? clusterNodeTaskExecutor : new ClusterNodeTaskExecutor());
+			this.clusterCommandExecutor.setCommandTimeout(clusterCommandTimeout);
 
 			return clusterClient;
 		}
@@ -628,4 +901,166 @@ public class LettuceConnectionFactory implements InitializingBean, DisposableBea
 		}
 		return new LettuceSentinelConnection(((RedisClient) client).connectSentinel());
 	}
+
+	/**
+	 * Strategy picking one of multiple shared native connections for a {@link LettuceConnection}.
+	 *
+	 * @author agent
+	 * @since 1.8.8
+	 */
+	public static enum SharedConnectionAssignment {
+
+		/**
+		 * Pick the shared connections in turn.
+		 */
+		ROUND_ROBIN,
+
+		/**
+		 * Always pick the same shared connection for the same thread.
+		 */
+		THREAD_AFFINE
+	}
+
+	/**
+	 * Single shared native connection initialized, validated and reset independently of the others.
+	 *
+	 * @author agent
+	 */
+	private class SharedConnection {
+
+		private final Object monitor = new Object();
+		private volatile StatefulRedisConnection<byte[], byte[]> connection;
+
+		StatefulRedisConnection<byte[], byte[]> get() {
+
+			StatefulRedisConnection<byte[], byte[]> current = connection;
+
+			if (current == null) {
+
+				synchronized (monitor) {
+
+					if (connection == null) {
+						connection = createConnection();
+					}
+					current = connection;
+				}
+			}
+
+			if (validateConnection && healthCheckInterval <= 0) {
+				current = validate();
+			}
+
+			return current;
+		}
+
+		void init() {
+
+			synchronized (monitor) {
+
+				if (connection != null) {
+					reset();
+				}
+
+				connection = createConnection();
+			}
+		}
+
+		void reset() {
+
+			synchronized (monitor) {
+
+				if (connection != null) {
+					connection.close();
+				}
+				connection = null;
+			}
+		}
+
+		/**
+		 * Validate the current connection and replace it if invalid. The round trip happens outside of the monitor so
+		 * concurrent callers of {@link #get()} keep using the current connection until a replacement is in place.
+		 *
+		 * @return the valid connection.
+		 */
+		StatefulRedisConnection<byte[], byte[]> validate() {
+
+			StatefulRedisConnection<byte[], byte[]> current = connection;
+
+			if (isValid(current)) {
+				return current;
+			}
+
+			log.warn("Validation of shared connection failed. Creating a new connection.");
+			return replace(current);
+		}
+
+		/**
+		 * Validate the connection unless it has not been initialized yet.
+		 */
+		void checkHealth() {
+
+			if (connection != null) {
+				validate();
+			}
+		}
+
+		private boolean isValid(StatefulRedisConnection<byte[], byte[]> connection) {
+
+			if (connection == null || !connection.isOpen()) {
+				return false;
+			}
+
+			try {
+				connection.sync().ping();
+				return true;
+			} catch (Exception e) {
+
+				log.debug("Validation failed", e);
+				return false;
+			}
+		}
+
+		/**
+		 * Replace the given connection unless it has already been replaced by another thread.
+		 *
+		 * @param expected the connection found invalid, can be {@literal null}.
+		 * @return the connection in use.
+		 */
+		private StatefulRedisConnection<byte[], byte[]> replace(StatefulRedisConnection<byte[], byte[]> expected) {
+
+			StatefulRedisConnection<byte[], byte[]> replacement;
+
+			synchronized (monitor) {
+
+				if (connection != expected && connection != null) {
+					return connection;
+				}
+
+				replacement = createConnection();
+				connection = replacement;
+			}
+
+			if (expected != null) {
+
+				try {
+					expected.close();
+				} catch (Exception e) {
+					log.debug("Closing invalid shared connection failed", e);
+				}
+			}
+
+			return replacement;
+		}
+
+		private StatefulRedisConnection<byte[], byte[]> createConnection() {
+
+			StatefulRedisConnection<byte[], byte[]> connection = createLettuceConnector();
+
+			if (connection != null && autoBatching) {
+				connection = AutoBatchingConnection.decorate(connection, autoBatchSize, autoBatchMaxDelay, timeout);
+			}
+
+			return connection;
+		}
+	}
 }
@@ -38,6 +38,7 @@ import org.springframework.data.geo.Metric;
 import org.springframework.data.geo.Metrics;
 import org.springframework.data.geo.Point;
 import org.springframework.data.redis.connection.DefaultTuple;
+import org.springframework.data.redis.connection.ReadPolicy;
 import org.springframework.data.redis.connection.RedisClusterNode;
 import org.springframework.data.redis.connection.RedisClusterNode.Flag;
 import org.springframework.data.redis.connection.RedisClusterNode.LinkState;
@@ -71,6 +72,7 @@ import com.lambdaworks.redis.GeoArgs;
 import com.lambdaworks.redis.GeoCoordinates;
 import com.lambdaworks.redis.GeoWithin;
 import com.lambdaworks.redis.KeyValue;
+import com.lambdaworks.redis.ReadFrom;
 import com.lambdaworks.redis.RedisURI;
 import com.lambdaworks.redis.ScoredValue;
 import com.lambdaworks.redis.ScriptOutputType;
@@ -78,6 +80,8 @@ import com.lambdaworks.redis.SetArgs;
 import com.lambdaworks.redis.SortArgs;
 import com.lambdaworks.redis.cluster.models.partitions.Partitions;
 import com.lambdaworks.redis.cluster.models.partitions.RedisClusterNode.NodeFlag;
+import com.lambdaworks.redis.models.role.RedisInstance;
+import com.lambdaworks.redis.models.role.RedisNodeDescription;
 import com.lambdaworks.redis.protocol.LettuceCharsets;
 
 /**
@@ -580,6 +584,27 @@ abstract public class LettuceConverters extends Converters {
 		return builder.build();
 	}
 
+	/**
+	 * Convert the given {@link ReadPolicy} into the corresponding {@link ReadFrom} setting.
+	 *
+	 * @param readPolicy must not be {@literal null}.
+	 * @return never {@literal null}.
+	 * @since 1.8.8
+	 */
+	public static ReadFrom toReadFrom(ReadPolicy readPolicy) {
+
+		Assert.notNull(readPolicy, "ReadPolicy must not be null!");
+
+		switch (readPolicy) {
+			case REPLICA_PREFERRED:
+				return SlavePreferredReadFrom.INSTANCE;
+			case NEAREST:
+				return ReadFrom.NEAREST;
+			default:
+				return ReadFrom.MASTER;
+		}
+	}
+
 	public static byte[] toBytes(String source) {
 		return STRING_TO_BYTES.convert(source);
 	}
@@ -884,4 +909,34 @@ abstract public class LettuceConverters extends Converters {
 			}
 		}
 	}
+
+	/**
+	 * {@link ReadFrom} listing slaves ahead of the master so that reads go to a slave and fall back to the master when no
+	 * slave is available.
+	 *
+	 * @author agent
+	 * @since 1.8.8
+	 */
+	static class SlavePreferredReadFrom extends ReadFrom {
+
+		static final SlavePreferredReadFrom INSTANCE = new SlavePreferredReadFrom();
+
+		/*
+		 * (non-Javadoc)
+		 * @see com.lambdaworks.redis.ReadFrom#select(com.lambdaworks.redis.ReadFrom.Nodes)
+		 */
+		@Override
+		public List<RedisNodeDescription> select(Nodes nodes) {
+
+			List<RedisNodeDescription> slaves = new ArrayList<RedisNodeDescription>();
+			List<RedisNodeDescription> masters = new ArrayList<RedisNodeDescription>();
+
+			for (RedisNodeDescription node : nodes.getNodes()) {
+				(RedisInstance.Role.SLAVE.equals(node.getRole()) ? slaves : masters).add(node);
+			}
+
+			slaves.addAll(masters);
+			return slaves;
+		}
+	}
 }
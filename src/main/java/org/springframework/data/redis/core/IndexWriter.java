@@ -15,7 +15,9 @@
  */
 package org.springframework.data.redis.core;
 
-import java.util.Set;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
 
 import org.springframework.dao.InvalidDataAccessApiUsageException;
 import org.springframework.data.redis.connection.DataType;
@@ -39,10 +41,13 @@ import org.springframework.util.ObjectUtils;
  *
  * @author Christoph Strobl
  * @author Rob Winch
+ * @author agent
  * @since 1.7
  */
 class IndexWriter {
 
+	private static final int SCAN_COUNT = 500;
+
 	private final RedisConnection connection;
 	private final RedisConverter converter;
 
@@ -146,7 +151,7 @@ class IndexWriter {
 	 */
 	public void removeAllIndexes(String keyspace) {
 
-		Set<byte[]> potentialIndex = connection.keys(toBytes(keyspace + ":*"));
+		Collection<byte[]> potentialIndex = findKeys(toBytes(keyspace + ":*"));
 
 		if (!potentialIndex.isEmpty()) {
 			connection.del(potentialIndex.toArray(new byte[potentialIndex.size()][]));
@@ -170,8 +175,8 @@ class IndexWriter {
 
 		Assert.notNull(indexedData, "IndexedData must not be null!");
 
-		Set<byte[]> existingKeys = connection
-				.keys(toBytes(indexedData.getKeyspace() + ":" + indexedData.getIndexName() + ":*"));
+		Collection<byte[]> existingKeys = findKeys(
+				toBytes(indexedData.getKeyspace() + ":" + indexedData.getIndexName() + ":*"));
 
 		if (!CollectionUtils.isEmpty(existingKeys)) {
 			for (byte[] existingKey : existingKeys) {
@@ -255,6 +260,40 @@ class IndexWriter {
 		}
 	}
 
+	/**
+	 * Find keys matching the given pattern using {@literal SCAN} so that the server is not blocked as it would be by
+	 * {@literal KEYS}. Falls back to {@literal KEYS} when pipelining or within a transaction, where cursors cannot be
+	 * used.
+	 *
+	 * @param pattern must not be {@literal null}.
+	 * @return never {@literal null}.
+	 */
+	private Collection<byte[]> findKeys(byte[] pattern) {
+
+		if (connection.isPipelined() || connection.isQueueing()) {
+
+			Collection<byte[]> keys = connection.keys(pattern);
+			return keys != null ? keys : new ArrayList<byte[]>();
+		}
+
+		Collection<byte[]> keys = new ArrayList<byte[]>();
+		Cursor<byte[]> cursor = connection.scan(ScanOptions.scanOptions().match(pattern).count(SCAN_COUNT).build());
+
+		try {
+			while (cursor.hasNext()) {
+				keys.add(cursor.next());
+			}
+		} finally {
+			try {
+				cursor.close();
+			} catch (IOException e) {
+				// ignore
+			}
+		}
+
+		return keys;
+	}
+
 	private byte[] toBytes(Object source) {
 
 		if (source == null) {
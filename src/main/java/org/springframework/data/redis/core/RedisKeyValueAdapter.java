@@ -43,8 +43,11 @@ import org.springframework.data.keyvalue.core.KeyValueAdapter;
 import org.springframework.data.keyvalue.core.mapping.KeyValuePersistentProperty;
 import org.springframework.data.mapping.PersistentProperty;
 import org.springframework.data.redis.connection.DataType;
+import org.springframework.data.redis.connection.DecoratedRedisConnection;
+import org.springframework.data.redis.connection.DefaultSortParameters;
 import org.springframework.data.redis.connection.Message;
 import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.RedisClusterConnection;
 import org.springframework.data.redis.connection.RedisConnection;
 import org.springframework.data.redis.core.PartialUpdate.PropertyUpdate;
 import org.springframework.data.redis.core.PartialUpdate.UpdateCommand;
@@ -103,6 +106,8 @@ import org.springframework.util.StringUtils;
 public class RedisKeyValueAdapter extends AbstractKeyValueAdapter
 		implements InitializingBean, ApplicationContextAware, ApplicationListener<RedisKeyspaceEvent> {
 
+	private static final Logger LOGGER = LoggerFactory.getLogger(RedisKeyValueAdapter.class);
+
 	private RedisOperations<?, ?> redisOps;
 	private RedisConverter converter;
 	private RedisMessageListenerContainer messageListenerContainer;
@@ -112,6 +117,7 @@ public class RedisKeyValueAdapter extends AbstractKeyValueAdapter
 
 	private EnableKeyspaceEvents enableKeyspaceEvents = EnableKeyspaceEvents.OFF;
 	private String keyspaceNotificationsConfigParameter = null;
+	private int hydrationBatchSize = 500;
 
 	/**
 	 * Creates new {@link RedisKeyValueAdapter} with default {@link RedisMappingContext} and default
@@ -350,34 +356,134 @@ public class RedisKeyValueAdapter extends AbstractKeyValueAdapter
 		return getAllOf(keyspace, -1, -1);
 	}
 
-	public List<?> getAllOf(final Serializable keyspace, int offset, int rows) {
+	/**
+	 * Get a page of all entities within {@literal keyspace}. Paged reads use {@code SORT keyspace BY nosort LIMIT} on
+	 * non cluster connections, so only the ids of the requested page are transferred. Redis treats {@code SORT} as a
+	 * write command, so on read only replicas it fails and the page is cut from the result of {@code SMEMBERS} instead.
+	 *
+	 * @param keyspace must not be {@literal null}.
+	 * @param offset
+	 * @param rows page size. Values less than {@literal 1} return all entities.
+	 * @return never {@literal null}.
+	 */
+	public List<?> getAllOf(final Serializable keyspace, final int offset, final int rows) {
 
 		final byte[] binKeyspace = toBytes(keyspace);
 
-		Set<byte[]> ids = redisOps.execute(new RedisCallback<Set<byte[]>>() {
+		List<byte[]> keys = redisOps.execute(new RedisCallback<List<byte[]>>() {
 
 			@Override
-			public Set<byte[]> doInRedis(RedisConnection connection) throws DataAccessException {
-				return connection.sMembers(binKeyspace);
+			public List<byte[]> doInRedis(RedisConnection connection) throws DataAccessException {
+
+				if (rows > 0 && !isClusterConnection(connection)) {
+
+					try {
+						return connection.sort(binKeyspace,
+								new DefaultSortParameters().by(toBytes("nosort")).limit(Math.max(0, offset), rows));
+					} catch (DataAccessException e) {
+
+						// SORT is flagged as write command and rejected by read only replicas
+						if (LOGGER.isDebugEnabled()) {
+							LOGGER.debug("Failed to read page of ids via SORT, falling back to SMEMBERS.", e);
+						}
+					}
+				}
+
+				Set<byte[]> ids = connection.sMembers(binKeyspace);
+
+				if (ids == null || ids.isEmpty() || ids.size() < offset) {
+					return Collections.emptyList();
+				}
+
+				List<byte[]> keys = new ArrayList<byte[]>(ids);
+
+				int offsetToUse = Math.max(0, offset);
+				if (rows > 0) {
+					keys = keys.subList(offsetToUse, Math.min(offsetToUse + rows, keys.size()));
+				}
+				return keys;
 			}
 		});
 
+		if (keys == null || keys.isEmpty()) {
+			return Collections.emptyList();
+		}
+
 		List<Object> result = new ArrayList<Object>();
 
-		List<byte[]> keys = new ArrayList<byte[]>(ids);
+		result.addAll(getAll(keyspace, keys, Object.class));
+		return result;
+	}
 
-		if (keys.isEmpty() || keys.size() < offset) {
-			return Collections.emptyList();
-		}
+	/**
+	 * @param connection
+	 * @return {@literal true} if the given connection, or the one it decorates, is a {@link RedisClusterConnection}.
+	 */
+	static boolean isClusterConnection(RedisConnection connection) {
 
-		offset = Math.max(0, offset);
-		if (offset >= 0 && rows > 0) {
-			keys = keys.subList(offset, Math.min(offset + rows, keys.size()));
+		while (connection instanceof DecoratedRedisConnection) {
+			connection = ((DecoratedRedisConnection) connection).getDelegate();
 		}
 
-		for (byte[] key : keys) {
-			result.add(get(key, keyspace));
+		return connection instanceof RedisClusterConnection;
+	}
+
+	/**
+	 * Read the entities stored for the given ids within {@literal keyspace}. Hashes are fetched via pipelined
+	 * {@code HGETALL} in chunks of {@link #setHydrationBatchSize(int) hydrationBatchSize} ids, so reading {@literal n}
+	 * entities takes {@literal n / hydrationBatchSize} round trips instead of {@literal n}. Each chunk is converted before
+	 * the next one is requested. Cluster connections route the pipelined commands to the nodes serving the keys.
+	 *
+	 * @param keyspace must not be {@literal null}.
+	 * @param ids must not be {@literal null}.
+	 * @param type must not be {@literal null}.
+	 * @return the entities in order of the given ids. Contains {@literal null} for ids not backed by a hash.
+	 * @since 1.8.8
+	 */
+	<T> List<T> getAll(Serializable keyspace, List<byte[]> ids, Class<T> type) {
+
+		String stringKeyspace = asString(keyspace);
+		List<T> result = new ArrayList<T>(ids.size());
+
+		for (int from = 0; from < ids.size(); from += hydrationBatchSize) {
+
+			List<byte[]> chunk = ids.subList(from, Math.min(from + hydrationBatchSize, ids.size()));
+
+			List<String> stringIds = new ArrayList<String>(chunk.size());
+			final List<byte[]> keys = new ArrayList<byte[]>(chunk.size());
+
+			for (byte[] id : chunk) {
+
+				String stringId = asString(id);
+				stringIds.add(stringId);
+				keys.add(createKey(stringKeyspace, stringId));
+			}
+
+			List<Object> hashes = executePipelined(new RedisCallback<Void>() {
+
+				@Override
+				public Void doInRedis(RedisConnection connection) throws DataAccessException {
+
+					for (byte[] key : keys) {
+						connection.hGetAll(key);
+					}
+					return null;
+				}
+			});
+
+			List<T> converted = new ArrayList<T>(chunk.size());
+			for (int i = 0; i < chunk.size(); i++) {
+
+				RedisData data = new RedisData(asHash(hashes.get(i)));
+				data.setId(stringIds.get(i));
+				data.setKeyspace(stringKeyspace);
+
+				converted.add(converter.read(type, data));
+			}
+
+			result.addAll(readBackTimeToLiveIfSet(keys, converted));
 		}
+
 		return result;
 	}
 
@@ -609,7 +715,6 @@ public class RedisKeyValueAdapter extends AbstractKeyValueAdapter
 	 * @param target
 	 * @return
 	 */
-	@SuppressWarnings({ "unchecked", "rawtypes" })
 	private <T> T readBackTimeToLiveIfSet(final byte[] key, T target) {
 
 		if (target == null || key == null) {
@@ -636,15 +741,123 @@ public class RedisKeyValueAdapter extends AbstractKeyValueAdapter
 				}
 			});
 
-			if (timeout != null || !ttlProperty.getType().isPrimitive()) {
-				entity.getPropertyAccessor(target).setProperty(ttlProperty,
-						converter.getConversionService().convert(timeout, ttlProperty.getType()));
-			}
+			setTimeToLive(entity, target, timeout);
 		}
 
 		return target;
 	}
 
+	/**
+	 * Read back and set {@link TimeToLive} for the property of all given targets using a single pipeline.
+	 *
+	 * @param keys keys of the targets.
+	 * @param targets targets in order of the keys. Can contain {@literal null} values.
+	 * @return the targets.
+	 */
+	private <T> List<T> readBackTimeToLiveIfSet(List<byte[]> keys, List<T> targets) {
+
+		final List<byte[]> ttlKeys = new ArrayList<byte[]>();
+		final List<TimeUnit> ttlUnits = new ArrayList<TimeUnit>();
+		List<Integer> positions = new ArrayList<Integer>();
+
+		for (int i = 0; i < targets.size(); i++) {
+
+			T target = targets.get(i);
+
+			if (target == null) {
+				continue;
+			}
+
+			RedisPersistentEntity<?> entity = this.converter.getMappingContext().getPersistentEntity(target.getClass());
+			if (entity.hasExplictTimeToLiveProperty()) {
+
+				ttlKeys.add(keys.get(i));
+				ttlUnits.add(entity.getExplicitTimeToLiveProperty().findAnnotation(TimeToLive.class).unit());
+				positions.add(i);
+			}
+		}
+
+		if (ttlKeys.isEmpty()) {
+			return targets;
+		}
+
+		List<Object> timeouts = executePipelined(new RedisCallback<Void>() {
+
+			@Override
+			public Void doInRedis(RedisConnection connection) throws DataAccessException {
+
+				for (int i = 0; i < ttlKeys.size(); i++) {
+
+					if (ObjectUtils.nullSafeEquals(TimeUnit.SECONDS, ttlUnits.get(i))) {
+						connection.ttl(ttlKeys.get(i));
+					} else {
+						connection.pTtl(ttlKeys.get(i), ttlUnits.get(i));
+					}
+				}
+				return null;
+			}
+		});
+
+		for (int i = 0; i < positions.size(); i++) {
+
+			T target = targets.get(positions.get(i));
+			setTimeToLive(this.converter.getMappingContext().getPersistentEntity(target.getClass()), target,
+					(Long) timeouts.get(i));
+		}
+
+		return targets;
+	}
+
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private void setTimeToLive(RedisPersistentEntity<?> entity, Object target, Long timeout) {
+
+		PersistentProperty<?> ttlProperty = entity.getExplicitTimeToLiveProperty();
+
+		if (timeout != null || !ttlProperty.getType().isPrimitive()) {
+			entity.getPropertyAccessor(target).setProperty(ttlProperty,
+					converter.getConversionService().convert(timeout, ttlProperty.getType()));
+		}
+	}
+
+	/**
+	 * Execute the given {@link RedisCallback} within a pipeline bypassing the result deserialization of
+	 * {@link RedisOperations#executePipelined(RedisCallback)}.
+	 *
+	 * @param callback must not be {@literal null}.
+	 * @return the raw pipeline results.
+	 */
+	private List<Object> executePipelined(final RedisCallback<?> callback) {
+
+		return redisOps.execute(new RedisCallback<List<Object>>() {
+
+			@Override
+			public List<Object> doInRedis(RedisConnection connection) throws DataAccessException {
+
+				connection.openPipeline();
+				boolean pipelineClosed = false;
+
+				try {
+
+					callback.doInRedis(connection);
+
+					List<Object> results = connection.closePipeline();
+					pipelineClosed = true;
+					return results;
+				} finally {
+
+					if (!pipelineClosed) {
+						connection.closePipeline();
+					}
+				}
+			}
+		});
+	}
+
+	@SuppressWarnings("unchecked")
+	private static Map<byte[], byte[]> asHash(Object source) {
+		return source instanceof Map ? (Map<byte[], byte[]>) source : Collections.<byte[], byte[]> emptyMap();
+	}
+
 	/**
 	 * Configure usage of {@link KeyExpirationEventMessageListener}.
 	 *
@@ -666,6 +879,20 @@ public class RedisKeyValueAdapter extends AbstractKeyValueAdapter
 		this.keyspaceNotificationsConfigParameter = keyspaceNotificationsConfigParameter;
 	}
 
+	/**
+	 * Configure the number of entities read per pipeline when loading multiple entities, eg. via
+	 * {@link #getAllOf(Serializable)} or query execution. Larger batches need fewer round trips but hold more raw data in
+	 * memory at once. Defaults to {@literal 500}.
+	 *
+	 * @param hydrationBatchSize must be greater than {@literal zero}.
+	 * @since 1.8.8
+	 */
+	public void setHydrationBatchSize(int hydrationBatchSize) {
+
+		Assert.isTrue(hydrationBatchSize > 0, "HydrationBatchSize must be greater than zero!");
+		this.hydrationBatchSize = hydrationBatchSize;
+	}
+
 	/**
 	 * @see org.springframework.beans.factory.InitializingBean#afterPropertiesSet()
 	 * @since 1.8
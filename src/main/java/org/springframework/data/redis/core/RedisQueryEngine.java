@@ -21,30 +21,42 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
-import java.util.HashSet;
 import java.util.Iterator;
-import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.Set;
 
 import org.springframework.dao.DataAccessException;
+import org.springframework.dao.NonTransientDataAccessException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.Order;
 import org.springframework.data.geo.Circle;
 import org.springframework.data.geo.GeoResult;
 import org.springframework.data.geo.GeoResults;
 import org.springframework.data.keyvalue.core.CriteriaAccessor;
 import org.springframework.data.keyvalue.core.QueryEngine;
 import org.springframework.data.keyvalue.core.SortAccessor;
+import org.springframework.data.keyvalue.core.SpelSortAccessor;
 import org.springframework.data.keyvalue.core.query.KeyValueQuery;
 import org.springframework.data.redis.connection.RedisConnection;
 import org.springframework.data.redis.connection.RedisGeoCommands.GeoLocation;
+import org.springframework.data.redis.connection.RedisZSetCommands.Limit;
 import org.springframework.data.redis.connection.RedisZSetCommands.Range;
+import org.springframework.data.redis.connection.RedisZSetCommands.Range.Boundary;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.connection.util.ByteArraySet;
+import org.springframework.data.redis.connection.util.ByteArrayWrapper;
 import org.springframework.data.redis.core.convert.GeoIndexedPropertyValue;
-import org.springframework.data.redis.core.convert.RedisData;
+import org.springframework.data.redis.core.index.CompositeSortingIndexDefinition;
+import org.springframework.data.redis.core.index.IndexDefinition;
+import org.springframework.data.redis.core.index.IndexDefinitionProvider;
+import org.springframework.data.redis.core.index.SortingIndexDefinition;
+import org.springframework.data.redis.core.script.DigestUtils;
 import org.springframework.data.redis.repository.query.RedisOperationChain;
 import org.springframework.data.redis.repository.query.RedisOperationChain.NearPath;
 import org.springframework.data.redis.repository.query.RedisOperationChain.PathAndValue;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
 import org.springframework.data.redis.util.ByteUtils;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
 import org.springframework.util.CollectionUtils;
 
 /**
@@ -54,13 +66,117 @@ import org.springframework.util.CollectionUtils;
  * @author Mark Paluch
  * @since 1.7
  */
-class RedisQueryEngine extends QueryEngine<RedisKeyValueAdapter, RedisOperationChain, Comparator<?>> {
+class RedisQueryEngine extends QueryEngine<RedisKeyValueAdapter, RedisOperationChain, Sort> {
+
+	/**
+	 * Intersects the indexes of each group and returns the union of all groups. {@code ARGV} starts with offset, page
+	 * size, number of groups and sort order ({@literal 1} ascending, {@literal -1} descending, {@literal 0} unsorted)
+	 * followed by the number of simple and sorting indexes per group and the {@code min} / {@code max} score of each
+	 * sorting index. {@code KEYS} hold the simple indexes of a group followed by its sorting indexes and, if sorted, the
+	 * sorting index to order by. Sorting indexes are either read by score range or used to check the scores of the
+	 * remaining candidates, whichever touches fewer elements. Pages are ordered by walking the sorting index if
+	 * candidates are dense, by sorting candidates on their score otherwise, or by id if unsorted to keep pages stable.
+	 * Ids without a score are ordered last.
+	 */
+	private static final String FIND_IDS_SCRIPT = "" //
+			+ "local function within(score, bound, lower) " //
+			+ "  if bound == '-inf' or bound == '+inf' then return true end " //
+			+ "  local exclusive = string.sub(bound, 1, 1) == '(' " //
+			+ "  local value = tonumber(exclusive and string.sub(bound, 2) or bound) " //
+			+ "  if lower then if exclusive then return score > value end return score >= value end " //
+			+ "  if exclusive then return score < value end return score <= value " //
+			+ "end " //
+			+ "local result, seen = {}, {} " //
+			+ "local k, a = 1, 5 " //
+			+ "for g = 1, tonumber(ARGV[3]) do " //
+			+ "  local simple, ranges = tonumber(ARGV[a]), tonumber(ARGV[a + 1]) " //
+			+ "  a = a + 2 " //
+			+ "  local ids " //
+			+ "  if simple > 0 then " //
+			+ "    ids = redis.call('SINTER', unpack(KEYS, k, k + simple - 1)) " //
+			+ "    k = k + simple " //
+			+ "  end " //
+			+ "  for r = 1, ranges do " //
+			+ "    local key, min, max = KEYS[k], ARGV[a], ARGV[a + 1] " //
+			+ "    k = k + 1 " //
+			+ "    a = a + 2 " //
+			+ "    if ids == nil then " //
+			+ "      ids = redis.call('ZRANGEBYSCORE', key, min, max) " //
+			+ "    elseif #ids > 0 then " //
+			+ "      local filtered = {} " //
+			+ "      if redis.call('ZCOUNT', key, min, max) < #ids then " //
+			+ "        local candidates = {} " //
+			+ "        for _, id in ipairs(ids) do candidates[id] = true end " //
+			+ "        for _, id in ipairs(redis.call('ZRANGEBYSCORE', key, min, max)) do " //
+			+ "          if candidates[id] then filtered[#filtered + 1] = id end " //
+			+ "        end " //
+			+ "      else " //
+			+ "        for _, id in ipairs(ids) do " //
+			+ "          local score = redis.call('ZSCORE', key, id) " //
+			+ "          if score and within(tonumber(score), min, true) and within(tonumber(score), max, false) then " //
+			+ "            filtered[#filtered + 1] = id " //
+			+ "          end " //
+			+ "        end " //
+			+ "      end " //
+			+ "      ids = filtered " //
+			+ "    end " //
+			+ "  end " //
+			+ "  for _, id in ipairs(ids or {}) do " //
+			+ "    if not seen[id] then seen[id] = true result[#result + 1] = id end " //
+			+ "  end " //
+			+ "end " //
+			+ "local offset, rows, order = tonumber(ARGV[1]), tonumber(ARGV[2]), tonumber(ARGV[4]) " //
+			+ "if order == 0 then " //
+			+ "  if rows <= 0 then return result end " //
+			+ "  table.sort(result) " //
+			+ "else " //
+			+ "  local sortKey = KEYS[#KEYS] " //
+			+ "  if rows > 0 and #result * 8 >= redis.call('ZCARD', sortKey) then " //
+			+ "    local wanted, found, start = offset + rows, {}, 0 " //
+			+ "    local command = order > 0 and 'ZRANGE' or 'ZREVRANGE' " //
+			+ "    while #found < wanted do " //
+			+ "      local chunk = redis.call(command, sortKey, start, start + math.max(rows, 100) - 1) " //
+			+ "      if #chunk == 0 then break end " //
+			+ "      for _, id in ipairs(chunk) do " //
+			+ "        if seen[id] then found[#found + 1] = id seen[id] = nil end " //
+			+ "      end " //
+			+ "      start = start + #chunk " //
+			+ "    end " //
+			+ "    if #found < wanted then " //
+			+ "      local unscored = {} " //
+			+ "      for _, id in ipairs(result) do if seen[id] then unscored[#unscored + 1] = id end end " //
+			+ "      table.sort(unscored) " //
+			+ "      for _, id in ipairs(unscored) do found[#found + 1] = id end " //
+			+ "    end " //
+			+ "    result = found " //
+			+ "  else " //
+			+ "    local scores = {} " //
+			+ "    for _, id in ipairs(result) do scores[id] = tonumber(redis.call('ZSCORE', sortKey, id)) end " //
+			+ "    table.sort(result, function(x, y) " //
+			+ "      local sx, sy = scores[x], scores[y] " //
+			+ "      if sx == sy then if order > 0 then return x < y end return x > y end " //
+			+ "      if sx == nil then return false end " //
+			+ "      if sy == nil then return true end " //
+			+ "      if order > 0 then return sx < sy end " //
+			+ "      return sx > sy " //
+			+ "    end) " //
+			+ "    if rows <= 0 then return result end " //
+			+ "  end " //
+			+ "end " //
+			+ "local page = {} " //
+			+ "for i = offset + 1, math.min(#result, offset + rows) do page[#page + 1] = result[i] end " //
+			+ "return page";
+
+	private static final byte[] FIND_IDS_LUA = new StringRedisSerializer().serialize(FIND_IDS_SCRIPT);
+	private static final String FIND_IDS_SHA1 = DigestUtils.sha1DigestAsHex(FIND_IDS_SCRIPT);
+
+	private final SpelExpressionParser parser = new SpelExpressionParser();
 
 	/**
 	 * Creates new {@link RedisQueryEngine} with defaults.
 	 */
 	public RedisQueryEngine() {
-		this(new RedisCriteriaAccessor(), null);
+		this(new RedisCriteriaAccessor(), new RedisSortAccessor());
 	}
 
 	/**
@@ -70,8 +186,7 @@ class RedisQueryEngine extends QueryEngine<RedisKeyValueAdapter, RedisOperationC
 	 * @param sortAccessor
 	 * @see QueryEngine#QueryEngine(CriteriaAccessor, SortAccessor)
 	 */
-	public RedisQueryEngine(CriteriaAccessor<RedisOperationChain> criteriaAccessor,
-			SortAccessor<Comparator<?>> sortAccessor) {
+	public RedisQueryEngine(CriteriaAccessor<RedisOperationChain> criteriaAccessor, SortAccessor<Sort> sortAccessor) {
 		super(criteriaAccessor, sortAccessor);
 	}
 
@@ -81,188 +196,105 @@ class RedisQueryEngine extends QueryEngine<RedisKeyValueAdapter, RedisOperationC
 	 */
 	@Override
 	@SuppressWarnings("unchecked")
-	public <T> Collection<T> execute(final RedisOperationChain criteria, final Comparator<?> sort, final int offset,
+	public <T> Collection<T> execute(final RedisOperationChain criteria, final Sort sort, final int offset,
 			final int rows, final Serializable keyspace, Class<T> type) {
 
+		final boolean sorted = sort != null && sort.iterator().hasNext();
+		final SortingIndex sortingIndex = sortingIndexFor(keyspace, sort);
+
 		if (criteria == null
 				|| (CollectionUtils.isEmpty(criteria.getOrSismember())
 				        && CollectionUtils.isEmpty(criteria.getSismember())
 				        && CollectionUtils.isEmpty(criteria.getRanges()))
 						&& criteria.getNear() == null) {
-			return (Collection<T>) getAdapter().getAllOf(keyspace, offset, rows);
+
+			if (!sorted) {
+				return (Collection<T>) getAdapter().getAllOf(keyspace, offset, rows);
+			}
+
+			if (sortingIndex != null) {
+
+				List<byte[]> ids = this.getAdapter().execute(new RedisCallback<List<byte[]>>() {
+
+					@Override
+					public List<byte[]> doInRedis(RedisConnection connection) throws DataAccessException {
+						return readSortingIndex(connection, keyspace, sortingIndex, offset, rows);
+					}
+				});
+
+				if (ids != null) {
+					return hydrate(keyspace, ids, type);
+				}
+			}
+
+			return sortAndPage((List<T>) getAdapter().getAllOf(keyspace), sort, offset, rows);
 		}
 
-		RedisCallback<Map<byte[], Map<byte[], byte[]>>> callback = new RedisCallback<Map<byte[], Map<byte[], byte[]>>>() {
+		RedisCallback<MatchingIds> callback = new RedisCallback<MatchingIds>() {
 
 			@Override
-			public Map<byte[], Map<byte[], byte[]>> doInRedis(RedisConnection connection) throws DataAccessException {
+			public MatchingIds doInRedis(RedisConnection connection) throws DataAccessException {
 
-				List<byte[]> allKeys = new ArrayList<byte[]>();
-				if (!criteria.getSismember().isEmpty()) {
-				    allKeys.addAll(getKeysFromIsMembers(connection, keyspace + ":", criteria.getSismember()));
-				}
-				
+				String prefix = keyspace + ":";
+				List<Set<PathAndValue>> groups = indexGroups(criteria);
+				boolean serverSide = !RedisKeyValueAdapter.isClusterConnection(connection);
 
-				if (!criteria.getOrSismember().isEmpty()) {
-				    allKeys.addAll(getKeysFromOrMembers(connection, keyspace + ":", criteria.getOrSismember()));
+				if (criteria.getNear() == null) {
+
+					PathAndValue range = singleRange(groups);
+					if (range != null && (!sorted || (sortingIndex != null && Arrays.equals(sortingIndex.getKey(), toBytes(prefix + range.getPath()))))) {
+						return new MatchingIds(findIdsInRange(connection, prefix, range,
+								sortingIndex == null || sortingIndex.isAscending(), offset, rows), true);
+					}
+
+					if (serverSide && (!sorted || sortingIndex != null)) {
+						return new MatchingIds(findIds(connection, prefix, groups, sortingIndex, offset, rows), true);
+					}
 				}
 
+				Collection<byte[]> ids = serverSide ? findIds(connection, prefix, groups, null, -1, -1)
+						: findIdsClientSide(connection, prefix, groups);
+
+				ByteArraySet allKeys = new ByteArraySet(ids);
+
 				if (criteria.getNear() != null) {
 
-					GeoResults<GeoLocation<byte[]>> x = connection.geoRadius(geoKey(keyspace + ":", criteria.getNear()),
+					GeoResults<GeoLocation<byte[]>> x = connection.geoRadius(geoKey(prefix, criteria.getNear()),
 							new Circle(criteria.getNear().getPoint(), criteria.getNear().getDistance()));
 					for (GeoResult<GeoLocation<byte[]>> y : x) {
 						allKeys.add(y.getContent().getName());
 					}
 				}
 
-				byte[] keyspaceBin = getAdapter().getConverter().getConversionService().convert(keyspace + ":", byte[].class);
+				List<byte[]> result = new ArrayList<byte[]>(allKeys.size());
+				for (ByteArrayWrapper key : allKeys) {
+					result.add(key.getArray());
+				}
 
-				final Map<byte[], Map<byte[], byte[]>> rawData = new LinkedHashMap<byte[], Map<byte[], byte[]>>();
+				if (sorted) {
+					return new MatchingIds(result, false);
+				}
 
-				if (allKeys.isEmpty() || allKeys.size() < offset) {
-					return Collections.emptyMap();
+				if (result.isEmpty() || result.size() < offset) {
+					return new MatchingIds(Collections.<byte[]> emptyList(), true);
 				}
 
 				int offsetToUse = Math.max(0, offset);
 				if (rows > 0) {
-					allKeys = allKeys.subList(Math.max(0, offsetToUse), Math.min(offsetToUse + rows, allKeys.size()));
-				}
-				for (byte[] id : allKeys) {
-
-					byte[] singleKey = ByteUtils.concat(keyspaceBin, id);
-					rawData.put(id, connection.hGetAll(singleKey));
+					result = result.subList(offsetToUse, Math.min(offsetToUse + rows, result.size()));
 				}
 
-				return rawData;
-
+				return new MatchingIds(result, true);
 			}
-
-            private Collection<? extends byte[]> getKeysFromIsMembers(RedisConnection connection, String prefix, Set<PathAndValue> members) {
-                //get simple types
-                Set<PathAndValue> simpleQueries = new HashSet<PathAndValue>();
-                //get range types
-                Set<PathAndValue> rangeQueries = new HashSet<PathAndValue>();
-                for(PathAndValue curr : members){
-                    if(curr.getFirstValue() instanceof Range){
-                        rangeQueries.add(curr);
-                    }else{
-                        simpleQueries.add(curr);
-                    }
-                }
-                Set<byte[]> sInter = new HashSet<byte[]>();
-                if(!simpleQueries.isEmpty()){
-                    sInter = connection.sInter(keys(prefix, simpleQueries));
-                }
-                
-                if(!simpleQueries.isEmpty() && sInter.isEmpty()){
-                    //nothing find in simple queries.  no need of further checks.
-                    //just return the empty set
-                    return sInter;
-                }
-                
-                for (PathAndValue pathAndValue : rangeQueries) {
-                    byte[] keyInByte = getAdapter().getConverter().getConversionService()
-                          .convert(prefix + pathAndValue.getPath(), byte[].class);
-                    Set<byte[]> zRangeByScore = connection.zRangeByScore(keyInByte, (Range) pathAndValue.getFirstValue());
-                    if(sInter.isEmpty()){
-                        //no simple query but range query only. 
-                        sInter.addAll(zRangeByScore);
-                    }else{
-                      //remain intersections only
-                      Iterator<byte[]> it = sInter.iterator();
-                      while (it.hasNext()) {
-                          Iterator<byte[]> itTarget = zRangeByScore.iterator();
-                          byte[] source = it.next();
-                          boolean isContained = false;
-                          while(itTarget.hasNext()){
-                              byte[] target = itTarget.next();
-                              if (Arrays.equals(source, target)) {
-                                  isContained = true;
-                                  break;
-                                }
-                            }
-                            if(!isContained){
-                                it.remove();
-                            }
-                        }
-                    }
-                }
-                
-                return sInter;
-            }
-            
-            private Collection<? extends byte[]> getKeysFromOrMembers(RedisConnection connection, String prefix, Set<Set<PathAndValue>> members) {
-                Set<byte[]> sUnion = new HashSet<byte[]>();
-                for(Set<PathAndValue> isMemberSet : members){
-                    Collection<? extends byte[]> keysFromIsMembers = getKeysFromIsMembers(connection, prefix, isMemberSet);
-                    if(sUnion.isEmpty()){
-                        sUnion.addAll(keysFromIsMembers);
-                    }else{
-                        //merge
-                        Iterator<byte[]> it = (Iterator<byte[]>) keysFromIsMembers.iterator();
-                        while (it.hasNext()) {
-                            Iterator<byte[]> itTarget = (Iterator<byte[]>) sUnion.iterator();
-                            byte[] source = it.next();
-                            boolean isContained = false;
-                            while(itTarget.hasNext()){
-                                byte[] target = itTarget.next();
-                                if (Arrays.equals(source, target)) {
-                                    isContained = true;
-                                    break;
-                                }
-                            }
-                            if(!isContained){
-                                sUnion.add(source);
-                            }
-                        }
-                    }
-                }
-//                //get simple types
-//                Set<PathAndValue> simpleQueries = new HashSet<PathAndValue>();
-//                //get range types
-//                Set<PathAndValue> rangeQueries = new HashSet<PathAndValue>();
-//                
-//                for(PathAndValue curr : members){
-//                    if(curr.getFirstValue() instanceof Range){
-//                        rangeQueries.add(curr);
-//                    }else{
-//                        simpleQueries.add(curr);
-//                    }
-//                }
-//                
-//                Set<byte[]> sUnion = new HashSet<byte[]>();
-//                if(!simpleQueries.isEmpty()){
-//                    sUnion = connection.sUnion(keys(prefix, simpleQueries));
-//                }
-//                
-//                for (PathAndValue pathAndValue : rangeQueries) {
-//                    byte[] keyInByte = getAdapter().getConverter().getConversionService()
-//                          .convert(prefix + pathAndValue.getPath(), byte[].class);
-//                    Set<byte[]> zRangeByScore = connection.zRangeByScore(keyInByte, (Range) pathAndValue.getFirstValue());
-//                      sUnion.addAll(zRangeByScore);
-//                }
-                
-                return sUnion;
-            }
 		};
 
-		Map<byte[], Map<byte[], byte[]>> raw = this.getAdapter().execute(callback);
-
-		List<T> result = new ArrayList<T>(raw.size());
-		for (Map.Entry<byte[], Map<byte[], byte[]>> entry : raw.entrySet()) {
-
-			RedisData data = new RedisData(entry.getValue());
-			data.setId(getAdapter().getConverter().getConversionService().convert(entry.getKey(), String.class));
-			data.setKeyspace(keyspace.toString());
+		MatchingIds matchingIds = this.getAdapter().execute(callback);
 
-			T converted = this.getAdapter().getConverter().read(type, data);
-
-			if (converted != null) {
-				result.add(converted);
-			}
+		if (!matchingIds.inOrder) {
+			return sortAndPage(hydrate(keyspace, matchingIds.ids, type), sort, offset, rows);
 		}
-		return result;
+
+		return hydrate(keyspace, matchingIds.ids, type);
 	}
 
 	/*
@@ -270,7 +302,7 @@ class RedisQueryEngine extends QueryEngine<RedisKeyValueAdapter, RedisOperationC
 	 * @see org.springframework.data.keyvalue.core.QueryEngine#execute(java.lang.Object, java.lang.Object, int, int, java.io.Serializable)
 	 */
 	@Override
-	public Collection<?> execute(final RedisOperationChain criteria, Comparator<?> sort, int offset, int rows,
+	public Collection<?> execute(final RedisOperationChain criteria, Sort sort, int offset, int rows,
 			final Serializable keyspace) {
 		return execute(criteria, sort, offset, rows, keyspace, Object.class);
 	}
@@ -303,6 +335,377 @@ class RedisQueryEngine extends QueryEngine<RedisKeyValueAdapter, RedisOperationC
 		});
 	}
 
+	/**
+	 * Collect the groups of index lookups to intersect. The result is the union of all groups.
+	 *
+	 * @param criteria
+	 * @return never {@literal null}.
+	 */
+	private static List<Set<PathAndValue>> indexGroups(RedisOperationChain criteria) {
+
+		List<Set<PathAndValue>> groups = new ArrayList<Set<PathAndValue>>();
+
+		if (!criteria.getSismember().isEmpty()) {
+			groups.add(criteria.getSismember());
+		}
+
+		for (Set<PathAndValue> group : criteria.getOrSismember()) {
+			if (!group.isEmpty()) {
+				groups.add(group);
+			}
+		}
+
+		return groups;
+	}
+
+	/**
+	 * Intersect the simple and sorting indexes of each group and union the groups within Redis using
+	 * {@link #FIND_IDS_SCRIPT}, so only the requested page of ids is transferred.
+	 *
+	 * @param connection
+	 * @param prefix
+	 * @param groups
+	 * @param sortingIndex the index to order ids by. Can be {@literal null}.
+	 * @param offset
+	 * @param rows page size. Values less than {@literal 1} return all ids.
+	 * @return never {@literal null}.
+	 */
+	private List<byte[]> findIds(RedisConnection connection, String prefix, List<Set<PathAndValue>> groups,
+			SortingIndex sortingIndex, int offset, int rows) {
+
+		if (groups.isEmpty()) {
+			return Collections.emptyList();
+		}
+
+		List<byte[]> keys = new ArrayList<byte[]>();
+		List<byte[]> args = new ArrayList<byte[]>();
+
+		args.add(toBytes(Integer.toString(Math.max(0, offset))));
+		args.add(toBytes(Integer.toString(rows)));
+		args.add(toBytes(Integer.toString(groups.size())));
+		args.add(toBytes(sortingIndex == null ? "0" : sortingIndex.isAscending() ? "1" : "-1"));
+
+		for (Set<PathAndValue> group : groups) {
+
+			List<PathAndValue> simpleQueries = new ArrayList<PathAndValue>();
+			List<PathAndValue> rangeQueries = new ArrayList<PathAndValue>();
+			split(group, simpleQueries, rangeQueries);
+
+			args.add(toBytes(Integer.toString(simpleQueries.size())));
+			args.add(toBytes(Integer.toString(rangeQueries.size())));
+
+			keys.addAll(Arrays.asList(keys(prefix, simpleQueries)));
+
+			for (PathAndValue rangeQuery : rangeQueries) {
+
+				Range range = (Range) rangeQuery.getFirstValue();
+
+				keys.add(toBytes(prefix + rangeQuery.getPath()));
+				args.add(boundaryToBytes(range.getMin(), "-inf"));
+				args.add(boundaryToBytes(range.getMax(), "+inf"));
+			}
+		}
+
+		if (sortingIndex != null) {
+			keys.add(sortingIndex.getKey());
+		}
+
+		List<byte[]> keysAndArgs = new ArrayList<byte[]>(keys);
+		keysAndArgs.addAll(args);
+
+		List<Object> result = evalFindIds(connection, keys.size(), keysAndArgs.toArray(new byte[keysAndArgs.size()][]));
+
+		if (result == null) {
+			return Collections.emptyList();
+		}
+
+		List<byte[]> ids = new ArrayList<byte[]>(result.size());
+		for (Object id : result) {
+			ids.add((byte[]) id);
+		}
+		return ids;
+	}
+
+	/**
+	 * Run {@link #FIND_IDS_SCRIPT} by its SHA1 digest and only send the script body if Redis does not know it yet.
+	 *
+	 * @param connection
+	 * @param numKeys
+	 * @param keysAndArgs
+	 * @return
+	 */
+	private static List<Object> evalFindIds(RedisConnection connection, int numKeys, byte[][] keysAndArgs) {
+
+		if (connection.isPipelined() || connection.isQueueing()) {
+			// the NOSCRIPT error would only surface when the results are read
+			return connection.eval(FIND_IDS_LUA, ReturnType.MULTI, numKeys, keysAndArgs);
+		}
+
+		try {
+			return connection.evalSha(FIND_IDS_SHA1, ReturnType.MULTI, numKeys, keysAndArgs);
+		} catch (DataAccessException e) {
+
+			if (!exceptionContainsNoScriptError(e)) {
+				throw e;
+			}
+
+			return connection.eval(FIND_IDS_LUA, ReturnType.MULTI, numKeys, keysAndArgs);
+		}
+	}
+
+	private static boolean exceptionContainsNoScriptError(DataAccessException e) {
+
+		if (!(e instanceof NonTransientDataAccessException)) {
+			return false;
+		}
+
+		Throwable current = e;
+		while (current != null) {
+
+			String message = current.getMessage();
+			if (message != null && message.contains("NOSCRIPT")) {
+				return true;
+			}
+
+			current = current.getCause();
+		}
+
+		return false;
+	}
+
+	/**
+	 * Resolve the ids of all groups by reading the indexes. Used for cluster connections where index keys usually map
+	 * to different slots and cannot be combined within Redis.
+	 *
+	 * @param connection
+	 * @param prefix
+	 * @param groups
+	 * @return never {@literal null}.
+	 */
+	private Collection<byte[]> findIdsClientSide(RedisConnection connection, String prefix,
+			List<Set<PathAndValue>> groups) {
+
+		ByteArraySet result = new ByteArraySet();
+
+		for (Set<PathAndValue> group : groups) {
+
+			List<PathAndValue> simpleQueries = new ArrayList<PathAndValue>();
+			List<PathAndValue> rangeQueries = new ArrayList<PathAndValue>();
+			split(group, simpleQueries, rangeQueries);
+
+			ByteArraySet ids = null;
+
+			if (!simpleQueries.isEmpty()) {
+				ids = new ByteArraySet(connection.sInter(keys(prefix, simpleQueries)));
+			}
+
+			for (PathAndValue rangeQuery : rangeQueries) {
+
+				if (ids != null && ids.isEmpty()) {
+					break;
+				}
+
+				ByteArraySet inRange = new ByteArraySet(
+						connection.zRangeByScore(toBytes(prefix + rangeQuery.getPath()), (Range) rangeQuery.getFirstValue()));
+
+				if (ids == null) {
+					ids = inRange;
+				} else {
+					ids.retainAll(inRange);
+				}
+			}
+
+			if (ids != null) {
+				result.addAll(ids);
+			}
+		}
+
+		List<byte[]> ids = new ArrayList<byte[]>(result.size());
+		for (ByteArrayWrapper id : result) {
+			ids.add(id.getArray());
+		}
+		return ids;
+	}
+
+	/**
+	 * Read ids from a single sorting index by score range, ordered by the index itself and limited to the requested
+	 * page.
+	 *
+	 * @param connection
+	 * @param prefix
+	 * @param rangeQuery
+	 * @param ascending
+	 * @param offset
+	 * @param rows page size. Values less than {@literal 1} return all ids.
+	 * @return never {@literal null}.
+	 */
+	private List<byte[]> findIdsInRange(RedisConnection connection, String prefix, PathAndValue rangeQuery,
+			boolean ascending, int offset, int rows) {
+
+		byte[] key = toBytes(prefix + rangeQuery.getPath());
+		Range range = (Range) rangeQuery.getFirstValue();
+		int offsetToUse = Math.max(0, offset);
+
+		Set<byte[]> ids;
+		if (rows > 0) {
+
+			Limit limit = Limit.limit().offset(offsetToUse).count(rows);
+			ids = ascending ? connection.zRangeByScore(key, range, limit) : connection.zRevRangeByScore(key, range, limit);
+		} else {
+			ids = ascending ? connection.zRangeByScore(key, range) : connection.zRevRangeByScore(key, range);
+		}
+
+		if (ids == null || ids.size() <= (rows > 0 ? 0 : offsetToUse)) {
+			return Collections.emptyList();
+		}
+
+		List<byte[]> result = new ArrayList<byte[]>(ids);
+		return rows > 0 ? result : result.subList(offsetToUse, result.size());
+	}
+
+	/**
+	 * Read a page of ids in the order of the given {@link SortingIndex}. Returns {@literal null} if the index does not
+	 * hold all entities of the keyspace, as those would silently be missing from the result.
+	 *
+	 * @param connection
+	 * @param keyspace
+	 * @param sortingIndex
+	 * @param offset
+	 * @param rows page size. Values less than {@literal 1} return all ids.
+	 * @return {@literal null} if the index cannot be used.
+	 */
+	private List<byte[]> readSortingIndex(RedisConnection connection, Serializable keyspace, SortingIndex sortingIndex,
+			int offset, int rows) {
+
+		Long indexed = connection.zCard(sortingIndex.getKey());
+		Long total = connection.sCard(toBytes(keyspace.toString()));
+
+		if (indexed == null || !indexed.equals(total)) {
+			return null;
+		}
+
+		long start = Math.max(0, offset);
+		long end = rows > 0 ? start + rows - 1 : -1;
+
+		Set<byte[]> ids = sortingIndex.isAscending() ? connection.zRange(sortingIndex.getKey(), start, end)
+				: connection.zRevRange(sortingIndex.getKey(), start, end);
+
+		return ids == null ? Collections.<byte[]> emptyList() : new ArrayList<byte[]>(ids);
+	}
+
+	/**
+	 * Resolve the {@link SortingIndex} to order by. Only plain {@link SortingIndexDefinition}s for a single property
+	 * qualify, as composite indexes do not hold one score per entity.
+	 *
+	 * @param keyspace
+	 * @param sort can be {@literal null}.
+	 * @return {@literal null} if the given {@link Sort} cannot be resolved against a sorting index.
+	 */
+	private SortingIndex sortingIndexFor(Serializable keyspace, Sort sort) {
+
+		if (sort == null) {
+			return null;
+		}
+
+		Iterator<Order> orders = sort.iterator();
+		if (!orders.hasNext()) {
+			return null;
+		}
+
+		Order order = orders.next();
+		if (orders.hasNext()) {
+			return null;
+		}
+
+		IndexDefinitionProvider indexConfiguration = getAdapter().getConverter().getMappingContext()
+				.getMappingConfiguration().getIndexConfiguration();
+
+		for (IndexDefinition indexDefinition : indexConfiguration.getIndexDefinitionsFor(keyspace, order.getProperty())) {
+
+			if (indexDefinition instanceof SortingIndexDefinition
+					&& !(indexDefinition instanceof CompositeSortingIndexDefinition)) {
+				return new SortingIndex(toBytes(keyspace + ":" + indexDefinition.getIndexName()), order.isAscending());
+			}
+		}
+
+		return null;
+	}
+
+	/**
+	 * @param groups
+	 * @return the range query if the given groups consist of a single range query only, {@literal null} otherwise.
+	 */
+	private static PathAndValue singleRange(List<Set<PathAndValue>> groups) {
+
+		if (groups.size() != 1 || groups.get(0).size() != 1) {
+			return null;
+		}
+
+		PathAndValue pathAndValue = groups.get(0).iterator().next();
+		return pathAndValue.getFirstValue() instanceof Range ? pathAndValue : null;
+	}
+
+	private <T> List<T> hydrate(Serializable keyspace, List<byte[]> ids, Class<T> type) {
+
+		List<T> result = new ArrayList<T>(ids.size());
+		for (T converted : this.getAdapter().getAll(keyspace, ids, type)) {
+
+			if (converted != null) {
+				result.add(converted);
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Sort the given entities in memory and extract the requested page. Used if the {@link Sort} cannot be served by a
+	 * sorting index.
+	 */
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private <T> List<T> sortAndPage(List<T> source, Sort sort, int offset, int rows) {
+
+		List<T> result = new ArrayList<T>(source);
+		Comparator comparator = new SpelSortAccessor(parser).resolve(new KeyValueQuery<Object>(sort));
+
+		if (comparator != null) {
+			Collections.sort(result, comparator);
+		}
+
+		int offsetToUse = Math.max(0, offset);
+		if (offsetToUse >= result.size()) {
+			return Collections.emptyList();
+		}
+
+		return rows > 0 ? result.subList(offsetToUse, Math.min(offsetToUse + rows, result.size()))
+				: result.subList(offsetToUse, result.size());
+	}
+
+	private static void split(Set<PathAndValue> group, List<PathAndValue> simpleQueries,
+			List<PathAndValue> rangeQueries) {
+
+		for (PathAndValue pathAndValue : group) {
+
+			if (pathAndValue.getFirstValue() instanceof Range) {
+				rangeQueries.add(pathAndValue);
+			} else {
+				simpleQueries.add(pathAndValue);
+			}
+		}
+	}
+
+	private byte[] boundaryToBytes(Boundary boundary, String infinity) {
+
+		if (boundary == null || boundary.getValue() == null) {
+			return toBytes(infinity);
+		}
+
+		return toBytes((boundary.isIncluding() ? "" : "(") + boundary.getValue());
+	}
+
+	private byte[] toBytes(String source) {
+		return getAdapter().getConverter().getConversionService().convert(source, byte[].class);
+	}
+
 	private byte[][] keys(String prefix, Collection<PathAndValue> source) {
 
 		byte[][] keys = new byte[source.size()][];
@@ -338,4 +741,62 @@ class RedisQueryEngine extends QueryEngine<RedisKeyValueAdapter, RedisOperationC
 			return (RedisOperationChain) query.getCriteria();
 		}
 	}
+
+	/**
+	 * {@link SortAccessor} handing the {@link Sort} of a query to the engine, which resolves it against sorting indexes.
+	 *
+	 * @author agent
+	 * @since 1.8.8
+	 */
+	static class RedisSortAccessor implements SortAccessor<Sort> {
+
+		@Override
+		public Sort resolve(KeyValueQuery<?> query) {
+			return query.getSort();
+		}
+	}
+
+	/**
+	 * Key and direction of a sorting index to order results by.
+	 *
+	 * @author agent
+	 * @since 1.8.8
+	 */
+	private static class SortingIndex {
+
+		private final byte[] key;
+		private final boolean ascending;
+
+		SortingIndex(byte[] key, boolean ascending) {
+
+			this.key = key;
+			this.ascending = ascending;
+		}
+
+		byte[] getKey() {
+			return key;
+		}
+
+		boolean isAscending() {
+			return ascending;
+		}
+	}
+
+	/**
+	 * Ids matching a query and whether they are already ordered and paged.
+	 *
+	 * @author agent
+	 * @since 1.8.8
+	 */
+	private static class MatchingIds {
+
+		private final List<byte[]> ids;
+		private final boolean inOrder;
+
+		MatchingIds(List<byte[]> ids, boolean inOrder) {
+
+			this.ids = ids;
+			this.inOrder = inOrder;
+		}
+	}
 }
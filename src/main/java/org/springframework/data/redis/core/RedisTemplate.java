@@ -32,6 +32,8 @@ import org.springframework.dao.DataAccessException;
 import org.springframework.dao.InvalidDataAccessApiUsageException;
 import org.springframework.data.redis.RedisSystemException;
 import org.springframework.data.redis.connection.DataType;
+import org.springframework.data.redis.connection.ReadPolicy;
+import org.springframework.data.redis.connection.RedisClusterConnection;
 import org.springframework.data.redis.connection.RedisConnection;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.RedisZSetCommands.Tuple;
@@ -96,6 +98,7 @@ public class RedisTemplate<K, V> extends RedisAccessor implements RedisOperation
 	private RedisSerializer<String> stringSerializer = new StringRedisSerializer();
 
 	private ScriptExecutor<K> scriptExecutor;
+	private ReadPolicy readPolicy;
 
 	// cache singleton objects (where possible)
 	private ValueOperations<K, V> valueOps;
@@ -185,6 +188,8 @@ public class RedisTemplate<K, V> extends RedisAccessor implements RedisOperation
 
 		RedisConnectionFactory factory = getConnectionFactory();
 		RedisConnection conn = null;
+		RedisClusterConnection readPolicyConnection = null;
+		ReadPolicy previousReadPolicy = null;
 		try {
 
 			if (enableTransactionSupport) {
@@ -196,6 +201,13 @@ public class RedisTemplate<K, V> extends RedisAccessor implements RedisOperation
 
 			boolean existingConnection = TransactionSynchronizationManager.hasResource(factory);
 
+			if (readPolicy != null && conn instanceof RedisClusterConnection) {
+
+				readPolicyConnection = (RedisClusterConnection) conn;
+				previousReadPolicy = readPolicyConnection.getReadPolicy();
+				readPolicyConnection.setReadPolicy(readPolicy);
+			}
+
 			RedisConnection connToUse = preProcessConnection(conn, existingConnection);
 
 			boolean pipelineStatus = connToUse.isPipelined();
@@ -214,6 +226,12 @@ public class RedisTemplate<K, V> extends RedisAccessor implements RedisOperation
 			// TODO: any other connection processing?
 			return postProcessResult(result, connToUse, existingConnection);
 		} finally {
+
+			// connections may be shared, so do not let the policy of this template leak into other usages
+			if (readPolicyConnection != null && previousReadPolicy != null) {
+				readPolicyConnection.setReadPolicy(previousReadPolicy);
+			}
+
 			RedisConnectionUtils.releaseConnection(conn, factory);
 		}
 	}
@@ -1148,6 +1166,18 @@ public class RedisTemplate<K, V> extends RedisAccessor implements RedisOperation
 		this.enableTransactionSupport = enableTransactionSupport;
 	}
 
+	/**
+	 * Set the {@link ReadPolicy} applied to cluster connections used by this template, overriding the one configured
+	 * via {@link org.springframework.data.redis.connection.RedisClusterConfiguration}. Has no effect on non cluster
+	 * connections.
+	 *
+	 * @param readPolicy can be {@literal null} to use the connection default.
+	 * @since 1.8.8
+	 */
+	public void setReadPolicy(ReadPolicy readPolicy) {
+		this.readPolicy = readPolicy;
+	}
+
 	/**
 	 * Set the {@link ClassLoader} to be used for the default {@link JdkSerializationRedisSerializer} in case no other
 	 * {@link RedisSerializer} is explicitly set as the default one.
@@ -15,6 +15,8 @@
  */
 package org.springframework.data.redis.core;
 
+import java.nio.charset.Charset;
+
 import org.springframework.util.StringUtils;
 
 /**
@@ -22,14 +24,18 @@ import org.springframework.util.StringUtils;
  * 
  * @author Christoph Strobl
  * @author Thomas Darimont
+ * @author agent
  * @since 1.4
  */
 public class ScanOptions {
 
 	public static ScanOptions NONE = new ScanOptions();
 
+	private static final Charset UTF8 = Charset.forName("UTF-8");
+
 	private Long count;
 	private String pattern;
+	private byte[] bytePattern;
 
 	private ScanOptions() {}
 
@@ -47,9 +53,35 @@ public class ScanOptions {
 	}
 
 	public String getPattern() {
+
+		if (bytePattern != null) {
+			return new String(bytePattern, UTF8);
+		}
 		return pattern;
 	}
 
+	/**
+	 * Get the pattern as raw bytes. Patterns set as {@link String} are encoded using {@literal UTF-8}.
+	 *
+	 * @return {@literal null} if no pattern set.
+	 * @since 1.8.8
+	 */
+	public byte[] getBytePattern() {
+
+		if (bytePattern != null) {
+			return bytePattern;
+		}
+		return pattern != null ? pattern.getBytes(UTF8) : null;
+	}
+
+	/**
+	 * @return {@literal true} if the pattern has been set as raw bytes via {@link ScanOptionsBuilder#match(byte[])}.
+	 * @since 1.8.8
+	 */
+	public boolean isBinaryPattern() {
+		return bytePattern != null;
+	}
+
 	public String toOptionString() {
 
 		if (this.equals(ScanOptions.NONE)) {
@@ -61,8 +93,8 @@ public class ScanOptions {
 		if (this.count != null) {
 			params += (", 'count', " + count);
 		}
-		if (StringUtils.hasText(this.pattern)) {
-			params += (", 'match' , '" + this.pattern + "'");
+		if (StringUtils.hasText(getPattern())) {
+			params += (", 'match' , '" + getPattern() + "'");
 		}
 
 		return params;
@@ -99,6 +131,21 @@ public class ScanOptions {
 		 */
 		public ScanOptionsBuilder match(String pattern) {
 			options.pattern = pattern;
+			options.bytePattern = null;
+			return this;
+		}
+
+		/**
+		 * Returns the current {@link ScanOptionsBuilder} configured with the given binary {@code pattern}. Use this for
+		 * patterns that are not valid {@literal UTF-8}, e.g. made up of serialized keys.
+		 *
+		 * @param pattern
+		 * @return
+		 * @since 1.8.8
+		 */
+		public ScanOptionsBuilder match(byte[] pattern) {
+			options.bytePattern = pattern;
+			options.pattern = null;
 			return this;
 		}
 
@@ -0,0 +1,155 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.serializer;
+
+import java.util.Arrays;
+
+import org.springframework.util.Assert;
+
+/**
+ * {@link RedisSerializer} decorator compressing the binary representation created by a delegate {@link RedisSerializer}
+ * once it exceeds a given size threshold. Compressed values are stored with a leading {@literal 0xFF} marker byte
+ * followed by a format byte. Values written as is start with the bytes created by the delegate, which allows reading
+ * values written before compression was enabled. {@literal 0xFF} never occurs in UTF-8 text and does not start a JDK
+ * serialization stream, so values created by the {@link RedisSerializer}s shipped with Spring Data Redis are never
+ * mistaken for compressed ones. <br />
+ * The serializer can be used with {@link org.springframework.data.redis.core.RedisTemplate} and, through the template,
+ * with {@link org.springframework.data.redis.cache.RedisCacheManager}.
+ *
+ * @author agent
+ * @since 1.8.8
+ * @param <T>
+ */
+public class CompressingRedisSerializer<T> implements RedisSerializer<T> {
+
+	/**
+	 * Default size in bytes values need to exceed to get compressed.
+	 */
+	public static final int DEFAULT_THRESHOLD = 1024;
+
+	static final byte MARKER = (byte) 0xFF;
+	static final byte UNCOMPRESSED = 0;
+	static final byte COMPRESSED = 1;
+
+	private final RedisSerializer<T> delegate;
+	private final int threshold;
+	private final CompressionCodec codec;
+
+	/**
+	 * Creates new {@link CompressingRedisSerializer} compressing values exceeding {@link #DEFAULT_THRESHOLD} using the
+	 * {@link DeflateCompressionCodec}.
+	 *
+	 * @param delegate must not be {@literal null}.
+	 */
+	public CompressingRedisSerializer(RedisSerializer<T> delegate) {
+		this(delegate, DEFAULT_THRESHOLD);
+	}
+
+	/**
+	 * Creates new {@link CompressingRedisSerializer} compressing values exceeding {@literal threshold} using the
+	 * {@link DeflateCompressionCodec}.
+	 *
+	 * @param delegate must not be {@literal null}.
+	 * @param threshold size in bytes. Must not be negative.
+	 */
+	public CompressingRedisSerializer(RedisSerializer<T> delegate, int threshold) {
+		this(delegate, threshold, new DeflateCompressionCodec());
+	}
+
+	/**
+	 * Creates new {@link CompressingRedisSerializer}.
+	 *
+	 * @param delegate must not be {@literal null}.
+	 * @param threshold size in bytes. Must not be negative.
+	 * @param codec must not be {@literal null}.
+	 */
+	public CompressingRedisSerializer(RedisSerializer<T> delegate, int threshold, CompressionCodec codec) {
+
+		Assert.notNull(delegate, "Delegate must not be null!");
+		Assert.isTrue(threshold >= 0, "Threshold must not be negative!");
+		Assert.notNull(codec, "Codec must not be null!");
+
+		this.delegate = delegate;
+		this.threshold = threshold;
+		this.codec = codec;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.serializer.RedisSerializer#serialize(java.lang.Object)
+	 */
+	@Override
+	public byte[] serialize(T t) throws SerializationException {
+
+		byte[] bytes = delegate.serialize(t);
+
+		if (SerializationUtils.isEmpty(bytes)) {
+			return bytes;
+		}
+
+		if (bytes.length > threshold) {
+
+			byte[] compressed = codec.compress(bytes);
+
+			// incompressible data is stored as is
+			if (compressed.length + 2 < bytes.length) {
+				return withHeader(COMPRESSED, compressed);
+			}
+		}
+
+		// escape values that would otherwise be read as compressed
+		return bytes[0] == MARKER ? withHeader(UNCOMPRESSED, bytes) : bytes;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.serializer.RedisSerializer#deserialize(byte[])
+	 */
+	@Override
+	public T deserialize(byte[] bytes) throws SerializationException {
+
+		if (SerializationUtils.isEmpty(bytes) || bytes[0] != MARKER || bytes.length < 2) {
+			return delegate.deserialize(bytes);
+		}
+
+		byte[] payload = Arrays.copyOfRange(bytes, 2, bytes.length);
+
+		switch (bytes[1]) {
+			case COMPRESSED:
+				return delegate.deserialize(codec.decompress(payload));
+			case UNCOMPRESSED:
+				return delegate.deserialize(payload);
+			default:
+				return delegate.deserialize(bytes);
+		}
+	}
+
+	/**
+	 * @return the size in bytes values need to exceed to get compressed.
+	 */
+	public int getThreshold() {
+		return threshold;
+	}
+
+	private static byte[] withHeader(byte format, byte[] payload) {
+
+		byte[] result = new byte[payload.length + 2];
+		result[0] = MARKER;
+		result[1] = format;
+		System.arraycopy(payload, 0, result, 2, payload.length);
+		return result;
+	}
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.serializer;
+
+/**
+ * Strategy to compress and decompress binary values, used by {@link CompressingRedisSerializer}.
+ *
+ * @author agent
+ * @since 1.8.8
+ * @see DeflateCompressionCodec
+ */
+public interface CompressionCodec {
+
+	/**
+	 * Compress the given data.
+	 *
+	 * @param data never {@literal null}.
+	 * @return the compressed data.
+	 * @throws SerializationException if the data cannot be compressed.
+	 */
+	byte[] compress(byte[] data) throws SerializationException;
+
+	/**
+	 * Decompress the given data.
+	 *
+	 * @param data never {@literal null}.
+	 * @return the decompressed data.
+	 * @throws SerializationException if the data cannot be decompressed.
+	 */
+	byte[] decompress(byte[] data) throws SerializationException;
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.serializer;
+
+import java.io.ByteArrayOutputStream;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import org.springframework.util.Assert;
+
+/**
+ * {@link CompressionCodec} using the JDK {@link Deflater} and {@link Inflater}.
+ *
+ * @author agent
+ * @since 1.8.8
+ */
+public class DeflateCompressionCodec implements CompressionCodec {
+
+	private static final int BUFFER_SIZE = 4096;
+
+	private final int level;
+
+	/**
+	 * Creates new {@link DeflateCompressionCodec} using {@link Deflater#BEST_SPEED}.
+	 */
+	public DeflateCompressionCodec() {
+		this(Deflater.BEST_SPEED);
+	}
+
+	/**
+	 * Creates new {@link DeflateCompressionCodec} using the given compression level.
+	 *
+	 * @param level compression level between {@link Deflater#BEST_SPEED} and {@link Deflater#BEST_COMPRESSION} or
+	 *          {@link Deflater#DEFAULT_COMPRESSION}.
+	 */
+	public DeflateCompressionCodec(int level) {
+
+		Assert.isTrue(level == Deflater.DEFAULT_COMPRESSION || (level >= Deflater.NO_COMPRESSION
+				&& level <= Deflater.BEST_COMPRESSION), "Level must be a valid Deflater compression level!");
+		this.level = level;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.serializer.CompressionCodec#compress(byte[])
+	 */
+	@Override
+	public byte[] compress(byte[] data) {
+
+		Deflater deflater = new Deflater(level);
+
+		try {
+
+			deflater.setInput(data);
+			deflater.finish();
+
+			ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(data.length / 2, 64));
+			byte[] buffer = new byte[BUFFER_SIZE];
+
+			while (!deflater.finished()) {
+				out.write(buffer, 0, deflater.deflate(buffer));
+			}
+
+			return out.toByteArray();
+		} finally {
+			deflater.end();
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.serializer.CompressionCodec#decompress(byte[])
+	 */
+	@Override
+	public byte[] decompress(byte[] data) {
+
+		Inflater inflater = new Inflater();
+
+		try {
+
+			inflater.setInput(data);
+
+			ByteArrayOutputStream out = new ByteArrayOutputStream(data.length * 4);
+			byte[] buffer = new byte[BUFFER_SIZE];
+
+			while (!inflater.finished()) {
+
+				int count = inflater.inflate(buffer);
+
+				if (count == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+					throw new SerializationException("Cannot decompress truncated or corrupt data");
+				}
+
+				out.write(buffer, 0, count);
+			}
+
+			return out.toByteArray();
+		} catch (DataFormatException ex) {
+			throw new SerializationException("Cannot decompress", ex);
+		} finally {
+			inflater.end();
+		}
+	}
+}
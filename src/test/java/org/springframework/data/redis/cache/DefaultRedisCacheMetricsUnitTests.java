@@ -0,0 +1,93 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.cache;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+import org.springframework.data.redis.cache.DefaultRedisCacheMetrics.Histogram;
+
+/**
+ * @author agent
+ */
+public class DefaultRedisCacheMetricsUnitTests {
+
+	DefaultRedisCacheMetrics metrics = new DefaultRedisCacheMetrics();
+
+	@Test
+	public void shouldCountOperations() {
+
+		metrics.recordHit();
+		metrics.recordHit();
+		metrics.recordMiss();
+		metrics.recordPut();
+		metrics.recordPuts(3);
+		metrics.recordEviction();
+		metrics.recordLoad(TimeUnit.MILLISECONDS.toNanos(2), true);
+		metrics.recordLoad(TimeUnit.MILLISECONDS.toNanos(3), false);
+
+		assertThat(metrics.getHits(), is(2L));
+		assertThat(metrics.getMisses(), is(1L));
+		assertThat(metrics.getPuts(), is(4L));
+		assertThat(metrics.getEvictions(), is(1L));
+		assertThat(metrics.getLoads().getCount(), is(2L));
+		assertThat(metrics.getLoads().getTotalTime(TimeUnit.MILLISECONDS), is(5L));
+		assertThat(metrics.getLoadFailures(), is(1L));
+	}
+
+	@Test
+	public void histogramShouldCountDurationsInExponentialBuckets() {
+
+		metrics.recordRead(TimeUnit.MICROSECONDS.toNanos(0));
+		metrics.recordRead(TimeUnit.MICROSECONDS.toNanos(1));
+		metrics.recordRead(TimeUnit.MICROSECONDS.toNanos(3));
+		metrics.recordRead(TimeUnit.MICROSECONDS.toNanos(1000));
+
+		long[] buckets = metrics.getReads().getBucketCounts();
+
+		assertThat(buckets[0], is(1L));
+		assertThat(buckets[1], is(1L));
+		assertThat(buckets[2], is(1L));
+		assertThat(buckets[10], is(1L));
+		assertThat(Histogram.getBucketUpperBound(10), is(1024L));
+	}
+
+	@Test
+	public void histogramShouldCountExcessiveDurationsInLastBucket() {
+
+		metrics.recordWrite(TimeUnit.HOURS.toNanos(1));
+
+		assertThat(metrics.getWrites().getBucketCounts()[Histogram.BUCKETS - 1], is(1L));
+		assertThat(metrics.getWrites().getPercentileUpperBound(0.5), is(Long.MAX_VALUE));
+	}
+
+	@Test
+	public void percentileShouldReturnUpperBoundOfBucketContainingPercentile() {
+
+		for (int i = 0; i < 99; i++) {
+			metrics.recordRead(TimeUnit.MICROSECONDS.toNanos(100));
+		}
+		metrics.recordRead(TimeUnit.MILLISECONDS.toNanos(100));
+
+		assertThat(metrics.getReads().getPercentileUpperBound(0.5), is(128L));
+		assertThat(metrics.getReads().getPercentileUpperBound(0.99), is(128L));
+		assertThat(metrics.getReads().getPercentileUpperBound(1), is(131072L));
+		assertThat(new DefaultRedisCacheMetrics().getReads().getPercentileUpperBound(0.5), is(0L));
+	}
+}
@@ -0,0 +1,194 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.cache;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+import org.springframework.data.redis.cache.NearCache.EvictionPolicy;
+import org.springframework.data.redis.connection.DefaultMessage;
+
+/**
+ * @author agent
+ */
+public class NearCacheUnitTests {
+
+	private static final byte[] CHANNEL = "cache~invalidation".getBytes();
+	private static final byte[] KEY_1 = "key-1".getBytes();
+	private static final byte[] KEY_2 = "key-2".getBytes();
+	private static final byte[] KEY_3 = "key-3".getBytes();
+
+	@Test
+	public void getShouldReturnStoredValueAndCountHit() {
+
+		NearCache cache = new NearCache(10, 0, EvictionPolicy.LRU);
+		cache.put(KEY_1, "value", 0);
+
+		assertThat(cache.get(KEY_1).get(), is((Object) "value"));
+		assertThat(cache.get(KEY_2), is(nullValue()));
+		assertThat(cache.getHits(), is(1L));
+		assertThat(cache.getMisses(), is(1L));
+	}
+
+	@Test
+	public void getShouldNotReturnExpiredEntry() throws InterruptedException {
+
+		NearCache cache = new NearCache(10, 0, EvictionPolicy.LRU);
+		cache.put(KEY_1, "value", 1);
+
+		Thread.sleep(5);
+
+		assertThat(cache.get(KEY_1), is(nullValue()));
+		assertThat(cache.size(), is(0));
+	}
+
+	@Test
+	public void lruShouldEvictLeastRecentlyUsedEntry() {
+
+		NearCache cache = new NearCache(2, 0, EvictionPolicy.LRU);
+		cache.put(KEY_1, "value-1", 0);
+		cache.put(KEY_2, "value-2", 0);
+
+		cache.get(KEY_1);
+		cache.put(KEY_3, "value-3", 0);
+
+		assertThat(cache.get(KEY_1), is(notNullValue()));
+		assertThat(cache.get(KEY_2), is(nullValue()));
+		assertThat(cache.get(KEY_3), is(notNullValue()));
+	}
+
+	@Test
+	public void lfuShouldEvictLeastFrequentlyUsedEntry() {
+
+		NearCache cache = new NearCache(2, 0, EvictionPolicy.LFU);
+		cache.put(KEY_1, "value-1", 0);
+		cache.put(KEY_2, "value-2", 0);
+
+		cache.get(KEY_1);
+		cache.get(KEY_1);
+		cache.get(KEY_2);
+		cache.put(KEY_3, "value-3", 0);
+
+		assertThat(cache.get(KEY_1), is(notNullValue()));
+		assertThat(cache.get(KEY_2), is(nullValue()));
+	}
+
+	@Test
+	public void putIfNotInvalidatedShouldRejectValueWhenInvalidatedConcurrently() {
+
+		NearCache cache = new NearCache(10, 0, EvictionPolicy.LRU);
+
+		long generation = cache.getGeneration(KEY_1);
+		cache.evict(KEY_1);
+
+		assertThat(cache.putIfNotInvalidated(KEY_1, "stale", 0, generation), is(false));
+		assertThat(cache.get(KEY_1), is(nullValue()));
+	}
+
+	@Test
+	public void putIfNotInvalidatedShouldNotRejectValueWhenOtherKeyInvalidated() {
+
+		NearCache cache = new NearCache(10, 0, EvictionPolicy.LRU);
+
+		long generation = cache.getGeneration(KEY_1);
+		cache.evict(KEY_2);
+
+		assertThat(cache.putIfNotInvalidated(KEY_1, "value", 0, generation), is(true));
+		assertThat(cache.get(KEY_1).get(), is((Object) "value"));
+	}
+
+	@Test
+	public void putIfNotInvalidatedShouldRejectValueWhenClearedConcurrently() {
+
+		NearCache cache = new NearCache(1000, 0, EvictionPolicy.LRU);
+
+		long generation = cache.getGeneration(KEY_1);
+		cache.clear();
+
+		assertThat(cache.putIfNotInvalidated(KEY_1, "stale", 0, generation), is(false));
+	}
+
+	@Test
+	public void lfuShouldDecayFrequencyOfFormerlyHotEntries() {
+
+		NearCache cache = new NearCache(2, 0, EvictionPolicy.LFU);
+		cache.put(KEY_1, "value-1", 0);
+
+		for (int i = 0; i < 15; i++) {
+			cache.get(KEY_1);
+		}
+
+		cache.put(KEY_2, "value-2", 0);
+		for (int i = 0; i < 14; i++) {
+			cache.get(KEY_2);
+		}
+
+		cache.put(KEY_3, "value-3", 0);
+
+		assertThat(cache.get(KEY_1), is(nullValue()));
+		assertThat(cache.get(KEY_2), is(notNullValue()));
+	}
+
+	@Test
+	public void shouldNotHoldMoreThanMaxSizeAcrossSegments() {
+
+		NearCache cache = new NearCache(1000, 0, EvictionPolicy.LRU);
+
+		for (int i = 0; i < 5000; i++) {
+			cache.put(("key-" + i).getBytes(), "value", 0);
+		}
+
+		assertThat(cache.size(), is(lessThanOrEqualTo(1000)));
+	}
+
+	@Test
+	public void onMessageShouldEvictKeyPublishedByOtherInstance() {
+
+		NearCache cache = new NearCache(10, 0, EvictionPolicy.LRU);
+		NearCache other = new NearCache(10, 0, EvictionPolicy.LRU);
+		cache.put(KEY_1, "value-1", 0);
+		cache.put(KEY_2, "value-2", 0);
+
+		cache.onMessage(new DefaultMessage(CHANNEL, other.createInvalidationMessage(KEY_1)), null);
+
+		assertThat(cache.get(KEY_1), is(nullValue()));
+		assertThat(cache.get(KEY_2), is(notNullValue()));
+	}
+
+	@Test
+	public void onMessageShouldClearWhenOtherInstanceCleared() {
+
+		NearCache cache = new NearCache(10, 0, EvictionPolicy.LRU);
+		NearCache other = new NearCache(10, 0, EvictionPolicy.LRU);
+		cache.put(KEY_1, "value-1", 0);
+
+		cache.onMessage(new DefaultMessage(CHANNEL, other.createInvalidationMessage(null)), null);
+
+		assertThat(cache.size(), is(0));
+	}
+
+	@Test
+	public void onMessageShouldIgnoreOwnMessages() {
+
+		NearCache cache = new NearCache(10, 0, EvictionPolicy.LRU);
+		cache.put(KEY_1, "value-1", 0);
+
+		cache.onMessage(new DefaultMessage(CHANNEL, cache.createInvalidationMessage(KEY_1)), null);
+
+		assertThat(cache.get(KEY_1), is(notNullValue()));
+	}
+}
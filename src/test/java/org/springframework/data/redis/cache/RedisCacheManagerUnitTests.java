@@ -16,6 +16,7 @@
 package org.springframework.data.redis.cache;
 
 import static org.hamcrest.core.Is.*;
+import static org.hamcrest.core.IsInstanceOf.*;
 import static org.hamcrest.core.IsNull.*;
 import static org.hamcrest.core.IsSame.*;
 import static org.junit.Assert.*;
@@ -39,6 +40,7 @@ import org.springframework.cache.Cache;
 import org.springframework.data.redis.connection.RedisConnection;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 
 /**
  * @author Christoph Strobl
@@ -193,4 +195,59 @@ public class RedisCacheManagerUnitTests {
 		assertThat(cacheManager.getCache("data"), notNullValue());
 		assertThat(cacheManager.getCacheNames(), IsCollectionContaining.hasItem("remote-cache"));
 	}
+
+	@Test
+	public void shouldAttachNearCacheAndRegisterInvalidationListenerOnlyForConfiguredCaches() {
+
+		RedisMessageListenerContainer containerMock = mock(RedisMessageListenerContainer.class);
+
+		cacheManager = new RedisCacheManager(redisTemplate);
+		cacheManager.setNearCacheMaxSizes(Collections.singletonMap("near", 100));
+		cacheManager.setNearCacheEvictionPolicy(NearCache.EvictionPolicy.LFU);
+		cacheManager.setMessageListenerContainer(containerMock);
+		cacheManager.afterPropertiesSet();
+
+		RedisCache near = (RedisCache) cacheManager.getCache("near");
+		RedisCache remoteOnly = (RedisCache) cacheManager.getCache("remote-only");
+
+		assertThat(near.getNearCache(), notNullValue());
+		assertThat(near.getNearCache().getMaxSize(), is(100));
+		assertThat(near.getNearCache().getEvictionPolicy(), is(NearCache.EvictionPolicy.LFU));
+		assertThat(remoteOnly.getNearCache(), nullValue());
+		verify(containerMock).addMessageListener(near.getNearCache(), near.getInvalidationTopic());
+	}
+
+	@Test
+	public void computeRefreshAheadThresholdShouldPreferPerCacheConfiguration() {
+
+		cacheManager = new RedisCacheManager(redisTemplate);
+		cacheManager.setDefaultRefreshAheadThreshold(0.1D);
+		cacheManager.setRefreshAheadThresholds(Collections.singletonMap("refreshed", 0.3D));
+
+		assertThat(cacheManager.computeRefreshAheadThreshold("refreshed"), is(0.3D));
+		assertThat(cacheManager.computeRefreshAheadThreshold("other"), is(0.1D));
+	}
+
+	@Test
+	public void shouldCreateMetricsForEachCache() {
+
+		final RedisCacheMetrics metricsMock = mock(RedisCacheMetrics.class);
+
+		cacheManager = new RedisCacheManager(redisTemplate);
+		cacheManager.afterPropertiesSet();
+
+		assertThat(((RedisCache) cacheManager.getCache("default")).getMetrics(), instanceOf(DefaultRedisCacheMetrics.class));
+
+		cacheManager = new RedisCacheManager(redisTemplate);
+		cacheManager.setMetricsFactory(new RedisCacheMetricsFactory() {
+
+			@Override
+			public RedisCacheMetrics createMetrics(String cacheName) {
+				return metricsMock;
+			}
+		});
+		cacheManager.afterPropertiesSet();
+
+		assertThat(((RedisCache) cacheManager.getCache("custom")).getMetrics(), sameInstance(metricsMock));
+	}
 }
@@ -0,0 +1,173 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.cache;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+import static org.junit.Assume.*;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.springframework.cache.Cache.ValueWrapper;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.ConnectionFactoryTracker;
+import org.springframework.data.redis.RedisTestProfileValueSource;
+import org.springframework.data.redis.SettingsUtils;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.jedis.JedisConnectionFactory;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.connection.lettuce.LettuceTestClientResources;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+
+/**
+ * Load test comparing the latency of a cache hit read with a single {@code GET} by {@link RedisCache} against the
+ * previous {@code EXISTS} followed by {@code GET}, for Jedis and Lettuce. Latency is logged, not asserted, as it depends
+ * on the host running the tests. Only runs with {@code -DrunLongTests=true}.
+ *
+ * @author agent
+ */
+public class RedisCacheReadLoadTests {
+
+	private static final Log LOG = LogFactory.getLog(RedisCacheReadLoadTests.class);
+
+	private static final int WARMUP = 2000;
+	private static final int READS = 20000;
+
+	@BeforeClass
+	public static void shouldRun() {
+		assumeTrue(RedisTestProfileValueSource.matches("runLongTests", "true"));
+	}
+
+	@AfterClass
+	public static void cleanUp() {
+		ConnectionFactoryTracker.cleanUp();
+	}
+
+	@Test
+	public void cacheHitsShouldTakeSingleRoundTripWithJedis() {
+
+		JedisConnectionFactory factory = new JedisConnectionFactory();
+		factory.setHostName(SettingsUtils.getHost());
+		factory.setPort(SettingsUtils.getPort());
+		factory.afterPropertiesSet();
+
+		compare("Jedis", factory);
+	}
+
+	@Test
+	public void cacheHitsShouldTakeSingleRoundTripWithLettuce() {
+
+		LettuceConnectionFactory factory = new LettuceConnectionFactory(SettingsUtils.getHost(), SettingsUtils.getPort());
+		factory.setClientResources(LettuceTestClientResources.getSharedClientResources());
+		factory.setShutdownTimeout(0);
+		factory.afterPropertiesSet();
+
+		compare("Lettuce", factory);
+	}
+
+	private void compare(String driver, RedisConnectionFactory factory) {
+
+		ConnectionFactoryTracker.add(factory);
+
+		final RedisTemplate<Object, Object> template = new RedisTemplate<Object, Object>();
+		template.setConnectionFactory(factory);
+		template.afterPropertiesSet();
+
+		final RedisCache cache = new RedisCache("read-load", "read-load:".getBytes(), template, 600);
+		cache.put("key", "value");
+
+		final byte[] keyBytes = new RedisCacheKey("key").usePrefix("read-load:".getBytes())
+				.withKeySerializer(template.getKeySerializer()).getKeyBytes();
+
+		try {
+
+			Read singleGet = new Read() {
+
+				@Override
+				public Object read() {
+
+					ValueWrapper wrapper = cache.get("key");
+					return wrapper != null ? wrapper.get() : null;
+				}
+			};
+
+			Read existsAndGet = new Read() {
+
+				@Override
+				public Object read() {
+
+					// the lookup RedisCache used before reading entries with a single GET, one template call per command
+					Boolean exists = template.execute(new RedisCallback<Boolean>() {
+
+						@Override
+						public Boolean doInRedis(RedisConnection connection) throws DataAccessException {
+							return connection.exists(keyBytes);
+						}
+					});
+
+					if (!Boolean.TRUE.equals(exists)) {
+						return null;
+					}
+
+					return template.execute(new RedisCallback<byte[]>() {
+
+						@Override
+						public byte[] doInRedis(RedisConnection connection) throws DataAccessException {
+							return connection.get(keyBytes);
+						}
+					});
+				}
+			};
+
+			assertThat(singleGet.read(), is((Object) "value"));
+			assertThat(existsAndGet.read(), is(notNullValue()));
+
+			long before = measure(existsAndGet);
+			long after = measure(singleGet);
+
+			LOG.info(String.format("%s: %s cache hits, %s ns/hit with EXISTS + GET, %s ns/hit with single GET.", driver,
+					READS, before, after));
+		} finally {
+			cache.clear();
+		}
+	}
+
+	/**
+	 * @return mean latency per read in nanoseconds.
+	 */
+	private static long measure(Read read) {
+
+		for (int i = 0; i < WARMUP; i++) {
+			read.read();
+		}
+
+		long start = System.nanoTime();
+		for (int i = 0; i < READS; i++) {
+			read.read();
+		}
+
+		return (System.nanoTime() - start) / READS;
+	}
+
+	private interface Read {
+		Object read();
+	}
+}
@@ -15,22 +15,32 @@
  */
 package org.springframework.data.redis.cache;
 
+import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.notNullValue;
 import static org.hamcrest.Matchers.nullValue;
 import static org.junit.Assert.*;
+import static org.mockito.AdditionalMatchers.*;
 import static org.mockito.Matchers.*;
 import static org.mockito.Mockito.*;
 import static org.springframework.util.ClassUtils.*;
 
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Matchers;
 import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
 import org.springframework.cache.Cache;
@@ -38,11 +48,17 @@ import org.springframework.cache.Cache.ValueRetrievalException;
 import org.springframework.cache.support.NullValue;
 import org.springframework.core.SpringVersion;
 import org.springframework.data.redis.RedisSystemException;
+import org.springframework.data.redis.connection.DefaultTuple;
 import org.springframework.data.redis.connection.RedisClusterConnection;
+import org.springframework.data.redis.connection.RedisClusterNode;
 import org.springframework.data.redis.connection.RedisConnection;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisNode.NodeType;
+import org.springframework.data.redis.connection.RedisZSetCommands.Tuple;
 import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.Cursor;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
 import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.util.Version;
 
@@ -69,6 +85,8 @@ public class RedisCacheUnitTests {
 	private static final String VALUE = "value";
 	private static final byte[] VALUE_BYTES = VALUE.getBytes();
 
+	private static final byte[] LOCK_KEY_BYTES = (CACHE_NAME + "~locks:" + KEY).getBytes();
+
 	private static final byte[] NO_PREFIX_BYTES = new byte[] {};
 	private static final long EXPIRATION = 1000;
 
@@ -99,6 +117,8 @@ public class RedisCacheUnitTests {
 		when(keySerializerMock.serialize(any(byte[].class))).thenReturn(KEY_BYTES);
 		when(valueSerializerMock.serialize(any(byte[].class))).thenReturn(VALUE_BYTES);
 		when(valueSerializerMock.deserialize(eq(VALUE_BYTES))).thenReturn(VALUE);
+
+		grantKeyLock(connectionMock);
 	}
 
 	@Test // DATAREDIS-369
@@ -123,6 +143,48 @@ public class RedisCacheUnitTests {
 		verify(connectionMock).zAdd(eq(KNOWN_KEYS_SET_NAME_BYTES), eq(0D), eq(KEY_BYTES));
 	}
 
+	@Test
+	public void putShouldScoreKnownKeysByExpirationAndTrimExpiredOnes() {
+
+		cache = new RedisCache(CACHE_NAME, NO_PREFIX_BYTES, templateSpy, EXPIRATION);
+		cache.setExpiringKnownKeys(true);
+
+		long now = System.currentTimeMillis();
+		cache.put(KEY, VALUE);
+
+		verify(connectionMock).zRemRangeByScore(eq(KNOWN_KEYS_SET_NAME_BYTES), eq(1D), geq((double) now));
+		verify(connectionMock).zAdd(eq(KNOWN_KEYS_SET_NAME_BYTES), geq((double) now + EXPIRATION * 1000),
+				eq(KEY_BYTES));
+		verify(connectionMock, never()).zAdd(eq(KNOWN_KEYS_SET_NAME_BYTES), eq(0D), any(byte[].class));
+	}
+
+	@Test
+	public void putShouldTrackKeyInOneOfTheKnownKeysShards() {
+
+		cache = new RedisCache(CACHE_NAME, NO_PREFIX_BYTES, templateSpy, EXPIRATION);
+		cache.setKnownKeysShards(2);
+		cache.put(KEY, VALUE);
+
+		byte[] shard0 = (CACHE_NAME + "~0~keys").getBytes();
+		byte[] shard1 = (CACHE_NAME + "~1~keys").getBytes();
+
+		verify(connectionMock).zAdd(or(aryEq(shard0), aryEq(shard1)), eq(0D), eq(KEY_BYTES));
+		verify(connectionMock, never()).zAdd(eq(KNOWN_KEYS_SET_NAME_BYTES), anyDouble(), any(byte[].class));
+	}
+
+	@Test
+	public void clearShouldRemoveKeysFromAllKnownKeysShards() {
+
+		cache = new RedisCache(CACHE_NAME, NO_PREFIX_BYTES, templateSpy, EXPIRATION);
+		cache.setKnownKeysShards(2);
+		cache.clear();
+
+		verify(connectionMock).zRange(eq((CACHE_NAME + "~0~keys").getBytes()), eq(0L), eq(127L));
+		verify(connectionMock).zRange(eq((CACHE_NAME + "~1~keys").getBytes()), eq(0L), eq(127L));
+		verify(connectionMock).del((CACHE_NAME + "~0~keys").getBytes());
+		verify(connectionMock).del((CACHE_NAME + "~1~keys").getBytes());
+	}
+
 	@Test // DATAREDIS-369
 	public void clearShouldRemoveKeysUsingKnownKeysWhenNoPrefixIsSet() {
 
@@ -141,6 +203,140 @@ public class RedisCacheUnitTests {
 		verify(connectionMock).eval(any(byte[].class), eq(ReturnType.INTEGER), eq(0), eq((PREFIX + "*").getBytes()));
 	}
 
+	@Test
+	@SuppressWarnings("unchecked")
+	public void incrementalClearShouldScanAndDeleteKeysInPipelineWhenPrefixIsSet() throws IOException {
+
+		Cursor<byte[]> cursor = mock(Cursor.class);
+		when(cursor.hasNext()).thenReturn(true, false);
+		when(cursor.next()).thenReturn(KEY_WITH_PREFIX_BYTES);
+		when(connectionMock.scan(any(ScanOptions.class))).thenReturn(cursor);
+
+		cache = new RedisCache(CACHE_NAME, PREFIX_BYTES, templateSpy, EXPIRATION);
+		cache.setIncrementalClear(true);
+		cache.clear();
+
+		ArgumentCaptor<ScanOptions> options = ArgumentCaptor.forClass(ScanOptions.class);
+		verify(connectionMock).scan(options.capture());
+		assertThat(options.getValue().getPattern(), equalTo(PREFIX + "*"));
+
+		verify(connectionMock).openPipeline();
+		verify(connectionMock).del(KEY_WITH_PREFIX_BYTES);
+		verify(connectionMock).closePipeline();
+		verify(connectionMock, never()).eval(any(byte[].class), any(ReturnType.class), anyInt(), Matchers.<byte[]> anyVararg());
+		verify(connectionMock, never()).set(eq((CACHE_NAME + "~lock").getBytes()), any(byte[].class));
+		verify(cursor).close();
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void clearShouldScanUsingBinaryPatternAndCloseCursorOnCluster() throws IOException {
+
+		byte[] binaryPrefix = new byte[] { 'p', (byte) 0xC3, (byte) 0x28, '*', ':' };
+
+		RedisClusterConnection clusterConnectionMock = mock(RedisClusterConnection.class);
+		when(connectionFactoryMock.getConnection()).thenReturn(clusterConnectionMock);
+
+		Cursor<byte[]> cursor = mock(Cursor.class);
+		when(cursor.hasNext()).thenReturn(true, false);
+		when(cursor.next()).thenReturn(KEY_WITH_PREFIX_BYTES);
+		when(clusterConnectionMock.scan(any(ScanOptions.class))).thenReturn(cursor);
+
+		cache = new RedisCache(CACHE_NAME, binaryPrefix, templateSpy, EXPIRATION);
+		cache.clear();
+
+		ArgumentCaptor<ScanOptions> options = ArgumentCaptor.forClass(ScanOptions.class);
+		verify(clusterConnectionMock).scan(options.capture());
+		assertThat(options.getValue().getBytePattern(),
+				equalTo(new byte[] { 'p', (byte) 0xC3, (byte) 0x28, '\\', '*', ':', '*' }));
+
+		verify(clusterConnectionMock).del(KEY_WITH_PREFIX_BYTES);
+		verify(cursor).close();
+	}
+
+	@Test
+	public void keyPrefixPatternShouldEscapeGlobCharacters() {
+
+		assertThat(RedisCache.toKeyPrefixPattern("a*b?c[d]e\\f:".getBytes()),
+				equalTo("a\\*b\\?c\\[d\\]e\\\\f:*".getBytes()));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void incrementalClearShouldScanKnownKeysWhenNoPrefixIsSet() {
+
+		Cursor<Tuple> cursor = mock(Cursor.class);
+		when(cursor.hasNext()).thenReturn(true, false);
+		when(cursor.next()).thenReturn(new DefaultTuple(KEY_BYTES, 0D));
+		when(connectionMock.zScan(eq(KNOWN_KEYS_SET_NAME_BYTES), any(ScanOptions.class))).thenReturn(cursor);
+
+		cache = new RedisCache(CACHE_NAME, NO_PREFIX_BYTES, templateSpy, EXPIRATION);
+		cache.setIncrementalClear(true);
+		cache.clear();
+
+		verify(connectionMock).del(KEY_BYTES);
+		verify(connectionMock).zRem(KNOWN_KEYS_SET_NAME_BYTES, KEY_BYTES);
+		verify(connectionMock, never()).zRange(any(byte[].class), anyLong(), anyLong());
+	}
+
+	@Test
+	public void incrementalClearShouldScanClusterNodesOneAfterAnotherOnOpenConnection() {
+
+		RedisClusterConnection clusterConnection = mockClusterConnectionWithTwoMasters();
+
+		cache = new RedisCache(CACHE_NAME, PREFIX_BYTES, templateSpy, EXPIRATION);
+		cache.setIncrementalClear(true);
+		cache.clear();
+
+		verify(connectionFactoryMock, times(1)).getConnection();
+		verify(clusterConnection, times(2)).scan(any(RedisClusterNode.class), any(ScanOptions.class));
+		verify(clusterConnection).close();
+	}
+
+	@Test
+	public void incrementalClearShouldScanClusterNodesUsingClearExecutor() {
+
+		RedisClusterConnection clusterConnection = mockClusterConnectionWithTwoMasters();
+		final AtomicInteger executions = new AtomicInteger();
+
+		cache = new RedisCache(CACHE_NAME, PREFIX_BYTES, templateSpy, EXPIRATION);
+		cache.setIncrementalClear(true);
+		cache.setClearExecutor(new Executor() {
+
+			@Override
+			public void execute(Runnable command) {
+
+				executions.incrementAndGet();
+				command.run();
+			}
+		});
+		cache.clear();
+
+		assertThat(executions.get(), is(2));
+		verify(connectionFactoryMock, times(1)).getConnection();
+		verify(clusterConnection, times(2)).scan(any(RedisClusterNode.class), any(ScanOptions.class));
+	}
+
+	@SuppressWarnings("unchecked")
+	private RedisClusterConnection mockClusterConnectionWithTwoMasters() {
+
+		RedisClusterNode master1 = RedisClusterNode.newRedisClusterNode().listeningAt("127.0.0.1", 7379)
+				.promotedAs(NodeType.MASTER).build();
+		RedisClusterNode master2 = RedisClusterNode.newRedisClusterNode().listeningAt("127.0.0.1", 7380)
+				.promotedAs(NodeType.MASTER).build();
+		RedisClusterNode slave = RedisClusterNode.newRedisClusterNode().listeningAt("127.0.0.1", 7381)
+				.promotedAs(NodeType.SLAVE).build();
+
+		RedisClusterConnection clusterConnection = mock(RedisClusterConnection.class);
+		when(connectionFactoryMock.getConnection()).thenReturn(clusterConnection);
+		when(clusterConnection.clusterGetNodes()).thenReturn(Arrays.asList(master1, master2, slave));
+
+		Cursor<byte[]> emptyCursor = mock(Cursor.class);
+		when(clusterConnection.scan(any(RedisClusterNode.class), any(ScanOptions.class))).thenReturn(emptyCursor);
+
+		return clusterConnection;
+	}
+
 	@Test // DATAREDIS-402
 	public void putShouldNotExpireKnownKeysSetWhenTtlIsZero() {
 
@@ -229,7 +425,7 @@ public class RedisCacheUnitTests {
 				}
 			});
 
-			verify(connectionMock).get(eq(KEY_BYTES));
+			verify(connectionMock, times(2)).get(eq(KEY_BYTES));
 			verify(connectionMock).multi();
 			verify(connectionMock).del(eq(KEY_BYTES));
 			verify(connectionMock).exec();
@@ -256,7 +452,7 @@ public class RedisCacheUnitTests {
 		});
 
 		verify(valueSerializerMock).serialize(isA(NullValue.class));
-		verify(connectionMock).get(eq(KEY_BYTES));
+		verify(connectionMock, times(2)).get(eq(KEY_BYTES));
 		verify(connectionMock).multi();
 		verify(connectionMock).set(eq(KEY_BYTES), eq(VALUE_BYTES));
 		verify(connectionMock).exec();
@@ -274,7 +470,7 @@ public class RedisCacheUnitTests {
 			}
 		});
 
-		verify(connectionMock).get(eq(KEY_BYTES));
+		verify(connectionMock, times(2)).get(eq(KEY_BYTES));
 		verify(connectionMock).multi();
 		verify(connectionMock).set(eq(KEY_BYTES), eq(VALUE_BYTES));
 		verify(connectionMock, never()).expire(any(byte[].class), anyLong());
@@ -293,7 +489,7 @@ public class RedisCacheUnitTests {
 			}
 		});
 
-		verify(connectionMock).get(eq(KEY_BYTES));
+		verify(connectionMock, times(2)).get(eq(KEY_BYTES));
 		verify(connectionMock).multi();
 		verify(connectionMock).set(eq(KEY_BYTES), eq(VALUE_BYTES));
 		verify(connectionMock).expire(eq(KEY_BYTES), eq(100L));
@@ -314,6 +510,544 @@ public class RedisCacheUnitTests {
 		verifyZeroInteractions(callableMock);
 	}
 
+	@Test
+	public void getWithCallableShouldLockCacheKeyOnly() {
+
+		cache = new RedisCache(CACHE_NAME, NO_PREFIX_BYTES, templateSpy, 0L);
+
+		cache.get(KEY, new Callable<Object>() {
+			@Override
+			public Object call() throws Exception {
+				return VALUE;
+			}
+		});
+
+		// acquire passes key, token and expiration - release passes key and token
+		verify(connectionMock).eval(any(byte[].class), eq(ReturnType.INTEGER), eq(1), eq(LOCK_KEY_BYTES),
+				any(byte[].class), any(byte[].class));
+		verify(connectionMock).eval(any(byte[].class), eq(ReturnType.INTEGER), eq(1), eq(LOCK_KEY_BYTES),
+				any(byte[].class));
+		verify(connectionMock, never()).setNX(any(byte[].class), any(byte[].class));
+		verify(connectionMock, never()).set(eq((CACHE_NAME + "~lock").getBytes()), any(byte[].class));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void getWithCallableShouldUseValueLoadedByLockHolder() throws Exception {
+
+		when(connectionMock.get(KEY_BYTES)).thenReturn(null, VALUE_BYTES);
+		when(connectionMock.eval(any(byte[].class), eq(ReturnType.INTEGER), eq(1), eq(LOCK_KEY_BYTES), any(byte[].class),
+				any(byte[].class))).thenReturn(0L);
+		when(connectionMock.exists(LOCK_KEY_BYTES)).thenReturn(true);
+		when(connectionMock.pTtl(LOCK_KEY_BYTES)).thenReturn(500L);
+
+		cache = new RedisCache(CACHE_NAME, NO_PREFIX_BYTES, templateSpy, 0L);
+		Callable<Object> callableMock = mock(Callable.class);
+
+		assertThat((String) cache.get(KEY, callableMock), equalTo(VALUE));
+		verifyZeroInteractions(callableMock);
+		verify(connectionMock, never()).set(any(byte[].class), any(byte[].class));
+		verify(connectionMock).bLPop(eq(1), eq((CACHE_NAME + "~locks:" + KEY + "~released").getBytes()));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void getWithCallableShouldNotAcquireLockWithoutReply() throws Exception {
+
+		when(connectionMock.get(KEY_BYTES)).thenReturn(null, VALUE_BYTES);
+		when(connectionMock.eval(any(byte[].class), eq(ReturnType.INTEGER), eq(1), eq(LOCK_KEY_BYTES), any(byte[].class),
+				any(byte[].class))).thenReturn(null);
+
+		cache = new RedisCache(CACHE_NAME, NO_PREFIX_BYTES, templateSpy, 0L);
+		Callable<Object> callableMock = mock(Callable.class);
+
+		assertThat((String) cache.get(KEY, callableMock), equalTo(VALUE));
+		verifyZeroInteractions(callableMock);
+		verify(connectionMock, never()).eval(any(byte[].class), eq(ReturnType.INTEGER), eq(1), eq(LOCK_KEY_BYTES),
+				any(byte[].class));
+	}
+
+	@Test
+	public void getWithCallableShouldNotifyWaitersOnUnlock() {
+
+		byte[] waitersKey = (CACHE_NAME + "~locks:" + KEY + "~waiters").getBytes();
+
+		when(connectionMock.eval(any(byte[].class), eq(ReturnType.INTEGER), eq(1), eq(LOCK_KEY_BYTES), any(byte[].class)))
+				.thenReturn(1L);
+		when(connectionMock.get(waitersKey)).thenReturn("2".getBytes());
+		when(connectionMock.getSet(eq(waitersKey), any(byte[].class))).thenReturn("2".getBytes());
+
+		cache = new RedisCache(CACHE_NAME, NO_PREFIX_BYTES, templateSpy, 0L);
+
+		cache.get(KEY, new Callable<Object>() {
+			@Override
+			public Object call() throws Exception {
+				return VALUE;
+			}
+		});
+
+		byte[] releasedKey = (CACHE_NAME + "~locks:" + KEY + "~released").getBytes();
+		verify(connectionMock).rPush(eq(releasedKey), any(byte[].class), any(byte[].class));
+		// notifications not taken by a waiter must not wake up waiters of later lock holders
+		verify(connectionMock).pExpire(releasedKey, RedisCache.RedisCacheKeyLock.NOTIFICATION_TIMEOUT);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void setLockTimeoutShouldRejectNonPositiveValues() {
+
+		cache = new RedisCache(CACHE_NAME, NO_PREFIX_BYTES, templateSpy, 0L);
+		cache.setLockTimeout(0);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void getWithCallableShouldRefreshEntryWithinRefreshAheadWindow() throws Exception {
+
+		byte[] refreshedBytes = "refreshed".getBytes();
+		when(connectionMock.get(KEY_BYTES)).thenReturn(VALUE_BYTES);
+		when(connectionMock.pTtl(KEY_BYTES)).thenReturn(2000L);
+		when(connectionMock.closePipeline()).thenReturn(Arrays.<Object> asList(VALUE_BYTES, 2000L));
+		when(valueSerializerMock.serialize(eq("refreshed"))).thenReturn(refreshedBytes);
+
+		cache = new RedisCache(CACHE_NAME, NO_PREFIX_BYTES, templateSpy, 10L);
+		cache.setRefreshAhead(0.5, new SynchronousExecutor());
+		Callable<Object> callableMock = mock(Callable.class);
+		when(callableMock.call()).thenReturn("refreshed");
+
+		assertThat((String) cache.get(KEY, callableMock), equalTo(VALUE));
+
+		verify(callableMock).call();
+		verify(connectionMock).set(eq(KEY_BYTES), eq(refreshedBytes));
+		verify(connectionMock).eval(any(byte[].class), eq(ReturnType.INTEGER), eq(1), eq(LOCK_KEY_BYTES),
+				any(byte[].class), any(byte[].class));
+		verify(connectionMock).eval(any(byte[].class), eq(ReturnType.INTEGER), eq(1), eq(LOCK_KEY_BYTES),
+				any(byte[].class));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void getWithCallableShouldNotRefreshEntryOutsideRefreshAheadWindow() {
+
+		when(connectionMock.get(KEY_BYTES)).thenReturn(VALUE_BYTES);
+		when(connectionMock.pTtl(KEY_BYTES)).thenReturn(8000L);
+		when(connectionMock.closePipeline()).thenReturn(Arrays.<Object> asList(VALUE_BYTES, 8000L));
+
+		cache = new RedisCache(CACHE_NAME, NO_PREFIX_BYTES, templateSpy, 10L);
+		cache.setRefreshAhead(0.5, new SynchronousExecutor());
+		Callable<Object> callableMock = mock(Callable.class);
+
+		assertThat((String) cache.get(KEY, callableMock), equalTo(VALUE));
+		verifyZeroInteractions(callableMock);
+		verify(connectionMock, never()).set(any(byte[].class), any(byte[].class));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void getWithCallableShouldSkipRefreshWhenKeyIsLockedByOtherProcess() {
+
+		when(connectionMock.get(KEY_BYTES)).thenReturn(VALUE_BYTES);
+		when(connectionMock.pTtl(KEY_BYTES)).thenReturn(2000L);
+		when(connectionMock.closePipeline()).thenReturn(Arrays.<Object> asList(VALUE_BYTES, 2000L));
+		when(connectionMock.get(LOCK_KEY_BYTES)).thenReturn("other".getBytes());
+
+		cache = new RedisCache(CACHE_NAME, NO_PREFIX_BYTES, templateSpy, 10L);
+		cache.setRefreshAhead(0.5, new SynchronousExecutor());
+		Callable<Object> callableMock = mock(Callable.class);
+
+		assertThat((String) cache.get(KEY, callableMock), equalTo(VALUE));
+		verifyZeroInteractions(callableMock);
+		verify(connectionMock, never()).set(any(byte[].class), any(byte[].class));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void getWithCallableShouldSkipRefreshWhenEntryRefreshedWhileAcquiringLock() {
+
+		when(connectionMock.get(KEY_BYTES)).thenReturn(VALUE_BYTES);
+		when(connectionMock.closePipeline()).thenReturn(Arrays.<Object> asList(VALUE_BYTES, 2000L));
+		when(connectionMock.pTtl(KEY_BYTES)).thenReturn(9000L);
+
+		cache = new RedisCache(CACHE_NAME, NO_PREFIX_BYTES, templateSpy, 10L);
+		cache.setRefreshAhead(0.5, new SynchronousExecutor());
+		Callable<Object> callableMock = mock(Callable.class);
+
+		assertThat((String) cache.get(KEY, callableMock), equalTo(VALUE));
+		verifyZeroInteractions(callableMock);
+		verify(connectionMock, never()).set(any(byte[].class), any(byte[].class));
+		verify(connectionMock).eval(any(byte[].class), eq(ReturnType.INTEGER), eq(1), eq(LOCK_KEY_BYTES),
+				any(byte[].class));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void setRefreshAheadShouldRejectThresholdOfOne() {
+
+		cache = new RedisCache(CACHE_NAME, NO_PREFIX_BYTES, templateSpy, 10L);
+		cache.setRefreshAhead(1, new SynchronousExecutor());
+	}
+
+	@Test
+	public void putShouldStoreComputeAndExpirationTimeWhenEarlyExpirationIsEnabled() {
+
+		cache = new RedisCache(CACHE_NAME, NO_PREFIX_BYTES, templateSpy, 10L);
+		cache.setEarlyExpiration(1D);
+		cache.put(KEY, VALUE);
+
+		ArgumentCaptor<byte[]> captor = ArgumentCaptor.forClass(byte[].class);
+		verify(connectionMock).set(eq(KEY_BYTES), captor.capture());
+
+		assertThat(RedisCache.EarlyExpirationEnvelope.isWrapped(captor.getValue()), is(true));
+		assertThat(RedisCache.EarlyExpirationEnvelope.unwrap(captor.getValue()), equalTo(VALUE_BYTES));
+	}
+
+	@Test
+	public void getShouldReadEnvelopedAndPlainValues() {
+
+		byte[] enveloped = RedisCache.EarlyExpirationEnvelope.wrap(VALUE_BYTES, 10, System.currentTimeMillis() + 10000);
+		when(connectionMock.get(KEY_BYTES)).thenReturn(enveloped, VALUE_BYTES);
+
+		cache = new RedisCache(CACHE_NAME, NO_PREFIX_BYTES, templateSpy, 10L);
+		cache.setEarlyExpiration(1D);
+
+		assertThat(cache.get(KEY).get(), equalTo((Object) VALUE));
+		assertThat(cache.get(KEY).get(), equalTo((Object) VALUE));
+	}
+
+	@Test
+	public void getShouldUnwrapEnvelopedValuesWhenEarlyExpirationIsDisabled() {
+
+		byte[] enveloped = RedisCache.EarlyExpirationEnvelope.wrap(VALUE_BYTES, 10, System.currentTimeMillis() - 1);
+		when(connectionMock.get(KEY_BYTES)).thenReturn(enveloped);
+
+		cache = new RedisCache(CACHE_NAME, NO_PREFIX_BYTES, templateSpy, 10L);
+
+		assertThat(cache.get(KEY).get(), equalTo((Object) VALUE));
+		verify(valueSerializerMock, never()).deserialize(eq(enveloped));
+	}
+
+	@Test
+	public void putIfAbsentShouldStoreComputeAndExpirationTimeWhenEarlyExpirationIsEnabled() {
+
+		when(connectionMock.setNX(eq(KEY_BYTES), any(byte[].class))).thenReturn(true);
+
+		cache = new RedisCache(CACHE_NAME, NO_PREFIX_BYTES, templateSpy, 10L);
+		cache.setEarlyExpiration(1D);
+		cache.putIfAbsent(KEY, VALUE);
+
+		ArgumentCaptor<byte[]> captor = ArgumentCaptor.forClass(byte[].class);
+		verify(connectionMock).setNX(eq(KEY_BYTES), captor.capture());
+
+		assertThat(RedisCache.EarlyExpirationEnvelope.isWrapped(captor.getValue()), is(true));
+		assertThat(RedisCache.EarlyExpirationEnvelope.unwrap(captor.getValue()), equalTo(VALUE_BYTES));
+	}
+
+	@Test
+	public void putIfAbsentShouldUnwrapExistingEnvelopedValue() {
+
+		byte[] enveloped = RedisCache.EarlyExpirationEnvelope.wrap(VALUE_BYTES, 10, System.currentTimeMillis() + 10000);
+		when(connectionMock.setNX(eq(KEY_BYTES), any(byte[].class))).thenReturn(false);
+		when(connectionMock.get(KEY_BYTES)).thenReturn(enveloped);
+
+		cache = new RedisCache(CACHE_NAME, NO_PREFIX_BYTES, templateSpy, 10L);
+
+		assertThat(cache.putIfAbsent(KEY, "other").get(), equalTo((Object) VALUE));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void getWithCallableShouldRecomputeEnvelopedValueWhenExpiringEarly() throws Exception {
+
+		byte[] enveloped = RedisCache.EarlyExpirationEnvelope.wrap(VALUE_BYTES, 10, System.currentTimeMillis() - 1);
+		byte[] recomputedBytes = "recomputed".getBytes();
+		when(connectionMock.get(KEY_BYTES)).thenReturn(enveloped);
+		when(valueSerializerMock.serialize(eq("recomputed"))).thenReturn(recomputedBytes);
+
+		cache = new RedisCache(CACHE_NAME, NO_PREFIX_BYTES, templateSpy, 10L);
+		cache.setEarlyExpiration(1D);
+		DefaultRedisCacheMetrics metrics = new DefaultRedisCacheMetrics();
+		cache.setMetrics(metrics);
+		Callable<Object> callableMock = mock(Callable.class);
+		when(callableMock.call()).thenReturn("recomputed");
+
+		assertThat((String) cache.get(KEY, callableMock), equalTo("recomputed"));
+		assertThat(metrics.getEarlyRecomputes(), is(1L));
+		assertThat(metrics.getHits(), is(0L));
+		assertThat(metrics.getMisses(), is(0L));
+
+		ArgumentCaptor<byte[]> captor = ArgumentCaptor.forClass(byte[].class);
+		verify(connectionMock).set(eq(KEY_BYTES), captor.capture());
+		assertThat(RedisCache.EarlyExpirationEnvelope.unwrap(captor.getValue()), equalTo(recomputedBytes));
+		verify(connectionMock, never()).eval(any(byte[].class), any(ReturnType.class), anyInt(),
+				Matchers.<byte[]> anyVararg());
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void getWithCallableShouldNotRecomputeLegacyValue() {
+
+		when(connectionMock.get(KEY_BYTES)).thenReturn(VALUE_BYTES);
+
+		cache = new RedisCache(CACHE_NAME, NO_PREFIX_BYTES, templateSpy, 10L);
+		cache.setEarlyExpiration(1D);
+		Callable<Object> callableMock = mock(Callable.class);
+
+		assertThat((String) cache.get(KEY, callableMock), equalTo(VALUE));
+		verifyZeroInteractions(callableMock);
+	}
+
+	@Test
+	public void earlyExpirationShouldMoveExpirationForwardByMultipleOfComputeTime() {
+
+		long expiresAt = 100000;
+		double random = Math.exp(-1); // ln(random) = -1 moves the expiration forward by exactly the compute time
+
+		assertThat(RedisCache.EarlyExpirationEnvelope.isExpiringEarly(1000, expiresAt, 1D, expiresAt - 999, random),
+				is(true));
+		assertThat(RedisCache.EarlyExpirationEnvelope.isExpiringEarly(1000, expiresAt, 1D, expiresAt - 1001, random),
+				is(false));
+		assertThat(RedisCache.EarlyExpirationEnvelope.isExpiringEarly(1000, expiresAt, 2D, expiresAt - 1001, random),
+				is(true));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void getAllShouldReadValuesUsingSingleMGetCommand() {
+
+		byte[] otherKeyBytes = "other".getBytes();
+		when(keySerializerMock.serialize(eq("other"))).thenReturn(otherKeyBytes);
+		when(connectionMock.mGet(Matchers.<byte[]> anyVararg())).thenReturn(Arrays.asList(VALUE_BYTES, null));
+
+		cache = new RedisCache(CACHE_NAME, NO_PREFIX_BYTES, templateSpy, 0L);
+
+		Map<Object, Cache.ValueWrapper> result = cache.getAll(Arrays.asList(KEY, "other"));
+
+		assertThat(result.size(), is(1));
+		assertThat(result.get(KEY).get(), equalTo((Object) VALUE));
+		verify(connectionMock).mGet(KEY_BYTES, otherKeyBytes);
+		verify(connectionMock, never()).get(any(byte[].class));
+		verify(connectionFactoryMock, times(1)).getConnection();
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void getAllShouldGroupKeysBySlotForCluster() {
+
+		RedisClusterConnection clusterConnectionMock = mock(RedisClusterConnection.class);
+		when(connectionFactoryMock.getConnection()).thenReturn(clusterConnectionMock);
+
+		byte[] sameSlotKeyBytes = "{key}.other".getBytes();
+		byte[] otherSlotKeyBytes = "other".getBytes();
+		when(keySerializerMock.serialize(eq("{key}.other"))).thenReturn(sameSlotKeyBytes);
+		when(keySerializerMock.serialize(eq("other"))).thenReturn(otherSlotKeyBytes);
+		when(clusterConnectionMock.mGet(KEY_BYTES, sameSlotKeyBytes)).thenReturn(Arrays.asList(VALUE_BYTES, null));
+		when(clusterConnectionMock.mGet(otherSlotKeyBytes)).thenReturn(Arrays.asList(VALUE_BYTES));
+
+		cache = new RedisCache(CACHE_NAME, NO_PREFIX_BYTES, templateSpy, 0L);
+
+		Map<Object, Cache.ValueWrapper> result = cache.getAll(Arrays.asList(KEY, "other", "{key}.other"));
+
+		assertThat(result.keySet(), containsInAnyOrder((Object) KEY, "other"));
+		verify(clusterConnectionMock).mGet(KEY_BYTES, sameSlotKeyBytes);
+		verify(clusterConnectionMock).mGet(otherSlotKeyBytes);
+	}
+
+	@Test
+	public void putAllShouldWriteEntriesUsingSinglePipeline() {
+
+		byte[] otherKeyBytes = "other".getBytes();
+		when(keySerializerMock.serialize(eq("other"))).thenReturn(otherKeyBytes);
+
+		Map<Object, Object> entries = new LinkedHashMap<Object, Object>();
+		entries.put(KEY, VALUE);
+		entries.put("other", VALUE);
+
+		cache = new RedisCache(CACHE_NAME, NO_PREFIX_BYTES, templateSpy, EXPIRATION);
+		cache.putAll(entries);
+
+		verify(connectionMock).openPipeline();
+		verify(connectionMock).set(eq(KEY_BYTES), eq(VALUE_BYTES));
+		verify(connectionMock).set(eq(otherKeyBytes), eq(VALUE_BYTES));
+		verify(connectionMock).expire(eq(KEY_BYTES), eq(EXPIRATION));
+		verify(connectionMock).expire(eq(otherKeyBytes), eq(EXPIRATION));
+		verify(connectionMock).zAdd(eq(KNOWN_KEYS_SET_NAME_BYTES), eq(0D), eq(otherKeyBytes));
+		verify(connectionMock).closePipeline();
+		verify(connectionMock, never()).multi();
+		verify(connectionFactoryMock, times(1)).getConnection();
+	}
+
+	@Test
+	public void putAllShouldPipelineEntriesOnCluster() {
+
+		RedisClusterConnection clusterConnectionMock = mock(RedisClusterConnection.class);
+		when(connectionFactoryMock.getConnection()).thenReturn(clusterConnectionMock);
+
+		byte[] otherKeyBytes = "other".getBytes();
+		when(keySerializerMock.serialize(eq("other"))).thenReturn(otherKeyBytes);
+
+		Map<Object, Object> entries = new LinkedHashMap<Object, Object>();
+		entries.put(KEY, VALUE);
+		entries.put("other", VALUE);
+
+		cache = new RedisCache(CACHE_NAME, PREFIX_BYTES, templateSpy, EXPIRATION);
+		DefaultRedisCacheMetrics metrics = new DefaultRedisCacheMetrics();
+		cache.setMetrics(metrics);
+		cache.putAll(entries);
+
+		verify(clusterConnectionMock).openPipeline();
+		verify(clusterConnectionMock).set(eq(KEY_BYTES), eq(VALUE_BYTES));
+		verify(clusterConnectionMock).set(eq(otherKeyBytes), eq(VALUE_BYTES));
+		verify(clusterConnectionMock).expire(eq(KEY_BYTES), eq(EXPIRATION));
+		verify(clusterConnectionMock).expire(eq(otherKeyBytes), eq(EXPIRATION));
+		verify(clusterConnectionMock).closePipeline();
+		verifyZeroInteractions(connectionMock);
+		assertThat(metrics.getPuts(), is(2L));
+	}
+
+	@Test
+	public void shouldRecordCacheOperationsInMetrics() {
+
+		when(connectionMock.get(KEY_BYTES)).thenReturn(VALUE_BYTES, null);
+
+		cache = new RedisCache(CACHE_NAME, NO_PREFIX_BYTES, templateSpy, 0L);
+		DefaultRedisCacheMetrics metrics = new DefaultRedisCacheMetrics();
+		cache.setMetrics(metrics);
+
+		cache.get(KEY);
+		cache.get(KEY);
+		cache.put(KEY, VALUE);
+		cache.evict(KEY);
+
+		assertThat(metrics.getHits(), is(1L));
+		assertThat(metrics.getMisses(), is(1L));
+		assertThat(metrics.getPuts(), is(1L));
+		assertThat(metrics.getEvictions(), is(1L));
+		assertThat(metrics.getReads().getCount(), is(2L));
+		assertThat(metrics.getWrites().getCount(), is(2L));
+	}
+
+	@Test
+	public void getWithCallableShouldRecordLoaderInvocationInMetrics() {
+
+		cache = new RedisCache(CACHE_NAME, NO_PREFIX_BYTES, templateSpy, 0L);
+		DefaultRedisCacheMetrics metrics = new DefaultRedisCacheMetrics();
+		cache.setMetrics(metrics);
+
+		cache.get(KEY, new Callable<Object>() {
+			@Override
+			public Object call() throws Exception {
+				return VALUE;
+			}
+		});
+
+		assertThat(metrics.getMisses(), is(1L));
+		assertThat(metrics.getLoads().getCount(), is(1L));
+		assertThat(metrics.getLoadFailures(), is(0L));
+	}
+
+	@Test
+	public void getShouldReadValueUsingSingleGetCommand() {
+
+		when(connectionMock.get(KEY_BYTES)).thenReturn(VALUE_BYTES);
+
+		cache = new RedisCache(CACHE_NAME, NO_PREFIX_BYTES, templateSpy, 0L);
+
+		assertThat(cache.get(KEY).get(), equalTo((Object) VALUE));
+		verify(connectionMock).get(eq(KEY_BYTES));
+		verify(connectionMock, never()).exists(any(byte[].class));
+		verify(connectionFactoryMock, times(1)).getConnection();
+	}
+
+	@Test
+	public void getShouldReturnNullOnCacheMissUsingSingleGetCommand() {
+
+		cache = new RedisCache(CACHE_NAME, NO_PREFIX_BYTES, templateSpy, 0L);
+
+		assertThat(cache.get(KEY), is(nullValue()));
+		verify(connectionMock).get(eq(KEY_BYTES));
+		verify(connectionMock, never()).exists(any(byte[].class));
+	}
+
+	@Test
+	public void getShouldDistinguishCachedNullValueFromCacheMiss() {
+
+		byte[] nullValueBytes = "null-value".getBytes();
+		when(connectionMock.get(KEY_BYTES)).thenReturn(nullValueBytes);
+		when(valueSerializerMock.deserialize(eq(nullValueBytes))).thenReturn(NullValue.INSTANCE);
+
+		cache = new RedisCache(CACHE_NAME, NO_PREFIX_BYTES, templateSpy, 0L, true);
+
+		Cache.ValueWrapper wrapper = cache.get(KEY);
+
+		assertThat(wrapper, is(notNullValue()));
+		assertThat(wrapper.get(), is(nullValue()));
+		verify(connectionMock, never()).exists(any(byte[].class));
+	}
+
+	@Test
+	public void getShouldServeValueFromNearCacheAfterRemoteLookup() {
+
+		when(connectionMock.get(KEY_BYTES)).thenReturn(VALUE_BYTES);
+		when(connectionMock.pTtl(KEY_BYTES)).thenReturn(10000L);
+		when(connectionMock.closePipeline()).thenReturn(Arrays.<Object> asList(VALUE_BYTES, 10000L));
+
+		cache = new RedisCache(CACHE_NAME, NO_PREFIX_BYTES, templateSpy, 10L);
+		cache.setNearCache(new NearCache(10, 0, NearCache.EvictionPolicy.LRU));
+
+		assertThat(cache.get(KEY).get(), equalTo((Object) VALUE));
+		assertThat(cache.get(KEY).get(), equalTo((Object) VALUE));
+
+		verify(connectionMock).openPipeline();
+		verify(connectionMock, times(1)).get(eq(KEY_BYTES));
+		verify(connectionMock, times(1)).pTtl(eq(KEY_BYTES));
+		assertThat(cache.getNearCache().getHits(), is(1L));
+		assertThat(cache.getNearCache().getRemoteHits(), is(1L));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void getWithCallableShouldApplyRemainingTimeToLiveOfValueLoadedElsewhereToNearCache() {
+
+		when(connectionMock.closePipeline()).thenReturn(Arrays.<Object> asList(null, -2L));
+		when(connectionMock.eval(any(byte[].class), eq(ReturnType.INTEGER), eq(1), eq(LOCK_KEY_BYTES), any(byte[].class),
+				any(byte[].class))).thenReturn(0L);
+		when(connectionMock.get(KEY_BYTES)).thenReturn(VALUE_BYTES);
+		when(connectionMock.pTtl(KEY_BYTES)).thenReturn(-2L);
+
+		cache = new RedisCache(CACHE_NAME, NO_PREFIX_BYTES, templateSpy, 10L);
+		cache.setNearCache(new NearCache(10, 0, NearCache.EvictionPolicy.LRU));
+		Callable<Object> callableMock = mock(Callable.class);
+
+		assertThat((String) cache.get(KEY, callableMock), equalTo(VALUE));
+
+		verifyZeroInteractions(callableMock);
+		assertThat(cache.getNearCache().get(KEY_BYTES), is(nullValue()));
+	}
+
+	@Test
+	public void putShouldPublishNearCacheInvalidation() {
+
+		cache = new RedisCache(CACHE_NAME, NO_PREFIX_BYTES, templateSpy, 10L);
+		cache.setNearCache(new NearCache(10, 0, NearCache.EvictionPolicy.LRU));
+
+		cache.put(KEY, VALUE);
+
+		verify(connectionMock).publish(eq((CACHE_NAME + "~invalidation").getBytes()), any(byte[].class));
+		assertThat(cache.get(KEY).get(), equalTo((Object) VALUE));
+		verify(connectionMock, never()).get(eq(KEY_BYTES));
+	}
+
+	@Test
+	public void evictShouldRemoveNearCacheEntryAndPublishInvalidation() {
+
+		cache = new RedisCache(CACHE_NAME, NO_PREFIX_BYTES, templateSpy, 10L);
+		cache.setNearCache(new NearCache(10, 0, NearCache.EvictionPolicy.LRU));
+
+		cache.put(KEY, VALUE);
+		cache.evict(KEY);
+
+		assertThat(cache.get(KEY), is(nullValue()));
+		verify(connectionMock, times(2)).publish(eq((CACHE_NAME + "~invalidation").getBytes()), any(byte[].class));
+	}
+
 	@Test // DATAREDIS-468
 	public void noMultiExecForCluster() {
 
@@ -338,6 +1072,7 @@ public class RedisCacheUnitTests {
 
 		RedisClusterConnection clusterConnectionMock = mock(RedisClusterConnection.class);
 		when(connectionFactoryMock.getConnection()).thenReturn(clusterConnectionMock);
+		grantKeyLock(clusterConnectionMock);
 
 		cache = new RedisCache(CACHE_NAME, NO_PREFIX_BYTES, templateSpy, 0L);
 
@@ -348,7 +1083,7 @@ public class RedisCacheUnitTests {
 			}
 		});
 
-		verify(clusterConnectionMock).get(eq(KEY_BYTES));
+		verify(clusterConnectionMock, times(2)).get(eq(KEY_BYTES));
 		verify(clusterConnectionMock).set(eq(KEY_BYTES), eq(VALUE_BYTES));
 
 		verify(clusterConnectionMock, never()).multi();
@@ -356,4 +1091,20 @@ public class RedisCacheUnitTests {
 		verifyZeroInteractions(connectionMock);
 	}
 
+	/**
+	 * Let the given connection grant key locks acquired for {@link #LOCK_KEY_BYTES}.
+	 */
+	private static void grantKeyLock(RedisConnection connection) {
+
+		when(connection.eval(any(byte[].class), eq(ReturnType.INTEGER), eq(1), eq(LOCK_KEY_BYTES), any(byte[].class),
+				any(byte[].class))).thenReturn(1L);
+	}
+
+	static class SynchronousExecutor implements Executor {
+
+		@Override
+		public void execute(Runnable command) {
+			command.run();
+		}
+	}
 }
@@ -18,6 +18,7 @@ package org.springframework.data.redis.connection;
 import static org.hamcrest.core.Is.*;
 import static org.hamcrest.core.IsCollectionContaining.*;
 import static org.junit.Assert.*;
+import static org.mockito.AdditionalMatchers.*;
 import static org.mockito.Matchers.*;
 import static org.mockito.Mockito.*;
 import static org.springframework.data.redis.test.util.MockitoUtils.*;
@@ -25,6 +26,8 @@ import static org.springframework.data.redis.test.util.MockitoUtils.*;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Future;
 
 import org.hamcrest.core.IsInstanceOf;
 import org.junit.After;
@@ -32,18 +35,27 @@ import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.ArgumentCaptor;
+import org.mockito.Matchers;
 import org.mockito.Mock;
+import org.mockito.invocation.InvocationOnMock;
 import org.mockito.runners.MockitoJUnitRunner;
+import org.mockito.stubbing.Answer;
 import org.springframework.core.convert.converter.Converter;
+import org.springframework.core.task.AsyncTaskExecutor;
 import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
 import org.springframework.dao.DataAccessException;
 import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.dao.TransientDataAccessResourceException;
 import org.springframework.data.redis.ClusterRedirectException;
 import org.springframework.data.redis.PassThroughExceptionTranslationStrategy;
 import org.springframework.data.redis.TooManyClusterRedirectionsException;
 import org.springframework.data.redis.connection.ClusterCommandExecutor.ClusterCommandCallback;
 import org.springframework.data.redis.connection.ClusterCommandExecutor.MulitNodeResult;
 import org.springframework.data.redis.connection.ClusterCommandExecutor.MultiKeyClusterCommandCallback;
+import org.springframework.data.redis.connection.ClusterCommandExecutor.NodeResult;
+import org.springframework.data.redis.connection.ClusterCommandExecutor.SlotBatchClusterCommandCallback;
 import org.springframework.data.redis.connection.RedisClusterNode.LinkState;
 import org.springframework.data.redis.connection.RedisClusterNode.SlotRange;
 import org.springframework.data.redis.connection.RedisNode.NodeType;
@@ -115,9 +127,18 @@ public class ClusterCommandExecutorUnitTests {
 
 	};
 
+	private static final SlotBatchConnectionCommandCallback<String> SLOT_BATCH_CALLBACK = new SlotBatchConnectionCommandCallback<String>() {
+
+		@Override
+		public String doInCluster(Connection connection, byte[]... keys) {
+			return connection.shadowspawn(keys);
+		}
+	};
+
 	@Mock Connection con1;
 	@Mock Connection con2;
 	@Mock Connection con3;
+	@Mock Connection con4;
 
 	@Before
 	public void setUp() {
@@ -273,6 +294,65 @@ public class ClusterCommandExecutorUnitTests {
 		assertThat(result.resultsAsList(), hasItems("rand", "mat", "perrin"));
 	}
 
+	@Test
+	public void executeCommandAsyncOnNodesShouldReportNodesExceedingCommandTimeout() {
+
+		when(con1.theWheelWeavesAsTheWheelWills()).thenReturn("rand");
+		when(con2.theWheelWeavesAsTheWheelWills()).thenAnswer(new Answer<String>() {
+
+			@Override
+			public String answer(InvocationOnMock invocation) throws Throwable {
+
+				Thread.sleep(500);
+				return "mat";
+			}
+		});
+		when(con3.theWheelWeavesAsTheWheelWills()).thenReturn("perrin");
+
+		executor.setCommandTimeout(50);
+
+		try {
+			executor.executeCommandOnAllNodes(COMMAND_CALLBACK);
+			fail("Missing ClusterCommandExecutionFailureException");
+		} catch (ClusterCommandExecutionFailureException e) {
+
+			assertThat(e.getCauses().size(), is(1));
+			assertThat(e.getCauses().iterator().next(), IsInstanceOf.instanceOf(QueryTimeoutException.class));
+		}
+	}
+
+	@Test
+	public void executeCommandOnAllNodesShouldRunOnNodeLanes() {
+
+		executor.executeCommandOnAllNodes(COMMAND_CALLBACK);
+
+		assertThat(executor.getNodeTaskExecutor().getStatistics().size(), is(3));
+		assertThat(executor.getNodeTaskExecutor().getStatistics(CLUSTER_NODE_1).getCompletedCount(), is(1L));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void executeMultikeyCommandShouldCancelSubmittedTasksAndTranslateRejection() {
+
+		Future<Object> submitted = mock(Future.class);
+		AsyncTaskExecutor taskExecutorMock = mock(AsyncTaskExecutor.class);
+		when(taskExecutorMock.submit(any(Callable.class))).thenReturn(submitted)
+				.thenThrow(new TaskRejectedException("saturated"));
+
+		executor = new ClusterCommandExecutor(new MockClusterNodeProvider(), new MockClusterResourceProvider(),
+				new PassThroughExceptionTranslationStrategy(exceptionConverter), taskExecutorMock);
+
+		try {
+			executor.executeMuliKeyCommand(MULTIKEY_CALLBACK,
+					new LinkedHashSet<byte[]>(Arrays.asList("key-1".getBytes(), "key-2".getBytes())));
+			fail("Missing TransientDataAccessResourceException");
+		} catch (TransientDataAccessResourceException e) {
+			assertThat(e.getCause(), IsInstanceOf.instanceOf(TaskRejectedException.class));
+		}
+
+		verify(submitted).cancel(true);
+	}
+
 	@Test // DATAREDIS-315, DATAREDIS-467
 	public void executeMultikeyCommandShouldRunCommandAcrossCluster() {
 
@@ -292,6 +372,27 @@ public class ClusterCommandExecutorUnitTests {
 		assertThat(captor.getAllValues().size(), is(2));
 	}
 
+	@Test
+	public void executeMultiKeyCommandBySlotShouldInvokeCallbackOncePerSlot() {
+
+		// key-1 and {key-1}.other map to slot 229, key-9 to slot 493. All served by node1.
+		when(con1.shadowspawn(Matchers.<byte[]> anyVararg())).thenReturn("rand").thenReturn("egwene");
+		when(con2.shadowspawn(Matchers.<byte[]> anyVararg())).thenReturn("mat");
+		when(con3.shadowspawn(Matchers.<byte[]> anyVararg())).thenReturn("perrin");
+
+		MulitNodeResult<String> result = executor.executeMultiKeyCommandBySlot(SLOT_BATCH_CALLBACK,
+				Arrays.asList("key-1".getBytes(), "key-2".getBytes(), "{key-1}.other".getBytes(), "key-3".getBytes(),
+						"key-9".getBytes()));
+
+		assertThat(result.resultsAsList().size(), is(4));
+		assertThat(result.resultsAsList(), hasItems("rand", "mat", "perrin", "egwene"));
+
+		verify(con1, times(1)).shadowspawn(aryEq("key-1".getBytes()), aryEq("{key-1}.other".getBytes()));
+		verify(con1, times(1)).shadowspawn(aryEq("key-9".getBytes()));
+		verify(con2, times(1)).shadowspawn(aryEq("key-3".getBytes()));
+		verify(con3, times(1)).shadowspawn(aryEq("key-2".getBytes()));
+	}
+
 	@Test // DATAREDIS-315
 	public void executeCommandOnSingleNodeAndFollowRedirect() {
 
@@ -304,6 +405,19 @@ public class ClusterCommandExecutorUnitTests {
 		verify(con2, never()).theWheelWeavesAsTheWheelWills();
 	}
 
+	@Test
+	public void executeCommandOnSingleNodeShouldFollowRedirectToNodeUnknownToTopology() {
+
+		when(con1.theWheelWeavesAsTheWheelWills()).thenThrow(
+				new MovedException(UNKNOWN_CLUSTER_NODE.getHost(), UNKNOWN_CLUSTER_NODE.getPort()));
+		when(con4.theWheelWeavesAsTheWheelWills()).thenReturn("rand");
+
+		NodeResult<String> result = executor.executeCommandOnSingleNode(COMMAND_CALLBACK, CLUSTER_NODE_1);
+
+		assertThat(result.getValue(), is("rand"));
+		assertThat(result.getNode(), is(UNKNOWN_CLUSTER_NODE));
+	}
+
 	@Test // DATAREDIS-315
 	public void executeCommandOnSingleNodeAndFollowRedirectButStopsAfterMaxRedirects() {
 
@@ -355,6 +469,9 @@ public class ClusterCommandExecutorUnitTests {
 			if (CLUSTER_NODE_3.equals(node)) {
 				return con3;
 			}
+			if (UNKNOWN_CLUSTER_NODE.equals(node)) {
+				return con4;
+			}
 
 			return null;
 		}
@@ -374,11 +491,17 @@ public class ClusterCommandExecutorUnitTests {
 
 	}
 
+	static interface SlotBatchConnectionCommandCallback<S> extends SlotBatchClusterCommandCallback<Connection, S> {
+
+	}
+
 	static interface Connection {
 
 		String theWheelWeavesAsTheWheelWills();
 
 		String bloodAndAshes(byte[] key);
+
+		String shadowspawn(byte[]... keys);
 	}
 
 	static class MovedException extends RuntimeException {
@@ -0,0 +1,194 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.connection;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.redis.connection.ClusterNodeTaskExecutor.RejectionPolicy;
+
+/**
+ * @author agent
+ */
+public class ClusterNodeTaskExecutorUnitTests {
+
+	static final RedisClusterNode NODE_1 = new RedisClusterNode("127.0.0.1", 7379);
+	static final RedisClusterNode NODE_2 = new RedisClusterNode("127.0.0.1", 7380);
+
+	ClusterNodeTaskExecutor executor;
+	CountDownLatch release;
+
+	@Before
+	public void setUp() {
+
+		executor = new ClusterNodeTaskExecutor();
+		executor.setThreadsPerNode(1);
+		executor.setQueueCapacity(1);
+
+		release = new CountDownLatch(1);
+	}
+
+	@After
+	public void tearDown() {
+
+		release.countDown();
+		executor.destroy();
+	}
+
+	@Test
+	public void submitShouldRunTaskOnLaneOfNode() throws Exception {
+
+		String threadName = executor.submit(NODE_1, new Callable<String>() {
+
+			@Override
+			public String call() throws Exception {
+				return Thread.currentThread().getName();
+			}
+		}).get(1, TimeUnit.SECONDS);
+
+		assertThat(threadName, containsString("127.0.0.1:7379"));
+		assertThat(executor.getStatistics(NODE_1).getCompletedCount(), is(1L));
+		assertThat(executor.getStatistics(NODE_2), is(nullValue()));
+	}
+
+	@Test
+	public void blockedNodeShouldNotDelayOtherNodes() throws Exception {
+
+		executor.submit(NODE_1, blockingTask());
+
+		assertThat(executor.submit(NODE_2, valueTask("mat")).get(1, TimeUnit.SECONDS), is("mat"));
+	}
+
+	@Test
+	public void callerRunsShouldBeDefaultRejectionPolicy() {
+		assertThat(new ClusterNodeTaskExecutor().getRejectionPolicy(), is(RejectionPolicy.CALLER_RUNS));
+	}
+
+	@Test
+	public void submitShouldRejectTaskExceedingQueueCapacity() {
+
+		executor.setRejectionPolicy(RejectionPolicy.ABORT);
+		executor.submit(NODE_1, blockingTask());
+		executor.submit(NODE_1, blockingTask());
+
+		try {
+			executor.submit(NODE_1, valueTask("rand"));
+			fail("Missing TaskRejectedException");
+		} catch (TaskRejectedException e) {
+			// expected
+		}
+
+		assertThat(executor.getStatistics(NODE_1).getRejectedCount(), is(1L));
+	}
+
+	@Test
+	public void submitShouldRejectTaskExceedingInFlightLimit() {
+
+		executor.setMaxInFlightPerNode(1);
+		executor.setRejectionPolicy(RejectionPolicy.ABORT);
+		executor.submit(NODE_1, blockingTask());
+
+		try {
+			executor.submit(NODE_1, valueTask("rand"));
+			fail("Missing TaskRejectedException");
+		} catch (TaskRejectedException e) {
+			// expected
+		}
+	}
+
+	@Test
+	public void callerRunsShouldRunRejectedTaskInSubmittingThread() throws Exception {
+
+		executor.setMaxInFlightPerNode(1);
+		executor.setRejectionPolicy(RejectionPolicy.CALLER_RUNS);
+		executor.submit(NODE_1, blockingTask());
+
+		String threadName = executor.submit(NODE_1, new Callable<String>() {
+
+			@Override
+			public String call() throws Exception {
+				return Thread.currentThread().getName();
+			}
+		}).get(0, TimeUnit.MILLISECONDS);
+
+		assertThat(threadName, is(Thread.currentThread().getName()));
+		assertThat(executor.getStatistics(NODE_1).getRejectedCount(), is(1L));
+	}
+
+	@Test
+	public void submitShouldEvictIdleLanes() throws Exception {
+
+		executor.setIdleLaneTimeout(0);
+		executor.submit(NODE_1, valueTask("rand")).get(1, TimeUnit.SECONDS);
+
+		for (int i = 0; i < 100 && executor.getStatistics(NODE_1) != null; i++) {
+
+			executor.submit(NODE_2, valueTask("mat")).get(1, TimeUnit.SECONDS);
+			Thread.sleep(10);
+		}
+
+		assertThat(executor.getStatistics(NODE_1), is(nullValue()));
+		assertThat(executor.submit(NODE_1, valueTask("perrin")).get(1, TimeUnit.SECONDS), is("perrin"));
+	}
+
+	@Test
+	public void submitShouldNotEvictBusyLanes() throws Exception {
+
+		executor.submit(NODE_1, blockingTask());
+
+		for (int i = 0; i < 100 && executor.getStatistics(NODE_1).getActiveCount() == 0; i++) {
+			Thread.sleep(10);
+		}
+
+		executor.setIdleLaneTimeout(0);
+
+		executor.submit(NODE_2, valueTask("mat")).get(1, TimeUnit.SECONDS);
+
+		assertThat(executor.getStatistics(NODE_1), is(notNullValue()));
+	}
+
+	private Callable<String> blockingTask() {
+
+		return new Callable<String>() {
+
+			@Override
+			public String call() throws Exception {
+
+				release.await();
+				return "blocked";
+			}
+		};
+	}
+
+	private static Callable<String> valueTask(final String value) {
+
+		return new Callable<String>() {
+
+			@Override
+			public String call() throws Exception {
+				return value;
+			}
+		};
+	}
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.connection;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.*;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.RedisSystemException;
+import org.springframework.data.redis.connection.RedisClusterNode.LinkState;
+import org.springframework.data.redis.connection.RedisClusterNode.SlotRange;
+import org.springframework.data.redis.connection.RedisNode.NodeType;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+
+/**
+ * @author agent
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class ClusterScanCursorUnitTests {
+
+	static final RedisClusterNode NODE_1 = RedisClusterNode.newRedisClusterNode().listeningAt("127.0.0.1", 7379)
+			.withId("node-1").promotedAs(NodeType.MASTER).serving(new SlotRange(0, 8191))
+			.linkState(LinkState.CONNECTED).build();
+	static final RedisClusterNode NODE_2 = RedisClusterNode.newRedisClusterNode().listeningAt("127.0.0.1", 7380)
+			.withId("node-2").promotedAs(NodeType.MASTER).serving(new SlotRange(8192, 16383))
+			.linkState(LinkState.CONNECTED).build();
+	static final RedisClusterNode NODE_2_REPLACEMENT = RedisClusterNode.newRedisClusterNode()
+			.listeningAt("127.0.0.1", 7381).withId("node-3").promotedAs(NodeType.MASTER)
+			.serving(new SlotRange(8192, 16383)).linkState(LinkState.CONNECTED).build();
+
+	@Mock ClusterTopologyProvider topologyProviderMock;
+	@Mock RedisClusterConnection connectionMock;
+
+	ClusterTopology topology = new ClusterTopology(new LinkedHashSet<RedisClusterNode>(Arrays.asList(NODE_1, NODE_2)));
+
+	@Before
+	public void setUp() {
+		when(topologyProviderMock.getTopology()).thenReturn(topology);
+	}
+
+	@Test
+	public void shouldIterateKeysOfAllMasterNodes() {
+
+		when(connectionMock.scan(eq(NODE_1), any(ScanOptions.class))).thenReturn(cursor("key-1", "key-2"));
+		when(connectionMock.scan(eq(NODE_2), any(ScanOptions.class))).thenReturn(cursor("key-3"));
+
+		Cursor<byte[]> cursor = new ClusterScanCursor(topologyProviderMock, connectionMock, ScanOptions.NONE).open();
+
+		assertThat(collect(cursor), contains("key-1", "key-2", "key-3"));
+		assertThat(cursor.getPosition(), is(3L));
+	}
+
+	@Test
+	public void shouldScanNodeTakingOverSlotsOfFailedNode() {
+
+		ClusterTopology failedOver = new ClusterTopology(
+				new LinkedHashSet<RedisClusterNode>(Arrays.asList(NODE_1, NODE_2_REPLACEMENT)));
+		when(topologyProviderMock.getTopology()).thenReturn(topology, topology, failedOver);
+
+		when(connectionMock.scan(eq(NODE_1), any(ScanOptions.class))).thenReturn(cursor("key-1"));
+		when(connectionMock.scan(eq(NODE_2), any(ScanOptions.class)))
+				.thenThrow(new RedisConnectionFailureException("o.O"));
+		when(connectionMock.scan(eq(NODE_2_REPLACEMENT), any(ScanOptions.class))).thenReturn(cursor("key-3"));
+
+		Cursor<byte[]> cursor = new ClusterScanCursor(topologyProviderMock, connectionMock, ScanOptions.NONE).open();
+
+		assertThat(collect(cursor), contains("key-1", "key-3"));
+	}
+
+	@Test(expected = RedisSystemException.class)
+	public void shouldRethrowNonRecoverableErrors() {
+
+		when(connectionMock.scan(eq(NODE_1), any(ScanOptions.class))).thenThrow(new RedisSystemException("o.O", null));
+
+		new ClusterScanCursor(topologyProviderMock, connectionMock, ScanOptions.NONE).open();
+	}
+
+	private static List<String> collect(Cursor<byte[]> cursor) {
+
+		List<String> result = new ArrayList<String>();
+		while (cursor.hasNext()) {
+			result.add(new String(cursor.next()));
+		}
+		return result;
+	}
+
+	private static Cursor<byte[]> cursor(String... keys) {
+
+		List<byte[]> values = new ArrayList<byte[]>();
+		for (String key : keys) {
+			values.add(key.getBytes());
+		}
+
+		final Iterator<byte[]> iterator = values.iterator();
+
+		return new Cursor<byte[]>() {
+
+			@Override
+			public boolean hasNext() {
+				return iterator.hasNext();
+			}
+
+			@Override
+			public byte[] next() {
+				return iterator.next();
+			}
+
+			@Override
+			public void remove() {}
+
+			@Override
+			public void close() throws IOException {}
+
+			@Override
+			public long getCursorId() {
+				return 0;
+			}
+
+			@Override
+			public boolean isClosed() {
+				return false;
+			}
+
+			@Override
+			public Cursor<byte[]> open() {
+				return this;
+			}
+
+			@Override
+			public long getPosition() {
+				return 0;
+			}
+		};
+	}
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.connection;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+
+import org.junit.Test;
+import org.springframework.data.redis.ClusterStateFailureException;
+import org.springframework.data.redis.connection.RedisClusterNode.Flag;
+import org.springframework.data.redis.connection.RedisClusterNode.LinkState;
+import org.springframework.data.redis.connection.RedisClusterNode.SlotRange;
+import org.springframework.data.redis.connection.RedisNode.NodeType;
+
+/**
+ * @author agent
+ */
+public class ClusterTopologyUnitTests {
+
+	static final RedisClusterNode NODE_1 = RedisClusterNode.newRedisClusterNode().listeningAt("127.0.0.1", 7379)
+			.withId("node-1").promotedAs(NodeType.MASTER).serving(new SlotRange(0, 5460)).build();
+	static final RedisClusterNode NODE_2 = RedisClusterNode.newRedisClusterNode().listeningAt("127.0.0.1", 7380)
+			.withId("node-2").promotedAs(NodeType.MASTER).serving(new SlotRange(5461, 10922)).build();
+	static final RedisClusterNode NODE_3 = RedisClusterNode.newRedisClusterNode().listeningAt("127.0.0.1", 7381)
+			.withId("node-3").promotedAs(NodeType.MASTER).serving(new SlotRange(Arrays.asList(10923, 10924))).build();
+
+	ClusterTopology topology = new ClusterTopology(
+			new LinkedHashSet<RedisClusterNode>(Arrays.asList(NODE_1, NODE_2, NODE_3)));
+
+	@Test
+	public void getKeyServingMasterNodeShouldResolveNodeBySlot() {
+
+		// key2 maps to slot 4998, key1 to slot 9189
+		assertThat(topology.getKeyServingMasterNode("key2".getBytes()), is(NODE_1));
+		assertThat(topology.getKeyServingMasterNode("key1".getBytes()), is(NODE_2));
+	}
+
+	@Test(expected = ClusterStateFailureException.class)
+	public void getKeyServingMasterNodeShouldThrowExceptionForUnservedSlot() {
+
+		// key-2 maps to slot 12422
+		topology.getKeyServingMasterNode("key-2".getBytes());
+	}
+
+	@Test
+	public void getSlotServingNodesShouldReturnNodesServingSlot() {
+
+		assertThat(topology.getSlotServingNodes(0), contains(NODE_1));
+		assertThat(topology.getSlotServingNodes(5461), contains(NODE_2));
+		assertThat(topology.getSlotServingNodes(10924), contains(NODE_3));
+		assertThat(topology.getSlotServingNodes(10925), is(empty()));
+		assertThat(topology.getSlotServingNodes(16384), is(empty()));
+	}
+
+	@Test
+	public void slotRangeShouldContainSlotsWithinBounds() {
+
+		SlotRange range = new SlotRange(10, 12);
+
+		assertThat(range.contains(9), is(false));
+		assertThat(range.contains(10), is(true));
+		assertThat(range.contains(12), is(true));
+		assertThat(range.contains(13), is(false));
+		assertThat(range.contains(-1), is(false));
+		assertThat(range.getSlots(), contains(10, 11, 12));
+		assertThat(range.getSlotsArray(), is(new int[] { 10, 11, 12 }));
+	}
+
+	@Test
+	public void slotRangeShouldBeEmptyWhenLowerBoundExceedsUpperBound() {
+
+		assertThat(new SlotRange(5, 4).getSlots(), is(empty()));
+		assertThat(new SlotRange(0, -5).getSlots(), is(empty()));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void slotRangeShouldRejectNegativeLowerBound() {
+		new SlotRange(-2, 10);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void slotRangeShouldRejectNegativeSlots() {
+		new SlotRange(Arrays.asList(1, -1));
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void slotRangeShouldNotAllowModifyingSlots() {
+		new SlotRange(10, 12).getSlots().clear();
+	}
+
+	@Test
+	public void getActiveSlaveNodesShouldReturnConnectedSlavesOfMaster() {
+
+		RedisClusterNode slave = RedisClusterNode.newRedisClusterNode().listeningAt("127.0.0.1", 7382).withId("slave-1")
+				.promotedAs(NodeType.SLAVE).slaveOf("node-1").linkState(LinkState.CONNECTED).build();
+		RedisClusterNode failedSlave = RedisClusterNode.newRedisClusterNode().listeningAt("127.0.0.1", 7383)
+				.withId("slave-2").promotedAs(NodeType.SLAVE).slaveOf("node-1").linkState(LinkState.CONNECTED)
+				.withFlags(Collections.singleton(Flag.FAIL)).build();
+
+		ClusterTopology topology = new ClusterTopology(
+				new LinkedHashSet<RedisClusterNode>(Arrays.asList(NODE_1, NODE_2, slave, failedSlave)));
+
+		assertThat(topology.getActiveSlaveNodes(NODE_1), contains(slave));
+		assertThat(topology.getActiveSlaveNodes(NODE_2), is(empty()));
+	}
+}
@@ -0,0 +1,175 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.connection;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+import static org.junit.Assume.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.commons.pool2.BasePooledObjectFactory;
+import org.apache.commons.pool2.PooledObject;
+import org.apache.commons.pool2.impl.DefaultPooledObject;
+import org.apache.commons.pool2.impl.GenericObjectPool;
+import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.springframework.data.redis.RedisTestProfileValueSource;
+
+/**
+ * Load test comparing borrow / return throughput of {@link ConcurrentObjectPool} and commons-pool2
+ * {@link GenericObjectPool} under contention. Throughput is logged, not asserted, as it depends on the host running the
+ * tests. Only runs with {@code -DrunLongTests=true}.
+ *
+ * @author agent
+ */
+public class ConcurrentObjectPoolLoadTests {
+
+	private static final Log LOG = LogFactory.getLog(ConcurrentObjectPoolLoadTests.class);
+
+	private static final int THREADS = Math.max(8, Runtime.getRuntime().availableProcessors() * 4);
+	private static final int POOL_SIZE = 8;
+	private static final int OPERATIONS_PER_THREAD = 20000;
+
+	@BeforeClass
+	public static void shouldRun() {
+		assumeTrue(RedisTestProfileValueSource.matches("runLongTests", "true"));
+	}
+
+	@Test
+	public void shouldServeConcurrentBorrowersWithinPoolLimits() throws Exception {
+
+		final GenericObjectPool<Object> genericPool = new GenericObjectPool<Object>(new ObjectFactory(), config());
+		long generic = run(new Borrower() {
+
+			@Override
+			public Object borrow() throws Exception {
+				return genericPool.borrowObject();
+			}
+
+			@Override
+			public void release(Object resource) {
+				genericPool.returnObject(resource);
+			}
+		});
+		genericPool.close();
+
+		final ConcurrentObjectPool<Object> concurrentPool = new ConcurrentObjectPool<Object>(new ObjectFactory(), config());
+		long concurrent = run(new Borrower() {
+
+			@Override
+			public Object borrow() {
+				return concurrentPool.getResource();
+			}
+
+			@Override
+			public void release(Object resource) {
+				concurrentPool.returnResource(resource);
+			}
+		});
+
+		assertThat(concurrentPool.getCreatedCount(), is(lessThanOrEqualTo((long) POOL_SIZE)));
+		assertThat(concurrentPool.getBorrowedCount(), is((long) THREADS * OPERATIONS_PER_THREAD));
+		concurrentPool.destroy();
+
+		LOG.info(String.format("%s threads on %s resources: %s ops/s GenericObjectPool, %s ops/s ConcurrentObjectPool.",
+				THREADS, POOL_SIZE, generic, concurrent));
+	}
+
+	private static GenericObjectPoolConfig config() {
+
+		GenericObjectPoolConfig config = new GenericObjectPoolConfig();
+		config.setMaxTotal(POOL_SIZE);
+		config.setMaxIdle(POOL_SIZE);
+		config.setMaxWaitMillis(TimeUnit.SECONDS.toMillis(10));
+		return config;
+	}
+
+	/**
+	 * Run {@link #OPERATIONS_PER_THREAD} borrow / return cycles per thread.
+	 *
+	 * @param borrower
+	 * @return operations per second.
+	 */
+	private long run(final Borrower borrower) throws Exception {
+
+		ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+		final CountDownLatch start = new CountDownLatch(1);
+
+		try {
+
+			List<Future<Void>> futures = new ArrayList<Future<Void>>();
+			for (int thread = 0; thread < THREADS; thread++) {
+
+				futures.add(executor.submit(new Callable<Void>() {
+
+					@Override
+					public Void call() throws Exception {
+
+						start.await();
+
+						for (int i = 0; i < OPERATIONS_PER_THREAD; i++) {
+							borrower.release(borrower.borrow());
+						}
+						return null;
+					}
+				}));
+			}
+
+			long startedAt = System.nanoTime();
+			start.countDown();
+
+			for (Future<Void> future : futures) {
+				future.get(1, TimeUnit.MINUTES);
+			}
+
+			long elapsed = System.nanoTime() - startedAt;
+			return TimeUnit.SECONDS.toNanos(1) * THREADS * OPERATIONS_PER_THREAD / Math.max(elapsed, 1);
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	interface Borrower {
+
+		Object borrow() throws Exception;
+
+		void release(Object resource);
+	}
+
+	static class ObjectFactory extends BasePooledObjectFactory<Object> {
+
+		@Override
+		public Object create() throws Exception {
+			return new Object();
+		}
+
+		@Override
+		public PooledObject<Object> wrap(Object object) {
+			return new DefaultPooledObject<Object>(object);
+		}
+	}
+}
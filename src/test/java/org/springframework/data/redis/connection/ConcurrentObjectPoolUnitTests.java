@@ -0,0 +1,319 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.connection;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.commons.pool2.BasePooledObjectFactory;
+import org.apache.commons.pool2.PooledObject;
+import org.apache.commons.pool2.impl.DefaultPooledObject;
+import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * @author agent
+ */
+public class ConcurrentObjectPoolUnitTests {
+
+	ResourceFactory factory;
+	GenericObjectPoolConfig config;
+	ConcurrentObjectPool<Resource> pool;
+
+	@Before
+	public void setUp() {
+
+		factory = new ResourceFactory();
+
+		config = new GenericObjectPoolConfig();
+		config.setMaxTotal(2);
+		config.setMaxIdle(2);
+		config.setMinIdle(0);
+		config.setMaxWaitMillis(50);
+		config.setTimeBetweenEvictionRunsMillis(-1);
+	}
+
+	@After
+	public void tearDown() {
+
+		if (pool != null) {
+			pool.destroy();
+		}
+	}
+
+	@Test
+	public void getResourceShouldHandOutLastResourceReturnedByThread() {
+
+		pool = new ConcurrentObjectPool<Resource>(factory, config);
+
+		Resource first = pool.getResource();
+		Resource second = pool.getResource();
+
+		pool.returnResource(first);
+		pool.returnResource(second);
+
+		assertThat(pool.getResource(), is(sameInstance(second)));
+		assertThat(pool.getResource(), is(sameInstance(first)));
+		assertThat(pool.getCreatedCount(), is(2L));
+	}
+
+	@Test(expected = PoolException.class)
+	public void getResourceShouldFailWhenExhaustedAndNotBlocking() {
+
+		config.setBlockWhenExhausted(false);
+		pool = new ConcurrentObjectPool<Resource>(factory, config);
+
+		pool.getResource();
+		pool.getResource();
+		pool.getResource();
+	}
+
+	@Test
+	public void getResourceShouldFailAfterMaxWaitWhenExhausted() {
+
+		pool = new ConcurrentObjectPool<Resource>(factory, config);
+
+		pool.getResource();
+		pool.getResource();
+
+		try {
+
+			pool.getResource();
+			fail("Missing PoolException");
+		} catch (PoolException e) {
+			assertThat(pool.getNumWaiters(), is(0));
+		}
+	}
+
+	@Test
+	public void getResourceShouldReceiveResourceReturnedByOtherThread() throws Exception {
+
+		config.setMaxTotal(1);
+		config.setMaxWaitMillis(5000);
+		pool = new ConcurrentObjectPool<Resource>(factory, config);
+
+		final Resource resource = pool.getResource();
+
+		Thread returning = new Thread(new Runnable() {
+
+			@Override
+			public void run() {
+
+				try {
+					Thread.sleep(50);
+				} catch (InterruptedException e) {
+					return;
+				}
+				pool.returnResource(resource);
+			}
+		});
+		returning.start();
+
+		assertThat(pool.getResource(), is(sameInstance(resource)));
+		returning.join();
+	}
+
+	@Test
+	public void returnBrokenResourceShouldDestroyResource() {
+
+		pool = new ConcurrentObjectPool<Resource>(factory, config);
+
+		Resource resource = pool.getResource();
+		pool.returnBrokenResource(resource);
+
+		assertThat(resource.destroyed, is(true));
+		assertThat(pool.getNumActive(), is(0));
+		assertThat(pool.getNumIdle(), is(0));
+		assertThat(pool.getResource(), is(not(sameInstance(resource))));
+	}
+
+	@Test
+	public void getResourceShouldDestroyResourceFailingValidationOnBorrow() {
+
+		config.setTestOnBorrow(true);
+		pool = new ConcurrentObjectPool<Resource>(factory, config);
+
+		Resource resource = pool.getResource();
+		pool.returnResource(resource);
+		resource.valid = false;
+
+		assertThat(pool.getResource(), is(not(sameInstance(resource))));
+		assertThat(resource.destroyed, is(true));
+	}
+
+	@Test
+	public void returnResourceShouldDestroyResourceExceedingMaxIdle() {
+
+		config.setMaxIdle(1);
+		pool = new ConcurrentObjectPool<Resource>(factory, config);
+
+		Resource first = pool.getResource();
+		Resource second = pool.getResource();
+
+		pool.returnResource(first);
+		pool.returnResource(second);
+
+		assertThat(pool.getNumIdle(), is(1));
+		assertThat(second.destroyed, is(true));
+	}
+
+	@Test
+	public void evictShouldRemoveExpiredAndReplenishMinIdle() throws Exception {
+
+		config.setMaxTotal(4);
+		config.setMaxIdle(4);
+		config.setMinIdle(1);
+		config.setMinEvictableIdleTimeMillis(1);
+		pool = new ConcurrentObjectPool<Resource>(factory, config);
+
+		List<Resource> resources = new ArrayList<Resource>();
+		for (int i = 0; i < 3; i++) {
+			resources.add(pool.getResource());
+		}
+		for (Resource resource : resources) {
+			pool.returnResource(resource);
+		}
+
+		Thread.sleep(10);
+		pool.evict();
+
+		assertThat(pool.getNumIdle(), is(1));
+		assertThat(pool.getDestroyedCount(), is(2L));
+	}
+
+	@Test
+	public void evictShouldDestroyIdleResourcesFailingValidation() {
+
+		config.setTestWhileIdle(true);
+		pool = new ConcurrentObjectPool<Resource>(factory, config);
+
+		Resource resource = pool.getResource();
+		pool.returnResource(resource);
+		resource.valid = false;
+
+		pool.evict();
+
+		assertThat(resource.destroyed, is(true));
+		assertThat(pool.getNumIdle(), is(0));
+	}
+
+	@Test
+	public void shouldTrackBorrowMetrics() {
+
+		pool = new ConcurrentObjectPool<Resource>(factory, config);
+
+		Resource resource = pool.getResource();
+		assertThat(pool.getNumActive(), is(1));
+
+		pool.returnResource(resource);
+		pool.returnResource(pool.getResource());
+
+		assertThat(pool.getNumActive(), is(0));
+		assertThat(pool.getNumIdle(), is(1));
+		assertThat(pool.getBorrowedCount(), is(2L));
+		assertThat(pool.getCreatedCount(), is(1L));
+		assertThat(pool.getMaxBorrowWaitTime(TimeUnit.NANOSECONDS), is(greaterThan(0L)));
+	}
+
+	@Test(expected = PoolException.class)
+	public void returnResourceShouldRejectForeignResource() {
+
+		pool = new ConcurrentObjectPool<Resource>(factory, config);
+		pool.returnResource(new Resource(-1));
+	}
+
+	@Test
+	public void returnResourceShouldRejectResourceReturnedTwice() {
+
+		pool = new ConcurrentObjectPool<Resource>(factory, config);
+
+		Resource resource = pool.getResource();
+		pool.returnResource(resource);
+
+		try {
+			pool.returnResource(resource);
+			fail("Missing PoolException");
+		} catch (PoolException e) {
+			assertThat(e.getMessage(), containsString("already been returned"));
+		}
+
+		assertThat(pool.getNumIdle(), is(1));
+		assertThat(pool.getNumActive(), is(0));
+	}
+
+	@Test(expected = PoolException.class)
+	public void returnBrokenResourceShouldRejectIdleResource() {
+
+		pool = new ConcurrentObjectPool<Resource>(factory, config);
+
+		Resource resource = pool.getResource();
+		pool.returnResource(resource);
+
+		pool.returnBrokenResource(resource);
+	}
+
+	@Test(expected = PoolException.class)
+	public void getResourceShouldFailOnDestroyedPool() {
+
+		pool = new ConcurrentObjectPool<Resource>(factory, config);
+		pool.destroy();
+
+		pool.getResource();
+	}
+
+	static class Resource {
+
+		final int id;
+		volatile boolean valid = true;
+		volatile boolean destroyed;
+
+		Resource(int id) {
+			this.id = id;
+		}
+	}
+
+	static class ResourceFactory extends BasePooledObjectFactory<Resource> {
+
+		final AtomicInteger counter = new AtomicInteger();
+
+		@Override
+		public Resource create() throws Exception {
+			return new Resource(counter.incrementAndGet());
+		}
+
+		@Override
+		public PooledObject<Resource> wrap(Resource resource) {
+			return new DefaultPooledObject<Resource>(resource);
+		}
+
+		@Override
+		public boolean validateObject(PooledObject<Resource> pooledObject) {
+			return pooledObject.getObject().valid;
+		}
+
+		@Override
+		public void destroyObject(PooledObject<Resource> pooledObject) throws Exception {
+			pooledObject.getObject().destroyed = true;
+		}
+	}
+}
@@ -120,4 +120,14 @@ public class RedisSentinelConfigurationUnitTests {
 		assertThat(config.getSentinels(),
 				hasItems(new RedisNode("127.0.0.1", 123), new RedisNode("localhost", 456), new RedisNode("localhost", 789)));
 	}
+
+	@Test
+	public void shouldReadFromMasterByDefault() {
+		assertThat(new RedisSentinelConfiguration().getReadPolicy(), is(ReadPolicy.MASTER));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void shouldRejectNullReadPolicy() {
+		new RedisSentinelConfiguration().setReadPolicy(null);
+	}
 }
@@ -18,41 +18,65 @@ package org.springframework.data.redis.connection.jedis;
 import static org.hamcrest.Matchers.*;
 import static org.hamcrest.core.Is.is;
 import static org.junit.Assert.*;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyLong;
 import static org.mockito.Matchers.anyVararg;
 import static org.mockito.Matchers.eq;
 import static org.mockito.Mockito.*;
 import static org.springframework.data.redis.connection.ClusterTestVariables.*;
 import static org.springframework.data.redis.test.util.MockitoUtils.*;
 
+import redis.clients.jedis.BuilderFactory;
+import redis.clients.jedis.Client;
 import redis.clients.jedis.HostAndPort;
 import redis.clients.jedis.Jedis;
 import redis.clients.jedis.JedisCluster;
 import redis.clients.jedis.JedisClusterConnectionHandler;
 import redis.clients.jedis.JedisPool;
+import redis.clients.jedis.Pipeline;
+import redis.clients.jedis.Response;
 import redis.clients.jedis.exceptions.JedisConnectionException;
+import redis.clients.jedis.exceptions.JedisMovedDataException;
 
 import java.io.IOException;
+import java.net.Socket;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.Spy;
 import org.mockito.invocation.InvocationOnMock;
 import org.mockito.runners.MockitoJUnitRunner;
 import org.mockito.stubbing.Answer;
 import org.springframework.data.redis.ClusterStateFailureException;
+import org.springframework.data.redis.RedisConnectionFailureException;
 import org.springframework.data.redis.RedisSystemException;
+import org.springframework.data.redis.connection.ClusterCommandExecutor;
+import org.springframework.data.redis.connection.ClusterCommandExecutor.ClusterCommandCallback;
+import org.springframework.data.redis.connection.ClusterCommandExecutor.NodeResult;
 import org.springframework.data.redis.connection.ClusterInfo;
+import org.springframework.data.redis.connection.ClusterTopology;
+import org.springframework.data.redis.connection.ClusterTopologyProvider;
+import org.springframework.data.redis.connection.ReadPolicy;
 import org.springframework.data.redis.connection.RedisClusterCommands.AddSlots;
 import org.springframework.data.redis.connection.RedisClusterNode;
+import org.springframework.data.redis.connection.RedisClusterNode.LinkState;
+import org.springframework.data.redis.connection.RedisClusterNode.SlotRange;
+import org.springframework.data.redis.connection.RedisNode.NodeType;
+import org.springframework.data.redis.connection.RedisPipelineException;
+import org.springframework.data.redis.connection.jedis.JedisClusterConnection.JedisClusterNodeResourceProvider;
 import org.springframework.data.redis.connection.jedis.JedisClusterConnection.JedisClusterTopologyProvider;
 
 /**
@@ -89,6 +113,10 @@ public class JedisClusterConnectionUnitTests {
 
 	Map<String, JedisPool> nodes = new LinkedHashMap<String, JedisPool>();
 
+	static final RedisClusterNode CLUSTER_NODE_1_FULL_RANGE = RedisClusterNode.newRedisClusterNode()
+			.listeningAt(CLUSTER_HOST, MASTER_NODE_1_PORT).withId(MASTER_NODE_1_ID).promotedAs(NodeType.MASTER)
+			.serving(new SlotRange(0, 16383)).linkState(LinkState.CONNECTED).build();
+
 	public @Rule ExpectedException expectedException = ExpectedException.none();
 
 	@Before
@@ -355,6 +383,55 @@ public class JedisClusterConnectionUnitTests {
 		new JedisClusterTopologyProvider(clusterMock).getTopology();
 	}
 
+	@Test
+	public void refreshTopologyShouldReloadTopologyOnNextAccess() {
+
+		JedisClusterTopologyProvider provider = new JedisClusterTopologyProvider(clusterMock);
+
+		provider.getTopology();
+		provider.getTopology();
+		verify(con1Mock, times(1)).clusterNodes();
+
+		provider.refreshTopology();
+		provider.getTopology();
+		verify(con1Mock, times(2)).clusterNodes();
+	}
+
+	@Test
+	public void refreshTopologyShouldBeRateLimited() {
+
+		ScheduledExecutorService scheduler = mock(ScheduledExecutorService.class);
+		JedisClusterTopologyProvider provider = new JedisClusterTopologyProvider(clusterMock, 60000, 60000, scheduler);
+
+		provider.getTopology();
+		provider.refreshTopology();
+		provider.refreshTopology();
+
+		ArgumentCaptor<Long> delay = ArgumentCaptor.forClass(Long.class);
+		verify(scheduler, times(1)).schedule(any(Runnable.class), delay.capture(), eq(TimeUnit.MILLISECONDS));
+		assertThat(delay.getValue(), is(greaterThan(50000L)));
+		verify(con1Mock, times(1)).clusterNodes();
+	}
+
+	@Test
+	public void refreshTopologyShouldDeferRefreshRequestedWithinMinRefreshInterval() {
+
+		ScheduledExecutorService scheduler = mock(ScheduledExecutorService.class);
+		JedisClusterTopologyProvider provider = new JedisClusterTopologyProvider(clusterMock, 60000, 60000, scheduler);
+
+		provider.getTopology();
+		provider.refreshTopology();
+
+		ArgumentCaptor<Runnable> refresh = ArgumentCaptor.forClass(Runnable.class);
+		verify(scheduler).schedule(refresh.capture(), anyLong(), eq(TimeUnit.MILLISECONDS));
+
+		refresh.getValue().run();
+		verify(con1Mock, times(2)).clusterNodes();
+
+		provider.refreshTopology();
+		verify(scheduler, times(2)).schedule(any(Runnable.class), anyLong(), eq(TimeUnit.MILLISECONDS));
+	}
+
 	@Test // DATAREDIS-603
 	public void translatesUnknownExceptions() {
 
@@ -369,6 +446,237 @@ public class JedisClusterConnectionUnitTests {
 		connection.set("foo".getBytes(), "bar".getBytes());
 	}
 
+	@Test
+	public void closePipelineShouldReturnResultsOfAllNodesInOrder() {
+
+		Pipeline pipeline1Mock = mock(Pipeline.class);
+		Pipeline pipeline2Mock = mock(Pipeline.class);
+		when(con1Mock.pipelined()).thenReturn(pipeline1Mock);
+		when(con2Mock.pipelined()).thenReturn(pipeline2Mock);
+
+		when(pipeline2Mock.get(KEY_1.getBytes())).thenReturn(response(VALUE_1.getBytes()));
+		when(pipeline1Mock.set(KEY_2.getBytes(), VALUE_2.getBytes())).thenReturn(response("OK".getBytes()));
+		when(pipeline1Mock.get(KEY_3.getBytes())).thenReturn(response(VALUE_3.getBytes()));
+
+		connection.openPipeline();
+
+		assertThat(connection.get(KEY_1.getBytes()), is(nullValue()));
+		connection.set(KEY_2.getBytes(), VALUE_2.getBytes());
+		connection.get(KEY_3.getBytes());
+
+		List<Object> result = connection.closePipeline();
+
+		assertThat(connection.isPipelined(), is(false));
+		assertThat(result, hasSize(2));
+		assertThat((byte[]) result.get(0), is(VALUE_1.getBytes()));
+		assertThat((byte[]) result.get(1), is(VALUE_3.getBytes()));
+		verify(pipeline1Mock, times(1)).sync();
+		verify(pipeline2Mock, times(1)).sync();
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void getShouldReadFromSlaveWhenReplicaPreferred() {
+
+		RedisClusterNode slave = slaveOf(CLUSTER_NODE_1_FULL_RANGE);
+		ClusterCommandExecutor executorMock = mock(ClusterCommandExecutor.class);
+		when(executorMock.executeCommandOnSingleNode(any(ClusterCommandCallback.class), eq(slave)))
+				.thenReturn(new NodeResult<byte[]>(slave, VALUE_1.getBytes()));
+
+		JedisClusterConnection connection = new JedisClusterConnection(clusterMock, executorMock,
+				topologyProviderOf(CLUSTER_NODE_1_FULL_RANGE, slave));
+		connection.setReadPolicy(ReadPolicy.REPLICA_PREFERRED);
+
+		assertThat(connection.get(KEY_1.getBytes()), is(VALUE_1.getBytes()));
+		verify(executorMock, never()).executeCommandOnSingleNode(any(ClusterCommandCallback.class),
+				eq(CLUSTER_NODE_1_FULL_RANGE));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void getShouldFallBackToMasterWhenSlaveFails() {
+
+		RedisClusterNode slave = slaveOf(CLUSTER_NODE_1_FULL_RANGE);
+		ClusterCommandExecutor executorMock = mock(ClusterCommandExecutor.class);
+		when(executorMock.executeCommandOnSingleNode(any(ClusterCommandCallback.class), eq(slave)))
+				.thenThrow(new RedisConnectionFailureException("o.O"));
+		when(executorMock.executeCommandOnSingleNode(any(ClusterCommandCallback.class), eq(CLUSTER_NODE_1_FULL_RANGE)))
+				.thenReturn(new NodeResult<byte[]>(CLUSTER_NODE_1_FULL_RANGE, VALUE_1.getBytes()));
+
+		JedisClusterConnection connection = new JedisClusterConnection(clusterMock, executorMock,
+				topologyProviderOf(CLUSTER_NODE_1_FULL_RANGE, slave));
+		connection.setReadPolicy(ReadPolicy.REPLICA_PREFERRED);
+
+		assertThat(connection.get(KEY_1.getBytes()), is(VALUE_1.getBytes()));
+	}
+
+	@Test
+	public void resourceProviderShouldSendReadonlyOncePerSlaveConnection() {
+
+		RedisClusterNode slave = slaveOf(CLUSTER_NODE_1_FULL_RANGE);
+		JedisPool slavePoolMock = mock(JedisPool.class);
+		Jedis slaveConMock = mock(Jedis.class);
+		Client slaveClientMock = mock(Client.class);
+
+		nodes.put(CLUSTER_HOST + ":" + SLAVEOF_NODE_1_PORT, slavePoolMock);
+		when(slavePoolMock.getResource()).thenReturn(slaveConMock);
+		when(slaveConMock.getClient()).thenReturn(slaveClientMock);
+		when(slaveClientMock.getSocket()).thenReturn(new Socket());
+
+		JedisClusterNodeResourceProvider provider = new JedisClusterNodeResourceProvider(clusterMock,
+				topologyProviderOf(CLUSTER_NODE_1_FULL_RANGE, slave));
+
+		provider.getResourceForSpecificNode(slave);
+		provider.getResourceForSpecificNode(slave);
+		provider.getResourceForSpecificNode(CLUSTER_NODE_1_FULL_RANGE);
+
+		verify(slaveConMock, times(1)).readonly();
+		verify(con1Mock, never()).readonly();
+	}
+
+	@Test
+	public void resourceProviderShouldSendReadonlyAgainAfterReconnect() {
+
+		RedisClusterNode slave = slaveOf(CLUSTER_NODE_1_FULL_RANGE);
+		JedisPool slavePoolMock = mock(JedisPool.class);
+		Jedis slaveConMock = mock(Jedis.class);
+		Client slaveClientMock = mock(Client.class);
+
+		nodes.put(CLUSTER_HOST + ":" + SLAVEOF_NODE_1_PORT, slavePoolMock);
+		when(slavePoolMock.getResource()).thenReturn(slaveConMock);
+		when(slaveConMock.getClient()).thenReturn(slaveClientMock);
+		when(slaveClientMock.getSocket()).thenReturn(new Socket(), new Socket(), new Socket(), new Socket());
+
+		JedisClusterNodeResourceProvider provider = new JedisClusterNodeResourceProvider(clusterMock,
+				topologyProviderOf(CLUSTER_NODE_1_FULL_RANGE, slave));
+
+		provider.getResourceForSpecificNode(slave);
+		provider.getResourceForSpecificNode(slave);
+
+		verify(slaveConMock, times(2)).readonly();
+	}
+
+	@Test
+	public void closePipelineShouldFollowMovedRedirect() {
+
+		Pipeline pipeline1Mock = mock(Pipeline.class);
+		Pipeline pipeline2Mock = mock(Pipeline.class);
+		when(con1Mock.pipelined()).thenReturn(pipeline1Mock);
+		when(con2Mock.pipelined()).thenReturn(pipeline2Mock);
+
+		when(pipeline1Mock.get(KEY_2.getBytes())).thenReturn(response(new JedisMovedDataException("MOVED",
+				new HostAndPort(CLUSTER_HOST, MASTER_NODE_2_PORT), 4998)));
+		when(pipeline2Mock.get(KEY_2.getBytes())).thenReturn(response(VALUE_2.getBytes()));
+
+		connection.openPipeline();
+		connection.get(KEY_2.getBytes());
+
+		List<Object> result = connection.closePipeline();
+
+		assertThat(result, hasSize(1));
+		assertThat((byte[]) result.get(0), is(VALUE_2.getBytes()));
+	}
+
+	@Test
+	public void closePipelineShouldFollowMovedRedirectToNodeUnknownToTopology() {
+
+		JedisPool node4PoolMock = mock(JedisPool.class);
+		Jedis con4Mock = mock(Jedis.class);
+		nodes.put(CLUSTER_HOST + ":" + SLAVEOF_NODE_1_PORT, node4PoolMock);
+		when(node4PoolMock.getResource()).thenReturn(con4Mock);
+
+		Pipeline pipeline1Mock = mock(Pipeline.class);
+		Pipeline pipeline4Mock = mock(Pipeline.class);
+		when(con1Mock.pipelined()).thenReturn(pipeline1Mock);
+		when(con4Mock.pipelined()).thenReturn(pipeline4Mock);
+
+		when(pipeline1Mock.get(KEY_2.getBytes())).thenReturn(response(new JedisMovedDataException("MOVED",
+				new HostAndPort(CLUSTER_HOST, SLAVEOF_NODE_1_PORT), 4998)));
+		when(pipeline4Mock.get(KEY_2.getBytes())).thenReturn(response(VALUE_2.getBytes()));
+
+		connection.openPipeline();
+		connection.get(KEY_2.getBytes());
+
+		List<Object> result = connection.closePipeline();
+
+		assertThat(result, hasSize(1));
+		assertThat((byte[]) result.get(0), is(VALUE_2.getBytes()));
+	}
+
+	@Test
+	public void closePipelineShouldRetainResultsOfNodesThatDidNotFail() {
+
+		Pipeline pipeline2Mock = mock(Pipeline.class);
+		when(con1Mock.pipelined()).thenThrow(new JedisConnectionException("o.O"));
+		when(con2Mock.pipelined()).thenReturn(pipeline2Mock);
+		when(pipeline2Mock.get(KEY_1.getBytes())).thenReturn(response(VALUE_1.getBytes()));
+
+		connection.openPipeline();
+		connection.get(KEY_1.getBytes());
+		connection.get(KEY_2.getBytes());
+
+		try {
+			connection.closePipeline();
+			fail("Missing RedisPipelineException");
+		} catch (RedisPipelineException e) {
+
+			assertThat(e.getPipelineResult(), hasSize(2));
+			assertThat((byte[]) e.getPipelineResult().get(0), is(VALUE_1.getBytes()));
+			assertThat(e.getPipelineResult().get(1), instanceOf(RedisConnectionFailureException.class));
+		}
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void mGetShouldBeRejectedWhilePipelined() {
+
+		connection.openPipeline();
+		connection.mGet(KEY_1.getBytes(), KEY_2.getBytes());
+	}
+
+	@Test
+	public void commandsWithoutPipelineSupportShouldNotExecuteWhilePipelined() {
+
+		connection.openPipeline();
+
+		try {
+			connection.decr(KEY_1.getBytes());
+			fail("Missing UnsupportedOperationException");
+		} catch (UnsupportedOperationException e) {
+			assertThat(e.getMessage(), containsString("DECR"));
+		}
+
+		try {
+			connection.lPop(KEY_1.getBytes());
+			fail("Missing UnsupportedOperationException");
+		} catch (UnsupportedOperationException e) {
+			assertThat(e.getMessage(), containsString("LPOP"));
+		}
+
+		assertThat(connection.closePipeline(), hasSize(0));
+	}
+
+	private static Response<byte[]> response(Object data) {
+
+		Response<byte[]> response = new Response<byte[]>(BuilderFactory.BYTE_ARRAY);
+		response.set(data);
+		return response;
+	}
+
+	private static RedisClusterNode slaveOf(RedisClusterNode master) {
+
+		return RedisClusterNode.newRedisClusterNode().listeningAt(CLUSTER_HOST, SLAVEOF_NODE_1_PORT)
+				.withId(SLAVEOF_NODE_1_ID).promotedAs(NodeType.SLAVE).slaveOf(master.getId()).linkState(LinkState.CONNECTED)
+				.build();
+	}
+
+	private static ClusterTopologyProvider topologyProviderOf(RedisClusterNode... nodes) {
+
+		ClusterTopologyProvider topologyProvider = mock(ClusterTopologyProvider.class);
+		when(topologyProvider.getTopology())
+				.thenReturn(new ClusterTopology(new LinkedHashSet<RedisClusterNode>(Arrays.asList(nodes))));
+		return topologyProvider;
+	}
+
 	static class StubJedisCluster extends JedisCluster {
 
 		JedisClusterConnectionHandler connectionHandler;
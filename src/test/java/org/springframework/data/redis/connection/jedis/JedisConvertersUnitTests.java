@@ -16,6 +16,7 @@
 package org.springframework.data.redis.connection.jedis;
 
 import static org.hamcrest.core.Is.*;
+import static org.hamcrest.core.IsCollectionContaining.*;
 import static org.hamcrest.core.IsEqual.*;
 import static org.hamcrest.core.IsNull.*;
 import static org.junit.Assert.*;
@@ -31,9 +32,12 @@ import org.junit.Test;
 import org.springframework.data.redis.connection.RedisServer;
 import org.springframework.data.redis.connection.RedisStringCommands.SetOption;
 import org.springframework.data.redis.connection.RedisZSetCommands.Range;
+import org.springframework.data.redis.core.ScanOptions;
 import org.springframework.data.redis.core.types.Expiration;
 import org.springframework.data.redis.core.types.RedisClientInfo;
 
+import redis.clients.jedis.ScanParams;
+
 /**
  * @author Christoph Strobl
  */
@@ -199,6 +203,16 @@ public class JedisConvertersUnitTests {
 		JedisConverters.boundaryToBytesForZRange(Range.range().gt(new Date()).getMin(), null);
 	}
 
+	@Test
+	public void toScanParamsShouldUseBinaryPatternAsIs() {
+
+		byte[] pattern = new byte[] { 'k', (byte) 0xC3, (byte) 0x28, '*' };
+
+		ScanParams params = JedisConverters.toScanParams(ScanOptions.scanOptions().match(pattern).build());
+
+		assertThat(params.getParams(), hasItem(pattern));
+	}
+
 	@Test // DATAREDIS-316
 	public void toSetCommandExPxOptionShouldReturnEXforSeconds() {
 		assertThat(JedisConverters.toSetCommandExPxArgument(Expiration.seconds(100)), equalTo(JedisConverters.toBytes("EX")));
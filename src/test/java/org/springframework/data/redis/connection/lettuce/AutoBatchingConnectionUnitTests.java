@@ -0,0 +1,109 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.connection.lettuce;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.*;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+
+import com.lambdaworks.redis.RedisFuture;
+import com.lambdaworks.redis.api.StatefulRedisConnection;
+import com.lambdaworks.redis.api.async.RedisAsyncCommands;
+
+/**
+ * @author agent
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class AutoBatchingConnectionUnitTests {
+
+	static final byte[] KEY = "key".getBytes();
+	static final byte[] VALUE = "value".getBytes();
+
+	@Mock StatefulRedisConnection<byte[], byte[]> connectionMock;
+	@Mock RedisAsyncCommands<byte[], byte[]> asyncCommandsMock;
+	@Mock RedisFuture<byte[]> futureMock;
+
+	StatefulRedisConnection<byte[], byte[]> connection;
+
+	@Before
+	public void setUp() throws Exception {
+
+		when(connectionMock.async()).thenReturn(asyncCommandsMock);
+		when(asyncCommandsMock.get(KEY)).thenReturn(futureMock);
+		when(futureMock.await(anyLong(), any(TimeUnit.class))).thenReturn(true);
+		when(futureMock.get()).thenReturn(VALUE);
+	}
+
+	@After
+	public void tearDown() {
+
+		if (connection != null) {
+			connection.close();
+		}
+	}
+
+	@Test
+	public void decorateShouldDisableAutoFlush() {
+
+		connection = AutoBatchingConnection.decorate(connectionMock, 64, 100, 1000);
+
+		verify(connectionMock).setAutoFlushCommands(false);
+	}
+
+	@Test
+	public void syncCommandShouldBeIssuedAsynchronouslyAndFlushedWhenBatchIsFull() {
+
+		connection = AutoBatchingConnection.decorate(connectionMock, 1, 100000, 1000);
+
+		assertThat(connection.sync().get(KEY), is(VALUE));
+
+		verify(asyncCommandsMock).get(KEY);
+		verify(connectionMock).flushCommands();
+	}
+
+	@Test
+	public void asyncCommandShouldBeFlushedOnceWritersAreIdle() {
+
+		connection = AutoBatchingConnection.decorate(connectionMock, 64, 100000, 1000);
+
+		assertThat(connection.async().get(KEY), is(futureMock));
+
+		verify(connectionMock, timeout(1000)).flushCommands();
+	}
+
+	@Test
+	public void closeShouldFlushPendingCommandsAndCloseConnection() {
+
+		connection = AutoBatchingConnection.decorate(connectionMock, 64, TimeUnit.SECONDS.toMicros(10), 1000);
+		connection.async().get(KEY);
+
+		connection.close();
+		connection = null;
+
+		verify(connectionMock, atLeastOnce()).flushCommands();
+		verify(connectionMock).close();
+	}
+}
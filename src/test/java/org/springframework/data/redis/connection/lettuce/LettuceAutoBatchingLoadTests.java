@@ -0,0 +1,143 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.connection.lettuce;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+import static org.junit.Assume.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.springframework.data.redis.ConnectionFactoryTracker;
+import org.springframework.data.redis.RedisTestProfileValueSource;
+import org.springframework.data.redis.SettingsUtils;
+import org.springframework.data.redis.connection.RedisConnection;
+
+/**
+ * Load test comparing throughput of many threads sharing a single native connection with and without
+ * {@link LettuceConnectionFactory#setAutoBatching(boolean) auto batching}. Throughput is logged, not asserted, as it
+ * depends on the host running the tests. Only runs with {@code -DrunLongTests=true}.
+ *
+ * @author agent
+ */
+public class LettuceAutoBatchingLoadTests {
+
+	private static final Log LOG = LogFactory.getLog(LettuceAutoBatchingLoadTests.class);
+
+	private static final int THREADS = Math.max(4, Runtime.getRuntime().availableProcessors() * 2);
+	private static final int OPERATIONS_PER_THREAD = 2000;
+
+	@BeforeClass
+	public static void shouldRun() {
+		assumeTrue(RedisTestProfileValueSource.matches("runLongTests", "true"));
+	}
+
+	@AfterClass
+	public static void cleanUp() {
+		ConnectionFactoryTracker.cleanUp();
+	}
+
+	@Test
+	public void autoBatchingShouldServeConcurrentCommandsCorrectly() throws Exception {
+
+		long unbatched = run(false);
+		long batched = run(true);
+
+		LOG.info(String.format("%s threads x %s commands: %s ops/s unbatched, %s ops/s auto batched.", THREADS,
+				OPERATIONS_PER_THREAD, unbatched, batched));
+	}
+
+	/**
+	 * Run {@link #OPERATIONS_PER_THREAD} {@code SET} / {@code GET} pairs per thread on a shared native connection.
+	 *
+	 * @param autoBatching
+	 * @return operations per second.
+	 */
+	private long run(boolean autoBatching) throws Exception {
+
+		final LettuceConnectionFactory factory = new LettuceConnectionFactory(SettingsUtils.getHost(),
+				SettingsUtils.getPort());
+		factory.setClientResources(LettuceTestClientResources.getSharedClientResources());
+		factory.setShutdownTimeout(0);
+		factory.setAutoBatching(autoBatching);
+		factory.afterPropertiesSet();
+
+		ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+		final CountDownLatch start = new CountDownLatch(1);
+
+		try {
+
+			List<Future<Void>> futures = new ArrayList<Future<Void>>();
+			for (int thread = 0; thread < THREADS; thread++) {
+
+				final String prefix = "auto-batching:" + autoBatching + ":" + thread + ":";
+				futures.add(executor.submit(new Callable<Void>() {
+
+					@Override
+					public Void call() throws Exception {
+
+						RedisConnection connection = factory.getConnection();
+						start.await();
+
+						try {
+							for (int i = 0; i < OPERATIONS_PER_THREAD; i++) {
+
+								byte[] key = (prefix + i).getBytes();
+								connection.set(key, key);
+								assertThat(connection.get(key), is(key));
+							}
+						} finally {
+
+							Set<byte[]> keys = connection.keys((prefix + "*").getBytes());
+							if (!keys.isEmpty()) {
+								connection.del(keys.toArray(new byte[keys.size()][]));
+							}
+							connection.close();
+						}
+						return null;
+					}
+				}));
+			}
+
+			long startedAt = System.nanoTime();
+			start.countDown();
+
+			for (Future<Void> future : futures) {
+				future.get(1, TimeUnit.MINUTES);
+			}
+
+			long elapsed = System.nanoTime() - startedAt;
+			return TimeUnit.SECONDS.toNanos(1) * THREADS * OPERATIONS_PER_THREAD * 2 / Math.max(elapsed, 1);
+		} finally {
+
+			executor.shutdownNow();
+			factory.destroy();
+		}
+	}
+}
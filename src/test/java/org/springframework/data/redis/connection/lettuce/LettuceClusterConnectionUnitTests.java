@@ -28,17 +28,22 @@ import java.io.IOException;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
+import org.springframework.data.redis.connection.ClusterCommandExecutionFailureException;
 import org.springframework.data.redis.connection.ClusterCommandExecutor;
 import org.springframework.data.redis.connection.ClusterNodeResourceProvider;
 import org.springframework.data.redis.connection.RedisClusterCommands.AddSlots;
 import org.springframework.data.redis.connection.RedisClusterNode;
 
+import com.lambdaworks.redis.RedisException;
+import com.lambdaworks.redis.RedisFuture;
 import com.lambdaworks.redis.RedisURI;
 import com.lambdaworks.redis.cluster.RedisClusterClient;
 import com.lambdaworks.redis.cluster.api.async.RedisClusterAsyncCommands;
@@ -68,6 +73,9 @@ public class LettuceClusterConnectionUnitTests {
 	@Mock RedisClusterCommands<byte[], byte[]> clusterConnection1Mock;
 	@Mock RedisClusterCommands<byte[], byte[]> clusterConnection2Mock;
 	@Mock RedisClusterCommands<byte[], byte[]> clusterConnection3Mock;
+	@Mock RedisClusterAsyncCommands<byte[], byte[]> asyncClusterConnection1Mock;
+	@Mock RedisClusterAsyncCommands<byte[], byte[]> asyncClusterConnection2Mock;
+	@Mock RedisClusterAsyncCommands<byte[], byte[]> asyncClusterConnection3Mock;
 
 	LettuceClusterConnection connection;
 
@@ -115,6 +123,15 @@ public class LettuceClusterConnectionUnitTests {
 				return dedicatedConnectionMock;
 			}
 
+			@Override
+			protected RedisClusterAsyncCommands<byte[], byte[]> getAsyncNodeConnection(RedisClusterNode node) {
+
+				if (node.equals(CLUSTER_NODE_1)) {
+					return asyncClusterConnection1Mock;
+				}
+				return node.equals(CLUSTER_NODE_2) ? asyncClusterConnection2Mock : asyncClusterConnection3Mock;
+			}
+
 			@Override
 			public List<RedisClusterNode> clusterGetNodes() {
 				return Arrays.asList(CLUSTER_NODE_1, CLUSTER_NODE_2, CLUSTER_NODE_3);
@@ -183,19 +200,49 @@ public class LettuceClusterConnectionUnitTests {
 	}
 
 	@Test // DATAREDIS-315
-	public void keysShouldBeRunOnAllClusterNodes() {
+	public void keysShouldBeRunOnAllClusterNodes() throws Exception {
 
-		when(clusterConnection1Mock.keys(any(byte[].class))).thenReturn(Collections.<byte[]>emptyList());
-		when(clusterConnection2Mock.keys(any(byte[].class))).thenReturn(Collections.<byte[]>emptyList());
-		when(clusterConnection3Mock.keys(any(byte[].class))).thenReturn(Collections.<byte[]>emptyList());
+		RedisFuture<List<byte[]>> noKeys = completedFuture(Collections.<byte[]> emptyList());
+		when(asyncClusterConnection1Mock.keys(any(byte[].class))).thenReturn(noKeys);
+		when(asyncClusterConnection2Mock.keys(any(byte[].class))).thenReturn(noKeys);
+		when(asyncClusterConnection3Mock.keys(any(byte[].class))).thenReturn(noKeys);
 
 		byte[] pattern = LettuceConverters.toBytes("*");
 
 		connection.keys(pattern);
 
-		verify(clusterConnection1Mock, times(1)).keys(pattern);
-		verify(clusterConnection2Mock, times(1)).keys(pattern);
-		verify(clusterConnection3Mock, times(1)).keys(pattern);
+		verify(asyncClusterConnection1Mock, times(1)).keys(pattern);
+		verify(asyncClusterConnection2Mock, times(1)).keys(pattern);
+		verify(asyncClusterConnection3Mock, times(1)).keys(pattern);
+		verifyZeroInteractions(clusterConnection1Mock, clusterConnection2Mock, clusterConnection3Mock);
+	}
+
+	@Test
+	public void dbSizeShouldSumUpRepliesOfAllNodes() throws Exception {
+
+		RedisFuture<Long> dbSize1 = completedFuture(1L);
+		RedisFuture<Long> dbSize2 = completedFuture(2L);
+		RedisFuture<Long> dbSize3 = completedFuture(3L);
+		when(asyncClusterConnection1Mock.dbsize()).thenReturn(dbSize1);
+		when(asyncClusterConnection2Mock.dbsize()).thenReturn(dbSize2);
+		when(asyncClusterConnection3Mock.dbsize()).thenReturn(dbSize3);
+
+		assertThat(connection.dbSize(), is(6L));
+	}
+
+	@Test(expected = ClusterCommandExecutionFailureException.class)
+	public void flushDbShouldFailWhenNodeFails() throws Exception {
+
+		RedisFuture<String> ok = completedFuture("OK");
+		@SuppressWarnings("unchecked")
+		RedisFuture<String> failed = mock(RedisFuture.class);
+		when(failed.get(anyLong(), any(TimeUnit.class))).thenThrow(new ExecutionException(new RedisException("o.O")));
+
+		when(asyncClusterConnection1Mock.flushdb()).thenReturn(ok);
+		when(asyncClusterConnection2Mock.flushdb()).thenReturn(failed);
+		when(asyncClusterConnection3Mock.flushdb()).thenReturn(ok);
+
+		connection.flushDb();
 	}
 
 	@Test // DATAREDIS-315
@@ -347,4 +394,11 @@ public class LettuceClusterConnectionUnitTests {
 		verify(clusterConnection1Mock, never()).configResetstat();
 	}
 
+	@SuppressWarnings("unchecked")
+	private static <T> RedisFuture<T> completedFuture(T value) throws Exception {
+
+		RedisFuture<T> future = mock(RedisFuture.class);
+		when(future.get(anyLong(), any(TimeUnit.class))).thenReturn(value);
+		return future;
+	}
 }
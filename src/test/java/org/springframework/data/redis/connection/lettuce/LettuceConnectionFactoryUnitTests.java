@@ -18,7 +18,10 @@ package org.springframework.data.redis.connection.lettuce;
 import static org.hamcrest.core.Is.*;
 import static org.hamcrest.core.IsEqual.*;
 import static org.hamcrest.core.IsInstanceOf.*;
+import static org.hamcrest.core.IsNot.*;
+import static org.hamcrest.core.IsSame.*;
 import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
 import static org.springframework.data.redis.connection.ClusterTestVariables.*;
 import static org.springframework.data.redis.connection.lettuce.LettuceTestClientResources.*;
 import static org.springframework.test.util.ReflectionTestUtils.*;
@@ -33,11 +36,14 @@ import org.springframework.data.redis.ConnectionFactoryTracker;
 import org.springframework.data.redis.connection.RedisClusterConfiguration;
 import org.springframework.data.redis.connection.RedisClusterConnection;
 import org.springframework.data.redis.connection.RedisSentinelConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory.SharedConnectionAssignment;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import com.lambdaworks.redis.AbstractRedisClient;
 import com.lambdaworks.redis.RedisClient;
 import com.lambdaworks.redis.RedisURI;
+import com.lambdaworks.redis.api.StatefulRedisConnection;
+import com.lambdaworks.redis.api.sync.RedisCommands;
 import com.lambdaworks.redis.cluster.RedisClusterClient;
 
 
@@ -293,4 +299,95 @@ public class LettuceConnectionFactoryUnitTests {
 
 		clusterConnection.close();
 	}
+
+	@Test
+	public void roundRobinShouldSpreadSharedConnectionsAcrossStripes() {
+
+		LettuceConnectionFactory connectionFactory = new StubbedConnectorLettuceConnectionFactory();
+		connectionFactory.setSharedConnectionCount(2);
+
+		StatefulRedisConnection<byte[], byte[]> first = connectionFactory.getSharedConnection();
+		StatefulRedisConnection<byte[], byte[]> second = connectionFactory.getSharedConnection();
+
+		assertThat(first, is(not(sameInstance(second))));
+		assertThat(connectionFactory.getSharedConnection(), is(sameInstance(first)));
+	}
+
+	@Test
+	public void threadAffineShouldAlwaysReturnSameSharedConnectionForThread() {
+
+		LettuceConnectionFactory connectionFactory = new StubbedConnectorLettuceConnectionFactory();
+		connectionFactory.setSharedConnectionCount(4);
+		connectionFactory.setSharedConnectionAssignment(SharedConnectionAssignment.THREAD_AFFINE);
+
+		StatefulRedisConnection<byte[], byte[]> connection = connectionFactory.getSharedConnection();
+
+		assertThat(connectionFactory.getSharedConnection(), is(sameInstance(connection)));
+		assertThat(connectionFactory.getSharedConnection(), is(sameInstance(connection)));
+	}
+
+	@Test
+	public void validateConnectionShouldOnlyReplaceInvalidSharedConnection() {
+
+		LettuceConnectionFactory connectionFactory = new StubbedConnectorLettuceConnectionFactory();
+		connectionFactory.setSharedConnectionCount(2);
+
+		StatefulRedisConnection<byte[], byte[]> valid = connectionFactory.getSharedConnection();
+		StatefulRedisConnection<byte[], byte[]> invalid = connectionFactory.getSharedConnection();
+		when(valid.isOpen()).thenReturn(true);
+		when(invalid.isOpen()).thenReturn(false);
+
+		connectionFactory.validateConnection();
+
+		verify(valid, never()).close();
+		verify(invalid).close();
+		assertThat(connectionFactory.getSharedConnection(), is(sameInstance(valid)));
+		assertThat(connectionFactory.getSharedConnection(), is(not(sameInstance(invalid))));
+	}
+
+	@Test
+	public void healthCheckShouldReplaceBrokenSharedConnectionInBackground() {
+
+		LettuceConnectionFactory connectionFactory = new StubbedConnectorLettuceConnectionFactory();
+		connectionFactory.setClientResources(getSharedClientResources());
+		connectionFactory.setHealthCheckInterval(10);
+		connectionFactory.afterPropertiesSet();
+		ConnectionFactoryTracker.add(connectionFactory);
+
+		StatefulRedisConnection<byte[], byte[]> broken = connectionFactory.getSharedConnection();
+		when(broken.isOpen()).thenReturn(false);
+
+		verify(broken, timeout(1000)).close();
+		assertThat(connectionFactory.getSharedConnection(), is(not(sameInstance(broken))));
+	}
+
+	@Test
+	public void getSharedConnectionShouldNotValidateWhenHealthCheckEnabled() {
+
+		LettuceConnectionFactory connectionFactory = new StubbedConnectorLettuceConnectionFactory();
+		connectionFactory.setValidateConnection(true);
+		connectionFactory.setHealthCheckInterval(60000);
+
+		StatefulRedisConnection<byte[], byte[]> connection = connectionFactory.getSharedConnection();
+		connectionFactory.getSharedConnection();
+
+		verify(connection, never()).isOpen();
+		verify(connection.sync(), never()).ping();
+	}
+
+	/**
+	 * {@link LettuceConnectionFactory} creating mocked native connections.
+	 */
+	static class StubbedConnectorLettuceConnectionFactory extends LettuceConnectionFactory {
+
+		@Override
+		@SuppressWarnings("unchecked")
+		protected StatefulRedisConnection<byte[], byte[]> createLettuceConnector() {
+
+			StatefulRedisConnection<byte[], byte[]> connection = mock(StatefulRedisConnection.class);
+			RedisCommands<byte[], byte[]> sync = mock(RedisCommands.class);
+			when(connection.sync()).thenReturn(sync);
+			return connection;
+		}
+	}
 }
@@ -15,14 +15,17 @@
  */
 package org.springframework.data.redis.core;
 
+import static org.hamcrest.core.Is.*;
 import static org.hamcrest.core.IsCollectionContaining.*;
 import static org.junit.Assert.*;
 import static org.mockito.Matchers.*;
 import static org.mockito.Mockito.*;
 
+import java.io.IOException;
 import java.nio.charset.Charset;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.LinkedHashSet;
 
 import org.junit.Before;
@@ -30,7 +33,9 @@ import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
+import org.mockito.invocation.InvocationOnMock;
 import org.mockito.runners.MockitoJUnitRunner;
+import org.mockito.stubbing.Answer;
 import org.springframework.core.convert.converter.Converter;
 import org.springframework.core.convert.support.GenericConversionService;
 import org.springframework.dao.InvalidDataAccessApiUsageException;
@@ -68,6 +73,33 @@ public class IndexWriterUnitTests {
 		converter.afterPropertiesSet();
 
 		writer = new IndexWriter(connectionMock, converter);
+
+		Cursor<byte[]> cursor = cursorOf();
+		when(connectionMock.scan(any(ScanOptions.class))).thenReturn(cursor);
+	}
+
+	@SuppressWarnings("unchecked")
+	private static Cursor<byte[]> cursorOf(byte[]... keys) {
+
+		final Iterator<byte[]> iterator = Arrays.asList(keys).iterator();
+		Cursor<byte[]> cursor = mock(Cursor.class);
+
+		when(cursor.hasNext()).thenAnswer(new Answer<Boolean>() {
+
+			@Override
+			public Boolean answer(InvocationOnMock invocation) throws Throwable {
+				return iterator.hasNext();
+			}
+		});
+		when(cursor.next()).thenAnswer(new Answer<byte[]>() {
+
+			@Override
+			public byte[] answer(InvocationOnMock invocation) throws Throwable {
+				return iterator.next();
+			}
+		});
+
+		return cursor;
 	}
 
 	@Test // DATAREDIS-425
@@ -90,8 +122,38 @@ public class IndexWriterUnitTests {
 
 		writer.removeKeyFromExistingIndexes(KEY_BIN, new StubIndxedData());
 
+		ArgumentCaptor<ScanOptions> captor = ArgumentCaptor.forClass(ScanOptions.class);
+
+		verify(connectionMock).scan(captor.capture());
+		verify(connectionMock, never()).keys(any(byte[].class));
+		verify(connectionMock, never()).sRem(any(byte[].class), any(byte[].class));
+		assertThat(captor.getValue().getBytePattern(), is(("persons:address.city:*").getBytes(CHARSET)));
+	}
+
+	@Test
+	public void removeKeyFromExistingIndexesShouldUseKeysWhilePipelining() {
+
+		byte[] indexKey = "persons:firstname:rand".getBytes(CHARSET);
+
+		when(connectionMock.isPipelined()).thenReturn(true);
+		when(connectionMock.keys(any(byte[].class))).thenReturn(new LinkedHashSet<byte[]>(Arrays.asList(indexKey)));
+
+		writer.removeKeyFromExistingIndexes(KEY_BIN, new StubIndxedData());
+
 		verify(connectionMock).keys(eq(("persons:address.city:*").getBytes(CHARSET)));
-		verifyNoMoreInteractions(connectionMock);
+		verify(connectionMock, never()).scan(any(ScanOptions.class));
+		verify(connectionMock).sRem(indexKey, KEY_BIN);
+	}
+
+	@Test
+	public void removeKeyFromExistingIndexesShouldCloseCursor() throws IOException {
+
+		Cursor<byte[]> cursor = cursorOf("persons:firstname:rand".getBytes(CHARSET));
+		when(connectionMock.scan(any(ScanOptions.class))).thenReturn(cursor);
+
+		writer.removeKeyFromExistingIndexes(KEY_BIN, new StubIndxedData());
+
+		verify(cursor).close();
 	}
 
 	@Test // DATAREDIS-425
@@ -100,8 +162,8 @@ public class IndexWriterUnitTests {
 		byte[] indexKey1 = "persons:firstname:rand".getBytes(CHARSET);
 		byte[] indexKey2 = "persons:firstname:mat".getBytes(CHARSET);
 
-		when(connectionMock.keys(any(byte[].class)))
-				.thenReturn(new LinkedHashSet<byte[]>(Arrays.asList(indexKey1, indexKey2)));
+		Cursor<byte[]> cursor = cursorOf(indexKey1, indexKey2);
+		when(connectionMock.scan(any(ScanOptions.class))).thenReturn(cursor);
 
 		writer.removeKeyFromExistingIndexes(KEY_BIN, new StubIndxedData());
 
@@ -120,8 +182,8 @@ public class IndexWriterUnitTests {
 		byte[] indexKey1 = "persons:firstname:rand".getBytes(CHARSET);
 		byte[] indexKey2 = "persons:firstname:mat".getBytes(CHARSET);
 
-		when(connectionMock.keys(any(byte[].class)))
-				.thenReturn(new LinkedHashSet<byte[]>(Arrays.asList(indexKey1, indexKey2)));
+		Cursor<byte[]> cursor = cursorOf(indexKey1, indexKey2);
+		when(connectionMock.scan(any(ScanOptions.class))).thenReturn(cursor);
 
 		writer.removeAllIndexes(KEYSPACE);
 
@@ -159,8 +221,8 @@ public class IndexWriterUnitTests {
 	@Test // DATAREDIS-512
 	public void createIndexShouldNotTryToRemoveExistingValues() {
 
-		when(connectionMock.keys(any(byte[].class)))
-				.thenReturn(new LinkedHashSet<byte[]>(Arrays.asList("persons:firstname:rand".getBytes(CHARSET))));
+		Cursor<byte[]> cursor = cursorOf("persons:firstname:rand".getBytes(CHARSET));
+		when(connectionMock.scan(any(ScanOptions.class))).thenReturn(cursor);
 
 		writer.createIndexes(KEY_BIN,
 				Collections.<IndexedData> singleton(new SimpleIndexedPropertyValue(KEYSPACE, "firstname", "Rand")));
@@ -174,8 +236,8 @@ public class IndexWriterUnitTests {
 	@Test // DATAREDIS-512
 	public void updateIndexShouldRemoveExistingValues() {
 
-		when(connectionMock.keys(any(byte[].class)))
-				.thenReturn(new LinkedHashSet<byte[]>(Arrays.asList("persons:firstname:rand".getBytes(CHARSET))));
+		Cursor<byte[]> cursor = cursorOf("persons:firstname:rand".getBytes(CHARSET));
+		when(connectionMock.scan(any(ScanOptions.class))).thenReturn(cursor);
 
 		writer.updateIndexes(KEY_BIN,
 				Collections.<IndexedData> singleton(new SimpleIndexedPropertyValue(KEYSPACE, "firstname", "Rand")));
@@ -191,7 +253,8 @@ public class IndexWriterUnitTests {
 
 		byte[] indexKey1 = "persons:location".getBytes(CHARSET);
 
-		when(connectionMock.keys(any(byte[].class))).thenReturn(new LinkedHashSet<byte[]>(Arrays.asList(indexKey1)));
+		Cursor<byte[]> cursor = cursorOf(indexKey1);
+		when(connectionMock.scan(any(ScanOptions.class))).thenReturn(cursor);
 
 		writer.removeKeyFromExistingIndexes(KEY_BIN, new GeoIndexedPropertyValue(KEYSPACE, "address.city", null));
 
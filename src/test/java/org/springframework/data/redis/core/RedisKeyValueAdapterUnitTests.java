@@ -25,6 +25,8 @@ import static org.springframework.test.util.ReflectionTestUtils.*;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.atomic.AtomicReference;
 
 import org.junit.After;
@@ -184,6 +186,31 @@ public class RedisKeyValueAdapterUnitTests {
 		assertThat(listener, nullValue());
 	}
 
+	@Test
+	public void getAllOfShouldReadHashesInPipelinedBatches() {
+
+		adapter.setHydrationBatchSize(2);
+
+		when(redisConnectionMock.sMembers(org.mockito.Matchers.any(byte[].class)))
+				.thenReturn(new LinkedHashSet<byte[]>(Arrays.asList("1".getBytes(), "2".getBytes(), "3".getBytes())));
+		when(redisConnectionMock.closePipeline()).thenReturn(Arrays.<Object> asList(hash(), hash()),
+				Arrays.<Object> asList(hash()));
+
+		List<?> result = adapter.getAllOf("keyspace");
+
+		assertThat(result.size(), is(3));
+		assertThat(result.get(0), instanceOf(WithoutTimeToLive.class));
+		assertThat(((WithoutTimeToLive) result.get(2)).id, is("3"));
+		verify(redisConnectionMock, times(2)).openPipeline();
+		verify(redisConnectionMock, times(3)).hGetAll(org.mockito.Matchers.any(byte[].class));
+		verify(redisConnectionMock).hGetAll("keyspace:2".getBytes());
+	}
+
+	private static Map<byte[], byte[]> hash() {
+		return Bucket.newBucketFromStringMap(Collections.singletonMap("_class", WithoutTimeToLive.class.getName()))
+				.rawMap();
+	}
+
 	static class WithoutTimeToLive {
 		@Id String id;
 	}
@@ -0,0 +1,262 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.core;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.*;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.Direction;
+import org.springframework.data.keyvalue.core.query.KeyValueQuery;
+import org.springframework.data.redis.connection.RedisClusterConnection;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisZSetCommands.Limit;
+import org.springframework.data.redis.connection.RedisZSetCommands.Range;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.connection.SortParameters;
+import org.springframework.data.redis.core.convert.Bucket;
+import org.springframework.data.redis.core.convert.KeyspaceConfiguration;
+import org.springframework.data.redis.core.convert.MappingConfiguration;
+import org.springframework.data.redis.core.index.IndexConfiguration;
+import org.springframework.data.redis.core.index.SortingIndexDefinition;
+import org.springframework.data.redis.core.mapping.RedisMappingContext;
+import org.springframework.data.redis.repository.query.RedisOperationChain;
+
+/**
+ * Unit tests for {@link RedisQueryEngine}.
+ *
+ * @author agent
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class RedisQueryEngineUnitTests {
+
+	RedisKeyValueAdapter adapter;
+	@Mock RedisConnectionFactory connectionFactoryMock;
+	@Mock RedisConnection connectionMock;
+	@Mock RedisClusterConnection clusterConnectionMock;
+
+	@Before
+	public void setUp() {
+
+		RedisTemplate<Object, Object> template = new RedisTemplate<Object, Object>();
+		template.setConnectionFactory(connectionFactoryMock);
+		template.afterPropertiesSet();
+
+		IndexConfiguration indexConfiguration = new IndexConfiguration();
+		indexConfiguration.addIndexDefinition(new SortingIndexDefinition("persons", "age"));
+
+		RedisMappingContext context = new RedisMappingContext(
+				new MappingConfiguration(indexConfiguration, new KeyspaceConfiguration()));
+		context.afterPropertiesSet();
+
+		adapter = new RedisKeyValueAdapter(template, context);
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		adapter.destroy();
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void findShouldCombineIndexesWithinRedis() {
+
+		when(connectionFactoryMock.getConnection()).thenReturn(connectionMock);
+		when(connectionMock.evalSha(anyString(), eq(ReturnType.MULTI), eq(2), (byte[][]) anyVararg()))
+				.thenReturn(Arrays.<Object> asList("1".getBytes()));
+		when(connectionMock.closePipeline()).thenReturn(Arrays.<Object> asList(hash()));
+
+		List<?> result = (List<?>) adapter.find(query(), "persons", Person.class);
+
+		assertThat(result.size(), is(1));
+		assertThat(((Person) result.get(0)).id, is("1"));
+		verify(connectionMock, never()).eval(any(byte[].class), any(ReturnType.class), anyInt(), (byte[][]) anyVararg());
+		verify(connectionMock, never()).sInter((byte[][]) anyVararg());
+		verify(connectionMock, never()).zRangeByScore(any(byte[].class), any(Range.class));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void findShouldSendScriptWhenNotCachedByRedis() {
+
+		when(connectionFactoryMock.getConnection()).thenReturn(connectionMock);
+		when(connectionMock.evalSha(anyString(), eq(ReturnType.MULTI), eq(2), (byte[][]) anyVararg()))
+				.thenThrow(new InvalidDataAccessApiUsageException("NOSCRIPT No matching script. Please use EVAL."));
+		when(connectionMock.eval(any(byte[].class), eq(ReturnType.MULTI), eq(2), (byte[][]) anyVararg()))
+				.thenReturn(Arrays.<Object> asList("1".getBytes()));
+		when(connectionMock.closePipeline()).thenReturn(Arrays.<Object> asList(hash()));
+
+		List<?> result = (List<?>) adapter.find(query(), "persons", Person.class);
+
+		assertThat(result.size(), is(1));
+		assertThat(((Person) result.get(0)).id, is("1"));
+	}
+
+	@Test(expected = InvalidDataAccessApiUsageException.class)
+	@SuppressWarnings("unchecked")
+	public void findShouldNotRetryWithScriptOnOtherErrors() {
+
+		when(connectionFactoryMock.getConnection()).thenReturn(connectionMock);
+		when(connectionMock.evalSha(anyString(), eq(ReturnType.MULTI), eq(2), (byte[][]) anyVararg()))
+				.thenThrow(new InvalidDataAccessApiUsageException("WRONGTYPE Operation against a key holding the wrong kind"));
+
+		try {
+			adapter.find(query(), "persons", Person.class);
+		} finally {
+			verify(connectionMock, never()).eval(any(byte[].class), any(ReturnType.class), anyInt(),
+					(byte[][]) anyVararg());
+		}
+	}
+
+	@Test
+	public void findShouldCombineIndexesClientSideForClusterConnection() {
+
+		when(connectionFactoryMock.getConnection()).thenReturn(clusterConnectionMock);
+		when(clusterConnectionMock.sInter((byte[][]) anyVararg()))
+				.thenReturn(new LinkedHashSet<byte[]>(Arrays.asList("1".getBytes(), "2".getBytes())));
+		when(clusterConnectionMock.zRangeByScore(any(byte[].class), any(Range.class)))
+				.thenReturn(new LinkedHashSet<byte[]>(Arrays.asList("2".getBytes(), "3".getBytes())));
+		when(clusterConnectionMock.closePipeline()).thenReturn(Arrays.<Object> asList(hash()));
+
+		List<?> result = (List<?>) adapter.find(query(), "persons", Person.class);
+
+		assertThat(result.size(), is(1));
+		assertThat(((Person) result.get(0)).id, is("2"));
+		verify(clusterConnectionMock).hGetAll("persons:2".getBytes());
+		verify(clusterConnectionMock, never()).eval(any(byte[].class), any(ReturnType.class), anyInt(),
+				(byte[][]) anyVararg());
+		verify(clusterConnectionMock, never()).evalSha(anyString(), any(ReturnType.class), anyInt(),
+				(byte[][]) anyVararg());
+	}
+
+	@Test
+	public void findAllSortedShouldReadPageFromSortingIndex() {
+
+		when(connectionFactoryMock.getConnection()).thenReturn(connectionMock);
+		when(connectionMock.zCard("persons:age".getBytes())).thenReturn(100L);
+		when(connectionMock.sCard("persons".getBytes())).thenReturn(100L);
+		when(connectionMock.zRevRange("persons:age".getBytes(), 10, 14))
+				.thenReturn(new LinkedHashSet<byte[]>(Arrays.asList("1".getBytes())));
+		when(connectionMock.closePipeline()).thenReturn(Arrays.<Object> asList(hash()));
+
+		KeyValueQuery<RedisOperationChain> query = new KeyValueQuery<RedisOperationChain>(
+				new Sort(Direction.DESC, "age"));
+		query.setOffset(10);
+		query.setRows(5);
+
+		List<?> result = (List<?>) adapter.find(query, "persons", Person.class);
+
+		assertThat(result.size(), is(1));
+		verify(connectionMock).hGetAll("persons:1".getBytes());
+		verify(connectionMock, never()).sMembers(any(byte[].class));
+	}
+
+	@Test
+	public void findAllPagedShouldOnlyReadIdsOfPage() {
+
+		when(connectionFactoryMock.getConnection()).thenReturn(connectionMock);
+		when(connectionMock.sort(eq("persons".getBytes()), any(SortParameters.class)))
+				.thenReturn(Arrays.asList("1".getBytes()));
+		when(connectionMock.closePipeline()).thenReturn(Arrays.<Object> asList(hash()));
+
+		KeyValueQuery<RedisOperationChain> query = new KeyValueQuery<RedisOperationChain>();
+		query.setOffset(10);
+		query.setRows(5);
+
+		List<?> result = (List<?>) adapter.find(query, "persons", Person.class);
+
+		assertThat(result.size(), is(1));
+		verify(connectionMock, never()).sMembers(any(byte[].class));
+	}
+
+	@Test
+	public void findAllPagedShouldFallBackToSetMembersWhenSortIsRejected() {
+
+		when(connectionFactoryMock.getConnection()).thenReturn(connectionMock);
+		when(connectionMock.sort(eq("persons".getBytes()), any(SortParameters.class)))
+				.thenThrow(new InvalidDataAccessApiUsageException("READONLY You can't write against a read only slave."));
+		when(connectionMock.sMembers("persons".getBytes())).thenReturn(
+				new LinkedHashSet<byte[]>(Arrays.asList("1".getBytes(), "2".getBytes(), "3".getBytes())));
+		when(connectionMock.closePipeline()).thenReturn(Arrays.<Object> asList(hash()));
+
+		KeyValueQuery<RedisOperationChain> query = new KeyValueQuery<RedisOperationChain>();
+		query.setOffset(1);
+		query.setRows(1);
+
+		List<?> result = (List<?>) adapter.find(query, "persons", Person.class);
+
+		assertThat(result.size(), is(1));
+		verify(connectionMock).hGetAll("persons:2".getBytes());
+		verify(connectionMock, never()).hGetAll("persons:1".getBytes());
+	}
+
+	@Test
+	public void findByRangeSortedByIndexedPropertyShouldPageWithinSortingIndex() {
+
+		when(connectionFactoryMock.getConnection()).thenReturn(connectionMock);
+		when(connectionMock.zRangeByScore(eq("persons:age".getBytes()), any(Range.class), any(Limit.class)))
+				.thenReturn(new LinkedHashSet<byte[]>(Arrays.asList("1".getBytes())));
+		when(connectionMock.closePipeline()).thenReturn(Arrays.<Object> asList(hash()));
+
+		RedisOperationChain chain = new RedisOperationChain();
+		chain.sismember("age", new Range().gte(18));
+
+		KeyValueQuery<RedisOperationChain> query = new KeyValueQuery<RedisOperationChain>(chain);
+		query.setSort(new Sort(Direction.ASC, "age"));
+		query.setOffset(20);
+		query.setRows(10);
+
+		List<?> result = (List<?>) adapter.find(query, "persons", Person.class);
+
+		assertThat(result.size(), is(1));
+		verify(connectionMock, never()).eval(any(byte[].class), any(ReturnType.class), anyInt(), (byte[][]) anyVararg());
+		verify(connectionMock, never()).evalSha(anyString(), any(ReturnType.class), anyInt(), (byte[][]) anyVararg());
+	}
+
+	private static KeyValueQuery<RedisOperationChain> query() {
+
+		RedisOperationChain chain = new RedisOperationChain();
+		chain.sismember("firstname", "rand");
+		chain.sismember("age", new Range().gte(18));
+
+		return new KeyValueQuery<RedisOperationChain>(chain);
+	}
+
+	private static Map<byte[], byte[]> hash() {
+		return Bucket.newBucketFromStringMap(Collections.singletonMap("_class", Person.class.getName())).rawMap();
+	}
+
+	static class Person {
+		@Id String id;
+	}
+}
@@ -27,9 +27,12 @@ import java.io.Serializable;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
 import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.ReadPolicy;
+import org.springframework.data.redis.connection.RedisClusterConnection;
 import org.springframework.data.redis.connection.RedisConnection;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.serializer.JdkSerializationRedisSerializer;
@@ -97,6 +100,22 @@ public class RedisTemplateUnitTests {
 		verify(redisConnectionMock, never()).close();
 	}
 
+	@Test
+	public void executeShouldRestoreReadPolicyOfClusterConnectionWhenDone() {
+
+		RedisClusterConnection clusterConnectionMock = mock(RedisClusterConnection.class);
+		when(clusterConnectionMock.getReadPolicy()).thenReturn(ReadPolicy.MASTER);
+		when(connectionFactoryMock.getConnection()).thenReturn(clusterConnectionMock);
+
+		template.setReadPolicy(ReadPolicy.REPLICA_PREFERRED);
+		template.execute(new CapturingCallback());
+
+		InOrder inOrder = inOrder(clusterConnectionMock);
+		inOrder.verify(clusterConnectionMock).setReadPolicy(ReadPolicy.REPLICA_PREFERRED);
+		inOrder.verify(clusterConnectionMock).setReadPolicy(ReadPolicy.MASTER);
+		inOrder.verify(clusterConnectionMock).close();
+	}
+
 	static class SomeArbitrarySerializableObject implements Serializable {
 		private static final long serialVersionUID = -5973659324040506423L;
 	}
@@ -19,6 +19,7 @@ import static org.hamcrest.Matchers.*;
 import static org.junit.Assert.*;
 
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -32,6 +33,7 @@ import org.springframework.data.annotation.Reference;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort.Direction;
 import org.springframework.data.geo.Distance;
 import org.springframework.data.geo.Metrics;
 import org.springframework.data.geo.Point;
@@ -43,6 +45,7 @@ import org.springframework.data.redis.core.index.IndexConfiguration;
 import org.springframework.data.redis.core.index.IndexDefinition;
 import org.springframework.data.redis.core.index.Indexed;
 import org.springframework.data.redis.core.index.SimpleIndexDefinition;
+import org.springframework.data.redis.core.index.SortingIndexDefinition;
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.data.repository.PagingAndSortingRepository;
 
@@ -345,6 +348,148 @@ public abstract class RedisRepositoryIntegrationTestBase {
 		assertThat(result, not(hasItems(p1)));
 	}
 
+	@Test
+	public void findByEqualityAndRangeShouldIntersectIndexes() {
+
+		Person eddard = person("eddard", "stark", 35);
+		Person robb = person("robb", "stark", 16);
+		Person bran = person("bran", "stark", 10);
+		Person jaime = person("jaime", "lannister", 17);
+
+		repo.save(Arrays.asList(eddard, robb, bran, jaime));
+
+		List<Person> result = repo.findByLastnameAndAgeBetween("stark", 10, 20);
+
+		assertThat(result, hasSize(2));
+		assertThat(result, containsInAnyOrder(robb, bran));
+	}
+
+	@Test
+	public void findByRangeOrEqualityShouldUnionGroups() {
+
+		Person eddard = person("eddard", "stark", 35);
+		Person robb = person("robb", "stark", 16);
+		Person jon = person("jon", "snow", 16);
+		Person jaime = person("jaime", "lannister", 40);
+
+		repo.save(Arrays.asList(eddard, robb, jon, jaime));
+
+		List<Person> result = repo.findByLastnameAndAgeGreaterThanOrFirstname("stark", 20, "jon");
+
+		assertThat(result, hasSize(2));
+		assertThat(result, containsInAnyOrder(eddard, jon));
+	}
+
+	@Test
+	public void findByRangeShouldExcludeExclusiveBounds() {
+
+		Person eddard = person("eddard", "stark", 35);
+		Person robb = person("robb", "stark", 16);
+		Person bran = person("bran", "stark", 10);
+		Person rickon = person("rickon", "stark", 6);
+
+		repo.save(Arrays.asList(eddard, robb, bran, rickon));
+
+		assertThat(repo.findByLastnameAndAgeGreaterThanAndAgeLessThan("stark", 6, 35), containsInAnyOrder(robb, bran));
+		assertThat(repo.findByLastnameAndAgeGreaterThanAndAgeLessThan("stark", 10, 16), is(empty()));
+		assertThat(repo.findByLastnameAndAgeGreaterThanEqualAndAgeLessThanEqual("stark", 10, 16),
+				containsInAnyOrder(robb, bran));
+	}
+
+	@Test
+	public void findByEqualityAndRangeShouldReturnDistinctPages() {
+
+		Person eddard = person("eddard", "stark", 35);
+		Person robb = person("robb", "stark", 16);
+		Person sansa = person("sansa", "stark", 13);
+		Person arya = person("arya", "stark", 11);
+		Person bran = person("bran", "stark", 10);
+		Person rickon = person("rickon", "stark", 6);
+		Person jaime = person("jaime", "lannister", 17);
+
+		repo.save(Arrays.asList(eddard, robb, sansa, arya, bran, rickon, jaime));
+
+		List<Person> page1 = repo.findByLastnameAndAgeGreaterThanEqual("stark", 10, new PageRequest(0, 3));
+		List<Person> page2 = repo.findByLastnameAndAgeGreaterThanEqual("stark", 10, new PageRequest(1, 3));
+		List<Person> page3 = repo.findByLastnameAndAgeGreaterThanEqual("stark", 10, new PageRequest(2, 3));
+
+		assertThat(page1, hasSize(3));
+		assertThat(page2, hasSize(2));
+		assertThat(page3, is(empty()));
+
+		List<Person> all = new ArrayList<Person>(page1);
+		all.addAll(page2);
+		assertThat(all, containsInAnyOrder(eddard, robb, sansa, arya, bran));
+	}
+
+	@Test
+	public void findAllSortedByIndexedPropertyShouldPageInOrder() {
+
+		Person eddard = person("eddard", "stark", 35);
+		Person robb = person("robb", "stark", 16);
+		Person sansa = person("sansa", "stark", 13);
+		Person bran = person("bran", "stark", 10);
+
+		repo.save(Arrays.asList(eddard, robb, sansa, bran));
+
+		assertThat(repo.findAll(new PageRequest(0, 2, Direction.ASC, "age")).getContent(), contains(bran, sansa));
+		assertThat(repo.findAll(new PageRequest(1, 2, Direction.ASC, "age")).getContent(), contains(robb, eddard));
+		assertThat(repo.findAll(new PageRequest(0, 2, Direction.DESC, "age")).getContent(), contains(eddard, robb));
+		assertThat(repo.findAll(new PageRequest(1, 2, Direction.DESC, "age")).getContent(), contains(sansa, bran));
+	}
+
+	@Test
+	public void findByCriteriaSortedByIndexedPropertyShouldPageInOrder() {
+
+		Person eddard = person("eddard", "stark", 35);
+		Person robb = person("robb", "stark", 16);
+		Person sansa = person("sansa", "stark", 13);
+		Person bran = person("bran", "stark", 10);
+		Person jaime = person("jaime", "lannister", 14);
+
+		repo.save(Arrays.asList(eddard, robb, sansa, bran, jaime));
+
+		assertThat(repo.findByLastnameOrderByAgeAsc("stark", new PageRequest(0, 3)), contains(bran, sansa, robb));
+		assertThat(repo.findByLastnameOrderByAgeAsc("stark", new PageRequest(1, 3)), contains(eddard));
+		assertThat(repo.findByLastnameOrderByAgeDesc("stark", new PageRequest(0, 3)), contains(eddard, robb, sansa));
+		assertThat(repo.findByLastnameOrderByAgeDesc("stark", new PageRequest(1, 3)), contains(bran));
+	}
+
+	@Test
+	public void findByCriteriaSortedByIndexedPropertyShouldIncludeEntitiesWithoutScore() {
+
+		Person eddard = person("eddard", "stark", 35);
+		Person robb = person("robb", "stark", 16);
+		Person bran = person("bran", "stark", 10);
+		Person rickon = new Person("rickon", "stark");
+
+		repo.save(Arrays.asList(eddard, robb, bran, rickon));
+
+		List<Person> result = new ArrayList<Person>(repo.findByLastnameOrderByAgeAsc("stark", new PageRequest(0, 2)));
+		result.addAll(repo.findByLastnameOrderByAgeAsc("stark", new PageRequest(1, 2)));
+
+		assertThat(result, hasSize(4));
+		assertThat(result, containsInAnyOrder(eddard, robb, bran, rickon));
+		assertThat(agesOf(result), contains(10, 16, 35));
+	}
+
+	@Test
+	public void findAllSortedShouldNotDropEntitiesMissingInSortingIndex() {
+
+		Person eddard = person("eddard", "stark", 35);
+		Person robb = person("robb", "stark", 16);
+		Person bran = person("bran", "stark", 10);
+		Person rickon = new Person("rickon", "stark");
+
+		repo.save(Arrays.asList(eddard, robb, bran, rickon));
+
+		List<Person> result = repo.findAll(new PageRequest(0, 10, Direction.DESC, "age")).getContent();
+
+		assertThat(result, hasSize(4));
+		assertThat(result, containsInAnyOrder(eddard, robb, bran, rickon));
+		assertThat(agesOf(result), contains(35, 16, 10));
+	}
+
 	public static interface PersonRepository extends PagingAndSortingRepository<Person, String> {
 
 		List<Person> findByFirstname(String firstname);
@@ -366,6 +511,20 @@ public abstract class RedisRepositoryIntegrationTestBase {
 		Page<Person> findBy(Pageable page);
 
 		List<Person> findByHometownLocationNear(Point point, Distance distance);
+
+		List<Person> findByLastnameAndAgeBetween(String lastname, int from, int to);
+
+		List<Person> findByLastnameAndAgeGreaterThanOrFirstname(String lastname, int age, String firstname);
+
+		List<Person> findByLastnameAndAgeGreaterThanAndAgeLessThan(String lastname, int from, int to);
+
+		List<Person> findByLastnameAndAgeGreaterThanEqualAndAgeLessThanEqual(String lastname, int from, int to);
+
+		List<Person> findByLastnameAndAgeGreaterThanEqual(String lastname, int age, Pageable page);
+
+		List<Person> findByLastnameOrderByAgeAsc(String lastname, Pageable page);
+
+		List<Person> findByLastnameOrderByAgeDesc(String lastname, Pageable page);
 	}
 
 	public static interface CityRepository extends CrudRepository<City, String> {
@@ -373,8 +532,27 @@ public abstract class RedisRepositoryIntegrationTestBase {
 		List<City> findByLocationNear(Point point, Distance distance);
 	}
 
+	private static List<Integer> agesOf(List<Person> persons) {
+
+		List<Integer> ages = new ArrayList<Integer>();
+		for (Person person : persons) {
+			if (person.age != null) {
+				ages.add(person.age);
+			}
+		}
+		return ages;
+	}
+
+	private static Person person(String firstname, String lastname, int age) {
+
+		Person person = new Person(firstname, lastname);
+		person.age = age;
+		return person;
+	}
+
 	/**
-	 * Custom Redis {@link IndexConfiguration} forcing index of {@link Person#lastname}.
+	 * Custom Redis {@link IndexConfiguration} forcing index of {@link Person#lastname} and sorting index of
+	 * {@link Person#age}.
 	 * 
 	 * @author Christoph Strobl
 	 */
@@ -382,7 +560,8 @@ public abstract class RedisRepositoryIntegrationTestBase {
 
 		@Override
 		protected Iterable<IndexDefinition> initialConfiguration() {
-			return Collections.<IndexDefinition> singleton(new SimpleIndexDefinition("persons", "lastname"));
+			return Arrays.<IndexDefinition> asList(new SimpleIndexDefinition("persons", "lastname"),
+					new SortingIndexDefinition("persons", "age"));
 		}
 	}
 
@@ -406,6 +585,7 @@ public abstract class RedisRepositoryIntegrationTestBase {
 		@Id String id;
 		@Indexed String firstname;
 		String lastname;
+		Integer age;
 		@Reference City city;
 		City hometown;
 
@@ -449,6 +629,14 @@ public abstract class RedisRepositoryIntegrationTestBase {
 			return lastname;
 		}
 
+		public Integer getAge() {
+			return age;
+		}
+
+		public void setAge(Integer age) {
+			this.age = age;
+		}
+
 		@Override
 		public String toString() {
 			return "Person [id=" + id + ", firstname=" + firstname + "]";
@@ -0,0 +1,135 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.serializer;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+import static org.junit.Assume.*;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Random;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.springframework.data.redis.RedisTestProfileValueSource;
+
+/**
+ * Load test logging the compression ratio along with the CPU time spent serializing and deserializing values below,
+ * at and above the {@link CompressingRedisSerializer} threshold, compared to the plain delegate. Results are logged,
+ * not asserted, as they depend on the host running the tests. Only runs with {@code -DrunLongTests=true}.
+ *
+ * @author agent
+ */
+public class CompressingRedisSerializerLoadTests {
+
+	private static final Log LOG = LogFactory.getLog(CompressingRedisSerializerLoadTests.class);
+
+	private static final int THRESHOLD = CompressingRedisSerializer.DEFAULT_THRESHOLD;
+	private static final int[] SIZES = { THRESHOLD / 4, THRESHOLD - 1, THRESHOLD, THRESHOLD + 1, THRESHOLD * 4,
+			THRESHOLD * 16, THRESHOLD * 64 };
+	private static final int WARMUP = 2000;
+	private static final int ITERATIONS = 10000;
+
+	private static final ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+
+	@BeforeClass
+	public static void shouldRun() {
+
+		assumeTrue(RedisTestProfileValueSource.matches("runLongTests", "true"));
+		assumeTrue(THREADS.isCurrentThreadCpuTimeSupported());
+	}
+
+	@Test
+	public void logCompressionRatioAndCpuTimeAcrossThreshold() {
+
+		StringRedisSerializer plain = new StringRedisSerializer();
+		CompressingRedisSerializer<String> compressing = new CompressingRedisSerializer<String>(plain, THRESHOLD);
+
+		for (int size : SIZES) {
+
+			String value = createValue(size);
+
+			byte[] plainBytes = plain.serialize(value);
+			byte[] compressedBytes = compressing.serialize(value);
+
+			assertThat(compressing.deserialize(compressedBytes), is(value));
+
+			long plainWrite = measureSerialize(plain, value);
+			long plainRead = measureDeserialize(plain, plainBytes);
+			long compressingWrite = measureSerialize(compressing, value);
+			long compressingRead = measureDeserialize(compressing, compressedBytes);
+
+			LOG.info(String.format(
+					"%6d bytes: stored %6d bytes (ratio %.2f), serialize %6d ns plain / %6d ns compressing, deserialize %6d ns plain / %6d ns compressing (CPU time per call).",
+					plainBytes.length, compressedBytes.length, (double) compressedBytes.length / plainBytes.length, plainWrite,
+					compressingWrite, plainRead, compressingRead));
+		}
+	}
+
+	/**
+	 * @return mean CPU time per call in nanoseconds.
+	 */
+	private static long measureSerialize(RedisSerializer<String> serializer, String value) {
+
+		for (int i = 0; i < WARMUP; i++) {
+			serializer.serialize(value);
+		}
+
+		long start = THREADS.getCurrentThreadCpuTime();
+		for (int i = 0; i < ITERATIONS; i++) {
+			serializer.serialize(value);
+		}
+
+		return (THREADS.getCurrentThreadCpuTime() - start) / ITERATIONS;
+	}
+
+	/**
+	 * @return mean CPU time per call in nanoseconds.
+	 */
+	private static long measureDeserialize(RedisSerializer<String> serializer, byte[] bytes) {
+
+		for (int i = 0; i < WARMUP; i++) {
+			serializer.deserialize(bytes);
+		}
+
+		long start = THREADS.getCurrentThreadCpuTime();
+		for (int i = 0; i < ITERATIONS; i++) {
+			serializer.deserialize(bytes);
+		}
+
+		return (THREADS.getCurrentThreadCpuTime() - start) / ITERATIONS;
+	}
+
+	/**
+	 * Create a JSON like ASCII value of the given size, compressible to a degree typical for cached documents.
+	 */
+	private static String createValue(int size) {
+
+		Random random = new Random(size);
+		StringBuilder builder = new StringBuilder(size + 64);
+
+		while (builder.length() < size) {
+			builder.append("{\"id\":").append(random.nextInt(100000)).append(",\"name\":\"user-")
+					.append(Long.toString(random.nextLong(), 36)).append("\",\"active\":").append(random.nextBoolean())
+					.append("},");
+		}
+
+		return builder.substring(0, size);
+	}
+}
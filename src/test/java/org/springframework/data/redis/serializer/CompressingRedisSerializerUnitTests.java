@@ -0,0 +1,116 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.serializer;
+
+import static org.hamcrest.core.Is.*;
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+
+/**
+ * @author agent
+ */
+public class CompressingRedisSerializerUnitTests {
+
+	private static final String SHORT_VALUE = "spring-data-redis";
+	private static final String LONG_VALUE = repeat("spring-data-redis", 200);
+
+	CompressingRedisSerializer<String> serializer = new CompressingRedisSerializer<String>(new StringRedisSerializer(),
+			128);
+
+	@Test
+	public void serializeShouldNotCompressValuesBelowThreshold() {
+		assertThat(serializer.serialize(SHORT_VALUE), is(SHORT_VALUE.getBytes()));
+	}
+
+	@Test
+	public void serializeShouldCompressValuesAboveThreshold() {
+
+		byte[] bytes = serializer.serialize(LONG_VALUE);
+
+		assertThat(bytes[0], is(CompressingRedisSerializer.MARKER));
+		assertThat(bytes[1], is(CompressingRedisSerializer.COMPRESSED));
+		assertThat(bytes.length < LONG_VALUE.length(), is(true));
+		assertThat(serializer.deserialize(bytes), is(LONG_VALUE));
+	}
+
+	@Test
+	public void deserializeShouldReadUncompressedLegacyValues() {
+		assertThat(serializer.deserialize(LONG_VALUE.getBytes()), is(LONG_VALUE));
+	}
+
+	@Test
+	public void shouldEscapeUncompressedValuesStartingWithMarker() {
+
+		CompressingRedisSerializer<byte[]> binarySerializer = new CompressingRedisSerializer<byte[]>(
+				new PassThroughSerializer(), 128);
+		byte[] value = new byte[] { CompressingRedisSerializer.MARKER, CompressingRedisSerializer.COMPRESSED, 42 };
+
+		byte[] bytes = binarySerializer.serialize(value);
+
+		assertThat(bytes[1], is(CompressingRedisSerializer.UNCOMPRESSED));
+		assertThat(binarySerializer.deserialize(bytes), is(value));
+	}
+
+	@Test
+	public void shouldStoreIncompressibleValuesAsIs() {
+
+		CompressingRedisSerializer<byte[]> binarySerializer = new CompressingRedisSerializer<byte[]>(
+				new PassThroughSerializer(), 0);
+		byte[] value = new byte[] { 1, 2, 3 };
+
+		assertThat(binarySerializer.serialize(value), is(value));
+	}
+
+	@Test
+	public void shouldHandleNullAndEmptyValues() {
+
+		assertThat(serializer.serialize(null), is((byte[]) null));
+		assertThat(serializer.serialize(""), is(new byte[0]));
+		assertThat(serializer.deserialize(null), is((String) null));
+	}
+
+	@Test(expected = SerializationException.class)
+	public void deserializeShouldFailForCorruptCompressedValues() {
+
+		byte[] bytes = serializer.serialize(LONG_VALUE);
+		serializer.deserialize(Arrays.copyOf(bytes, bytes.length / 2));
+	}
+
+	private static String repeat(String value, int times) {
+
+		StringBuilder sb = new StringBuilder();
+		for (int i = 0; i < times; i++) {
+			sb.append(value);
+		}
+		return sb.toString();
+	}
+
+	static class PassThroughSerializer implements RedisSerializer<byte[]> {
+
+		@Override
+		public byte[] serialize(byte[] bytes) {
+			return bytes;
+		}
+
+		@Override
+		public byte[] deserialize(byte[] bytes) {
+			return bytes;
+		}
+	}
+}